@@ -2,6 +2,9 @@ package uk.gov.hmcts.reform.unspec.controllers;
 
 import lombok.SneakyThrows;
 import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.request.MockMvcRequestBuilders;
 import uk.gov.hmcts.reform.ccd.client.model.CallbackRequest;
 import uk.gov.hmcts.reform.unspec.sampledata.CaseDetailsBuilder;
 
@@ -23,4 +26,15 @@ public class CallbackControllerTest extends BaseIntegrationTest {
         doPost(BEARER_TOKEN, callbackRequest, CALLBACK_URL, "invalid-callback-type")
             .andExpect(status().isNotFound());
     }
+
+    @Test
+    @SneakyThrows
+    public void shouldReturnBadRequestWhenCallbackRequestIsNotValidJson() {
+        mockMvc.perform(
+            MockMvcRequestBuilders.post(CALLBACK_URL, "about-to-submit")
+                .header(HttpHeaders.AUTHORIZATION, BEARER_TOKEN)
+                .contentType(MediaType.APPLICATION_JSON)
+                .content("{\"event_id\":"))
+            .andExpect(status().isBadRequest());
+    }
 }
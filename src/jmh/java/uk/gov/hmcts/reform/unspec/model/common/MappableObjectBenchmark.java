@@ -0,0 +1,106 @@
+package uk.gov.hmcts.reform.unspec.model.common;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.module.paramnames.ParameterNamesModule;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+import uk.gov.hmcts.reform.unspec.helpers.CaseDetailsConverter;
+import uk.gov.hmcts.reform.unspec.model.CaseData;
+import uk.gov.hmcts.reform.unspec.model.docmosis.sealedclaim.SealedClaimForm;
+import uk.gov.hmcts.reform.unspec.sampledata.CaseDataBuilder;
+import uk.gov.hmcts.reform.unspec.service.flowstate.FlowState;
+
+import java.time.LocalDate;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares {@link MappableObject#toMap(ObjectMapper)} with the {@link ObjectMapper#convertValue} it replaces, for case
+ * data mapped into callback responses and for the template data sent to Docmosis.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class MappableObjectBenchmark {
+
+    private static final TypeReference<Map<String, Object>> MAP_TYPE = new TypeReference<>() {
+    };
+
+    @Benchmark
+    public Map<String, Object> caseDataConvertValue(Cases cases) {
+        return cases.mapper.convertValue(cases.caseData, MAP_TYPE);
+    }
+
+    @Benchmark
+    public Map<String, Object> caseDataToMap(Cases cases) {
+        return cases.caseData.toMap(cases.mapper);
+    }
+
+    @Benchmark
+    public Map<String, Object> templateDataConvertValue(Cases cases) {
+        return cases.mapper.convertValue(cases.sealedClaimForm, MAP_TYPE);
+    }
+
+    @Benchmark
+    public Map<String, Object> templateDataToMap(Cases cases) {
+        return cases.sealedClaimForm.toMap(cases.mapper);
+    }
+
+    /**
+     * The template data as previously sent to Docmosis, mapped and then serialised again in the request body.
+     */
+    @Benchmark
+    public String templateDataMappedAndWritten(Cases cases) throws JsonProcessingException {
+        return cases.mapper.writeValueAsString(cases.sealedClaimForm.toMap(cases.mapper));
+    }
+
+    /**
+     * The template data as now sent to Docmosis, serialised once.
+     */
+    @Benchmark
+    public String templateDataWritten(Cases cases) throws JsonProcessingException {
+        return cases.mapper.writeValueAsString(cases.sealedClaimForm);
+    }
+
+    @State(Scope.Benchmark)
+    public static class Cases {
+
+        @Param({"DRAFT", "CLAIM_ISSUED", "FULL_DEFENCE_PROCEED"})
+        FlowState.Main flowState;
+
+        ObjectMapper mapper;
+        CaseData caseData;
+        SealedClaimForm sealedClaimForm;
+
+        @Setup(Level.Trial)
+        public void setup() {
+            mapper = Jackson2ObjectMapperBuilder.json().modulesToInstall(new ParameterNamesModule()).build();
+            // configures the mapper with the inclusion rules the application uses
+            new CaseDetailsConverter(mapper);
+            caseData = CaseDataBuilder.builder().atState(flowState).build();
+            sealedClaimForm = SealedClaimForm.builder()
+                .referenceNumber(caseData.getLegacyCaseReference())
+                .caseName("Mr. Sole Trader v Mr. John Rambo")
+                .issueDate(LocalDate.now())
+                .submittedOn(LocalDate.now())
+                .statementOfTruth(caseData.getApplicantSolicitor1ClaimStatementOfTruth())
+                .claimDetails("Claim details")
+                .build();
+        }
+    }
+}
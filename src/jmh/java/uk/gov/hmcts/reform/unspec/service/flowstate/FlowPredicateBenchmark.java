@@ -0,0 +1,41 @@
+package uk.gov.hmcts.reform.unspec.service.flowstate;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Warmup;
+import uk.gov.hmcts.reform.unspec.service.flowstate.FlowStateBenchmarkFixtures.Cases;
+
+import java.util.concurrent.TimeUnit;
+
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class FlowPredicateBenchmark {
+
+    /**
+     * Encoding of the flow relevant facts of a case, done once per evaluation.
+     */
+    @Benchmark
+    public int encode(Cases cases) {
+        return FlowFeatures.encode(cases.caseData);
+    }
+
+    /**
+     * A guard tested against the case itself, which encodes the case on every test.
+     */
+    @Benchmark
+    public boolean fullDefence(Cases cases) {
+        return FlowPredicate.fullDefence.test(cases.caseData);
+    }
+
+    @Benchmark
+    public boolean fullDefenceEncoded(Cases cases) {
+        return FlowPredicate.fullDefence.test(FlowFeatures.encode(cases.caseData));
+    }
+}
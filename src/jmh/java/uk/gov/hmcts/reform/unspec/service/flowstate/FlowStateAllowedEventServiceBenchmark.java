@@ -0,0 +1,36 @@
+package uk.gov.hmcts.reform.unspec.service.flowstate;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Warmup;
+import uk.gov.hmcts.reform.unspec.service.flowstate.FlowStateBenchmarkFixtures.Cases;
+import uk.gov.hmcts.reform.unspec.service.flowstate.FlowStateBenchmarkFixtures.Engine;
+
+import java.util.concurrent.TimeUnit;
+
+import static uk.gov.hmcts.reform.unspec.callback.CaseEvent.DEFENDANT_RESPONSE;
+
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class FlowStateAllowedEventServiceBenchmark {
+
+    @Benchmark
+    public boolean isAllowedCaseData(Engine engine, Cases cases) {
+        return engine.flowStateAllowedEventService.isAllowed(cases.caseData, DEFENDANT_RESPONSE);
+    }
+
+    /**
+     * As called when a callback is received, including the conversion of the case details to CaseData.
+     */
+    @Benchmark
+    public boolean isAllowedCaseDetails(Engine engine, Cases cases) {
+        return engine.flowStateAllowedEventService.isAllowed(cases.caseDetails, DEFENDANT_RESPONSE);
+    }
+}
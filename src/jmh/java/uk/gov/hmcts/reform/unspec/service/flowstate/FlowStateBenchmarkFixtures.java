@@ -0,0 +1,60 @@
+package uk.gov.hmcts.reform.unspec.service.flowstate;
+
+import com.fasterxml.jackson.module.paramnames.ParameterNamesModule;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+import uk.gov.hmcts.reform.ccd.client.model.CaseDetails;
+import uk.gov.hmcts.reform.unspec.helpers.CaseDetailsConverter;
+import uk.gov.hmcts.reform.unspec.model.CaseData;
+import uk.gov.hmcts.reform.unspec.sampledata.CaseDataBuilder;
+import uk.gov.hmcts.reform.unspec.sampledata.CaseDetailsBuilder;
+
+/**
+ * Shared JMH state for the flow state benchmarks. The engine is wired with an ObjectMapper configured like the one
+ * Spring Boot provides, and cases are built with the sample data builders used by the unit tests.
+ */
+public class FlowStateBenchmarkFixtures {
+
+    private FlowStateBenchmarkFixtures() {
+        // utility class
+    }
+
+    @State(Scope.Benchmark)
+    public static class Engine {
+
+        StateFlowEngine stateFlowEngine;
+        FlowStateAllowedEventService flowStateAllowedEventService;
+
+        @Setup(Level.Trial)
+        public void setup() {
+            CaseDetailsConverter caseDetailsConverter = new CaseDetailsConverter(
+                Jackson2ObjectMapperBuilder.json().modulesToInstall(new ParameterNamesModule()).build()
+            );
+            stateFlowEngine = new StateFlowEngine(caseDetailsConverter);
+            flowStateAllowedEventService = new FlowStateAllowedEventService(stateFlowEngine);
+        }
+    }
+
+    /**
+     * A representative case for every main flow state, benchmarks using this state are run once per flow state.
+     */
+    @State(Scope.Benchmark)
+    public static class Cases {
+
+        @Param
+        FlowState.Main flowState;
+
+        CaseData caseData;
+        CaseDetails caseDetails;
+
+        @Setup(Level.Trial)
+        public void setup() {
+            caseData = CaseDataBuilder.builder().atState(flowState).build();
+            caseDetails = CaseDetailsBuilder.builder().data(caseData).build();
+        }
+    }
+}
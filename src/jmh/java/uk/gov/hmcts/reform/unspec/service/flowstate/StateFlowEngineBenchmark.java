@@ -0,0 +1,57 @@
+package uk.gov.hmcts.reform.unspec.service.flowstate;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Warmup;
+import uk.gov.hmcts.reform.unspec.service.flowstate.FlowStateBenchmarkFixtures.Cases;
+import uk.gov.hmcts.reform.unspec.service.flowstate.FlowStateBenchmarkFixtures.Engine;
+import uk.gov.hmcts.reform.unspec.stateflow.StateFlow;
+import uk.gov.hmcts.reform.unspec.stateflow.StateFlowGraph;
+
+import java.util.concurrent.TimeUnit;
+
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class StateFlowEngineBenchmark {
+
+    @Benchmark
+    public StateFlowGraph build(Engine engine) {
+        return engine.stateFlowEngine.build();
+    }
+
+    /**
+     * Evaluation of CaseData, starting from its flow state snapshot when it has one.
+     */
+    @Benchmark
+    public StateFlow evaluate(Engine engine, Cases cases) {
+        return engine.stateFlowEngine.evaluate(cases.caseData);
+    }
+
+    /**
+     * Evaluation of the whole flow, ignoring the flow state snapshot.
+     */
+    @Benchmark
+    public StateFlow evaluateUncached(Engine engine, Cases cases) {
+        return engine.stateFlowEngine.evaluateFrom(null, cases.caseData);
+    }
+
+    /**
+     * Evaluation of case details, including their conversion to CaseData.
+     */
+    @Benchmark
+    public StateFlow evaluateCaseDetails(Engine engine, Cases cases) {
+        return engine.stateFlowEngine.evaluate(cases.caseDetails);
+    }
+
+    @Benchmark
+    public boolean hasTransitionedTo(Engine engine, Cases cases) {
+        return engine.stateFlowEngine.hasTransitionedTo(cases.caseDetails, cases.flowState);
+    }
+}
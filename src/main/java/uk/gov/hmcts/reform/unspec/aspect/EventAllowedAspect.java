@@ -9,6 +9,8 @@ import org.aspectj.lang.annotation.Pointcut;
 import org.springframework.stereotype.Component;
 import uk.gov.hmcts.reform.ccd.client.model.AboutToStartOrSubmitCallbackResponse;
 import uk.gov.hmcts.reform.ccd.client.model.CaseDetails;
+import uk.gov.hmcts.reform.unspec.callback.CallbackContext;
+import uk.gov.hmcts.reform.unspec.callback.CallbackContextFactory;
 import uk.gov.hmcts.reform.unspec.callback.CallbackParams;
 import uk.gov.hmcts.reform.unspec.callback.CaseEvent;
 import uk.gov.hmcts.reform.unspec.service.flowstate.FlowStateAllowedEventService;
@@ -16,6 +18,7 @@ import uk.gov.hmcts.reform.unspec.service.flowstate.FlowStateAllowedEventService
 import java.util.List;
 
 import static java.lang.String.format;
+import static uk.gov.hmcts.reform.unspec.callback.CallbackPhase.ASPECTS;
 import static uk.gov.hmcts.reform.unspec.callback.CallbackType.ABOUT_TO_START;
 
 @Slf4j
@@ -28,6 +31,7 @@ public class EventAllowedAspect {
         + "already been completed or another action must be completed first.";
 
     private final FlowStateAllowedEventService flowStateAllowedEventService;
+    private final CallbackContextFactory callbackContextFactory;
 
     @Pointcut("execution(* *(*)) && @annotation(EventAllowed)")
     public void eventAllowedPointCut() {
@@ -44,7 +48,12 @@ public class EventAllowedAspect {
         }
         CaseEvent caseEvent = CaseEvent.valueOf(callbackParams.getRequest().getEventId());
         CaseDetails caseDetails = callbackParams.getRequest().getCaseDetails();
-        if (flowStateAllowedEventService.isAllowed(caseDetails, caseEvent)) {
+        CallbackContext context = callbackContextFactory.of(callbackParams);
+        boolean allowed = context.getTimings().time(
+            ASPECTS,
+            () -> flowStateAllowedEventService.isAllowedOnState(context.getFlowState(), caseEvent)
+        );
+        if (allowed) {
             return joinPoint.proceed();
         } else {
             log.info(format(
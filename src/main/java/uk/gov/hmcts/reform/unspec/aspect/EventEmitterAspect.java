@@ -6,9 +6,10 @@ import org.aspectj.lang.ProceedingJoinPoint;
 import org.aspectj.lang.annotation.Around;
 import org.aspectj.lang.annotation.Aspect;
 import org.springframework.stereotype.Component;
+import uk.gov.hmcts.reform.unspec.callback.CallbackContextFactory;
 import uk.gov.hmcts.reform.unspec.callback.CallbackParams;
 import uk.gov.hmcts.reform.unspec.model.CaseData;
-import uk.gov.hmcts.reform.unspec.service.EventEmitterService;
+import uk.gov.hmcts.reform.unspec.service.EventEmissionQueue;
 
 import static uk.gov.hmcts.reform.unspec.callback.CallbackType.SUBMITTED;
 import static uk.gov.hmcts.reform.unspec.enums.BusinessProcessStatus.READY;
@@ -19,15 +20,16 @@ import static uk.gov.hmcts.reform.unspec.enums.BusinessProcessStatus.READY;
 @RequiredArgsConstructor
 public class EventEmitterAspect {
 
-    private final EventEmitterService eventEmitterService;
+    private final EventEmissionQueue eventEmissionQueue;
+    private final CallbackContextFactory callbackContextFactory;
 
     @Around("execution(* *(*)) && @annotation(EventEmitter) && args(callbackParams))")
     public Object emitBusinessProcessEvent(ProceedingJoinPoint joinPoint, CallbackParams callbackParams)
         throws Throwable {
         if (callbackParams.getType() == SUBMITTED) {
-            CaseData caseData = callbackParams.getCaseData();
+            CaseData caseData = callbackContextFactory.of(callbackParams).getCaseData();
             if (caseData.getBusinessProcess() != null && caseData.getBusinessProcess().getStatus() == READY) {
-                eventEmitterService.emitBusinessProcessCamundaEvent(caseData, false);
+                eventEmissionQueue.emit(caseData);
             }
         }
         return joinPoint.proceed();
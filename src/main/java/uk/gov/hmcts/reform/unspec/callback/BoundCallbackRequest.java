@@ -0,0 +1,16 @@
+package uk.gov.hmcts.reform.unspec.callback;
+
+import lombok.Value;
+import uk.gov.hmcts.reform.ccd.client.model.CallbackRequest;
+import uk.gov.hmcts.reform.unspec.model.CaseData;
+
+/**
+ * Callback request received from CCD together with its case details bound to {@link CaseData}.
+ */
+@Value
+public class BoundCallbackRequest {
+
+    CallbackRequest request;
+
+    CaseData caseData;
+}
@@ -0,0 +1,92 @@
+package uk.gov.hmcts.reform.unspec.callback;
+
+import com.google.common.base.Suppliers;
+import uk.gov.hmcts.reform.unspec.model.BusinessProcess;
+import uk.gov.hmcts.reform.unspec.model.CaseData;
+import uk.gov.hmcts.reform.unspec.service.flowstate.FlowState;
+
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+/**
+ * Values derived from a single callback request, shared by the aspects around
+ * {@link CallbackHandlerFactory#dispatch(CallbackParams)} and the handler the callback is dispatched to.
+ * Each value is derived at most once, when first read, and never changes afterwards. The case details of the request
+ * are converted to {@link CaseData} at most once each, which is counted and asserted when assertions are enabled.
+ */
+public final class CallbackContext {
+
+    private final String bearerToken;
+    private final CallbackTimings timings;
+    private final Supplier<CaseData> caseData;
+    private final Supplier<BusinessProcess> businessProcessBefore;
+    private final Supplier<FlowState.Main> flowState;
+    private final AtomicInteger caseDataConversions = new AtomicInteger();
+    private final AtomicInteger caseDataBeforeConversions = new AtomicInteger();
+
+    CallbackContext(CaseData caseData,
+                    Supplier<CaseData> converter,
+                    Supplier<BusinessProcess> decoder,
+                    Function<CaseData, FlowState.Main> evaluator,
+                    String bearerToken,
+                    CallbackTimings timings) {
+        this.bearerToken = bearerToken;
+        this.timings = timings;
+        if (caseData != null) {
+            // bound when the request was read
+            caseDataConversions.incrementAndGet();
+            this.caseData = () -> caseData;
+        } else {
+            this.caseData = Suppliers.memoize(() -> counted(caseDataConversions, converter));
+        }
+        this.businessProcessBefore = Suppliers.memoize(() -> counted(caseDataBeforeConversions, decoder));
+        this.flowState = Suppliers.memoize(() -> evaluator.apply(getCaseData()));
+    }
+
+    private static <T> T counted(AtomicInteger conversions, Supplier<T> conversion) {
+        int count = conversions.incrementAndGet();
+        assert count <= 1 : "Case details of a callback converted " + count + " times";
+        return conversion.get();
+    }
+
+    public String getBearerToken() {
+        return bearerToken;
+    }
+
+    /**
+     * Timings of the phases of the request.
+     */
+    public CallbackTimings getTimings() {
+        return timings;
+    }
+
+    /**
+     * Case data of the request, as bound when the request was read or else converted from its case details.
+     */
+    public CaseData getCaseData() {
+        return caseData.get();
+    }
+
+    /**
+     * Business process of the case before the event, or null when there is no case before the event or it has no
+     * business process. Only the business process is decoded.
+     */
+    public BusinessProcess getBusinessProcessBefore() {
+        return businessProcessBefore.get();
+    }
+
+    /**
+     * Flow state of the case data of the request.
+     */
+    public FlowState.Main getFlowState() {
+        return flowState.get();
+    }
+
+    /**
+     * Number of times case details of the request were converted to CaseData, for debugging.
+     */
+    public int getConversions() {
+        return caseDataConversions.get() + caseDataBeforeConversions.get();
+    }
+}
@@ -0,0 +1,73 @@
+package uk.gov.hmcts.reform.unspec.callback;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import uk.gov.hmcts.reform.ccd.client.model.CallbackRequest;
+import uk.gov.hmcts.reform.ccd.client.model.CaseDetails;
+import uk.gov.hmcts.reform.unspec.helpers.CaseDetailsConverter;
+import uk.gov.hmcts.reform.unspec.model.BusinessProcess;
+import uk.gov.hmcts.reform.unspec.model.CaseData;
+import uk.gov.hmcts.reform.unspec.service.flowstate.StateFlowEngine;
+
+import java.util.Set;
+
+import static uk.gov.hmcts.reform.unspec.callback.CallbackParams.Params.BEARER_TOKEN;
+
+@Service
+@RequiredArgsConstructor
+public class CallbackContextFactory {
+
+    // the only field of the case before the event which is read, to tell whether the event was already processed
+    private static final Set<String> CASE_DETAILS_BEFORE_FIELDS = Set.of("businessProcess");
+
+    private final CaseDetailsConverter caseDetailsConverter;
+    private final StateFlowEngine stateFlowEngine;
+
+    /**
+     * Creates the context of a callback request when it is received.
+     *
+     * @param request     callback request received from CCD
+     * @param caseData    case data bound when the request was read, or null to convert it from the case details
+     * @param bearerToken authorisation the request was received with
+     * @return the context of the request
+     */
+    public CallbackContext create(CallbackRequest request, CaseData caseData, String bearerToken) {
+        // timed from receipt when the request was received by the callback controller
+        CallbackTimings timings = CallbackTimings.current();
+        return new CallbackContext(
+            caseData,
+            () -> caseDetailsConverter.toCaseData(request.getCaseDetails()),
+            () -> decodeBusinessProcess(request.getCaseDetailsBefore()),
+            stateFlowEngine::getFlowState,
+            bearerToken,
+            timings == null ? new CallbackTimings() : timings
+        );
+    }
+
+    /**
+     * Context of the given callback. A callback not given one on receipt has a context created from the callback itself
+     * and attached to it on first lookup, so it is created once.
+     */
+    public CallbackContext of(CallbackParams callbackParams) {
+        CallbackContext context = callbackParams.getContext();
+        if (context != null) {
+            return context;
+        }
+        return callbackParams.attachContext(() -> {
+            Object bearerToken = callbackParams.getParams() == null
+                ? null : callbackParams.getParams().get(BEARER_TOKEN);
+            return create(
+                callbackParams.getRequest(),
+                callbackParams.getCaseData(),
+                bearerToken == null ? null : bearerToken.toString()
+            );
+        });
+    }
+
+    private BusinessProcess decodeBusinessProcess(CaseDetails caseDetailsBefore) {
+        if (caseDetailsBefore == null) {
+            return null;
+        }
+        return caseDetailsConverter.toCaseData(caseDetailsBefore, CASE_DETAILS_BEFORE_FIELDS).getBusinessProcess();
+    }
+}
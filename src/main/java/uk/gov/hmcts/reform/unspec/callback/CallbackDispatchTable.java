@@ -0,0 +1,72 @@
+package uk.gov.hmcts.reform.unspec.callback;
+
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Immutable lookup of the callbacks of a handler, built once from {@link CallbackHandler#callbacks()}.
+ * Callbacks are grouped by type and page id, then indexed by version. Versions without a callback of their own are
+ * filled with the callback registered without a version, so the fallback is resolved when the table is built and
+ * each dispatch is a single lookup.
+ */
+final class CallbackDispatchTable {
+
+    // index 0 holds the callback without a version, index ordinal + 1 the callback of each version
+    private static final int VERSIONS = CallbackVersion.values().length + 1;
+    private static final String NO_PAGE_ID = "";
+
+    private final Map<CallbackType, Map<String, Callback[]>> callbacks = new EnumMap<>(CallbackType.class);
+
+    CallbackDispatchTable(Map<CallbackKey, Callback> callbacksByKey) {
+        callbacksByKey.forEach((key, callback) -> {
+            if (callback == null) {
+                throw new IllegalArgumentException("No callback given for " + key);
+            }
+            callbacks.computeIfAbsent(key.getType(), type -> new HashMap<>())
+                .computeIfAbsent(pageId(key.getPageId()), pageId -> new Callback[VERSIONS])
+                [index(key.getVersion())] = callback;
+        });
+        callbacks.values().forEach(pages -> pages.values().forEach(versions -> {
+            for (int i = 1; i < versions.length; i++) {
+                if (versions[i] == null) {
+                    versions[i] = versions[0];
+                }
+            }
+        }));
+    }
+
+    /**
+     * Callback for the given version, type and page id, falling back to the callback without a version.
+     *
+     * @return the callback, or null when the handler has none for the type and page id
+     */
+    Callback get(CallbackVersion version, CallbackType type, String pageId) {
+        Map<String, Callback[]> pages = callbacks.get(type);
+        if (pages == null) {
+            return null;
+        }
+        Callback[] versions = pages.get(pageId(pageId));
+        return versions == null ? null : versions[index(version)];
+    }
+
+    /**
+     * Whether the handler has a callback of any type for the given page id.
+     */
+    boolean hasPageId(String pageId) {
+        String key = pageId(pageId);
+        return callbacks.values().stream().anyMatch(pages -> pages.containsKey(key));
+    }
+
+    boolean isEmpty() {
+        return callbacks.isEmpty();
+    }
+
+    private static String pageId(String pageId) {
+        return pageId == null ? NO_PAGE_ID : pageId;
+    }
+
+    private static int index(CallbackVersion version) {
+        return version == null ? 0 : version.ordinal() + 1;
+    }
+}
@@ -1,7 +1,5 @@
 package uk.gov.hmcts.reform.unspec.callback;
 
-import org.slf4j.Logger;
-import org.slf4j.LoggerFactory;
 import uk.gov.hmcts.reform.ccd.client.model.AboutToStartOrSubmitCallbackResponse;
 import uk.gov.hmcts.reform.ccd.client.model.CallbackResponse;
 import uk.gov.hmcts.reform.ccd.client.model.SubmittedCallbackResponse;
@@ -10,41 +8,42 @@ import uk.gov.hmcts.reform.unspec.model.BusinessProcess;
 import java.util.List;
 import java.util.Map;
 
-import static java.util.Optional.ofNullable;
-
 public abstract class CallbackHandler {
 
     private static final String DEFAULT = "default";
-    private static final Logger LOG = LoggerFactory.getLogger(CallbackHandler.class);
 
-    protected abstract Map<String, Callback> callbacks();
+    private volatile CallbackDispatchTable dispatchTable;
+
+    protected abstract Map<CallbackKey, Callback> callbacks();
 
     public abstract List<CaseEvent> handledEvents();
 
-    protected String callbackKey(CallbackType type) {
-        return type.getValue();
+    protected CallbackKey callbackKey(CallbackType type) {
+        return callbackKey(null, type, null);
     }
 
-    protected String callbackKey(CallbackType type, String pageId) {
+    protected CallbackKey callbackKey(CallbackType type, String pageId) {
         return callbackKey(null, type, pageId);
     }
 
-    protected String callbackKey(CallbackVersion version, CallbackType type) {
+    protected CallbackKey callbackKey(CallbackVersion version, CallbackType type) {
         return callbackKey(version, type, null);
     }
 
-    protected String callbackKey(CallbackVersion version, CallbackType type, String pageId) {
-        String formattedVersion = ofNullable(version).map(v -> v.toString() + "-").orElse("");
-        String formattedPageId = ofNullable(pageId).map(id -> "-" + id).orElse("");
-        return String.format("%s%s%s", formattedVersion, type.getValue(), formattedPageId);
+    protected CallbackKey callbackKey(CallbackVersion version, CallbackType type, String pageId) {
+        return CallbackKey.of(version, type, pageId);
     }
 
     public String camundaActivityId(CallbackParams callbackParams) {
         return DEFAULT;
     }
 
+    public boolean hasCamundaActivity(CallbackParams callbackParams) {
+        return !camundaActivityId(callbackParams).equals(DEFAULT);
+    }
+
     public boolean isEventAlreadyProcessed(CallbackParams callbackParams, BusinessProcess businessProcess) {
-        if (camundaActivityId(callbackParams).equals(DEFAULT)) {
+        if (!hasCamundaActivity(callbackParams)) {
 
             return false;
         }
@@ -52,31 +51,37 @@ public abstract class CallbackHandler {
         return businessProcess != null && camundaActivityId(callbackParams).equals(businessProcess.getActivityId());
     }
 
-    public void register(Map<String, CallbackHandler> handlers) {
-        handledEvents().forEach(
-            handledEvent -> handlers.put(handledEvent.name(), this));
+    /**
+     * Callbacks of this handler, indexed on first use. The callbacks of a handler are fixed, so the table is built
+     * once and every dispatch is a lookup by version, type and page id, without building keys or falling back at
+     * request time.
+     */
+    CallbackDispatchTable dispatchTable() {
+        CallbackDispatchTable table = dispatchTable;
+        if (table == null) {
+            table = new CallbackDispatchTable(callbacks());
+            dispatchTable = table;
+        }
+        return table;
     }
 
     public CallbackResponse handle(CallbackParams callbackParams) {
-        String callbackKey;
-
-        callbackKey = callbackKey(callbackParams.getVersion(), callbackParams.getType(), callbackParams.getPageId());
-
-        if (ofNullable(callbacks().get(callbackKey)).isEmpty()) {
-            LOG.info(String.format("No implementation found for %s, falling back to default", callbackKey));
-            callbackKey = callbackKey(callbackParams.getType(), callbackParams.getPageId());
-        }
-
-        return ofNullable(callbacks().get(callbackKey))
-            .map(callback -> callback.execute(callbackParams))
-            .orElseThrow(() -> new CallbackException(
+        Callback callback = dispatchTable().get(
+            callbackParams.getVersion(),
+            callbackParams.getType(),
+            callbackParams.getPageId()
+        );
+        if (callback == null) {
+            throw new CallbackException(
                 String.format(
                     "Callback for event %s, version %s, type %s and page id %s not implemented",
                     callbackParams.getRequest().getEventId(),
                     callbackParams.getVersion(),
                     callbackParams.getType(),
                     callbackParams.getPageId()
-                )));
+                ));
+        }
+        return callback.execute(callbackParams);
     }
 
     /**
@@ -7,13 +7,11 @@ import uk.gov.hmcts.reform.ccd.client.model.CallbackResponse;
 import uk.gov.hmcts.reform.unspec.aspect.EventAllowed;
 import uk.gov.hmcts.reform.unspec.aspect.EventEmitter;
 import uk.gov.hmcts.reform.unspec.aspect.NoOngoingBusinessProcess;
-import uk.gov.hmcts.reform.unspec.helpers.CaseDetailsConverter;
-import uk.gov.hmcts.reform.unspec.model.CaseData;
+import uk.gov.hmcts.reform.unspec.model.BusinessProcess;
 
 import java.util.Arrays;
 import java.util.HashMap;
 import java.util.List;
-import java.util.Optional;
 
 import static java.util.Optional.ofNullable;
 
@@ -21,12 +19,48 @@ import static java.util.Optional.ofNullable;
 public class CallbackHandlerFactory {
 
     private final HashMap<String, CallbackHandler> eventHandlers = new HashMap<>();
-    private final CaseDetailsConverter caseDetailsConverter;
+    private final CallbackContextFactory callbackContextFactory;
 
     @Autowired
-    public CallbackHandlerFactory(CaseDetailsConverter caseDetailsConverter, CallbackHandler... beans) {
-        this.caseDetailsConverter = caseDetailsConverter;
-        Arrays.asList(beans).forEach(bean -> bean.register(eventHandlers));
+    public CallbackHandlerFactory(CallbackContextFactory callbackContextFactory, CallbackHandler... beans) {
+        this.callbackContextFactory = callbackContextFactory;
+        Arrays.asList(beans).forEach(this::register);
+    }
+
+    /**
+     * Builds the dispatch table of each handler at start up, so a handler without callbacks or two handlers of the
+     * same event fail the application rather than a callback.
+     */
+    private void register(CallbackHandler handler) {
+        if (handler.dispatchTable().isEmpty()) {
+            throw new IllegalStateException("No callbacks defined by " + handler.getClass().getSimpleName());
+        }
+        handler.handledEvents().forEach(event -> {
+            CallbackHandler registered = eventHandlers.putIfAbsent(event.name(), handler);
+            if (registered != null && registered != handler) {
+                throw new IllegalStateException(String.format(
+                    "Event %s is handled by both %s and %s",
+                    event.name(),
+                    registered.getClass().getSimpleName(),
+                    handler.getClass().getSimpleName()
+                ));
+            }
+        });
+    }
+
+    /**
+     * Whether a handler is registered for the event.
+     */
+    boolean isRegistered(String eventId) {
+        return eventId != null && eventHandlers.containsKey(eventId);
+    }
+
+    /**
+     * Whether a handler is registered for the event with a callback for the given page id.
+     */
+    boolean isRegistered(String eventId, String pageId) {
+        CallbackHandler handler = eventId == null ? null : eventHandlers.get(eventId);
+        return handler != null && handler.dispatchTable().hasPageId(pageId);
     }
 
     @EventAllowed
@@ -40,13 +74,23 @@ public class CallbackHandlerFactory {
     }
 
     private CallbackResponse processEvent(CallbackHandler handler, CallbackParams callbackParams, String eventId) {
-        return Optional.ofNullable(callbackParams.getRequest().getCaseDetailsBefore())
-            .map(caseDetailsConverter::toCaseData)
-            .map(CaseData::getBusinessProcess)
-            .map(businessProcess -> handler.isEventAlreadyProcessed(callbackParams, businessProcess))
-            .filter(isProcessed -> isProcessed)
-            .map(isProcessed -> eventAlreadyProcessedResponse(eventId))
-            .orElse(handler.handle(callbackParams));
+        if (isEventAlreadyProcessed(handler, callbackParams)) {
+            return eventAlreadyProcessedResponse(eventId);
+        }
+        return callbackContextFactory.of(callbackParams).getTimings()
+            .time(CallbackPhase.HANDLER, () -> handler.handle(callbackParams));
+    }
+
+    /**
+     * The case before the event is only decoded for handlers of a camunda activity, and only its business process.
+     */
+    private boolean isEventAlreadyProcessed(CallbackHandler handler, CallbackParams callbackParams) {
+        if (callbackParams.getRequest().getCaseDetailsBefore() == null
+            || !handler.hasCamundaActivity(callbackParams)) {
+            return false;
+        }
+        BusinessProcess businessProcess = callbackContextFactory.of(callbackParams).getBusinessProcessBefore();
+        return businessProcess != null && handler.isEventAlreadyProcessed(callbackParams, businessProcess);
     }
 
     private CallbackResponse eventAlreadyProcessedResponse(String eventId) {
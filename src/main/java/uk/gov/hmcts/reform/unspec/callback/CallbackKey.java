@@ -0,0 +1,43 @@
+package uk.gov.hmcts.reform.unspec.callback;
+
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+
+/**
+ * Identifies a callback of a handler by callback type, optionally narrowed to a version and a page id.
+ * A callback without a version is the default for every version of the same type and page id.
+ */
+@Getter
+@EqualsAndHashCode
+public final class CallbackKey {
+
+    private final CallbackVersion version;
+    private final CallbackType type;
+    private final String pageId;
+
+    private CallbackKey(CallbackVersion version, CallbackType type, String pageId) {
+        this.version = version;
+        this.type = type;
+        this.pageId = pageId;
+    }
+
+    public static CallbackKey of(CallbackVersion version, CallbackType type, String pageId) {
+        if (type == null) {
+            throw new IllegalArgumentException("Callback type is required");
+        }
+        return new CallbackKey(version, type, pageId);
+    }
+
+    @Override
+    public String toString() {
+        StringBuilder key = new StringBuilder();
+        if (version != null) {
+            key.append(version).append('-');
+        }
+        key.append(type.getValue());
+        if (pageId != null) {
+            key.append('-').append(pageId);
+        }
+        return key.toString();
+    }
+}
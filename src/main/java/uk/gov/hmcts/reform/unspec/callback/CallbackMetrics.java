@@ -0,0 +1,126 @@
+package uk.gov.hmcts.reform.unspec.callback;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.Timer;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import org.springframework.web.servlet.HandlerInterceptor;
+
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadMXBean;
+import java.util.concurrent.TimeUnit;
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletResponse;
+
+/**
+ * Records the latency of each callback from CCD, and of each of its {@link CallbackPhase phases}, together with the
+ * bytes allocated by the thread handling it. Meters are tagged by event, callback type, page id and version:
+ * <ul>
+ *     <li>ccd.callback - time from reading the request to writing the response</li>
+ *     <li>ccd.callback.phase - time spent in a phase, tagged by phase</li>
+ *     <li>ccd.callback.allocated - bytes allocated by the request thread; tasks run on other threads are not
+ *     included, and nothing is recorded for requests run on virtual threads, whose allocations the JVM does not
+ *     measure</li>
+ * </ul>
+ * Event and page id come from the request, so only an event with a registered handler and a page id with a
+ * registered callback are used as tags, any other value is tagged as unknown to keep the number of series bounded.
+ */
+@Component
+@RequiredArgsConstructor
+public class CallbackMetrics implements HandlerInterceptor {
+
+    private static final String METRIC_PREFIX = "ccd.callback";
+    private static final String ALLOCATED_BYTES = CallbackMetrics.class.getName() + ".allocatedBytes";
+    private static final String NONE = "none";
+    private static final String UNKNOWN = "unknown";
+    private static final ThreadMXBean THREADS = ManagementFactory.getThreadMXBean();
+
+    private final MeterRegistry registry;
+    private final CallbackHandlerFactory callbackHandlerFactory;
+
+    @Override
+    public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler) {
+        request.setAttribute(ALLOCATED_BYTES, allocatedBytes());
+        CallbackTimings.start();
+        return true;
+    }
+
+    @Override
+    public void afterCompletion(HttpServletRequest request, HttpServletResponse response, Object handler,
+                                Exception ex) {
+        CallbackTimings timings = CallbackTimings.end();
+        if (timings == null || timings.getCallback() == null) {
+            return;
+        }
+        long completedAt = System.nanoTime();
+        timings.record(CallbackPhase.SERIALISATION, completedAt - timings.getHandledAt());
+        Tags tags = tags(timings.getCallback());
+
+        Timer.builder(METRIC_PREFIX)
+            .description("Time to handle a callback from CCD")
+            .tags(tags)
+            .register(registry)
+            .record(completedAt - timings.getStartedAt(), TimeUnit.NANOSECONDS);
+        for (CallbackPhase phase : CallbackPhase.values()) {
+            long nanos = timings.get(phase);
+            if (nanos > 0) {
+                Timer.builder(METRIC_PREFIX + ".phase")
+                    .description("Time spent in a phase of handling a callback from CCD")
+                    .tags(tags)
+                    .tag("phase", phase.getValue())
+                    .register(registry)
+                    .record(nanos, TimeUnit.NANOSECONDS);
+            }
+        }
+        Object allocatedBefore = request.getAttribute(ALLOCATED_BYTES);
+        long allocatedAfter = allocatedBytes();
+        if (allocatedBefore instanceof Long && (Long) allocatedBefore >= 0 && allocatedAfter >= 0) {
+            DistributionSummary.builder(METRIC_PREFIX + ".allocated")
+                .description("Bytes allocated by the thread handling a callback from CCD")
+                .baseUnit("bytes")
+                .tags(tags)
+                .register(registry)
+                .record(allocatedAfter - (Long) allocatedBefore);
+        }
+    }
+
+    private Tags tags(CallbackParams callback) {
+        String eventId = callback.getRequest().getEventId();
+        String pageId = callback.getPageId();
+        return Tags.of(
+            "event", eventTag(eventId),
+            "type", callback.getType().getValue(),
+            "page", pageTag(eventId, pageId),
+            "version", callback.getVersion() == null ? NONE : callback.getVersion().name()
+        );
+    }
+
+    private String eventTag(String eventId) {
+        if (eventId == null) {
+            return NONE;
+        }
+        return callbackHandlerFactory.isRegistered(eventId) ? eventId : UNKNOWN;
+    }
+
+    private String pageTag(String eventId, String pageId) {
+        if (pageId == null) {
+            return NONE;
+        }
+        return callbackHandlerFactory.isRegistered(eventId, pageId) ? pageId : UNKNOWN;
+    }
+
+    /**
+     * Bytes allocated by the current thread so far, or -1 when the JVM does not measure it.
+     */
+    private static long allocatedBytes() {
+        if (THREADS instanceof com.sun.management.ThreadMXBean) {
+            com.sun.management.ThreadMXBean threads = (com.sun.management.ThreadMXBean) THREADS;
+            if (threads.isThreadAllocatedMemorySupported() && threads.isThreadAllocatedMemoryEnabled()) {
+                return threads.getThreadAllocatedBytes(Thread.currentThread().getId());
+            }
+        }
+        return -1;
+    }
+}
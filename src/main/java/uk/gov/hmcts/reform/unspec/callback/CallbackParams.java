@@ -6,6 +6,7 @@ import uk.gov.hmcts.reform.ccd.client.model.CallbackRequest;
 import uk.gov.hmcts.reform.unspec.model.CaseData;
 
 import java.util.Map;
+import java.util.function.Supplier;
 
 @Builder(toBuilder = true)
 @Getter
@@ -17,6 +18,19 @@ public class CallbackParams {
     private CallbackVersion version;
     private String pageId;
     private CaseData caseData;
+    // values derived from the request, shared by the aspects and the handler it is dispatched to
+    private volatile CallbackContext context;
+
+    /**
+     * Context of the callback, attaching the one created by the given factory when none was given on receipt, so a
+     * callback has a single context however many times it is looked up.
+     */
+    synchronized CallbackContext attachContext(Supplier<CallbackContext> factory) {
+        if (context == null) {
+            context = factory.get();
+        }
+        return context;
+    }
 
     public enum Params {
         BEARER_TOKEN
@@ -0,0 +1,20 @@
+package uk.gov.hmcts.reform.unspec.callback;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * Phases of handling a callback which are timed separately. Outbound calls are made by the handler, so their time is
+ * also part of the handler phase, and calls made concurrently are each counted in full.
+ */
+@Getter
+@RequiredArgsConstructor
+public enum CallbackPhase {
+    DESERIALISATION("deserialisation"),
+    ASPECTS("aspects"),
+    HANDLER("handler"),
+    OUTBOUND_CALLS("outbound-calls"),
+    SERIALISATION("serialisation");
+
+    private final String value;
+}
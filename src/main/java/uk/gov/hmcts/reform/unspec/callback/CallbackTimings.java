@@ -0,0 +1,122 @@
+package uk.gov.hmcts.reform.unspec.callback;
+
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.function.Supplier;
+
+/**
+ * Time spent in each {@link CallbackPhase} of a single callback request. The timings of the request being handled are
+ * bound to the thread handling it, from before its body is read until its response is written, so phases timed
+ * outside the callback, such as reading the body and outbound calls, are attributed to it. Tasks handed to other
+ * threads on behalf of the callback are bound with {@link #propagate(Runnable)}.
+ */
+public final class CallbackTimings {
+
+    private static final ThreadLocal<CallbackTimings> CURRENT = new ThreadLocal<>();
+
+    private final AtomicLongArray phases = new AtomicLongArray(CallbackPhase.values().length);
+    private final long startedAt = System.nanoTime();
+    private volatile long handledAt;
+    private volatile CallbackParams callback;
+
+    CallbackTimings() {
+    }
+
+    /**
+     * Binds new timings to the current thread.
+     */
+    static CallbackTimings start() {
+        CallbackTimings timings = new CallbackTimings();
+        CURRENT.set(timings);
+        return timings;
+    }
+
+    /**
+     * Unbinds the timings bound to the current thread.
+     *
+     * @return the timings, or null when none were bound
+     */
+    static CallbackTimings end() {
+        CallbackTimings timings = CURRENT.get();
+        CURRENT.remove();
+        return timings;
+    }
+
+    /**
+     * Timings of the callback handled by the current thread, or null when it is not handling a callback.
+     */
+    public static CallbackTimings current() {
+        return CURRENT.get();
+    }
+
+    /**
+     * Adds the time to the phase of the callback handled by the current thread, if any.
+     */
+    public static void recordCurrent(CallbackPhase phase, long nanos) {
+        CallbackTimings timings = CURRENT.get();
+        if (timings != null) {
+            timings.record(phase, nanos);
+        }
+    }
+
+    /**
+     * Binds the timings of the callback handled by the current thread to the thread running the task.
+     */
+    public static Runnable propagate(Runnable task) {
+        CallbackTimings timings = CURRENT.get();
+        if (timings == null) {
+            return task;
+        }
+        return () -> {
+            CallbackTimings previous = CURRENT.get();
+            CURRENT.set(timings);
+            try {
+                task.run();
+            } finally {
+                CURRENT.set(previous);
+            }
+        };
+    }
+
+    public void record(CallbackPhase phase, long nanos) {
+        phases.addAndGet(phase.ordinal(), nanos);
+    }
+
+    public <T> T time(CallbackPhase phase, Supplier<T> work) {
+        long start = System.nanoTime();
+        try {
+            return work.get();
+        } finally {
+            record(phase, System.nanoTime() - start);
+        }
+    }
+
+    /**
+     * Marks the callback as handled, its response is serialised from now on.
+     */
+    public void handled(CallbackParams callback) {
+        this.callback = callback;
+        this.handledAt = System.nanoTime();
+    }
+
+    /**
+     * Nanoseconds spent in the phase, or zero when the phase was not timed.
+     */
+    public long get(CallbackPhase phase) {
+        return phases.get(phase.ordinal());
+    }
+
+    /**
+     * Callback which was handled, or null when the request did not reach the handler.
+     */
+    public CallbackParams getCallback() {
+        return callback;
+    }
+
+    long getStartedAt() {
+        return startedAt;
+    }
+
+    long getHandledAt() {
+        return handledAt;
+    }
+}
@@ -0,0 +1,35 @@
+package uk.gov.hmcts.reform.unspec.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.validation.annotation.Validated;
+
+import java.time.Duration;
+import javax.validation.constraints.Min;
+
+@Validated
+@Data
+@Configuration
+@EnableConfigurationProperties
+@ConfigurationProperties(prefix = "authorities")
+public class AuthoritiesConfiguration {
+
+    public enum Source {
+        // roles of every request are read from IDAM user info
+        USER_INFO,
+        // roles are read from the claims of the verified JWT, or else from the role cache or IDAM user info
+        CLAIMS
+    }
+
+    private Source source = Source.USER_INFO;
+    // claim of the JWT holding the roles of the user
+    private String rolesClaim = "roles";
+    // roles read from IDAM user info are trusted for this long
+    private Duration roleCacheLifetime = Duration.ofMinutes(5);
+    @Min(1)
+    private long roleCacheMaximumSize = 10_000;
+    // key signing the cached roles, shared by the pods sharing a role store; a random key per pod when blank
+    private String roleCacheSigningKey = "";
+}
@@ -0,0 +1,56 @@
+package uk.gov.hmcts.reform.unspec.config;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.springframework.http.HttpInputMessage;
+import org.springframework.http.HttpOutputMessage;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.AbstractHttpMessageConverter;
+import org.springframework.http.converter.HttpMessageNotReadableException;
+import uk.gov.hmcts.reform.unspec.callback.BoundCallbackRequest;
+import uk.gov.hmcts.reform.unspec.callback.CallbackPhase;
+import uk.gov.hmcts.reform.unspec.callback.CallbackTimings;
+import uk.gov.hmcts.reform.unspec.helpers.CallbackRequestReader;
+
+import java.io.IOException;
+
+/**
+ * Reads request bodies of type {@link BoundCallbackRequest} with {@link CallbackRequestReader}, and writes them as the
+ * callback request they were read from.
+ */
+public class CallbackRequestHttpMessageConverter extends AbstractHttpMessageConverter<BoundCallbackRequest> {
+
+    private final CallbackRequestReader callbackRequestReader;
+    private final ObjectMapper objectMapper;
+
+    public CallbackRequestHttpMessageConverter(CallbackRequestReader callbackRequestReader,
+                                               ObjectMapper objectMapper) {
+        super(MediaType.APPLICATION_JSON);
+        this.callbackRequestReader = callbackRequestReader;
+        this.objectMapper = objectMapper;
+    }
+
+    @Override
+    protected boolean supports(Class<?> clazz) {
+        return BoundCallbackRequest.class == clazz;
+    }
+
+    @Override
+    protected BoundCallbackRequest readInternal(Class<? extends BoundCallbackRequest> clazz,
+                                                HttpInputMessage inputMessage) throws IOException {
+        long start = System.nanoTime();
+        try {
+            return callbackRequestReader.read(inputMessage.getBody());
+        } catch (JsonProcessingException e) {
+            throw new HttpMessageNotReadableException("JSON parse error: " + e.getOriginalMessage(), e, inputMessage);
+        } finally {
+            CallbackTimings.recordCurrent(CallbackPhase.DESERIALISATION, System.nanoTime() - start);
+        }
+    }
+
+    @Override
+    protected void writeInternal(BoundCallbackRequest boundCallbackRequest, HttpOutputMessage outputMessage)
+        throws IOException {
+        objectMapper.writeValue(outputMessage.getBody(), boundCallbackRequest.getRequest());
+    }
+}
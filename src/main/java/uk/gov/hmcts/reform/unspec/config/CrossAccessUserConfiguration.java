@@ -6,7 +6,7 @@ import org.springframework.context.annotation.Configuration;
 
 @Data
 @Configuration
-public class CrossAccessUserConfiguration {
+public class CrossAccessUserConfiguration implements UserCredentials {
 
     private final String userName;
     private final String password;
@@ -0,0 +1,26 @@
+package uk.gov.hmcts.reform.unspec.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.validation.annotation.Validated;
+
+import java.time.Duration;
+import javax.validation.constraints.Min;
+
+@Validated
+@Data
+@Configuration
+@EnableConfigurationProperties
+@ConfigurationProperties(prefix = "downstream-calls")
+public class DownstreamCallConfiguration {
+
+    // threads issuing downstream calls concurrently with the callback thread
+    @Min(1)
+    private int threads = 8;
+    // calls waiting for a thread, beyond which calls are made by the callback thread itself
+    @Min(1)
+    private int queueCapacity = 64;
+    private Duration timeout = Duration.ofSeconds(10);
+}
@@ -0,0 +1,29 @@
+package uk.gov.hmcts.reform.unspec.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.validation.annotation.Validated;
+
+import java.time.Duration;
+import javax.validation.constraints.Min;
+
+@Validated
+@Data
+@Configuration
+@EnableConfigurationProperties
+@ConfigurationProperties(prefix = "event-emitter")
+public class EventEmitterConfiguration {
+
+    // emit camunda events of SUBMITTED callbacks from a queue rather than within the callback
+    private boolean async;
+    @Min(1)
+    private int queueCapacity = 1000;
+    @Min(1)
+    private int workers = 2;
+    @Min(1)
+    private int maxAttempts = 3;
+    // delay before the first retry, doubled on every further retry
+    private Duration retryBackoff = Duration.ofSeconds(1);
+}
@@ -0,0 +1,16 @@
+package uk.gov.hmcts.reform.unspec.config;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.util.concurrent.ForkJoinPool;
+
+@Configuration
+public class FlowStateEvaluationConfiguration {
+
+    @Bean(destroyMethod = "shutdown")
+    public ForkJoinPool flowStateEvaluationPool(@Value("${flow-state.bulk-evaluation.parallelism:0}") int parallelism) {
+        return new ForkJoinPool(parallelism > 0 ? parallelism : Runtime.getRuntime().availableProcessors());
+    }
+}
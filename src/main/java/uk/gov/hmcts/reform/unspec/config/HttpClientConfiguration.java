@@ -2,6 +2,7 @@ package uk.gov.hmcts.reform.unspec.config;
 
 import feign.Client;
 import feign.httpclient.ApacheHttpClient;
+import lombok.RequiredArgsConstructor;
 import org.apache.http.client.config.RequestConfig;
 import org.apache.http.impl.client.CloseableHttpClient;
 import org.apache.http.impl.client.HttpClientBuilder;
@@ -9,19 +10,52 @@ import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.http.client.HttpComponentsClientHttpRequestFactory;
 import org.springframework.web.client.RestTemplate;
+import uk.gov.hmcts.reform.unspec.callback.CallbackTimings;
+import uk.gov.hmcts.reform.unspec.service.DownstreamBulkheads;
+
+import java.net.URI;
+
+import static uk.gov.hmcts.reform.unspec.callback.CallbackPhase.OUTBOUND_CALLS;
+import static uk.gov.hmcts.reform.unspec.config.RequestExecutionConfiguration.Mode.THREAD_PER_REQUEST;
 
 @Configuration
+@RequiredArgsConstructor
 public class HttpClientConfiguration {
 
+    private final RequestExecutionConfiguration requestExecutionConfiguration;
+    private final DownstreamBulkheads downstreamBulkheads;
+
     @Bean
     public Client getFeignHttpClient() {
-        return new ApacheHttpClient(getHttpClient());
+        Client client = new ApacheHttpClient(getHttpClient());
+        return (request, options) -> {
+            long start = System.nanoTime();
+            try {
+                return downstreamBulkheads.call(
+                    URI.create(request.url()).getAuthority(),
+                    () -> client.execute(request, options)
+                );
+            } finally {
+                CallbackTimings.recordCurrent(OUTBOUND_CALLS, System.nanoTime() - start);
+            }
+        };
     }
 
     @Bean
     public RestTemplate restTemplate() {
         RestTemplate restTemplate = new RestTemplate();
         restTemplate.setRequestFactory(new HttpComponentsClientHttpRequestFactory(getHttpClient()));
+        restTemplate.getInterceptors().add((request, body, execution) -> {
+            long start = System.nanoTime();
+            try {
+                return downstreamBulkheads.call(
+                    request.getURI().getAuthority(),
+                    () -> execution.execute(request, body)
+                );
+            } finally {
+                CallbackTimings.recordCurrent(OUTBOUND_CALLS, System.nanoTime() - start);
+            }
+        });
         return restTemplate;
     }
 
@@ -33,11 +67,16 @@ public class HttpClientConfiguration {
             .setSocketTimeout(timeout)
             .build();
 
-        return HttpClientBuilder
+        HttpClientBuilder builder = HttpClientBuilder
             .create()
             .useSystemProperties()
-            .setDefaultRequestConfig(config)
-            .build();
+            .setDefaultRequestConfig(config);
+        if (requestExecutionConfiguration.getMode() != THREAD_PER_REQUEST) {
+            // as many connections to a downstream service as its bulkhead lets calls through
+            builder.setMaxConnPerRoute(requestExecutionConfiguration.getMaxConcurrentCalls())
+                .setMaxConnTotal(requestExecutionConfiguration.getMaxConnections());
+        }
+        return builder.build();
     }
 
 }
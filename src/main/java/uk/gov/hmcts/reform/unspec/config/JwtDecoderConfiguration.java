@@ -0,0 +1,28 @@
+package uk.gov.hmcts.reform.unspec.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.validation.annotation.Validated;
+
+import java.time.Duration;
+import javax.validation.constraints.Min;
+
+@Validated
+@Data
+@Configuration
+@EnableConfigurationProperties
+@ConfigurationProperties(prefix = "jwt-decoder")
+public class JwtDecoderConfiguration {
+
+    // how often the signing keys of IDAM are fetched in the background
+    private Duration jwksRefreshInterval = Duration.ofMinutes(5);
+    // keys are fetched early when a token is signed with an unknown key, but no more often than this
+    private Duration jwksMinimumRefreshInterval = Duration.ofSeconds(30);
+    private Duration connectTimeout = Duration.ofSeconds(2);
+    private Duration readTimeout = Duration.ofSeconds(5);
+    // verified tokens kept at most, until they expire
+    @Min(1)
+    private long verifiedTokenCacheMaximumSize = 10_000;
+}
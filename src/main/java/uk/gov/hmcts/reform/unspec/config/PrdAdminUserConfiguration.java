@@ -6,14 +6,14 @@ import org.springframework.context.annotation.Configuration;
 
 @Data
 @Configuration
-public class PrdAdminUserConfiguration {
+public class PrdAdminUserConfiguration implements UserCredentials {
 
-    private final String username;
+    private final String userName;
     private final String password;
 
-    public PrdAdminUserConfiguration(@Value("${unspecified.prd-admin.username}") String username,
+    public PrdAdminUserConfiguration(@Value("${unspecified.prd-admin.username}") String userName,
                                      @Value("${unspecified.prd-admin.password}") String password) {
-        this.username = username;
+        this.userName = userName;
         this.password = password;
     }
 }
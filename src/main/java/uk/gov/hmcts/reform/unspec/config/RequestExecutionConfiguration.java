@@ -0,0 +1,51 @@
+package uk.gov.hmcts.reform.unspec.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.validation.annotation.Validated;
+
+import java.time.Duration;
+import javax.validation.constraints.Min;
+
+@Validated
+@Data
+@Configuration
+@EnableConfigurationProperties
+@ConfigurationProperties(prefix = "request-execution")
+public class RequestExecutionConfiguration {
+
+    private Mode mode = Mode.THREAD_PER_REQUEST;
+    // upper bound of the elastic pool, threads above the load die after the keep alive
+    @Min(1)
+    private int maxThreads = 400;
+    private Duration keepAlive = Duration.ofSeconds(60);
+    // requests and tasks waiting for a thread of the elastic pool, beyond which they are rejected
+    @Min(1)
+    private int queueCapacity = 100;
+    // calls made to a single downstream service at once, beyond which calls wait for the bulkhead timeout
+    @Min(1)
+    private int maxConcurrentCalls = 50;
+    private Duration bulkheadTimeout = Duration.ofSeconds(5);
+    // downstream services called: idam api and web, s2s, ccd, dm store, docmosis, fees, payments, prd, camunda
+    @Min(1)
+    private int downstreamServices = 10;
+
+    /**
+     * Connections open to all downstream services together, enough for each of them to take max concurrent calls.
+     */
+    public int getMaxConnections() {
+        return maxConcurrentCalls * downstreamServices;
+    }
+
+    public enum Mode {
+        // requests and external tasks run on the threads of tomcat and of the camunda client, as they always did
+        THREAD_PER_REQUEST,
+        // requests and external tasks run on a pool growing up to max threads, then wait in a bounded queue, with
+        // bulkheads on downstream calls
+        ELASTIC,
+        // requests and external tasks run on a virtual thread each, with bulkheads on downstream calls; Java 21+
+        VIRTUAL
+    }
+}
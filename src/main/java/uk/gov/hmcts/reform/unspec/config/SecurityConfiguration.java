@@ -1,5 +1,10 @@
 package uk.gov.hmcts.reform.unspec.config;
 
+import com.nimbusds.jose.JWSAlgorithm;
+import com.nimbusds.jose.proc.JWSVerificationKeySelector;
+import com.nimbusds.jose.proc.SecurityContext;
+import com.nimbusds.jose.util.DefaultResourceRetriever;
+import com.nimbusds.jwt.proc.DefaultJWTProcessor;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
@@ -11,13 +16,13 @@ import org.springframework.security.config.annotation.web.configuration.WebSecur
 import org.springframework.security.oauth2.core.DelegatingOAuth2TokenValidator;
 import org.springframework.security.oauth2.core.OAuth2TokenValidator;
 import org.springframework.security.oauth2.jwt.Jwt;
-import org.springframework.security.oauth2.jwt.JwtDecoder;
-import org.springframework.security.oauth2.jwt.JwtDecoders;
 import org.springframework.security.oauth2.jwt.JwtIssuerValidator;
 import org.springframework.security.oauth2.jwt.JwtTimestampValidator;
 import org.springframework.security.oauth2.jwt.NimbusJwtDecoder;
 import org.springframework.security.oauth2.server.resource.authentication.JwtAuthenticationConverter;
+import uk.gov.hmcts.reform.unspec.security.CachingJwtDecoder;
 import uk.gov.hmcts.reform.unspec.security.JwtGrantedAuthoritiesConverter;
+import uk.gov.hmcts.reform.unspec.security.RefreshingJwkSource;
 
 import static org.springframework.security.config.http.SessionCreationPolicy.STATELESS;
 
@@ -88,9 +93,27 @@ public class SecurityConfiguration extends WebSecurityConfigurerAdapter {
             .oauth2Client();
     }
 
+    @Bean(destroyMethod = "shutdown")
+    RefreshingJwkSource jwkSource(JwtDecoderConfiguration configuration) {
+        RefreshingJwkSource jwkSource = new RefreshingJwkSource(
+            issuerUri,
+            configuration,
+            new DefaultResourceRetriever(
+                (int) configuration.getConnectTimeout().toMillis(),
+                (int) configuration.getReadTimeout().toMillis()
+            )
+        );
+        jwkSource.start();
+        return jwkSource;
+    }
+
     @Bean
-    JwtDecoder jwtDecoder() {
-        NimbusJwtDecoder jwtDecoder = (NimbusJwtDecoder) JwtDecoders.fromOidcIssuerLocation(issuerUri);
+    CachingJwtDecoder jwtDecoder(RefreshingJwkSource jwkSource, JwtDecoderConfiguration configuration) {
+        DefaultJWTProcessor<SecurityContext> jwtProcessor = new DefaultJWTProcessor<>();
+        jwtProcessor.setJWSKeySelector(new JWSVerificationKeySelector<>(JWSAlgorithm.RS256, jwkSource));
+        // claims are validated by the validators of the decoder below
+        jwtProcessor.setJWTClaimsSetVerifier((claims, context) -> { });
+        NimbusJwtDecoder jwtDecoder = new NimbusJwtDecoder(jwtProcessor);
 
         // We are using issuerOverride instead of issuerUri as SIDAM has the wrong issuer at the moment
         OAuth2TokenValidator<Jwt> withTimestamp = new JwtTimestampValidator();
@@ -98,6 +121,6 @@ public class SecurityConfiguration extends WebSecurityConfigurerAdapter {
         OAuth2TokenValidator<Jwt> validator = new DelegatingOAuth2TokenValidator<>(withTimestamp, withIssuer);
 
         jwtDecoder.setJwtValidator(validator);
-        return jwtDecoder;
+        return new CachingJwtDecoder(jwtDecoder, configuration);
     }
 }
@@ -6,7 +6,7 @@ import org.springframework.context.annotation.Configuration;
 
 @Data
 @Configuration
-public class SystemUpdateUserConfiguration {
+public class SystemUpdateUserConfiguration implements UserCredentials {
 
     private final String userName;
     private final String password;
@@ -0,0 +1,26 @@
+package uk.gov.hmcts.reform.unspec.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+import java.time.Duration;
+
+@Data
+@Configuration
+@EnableConfigurationProperties
+@ConfigurationProperties(prefix = "token-cache")
+public class TokenCacheConfiguration {
+
+    // cached tokens are refreshed in the background this long before they expire
+    private Duration refreshBeforeExpiry = Duration.ofMinutes(5);
+    // up to this much earlier again, at random, so tokens of the users and pods are not all refreshed at once
+    private Duration refreshJitter = Duration.ofMinutes(1);
+    // how often the background refresh checks whether a token is due
+    private Duration refreshInterval = Duration.ofMinutes(1);
+    // tokens are not handed out for calls this close to their expiry
+    private Duration expiryMargin = Duration.ofSeconds(30);
+    // lifetime assumed for tokens whose expiry cannot be read
+    private Duration defaultLifetime = Duration.ofMinutes(10);
+}
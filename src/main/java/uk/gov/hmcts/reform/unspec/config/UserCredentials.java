@@ -0,0 +1,11 @@
+package uk.gov.hmcts.reform.unspec.config;
+
+/**
+ * Credentials of a user the service acts as, such as the system update user.
+ */
+public interface UserCredentials {
+
+    String getUserName();
+
+    String getPassword();
+}
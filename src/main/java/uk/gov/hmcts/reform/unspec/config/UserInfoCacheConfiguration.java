@@ -0,0 +1,24 @@
+package uk.gov.hmcts.reform.unspec.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.validation.annotation.Validated;
+
+import java.time.Duration;
+import javax.validation.constraints.Min;
+
+@Validated
+@Data
+@Configuration
+@EnableConfigurationProperties
+@ConfigurationProperties(prefix = "user-info-cache")
+public class UserInfoCacheConfiguration {
+
+    // user infos kept at most, least recently used ones are evicted first
+    @Min(1)
+    private long maximumSize = 10_000;
+    // user infos are kept until their token expires, and no longer than this
+    private Duration maximumLifetime = Duration.ofHours(1);
+}
@@ -0,0 +1,31 @@
+package uk.gov.hmcts.reform.unspec.config;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.http.converter.HttpMessageConverter;
+import org.springframework.web.servlet.config.annotation.InterceptorRegistry;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+import uk.gov.hmcts.reform.unspec.callback.CallbackMetrics;
+import uk.gov.hmcts.reform.unspec.helpers.CallbackRequestReader;
+
+import java.util.List;
+
+@Configuration
+@RequiredArgsConstructor
+public class WebMvcConfiguration implements WebMvcConfigurer {
+
+    private final CallbackRequestReader callbackRequestReader;
+    private final CallbackMetrics callbackMetrics;
+    private final ObjectMapper objectMapper;
+
+    @Override
+    public void extendMessageConverters(List<HttpMessageConverter<?>> converters) {
+        converters.add(0, new CallbackRequestHttpMessageConverter(callbackRequestReader, objectMapper));
+    }
+
+    @Override
+    public void addInterceptors(InterceptorRegistry registry) {
+        registry.addInterceptor(callbackMetrics).addPathPatterns("/cases/callbacks/**");
+    }
+}
@@ -0,0 +1,27 @@
+package uk.gov.hmcts.reform.unspec.config;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.web.embedded.tomcat.TomcatServletWebServerFactory;
+import org.springframework.boot.web.server.WebServerFactoryCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import uk.gov.hmcts.reform.unspec.service.RequestExecutor;
+
+@Configuration
+@RequiredArgsConstructor
+public class WebServerConfiguration {
+
+    private final RequestExecutor requestExecutor;
+
+    /**
+     * Runs requests on the executor of the request execution mode instead of the thread pool of tomcat.
+     */
+    @Bean
+    public WebServerFactoryCustomizer<TomcatServletWebServerFactory> requestExecutorCustomizer() {
+        return factory -> requestExecutor.getExecutor().ifPresent(
+            executor -> factory.addConnectorCustomizers(
+                connector -> connector.getProtocolHandler().setExecutor(executor)
+            )
+        );
+    }
+}
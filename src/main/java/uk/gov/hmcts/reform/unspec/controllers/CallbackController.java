@@ -13,13 +13,13 @@ import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RestController;
-import uk.gov.hmcts.reform.ccd.client.model.CallbackRequest;
 import uk.gov.hmcts.reform.ccd.client.model.CallbackResponse;
+import uk.gov.hmcts.reform.unspec.callback.BoundCallbackRequest;
+import uk.gov.hmcts.reform.unspec.callback.CallbackContextFactory;
 import uk.gov.hmcts.reform.unspec.callback.CallbackHandlerFactory;
 import uk.gov.hmcts.reform.unspec.callback.CallbackParams;
 import uk.gov.hmcts.reform.unspec.callback.CallbackType;
 import uk.gov.hmcts.reform.unspec.callback.CallbackVersion;
-import uk.gov.hmcts.reform.unspec.helpers.CaseDetailsConverter;
 
 import java.util.Optional;
 import javax.validation.constraints.NotNull;
@@ -36,7 +36,7 @@ import javax.validation.constraints.NotNull;
 public class CallbackController {
 
     private final CallbackHandlerFactory callbackHandlerFactory;
-    private final CaseDetailsConverter caseDetailsConverter;
+    private final CallbackContextFactory callbackContextFactory;
 
     @PostMapping(path = {
         "/{callback-type}",
@@ -48,22 +48,30 @@ public class CallbackController {
     public CallbackResponse callback(
         @RequestHeader(HttpHeaders.AUTHORIZATION) String authorisation,
         @PathVariable("callback-type") String callbackType,
-        @NotNull @RequestBody CallbackRequest callback,
+        @NotNull @RequestBody BoundCallbackRequest callback,
         @PathVariable("version") Optional<CallbackVersion> version,
         @PathVariable("page-id") Optional<String> pageId
     ) {
         log.info("Received callback from CCD, eventId: {}, callback type: {}, page id: {}, version: {}",
-                 callback.getEventId(), callbackType, pageId, version
+                 callback.getRequest().getEventId(), callbackType, pageId, version
         );
         CallbackParams callbackParams = CallbackParams.builder()
-            .request(callback)
+            .request(callback.getRequest())
             .type(CallbackType.fromValue(callbackType))
             .params(ImmutableMap.of(CallbackParams.Params.BEARER_TOKEN, authorisation))
             .version(version.orElse(null))
             .pageId(pageId.orElse(null))
-            .caseData(caseDetailsConverter.toCaseData(callback.getCaseDetails()))
+            .caseData(callback.getCaseData())
+            .context(callbackContextFactory.create(callback.getRequest(), callback.getCaseData(), authorisation))
             .build();
 
-        return callbackHandlerFactory.dispatch(callbackParams);
+        CallbackResponse response;
+        try {
+            response = callbackHandlerFactory.dispatch(callbackParams);
+        } finally {
+            callbackParams.getContext().getTimings().handled(callbackParams);
+        }
+        log.debug("Case details converted {} times for callback", callbackParams.getContext().getConversions());
+        return response;
     }
 }
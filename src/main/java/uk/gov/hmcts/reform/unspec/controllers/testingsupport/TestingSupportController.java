@@ -1,9 +1,12 @@
 package uk.gov.hmcts.reform.unspec.controllers.testingsupport;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
 import feign.FeignException;
 import io.swagger.annotations.Api;
 import lombok.Data;
 import lombok.RequiredArgsConstructor;
+import lombok.Value;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnExpression;
 import org.springframework.http.HttpStatus;
@@ -11,10 +14,19 @@ import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 import uk.gov.hmcts.reform.unspec.helpers.CaseDetailsConverter;
 import uk.gov.hmcts.reform.unspec.model.BusinessProcess;
 import uk.gov.hmcts.reform.unspec.model.CaseData;
 import uk.gov.hmcts.reform.unspec.service.CoreCaseDataService;
+import uk.gov.hmcts.reform.unspec.service.flowstate.BulkFlowStateEvaluator;
+import uk.gov.hmcts.reform.unspec.service.flowstate.FlowStateCounts;
+import uk.gov.hmcts.reform.unspec.service.search.AllCasesSearchService;
+import uk.gov.hmcts.reform.unspec.stateflow.StateFlow;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
 
 import static uk.gov.hmcts.reform.unspec.enums.BusinessProcessStatus.STARTED;
 
@@ -28,6 +40,9 @@ public class TestingSupportController {
     private final CaseDetailsConverter caseDetailsConverter;
     private final CoreCaseDataService coreCaseDataService;
     private final CamundaRestEngineClient camundaRestEngineClient;
+    private final AllCasesSearchService allCasesSearchService;
+    private final BulkFlowStateEvaluator bulkFlowStateEvaluator;
+    private final ObjectMapper objectMapper;
 
     @GetMapping("/testing-support/case/{caseId}/business-process")
     public ResponseEntity<BusinessProcessInfo> getBusinessProcess(@PathVariable("caseId") Long caseId) {
@@ -50,6 +65,41 @@ public class TestingSupportController {
         return new ResponseEntity<>(businessProcessInfo, HttpStatus.OK);
     }
 
+    @GetMapping("/testing-support/flow-states")
+    public ResponseEntity<FlowStateCounts> getFlowStateCounts() {
+        FlowStateCounts counts = bulkFlowStateEvaluator.evaluateAll(
+            allCasesSearchService.streamCases().map(caseDetailsConverter::toCaseData)
+        );
+
+        return new ResponseEntity<>(counts, HttpStatus.OK);
+    }
+
+    /**
+     * Flow state of every case, written as one JSON line per case as soon as the case is evaluated.
+     */
+    @GetMapping(value = "/testing-support/flow-states/cases", produces = "application/x-ndjson")
+    public ResponseEntity<StreamingResponseBody> getCaseFlowStates() {
+        ObjectWriter writer = objectMapper.writer();
+        StreamingResponseBody body = outputStream -> bulkFlowStateEvaluator.evaluateAll(
+            allCasesSearchService.streamCases().map(caseDetailsConverter::toCaseData),
+            (caseData, stateFlow) -> writeLine(outputStream, writer, CaseFlowState.of(caseData, stateFlow))
+        );
+
+        return new ResponseEntity<>(body, HttpStatus.OK);
+    }
+
+    private static void writeLine(OutputStream outputStream, ObjectWriter writer, CaseFlowState caseFlowState) {
+        try {
+            byte[] line = writer.writeValueAsBytes(caseFlowState);
+            synchronized (outputStream) {
+                outputStream.write(line);
+                outputStream.write('\n');
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
     @Data
     private static class BusinessProcessInfo {
         private BusinessProcess businessProcess;
@@ -59,4 +109,17 @@ public class TestingSupportController {
             this.businessProcess = businessProcess;
         }
     }
+
+    @Value
+    private static class CaseFlowState {
+        Long caseReference;
+        String flowState;
+        boolean ambiguous;
+
+        private static CaseFlowState of(CaseData caseData, StateFlow stateFlow) {
+            return stateFlow.hasError()
+                ? new CaseFlowState(caseData.getCcdCaseReference(), null, true)
+                : new CaseFlowState(caseData.getCcdCaseReference(), stateFlow.getState().getName(), false);
+        }
+    }
 }
@@ -1,14 +1,15 @@
 package uk.gov.hmcts.reform.unspec.handler.callback.camunda.businessprocess;
 
-import com.fasterxml.jackson.databind.ObjectMapper;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
 import uk.gov.hmcts.reform.ccd.client.model.AboutToStartOrSubmitCallbackResponse;
 import uk.gov.hmcts.reform.ccd.client.model.CallbackResponse;
 import uk.gov.hmcts.reform.unspec.callback.Callback;
 import uk.gov.hmcts.reform.unspec.callback.CallbackHandler;
+import uk.gov.hmcts.reform.unspec.callback.CallbackKey;
 import uk.gov.hmcts.reform.unspec.callback.CallbackParams;
 import uk.gov.hmcts.reform.unspec.callback.CaseEvent;
+import uk.gov.hmcts.reform.unspec.helpers.CaseDataPatcher;
 import uk.gov.hmcts.reform.unspec.model.BusinessProcess;
 import uk.gov.hmcts.reform.unspec.model.CaseData;
 
@@ -29,10 +30,10 @@ public class DispatchBusinessProcessCallbackHandler extends CallbackHandler {
 
     private static final List<CaseEvent> EVENTS = Collections.singletonList(DISPATCH_BUSINESS_PROCESS);
 
-    private final ObjectMapper objectMapper;
+    private final CaseDataPatcher caseDataPatcher;
 
     @Override
-    protected Map<String, Callback> callbacks() {
+    protected Map<CallbackKey, Callback> callbacks() {
         return Map.of(
             callbackKey(ABOUT_TO_START), this::checkIfBusinessProcessStarted,
             callbackKey(ABOUT_TO_SUBMIT), this::dispatchBusinessProcess
@@ -70,7 +71,7 @@ public class DispatchBusinessProcessCallbackHandler extends CallbackHandler {
         }
 
         return AboutToStartOrSubmitCallbackResponse.builder()
-            .data(caseDataBuilder.build().toMap(objectMapper))
+            .data(caseDataPatcher.toMap(callbackParams, caseDataBuilder.build()))
             .build();
     }
 }
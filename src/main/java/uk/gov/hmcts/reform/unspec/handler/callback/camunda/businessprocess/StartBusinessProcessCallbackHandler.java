@@ -1,14 +1,13 @@
 package uk.gov.hmcts.reform.unspec.handler.callback.camunda.businessprocess;
 
-import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
 import uk.gov.hmcts.reform.ccd.client.model.AboutToStartOrSubmitCallbackResponse;
 import uk.gov.hmcts.reform.ccd.client.model.CallbackResponse;
 import uk.gov.hmcts.reform.unspec.callback.Callback;
 import uk.gov.hmcts.reform.unspec.callback.CallbackHandler;
+import uk.gov.hmcts.reform.unspec.callback.CallbackKey;
 import uk.gov.hmcts.reform.unspec.callback.CallbackParams;
 import uk.gov.hmcts.reform.unspec.callback.CaseEvent;
-import uk.gov.hmcts.reform.unspec.helpers.CaseDetailsConverter;
 import uk.gov.hmcts.reform.unspec.model.BusinessProcess;
 import uk.gov.hmcts.reform.unspec.model.CaseData;
 
@@ -19,14 +18,13 @@ import static uk.gov.hmcts.reform.unspec.callback.CallbackType.ABOUT_TO_SUBMIT;
 import static uk.gov.hmcts.reform.unspec.callback.CaseEvent.START_BUSINESS_PROCESS;
 
 @Service
-@RequiredArgsConstructor
 public class StartBusinessProcessCallbackHandler extends CallbackHandler {
 
     private static final List<CaseEvent> EVENTS = List.of(START_BUSINESS_PROCESS);
     public static final String BUSINESS_PROCESS = "businessProcess";
 
     @Override
-    protected Map<String, Callback> callbacks() {
+    protected Map<CallbackKey, Callback> callbacks() {
         return Map.of(callbackKey(ABOUT_TO_SUBMIT), this::startBusinessProcess);
     }
 
@@ -35,10 +33,8 @@ public class StartBusinessProcessCallbackHandler extends CallbackHandler {
         return EVENTS;
     }
 
-    private final CaseDetailsConverter caseDetailsConverter;
-
     private CallbackResponse startBusinessProcess(CallbackParams callbackParams) {
-        CaseData data = caseDetailsConverter.toCaseData(callbackParams.getRequest().getCaseDetails());
+        CaseData data = callbackParams.getCaseData();
         BusinessProcess businessProcess = data.getBusinessProcess();
 
         switch (businessProcess.getStatusOrDefault()) {
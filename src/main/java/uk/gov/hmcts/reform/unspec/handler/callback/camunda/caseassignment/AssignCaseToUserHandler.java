@@ -1,16 +1,16 @@
 package uk.gov.hmcts.reform.unspec.handler.callback.camunda.caseassignment;
 
-import com.fasterxml.jackson.databind.ObjectMapper;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
 import uk.gov.hmcts.reform.ccd.client.model.AboutToStartOrSubmitCallbackResponse;
 import uk.gov.hmcts.reform.ccd.client.model.CallbackResponse;
 import uk.gov.hmcts.reform.unspec.callback.Callback;
 import uk.gov.hmcts.reform.unspec.callback.CallbackHandler;
+import uk.gov.hmcts.reform.unspec.callback.CallbackKey;
 import uk.gov.hmcts.reform.unspec.callback.CallbackParams;
 import uk.gov.hmcts.reform.unspec.callback.CaseEvent;
 import uk.gov.hmcts.reform.unspec.enums.CaseRole;
-import uk.gov.hmcts.reform.unspec.helpers.CaseDetailsConverter;
+import uk.gov.hmcts.reform.unspec.helpers.CaseDataPatcher;
 import uk.gov.hmcts.reform.unspec.model.CaseData;
 import uk.gov.hmcts.reform.unspec.model.IdamUserDetails;
 import uk.gov.hmcts.reform.unspec.service.CoreCaseUserService;
@@ -29,11 +29,10 @@ public class AssignCaseToUserHandler extends CallbackHandler {
     public static final String TASK_ID = "CaseAssignmentToApplicantSolicitor1";
 
     private final CoreCaseUserService coreCaseUserService;
-    private final CaseDetailsConverter caseDetailsConverter;
-    private final ObjectMapper objectMapper;
+    private final CaseDataPatcher caseDataPatcher;
 
     @Override
-    protected Map<String, Callback> callbacks() {
+    protected Map<CallbackKey, Callback> callbacks() {
         return Map.of(
             callbackKey(ABOUT_TO_SUBMIT), this::assignSolicitorCaseRole
         );
@@ -50,7 +49,7 @@ public class AssignCaseToUserHandler extends CallbackHandler {
     }
 
     private CallbackResponse assignSolicitorCaseRole(CallbackParams callbackParams) {
-        CaseData caseData = caseDetailsConverter.toCaseData(callbackParams.getRequest().getCaseDetails());
+        CaseData caseData = callbackParams.getCaseData();
         String caseId = caseData.getCcdCaseReference().toString();
         IdamUserDetails userDetails = caseData.getApplicantSolicitor1UserDetails();
         String submitterId = userDetails.getId();
@@ -64,7 +63,7 @@ public class AssignCaseToUserHandler extends CallbackHandler {
             .build();
 
         return AboutToStartOrSubmitCallbackResponse.builder()
-            .data(updated.toMap(objectMapper))
+            .data(caseDataPatcher.toMap(callbackParams, updated))
             .build();
     }
 }
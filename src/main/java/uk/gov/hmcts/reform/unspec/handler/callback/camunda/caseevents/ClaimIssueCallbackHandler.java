@@ -1,14 +1,15 @@
 package uk.gov.hmcts.reform.unspec.handler.callback.camunda.caseevents;
 
-import com.fasterxml.jackson.databind.ObjectMapper;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
 import uk.gov.hmcts.reform.ccd.client.model.AboutToStartOrSubmitCallbackResponse;
 import uk.gov.hmcts.reform.ccd.client.model.CallbackResponse;
 import uk.gov.hmcts.reform.unspec.callback.Callback;
 import uk.gov.hmcts.reform.unspec.callback.CallbackHandler;
+import uk.gov.hmcts.reform.unspec.callback.CallbackKey;
 import uk.gov.hmcts.reform.unspec.callback.CallbackParams;
 import uk.gov.hmcts.reform.unspec.callback.CaseEvent;
+import uk.gov.hmcts.reform.unspec.helpers.CaseDataPatcher;
 import uk.gov.hmcts.reform.unspec.model.CaseData;
 import uk.gov.hmcts.reform.unspec.service.DeadlinesCalculator;
 
@@ -27,7 +28,7 @@ public class ClaimIssueCallbackHandler extends CallbackHandler {
     private static final List<CaseEvent> EVENTS = Collections.singletonList(PROCESS_CLAIM_ISSUE);
     private static final String TASK_ID = "IssueClaim";
 
-    private final ObjectMapper objectMapper;
+    private final CaseDataPatcher caseDataPatcher;
     private final DeadlinesCalculator deadlinesCalculator;
 
     @Override
@@ -36,7 +37,7 @@ public class ClaimIssueCallbackHandler extends CallbackHandler {
     }
 
     @Override
-    protected Map<String, Callback> callbacks() {
+    protected Map<CallbackKey, Callback> callbacks() {
         return Map.of(callbackKey(ABOUT_TO_SUBMIT), this::addClaimNotificationDeadline);
     }
 
@@ -48,7 +49,7 @@ public class ClaimIssueCallbackHandler extends CallbackHandler {
             .build();
 
         return AboutToStartOrSubmitCallbackResponse.builder()
-            .data(caseDataUpdated.toMap(objectMapper))
+            .data(caseDataPatcher.toMap(callbackParams, caseDataUpdated))
             .build();
     }
 
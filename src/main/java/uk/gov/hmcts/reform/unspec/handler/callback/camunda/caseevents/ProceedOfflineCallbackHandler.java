@@ -1,13 +1,14 @@
 package uk.gov.hmcts.reform.unspec.handler.callback.camunda.caseevents;
 
-import com.fasterxml.jackson.databind.ObjectMapper;
 import lombok.RequiredArgsConstructor;
 import uk.gov.hmcts.reform.ccd.client.model.AboutToStartOrSubmitCallbackResponse;
 import uk.gov.hmcts.reform.ccd.client.model.CallbackResponse;
 import uk.gov.hmcts.reform.unspec.callback.Callback;
 import uk.gov.hmcts.reform.unspec.callback.CallbackHandler;
+import uk.gov.hmcts.reform.unspec.callback.CallbackKey;
 import uk.gov.hmcts.reform.unspec.callback.CallbackParams;
 import uk.gov.hmcts.reform.unspec.callback.CaseEvent;
+import uk.gov.hmcts.reform.unspec.helpers.CaseDataPatcher;
 import uk.gov.hmcts.reform.unspec.model.CaseData;
 
 import java.time.LocalDateTime;
@@ -23,10 +24,10 @@ public abstract class ProceedOfflineCallbackHandler extends CallbackHandler {
 
     private static final List<CaseEvent> EVENTS = Collections.singletonList(PROCEEDS_IN_HERITAGE_SYSTEM);
 
-    private final ObjectMapper objectMapper;
+    private final CaseDataPatcher caseDataPatcher;
 
     @Override
-    protected Map<String, Callback> callbacks() {
+    protected Map<CallbackKey, Callback> callbacks() {
         return Map.of(callbackKey(ABOUT_TO_SUBMIT), this::captureTakenOfflineDate);
     }
 
@@ -36,7 +37,7 @@ public abstract class ProceedOfflineCallbackHandler extends CallbackHandler {
             .build();
 
         return AboutToStartOrSubmitCallbackResponse.builder()
-            .data(caseDataUpdated.toMap(objectMapper))
+            .data(caseDataPatcher.toMap(callbackParams, caseDataUpdated))
             .build();
     }
 
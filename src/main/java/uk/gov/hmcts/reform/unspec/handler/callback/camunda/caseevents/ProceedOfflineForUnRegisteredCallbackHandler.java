@@ -1,8 +1,8 @@
 package uk.gov.hmcts.reform.unspec.handler.callback.camunda.caseevents;
 
-import com.fasterxml.jackson.databind.ObjectMapper;
 import org.springframework.stereotype.Service;
 import uk.gov.hmcts.reform.unspec.callback.CallbackParams;
+import uk.gov.hmcts.reform.unspec.helpers.CaseDataPatcher;
 
 @Service
 public class ProceedOfflineForUnRegisteredCallbackHandler extends ProceedOfflineCallbackHandler {
@@ -14,7 +14,7 @@ public class ProceedOfflineForUnRegisteredCallbackHandler extends ProceedOffline
         return TASK_ID;
     }
 
-    public ProceedOfflineForUnRegisteredCallbackHandler(ObjectMapper objectMapper) {
-        super(objectMapper);
+    public ProceedOfflineForUnRegisteredCallbackHandler(CaseDataPatcher caseDataPatcher) {
+        super(caseDataPatcher);
     }
 }
@@ -1,8 +1,8 @@
 package uk.gov.hmcts.reform.unspec.handler.callback.camunda.caseevents;
 
-import com.fasterxml.jackson.databind.ObjectMapper;
 import org.springframework.stereotype.Service;
 import uk.gov.hmcts.reform.unspec.callback.CallbackParams;
+import uk.gov.hmcts.reform.unspec.helpers.CaseDataPatcher;
 
 @Service
 public class ProceedOfflineForUnRepresentedCallbackHandler extends ProceedOfflineCallbackHandler {
@@ -14,7 +14,7 @@ public class ProceedOfflineForUnRepresentedCallbackHandler extends ProceedOfflin
         return TASK_ID;
     }
 
-    public ProceedOfflineForUnRepresentedCallbackHandler(ObjectMapper objectMapper) {
-        super(objectMapper);
+    public ProceedOfflineForUnRepresentedCallbackHandler(CaseDataPatcher caseDataPatcher) {
+        super(caseDataPatcher);
     }
 }
@@ -1,19 +1,21 @@
 package uk.gov.hmcts.reform.unspec.handler.callback.camunda.docmosis;
 
-import com.fasterxml.jackson.databind.ObjectMapper;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
 import uk.gov.hmcts.reform.ccd.client.model.AboutToStartOrSubmitCallbackResponse;
 import uk.gov.hmcts.reform.ccd.client.model.CallbackResponse;
 import uk.gov.hmcts.reform.unspec.callback.Callback;
 import uk.gov.hmcts.reform.unspec.callback.CallbackHandler;
+import uk.gov.hmcts.reform.unspec.callback.CallbackKey;
 import uk.gov.hmcts.reform.unspec.callback.CallbackParams;
 import uk.gov.hmcts.reform.unspec.callback.CaseEvent;
+import uk.gov.hmcts.reform.unspec.helpers.CaseDataPatcher;
 import uk.gov.hmcts.reform.unspec.model.CaseData;
 import uk.gov.hmcts.reform.unspec.model.common.Element;
 import uk.gov.hmcts.reform.unspec.model.documents.CaseDocument;
 import uk.gov.hmcts.reform.unspec.service.docmosis.aos.AcknowledgementOfClaimGenerator;
 
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
 
@@ -30,7 +32,7 @@ public class GenerateAcknowledgementOfClaimCallbackHandler extends CallbackHandl
     private static final String TASK_ID = "AcknowledgeClaimGenerateAcknowledgementOfClaim";
 
     private final AcknowledgementOfClaimGenerator acknowledgementOfClaimGenerator;
-    private final ObjectMapper objectMapper;
+    private final CaseDataPatcher caseDataPatcher;
 
     @Override
     public String camundaActivityId(CallbackParams callbackParams) {
@@ -38,7 +40,7 @@ public class GenerateAcknowledgementOfClaimCallbackHandler extends CallbackHandl
     }
 
     @Override
-    protected Map<String, Callback> callbacks() {
+    protected Map<CallbackKey, Callback> callbacks() {
         return Map.of(callbackKey(ABOUT_TO_SUBMIT), this::prepareAcknowledgementOfClaim);
     }
 
@@ -56,12 +58,13 @@ public class GenerateAcknowledgementOfClaimCallbackHandler extends CallbackHandl
             callbackParams.getParams().get(BEARER_TOKEN).toString()
         );
 
-        List<Element<CaseDocument>> systemGeneratedCaseDocuments = caseData.getSystemGeneratedCaseDocuments();
+        List<Element<CaseDocument>> systemGeneratedCaseDocuments =
+            new ArrayList<>(caseData.getSystemGeneratedCaseDocuments());
         systemGeneratedCaseDocuments.add(element(acknowledgementOfClaim));
         caseDataBuilder.systemGeneratedCaseDocuments(systemGeneratedCaseDocuments);
 
         return AboutToStartOrSubmitCallbackResponse.builder()
-            .data(caseDataBuilder.build().toMap(objectMapper))
+            .data(caseDataPatcher.toMap(callbackParams, caseDataBuilder.build()))
             .build();
     }
 }
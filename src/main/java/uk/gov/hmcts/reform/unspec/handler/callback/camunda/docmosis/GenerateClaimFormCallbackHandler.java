@@ -1,14 +1,15 @@
 package uk.gov.hmcts.reform.unspec.handler.callback.camunda.docmosis;
 
-import com.fasterxml.jackson.databind.ObjectMapper;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
 import uk.gov.hmcts.reform.ccd.client.model.AboutToStartOrSubmitCallbackResponse;
 import uk.gov.hmcts.reform.ccd.client.model.CallbackResponse;
 import uk.gov.hmcts.reform.unspec.callback.Callback;
 import uk.gov.hmcts.reform.unspec.callback.CallbackHandler;
+import uk.gov.hmcts.reform.unspec.callback.CallbackKey;
 import uk.gov.hmcts.reform.unspec.callback.CallbackParams;
 import uk.gov.hmcts.reform.unspec.callback.CaseEvent;
+import uk.gov.hmcts.reform.unspec.helpers.CaseDataPatcher;
 import uk.gov.hmcts.reform.unspec.model.CaseData;
 import uk.gov.hmcts.reform.unspec.model.documents.CaseDocument;
 import uk.gov.hmcts.reform.unspec.service.Time;
@@ -32,7 +33,7 @@ public class GenerateClaimFormCallbackHandler extends CallbackHandler {
     private static final String TASK_ID = "GenerateClaimForm";
 
     private final SealedClaimFormGenerator sealedClaimFormGenerator;
-    private final ObjectMapper objectMapper;
+    private final CaseDataPatcher caseDataPatcher;
     private final Time time;
 
     @Override
@@ -41,7 +42,7 @@ public class GenerateClaimFormCallbackHandler extends CallbackHandler {
     }
 
     @Override
-    protected Map<String, Callback> callbacks() {
+    protected Map<CallbackKey, Callback> callbacks() {
         return Map.of(callbackKey(ABOUT_TO_SUBMIT), this::generateClaimForm);
     }
 
@@ -64,7 +65,7 @@ public class GenerateClaimFormCallbackHandler extends CallbackHandler {
         caseDataBuilder.systemGeneratedCaseDocuments(wrapElements(sealedClaim));
 
         return AboutToStartOrSubmitCallbackResponse.builder()
-            .data(caseDataBuilder.build().toMap(objectMapper))
+            .data(caseDataPatcher.toMap(callbackParams, caseDataBuilder.build()))
             .build();
     }
 }
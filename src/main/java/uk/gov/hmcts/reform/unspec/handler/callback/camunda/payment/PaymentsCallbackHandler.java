@@ -11,8 +11,10 @@ import uk.gov.hmcts.reform.ccd.client.model.CallbackResponse;
 import uk.gov.hmcts.reform.payments.client.models.PaymentDto;
 import uk.gov.hmcts.reform.unspec.callback.Callback;
 import uk.gov.hmcts.reform.unspec.callback.CallbackHandler;
+import uk.gov.hmcts.reform.unspec.callback.CallbackKey;
 import uk.gov.hmcts.reform.unspec.callback.CallbackParams;
 import uk.gov.hmcts.reform.unspec.callback.CaseEvent;
+import uk.gov.hmcts.reform.unspec.helpers.CaseDataPatcher;
 import uk.gov.hmcts.reform.unspec.model.CaseData;
 import uk.gov.hmcts.reform.unspec.model.PaymentDetails;
 import uk.gov.hmcts.reform.unspec.service.PaymentsService;
@@ -42,6 +44,7 @@ public class PaymentsCallbackHandler extends CallbackHandler {
 
     private final PaymentsService paymentsService;
     private final ObjectMapper objectMapper;
+    private final CaseDataPatcher caseDataPatcher;
     private final Time time;
 
     @Override
@@ -50,7 +53,7 @@ public class PaymentsCallbackHandler extends CallbackHandler {
     }
 
     @Override
-    protected Map<String, Callback> callbacks() {
+    protected Map<CallbackKey, Callback> callbacks() {
         return Map.of(
             callbackKey(ABOUT_TO_SUBMIT), this::makePbaPaymentBackwardsCompatible,
             callbackKey(V_1, ABOUT_TO_SUBMIT), this::makePbaPayment
@@ -87,7 +90,7 @@ public class PaymentsCallbackHandler extends CallbackHandler {
         }
 
         return AboutToStartOrSubmitCallbackResponse.builder()
-            .data(caseData.toMap(objectMapper))
+            .data(caseDataPatcher.toMap(callbackParams, caseData))
             .errors(errors)
             .build();
     }
@@ -136,7 +139,7 @@ public class PaymentsCallbackHandler extends CallbackHandler {
         }
 
         return AboutToStartOrSubmitCallbackResponse.builder()
-            .data(caseData.toMap(objectMapper))
+            .data(caseDataPatcher.toMap(callbackParams, caseData))
             .errors(errors)
             .build();
     }
@@ -1,14 +1,15 @@
 package uk.gov.hmcts.reform.unspec.handler.callback.camunda.robotics;
 
-import com.fasterxml.jackson.databind.ObjectMapper;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
 import uk.gov.hmcts.reform.ccd.client.model.AboutToStartOrSubmitCallbackResponse;
 import uk.gov.hmcts.reform.ccd.client.model.CallbackResponse;
 import uk.gov.hmcts.reform.unspec.callback.Callback;
 import uk.gov.hmcts.reform.unspec.callback.CallbackHandler;
+import uk.gov.hmcts.reform.unspec.callback.CallbackKey;
 import uk.gov.hmcts.reform.unspec.callback.CallbackParams;
 import uk.gov.hmcts.reform.unspec.callback.CaseEvent;
+import uk.gov.hmcts.reform.unspec.helpers.CaseDataPatcher;
 import uk.gov.hmcts.reform.unspec.model.BusinessProcess;
 import uk.gov.hmcts.reform.unspec.model.CaseData;
 
@@ -27,10 +28,10 @@ public class ResetRpaNotificationBusinessProcessHandler extends CallbackHandler
     private static final List<CaseEvent> EVENTS = List.of(RESET_RPA_NOTIFICATION_BUSINESS_PROCESS);
     public static final String TASK_ID = "ResetRpaNotificationBusinessProcess";
 
-    private final ObjectMapper objectMapper;
+    private final CaseDataPatcher caseDataPatcher;
 
     @Override
-    protected Map<String, Callback> callbacks() {
+    protected Map<CallbackKey, Callback> callbacks() {
         return Map.of(
             callbackKey(ABOUT_TO_SUBMIT), this::resetBusinessProcess,
             callbackKey(SUBMITTED), this::emptySubmittedCallbackResponse
@@ -52,7 +53,7 @@ public class ResetRpaNotificationBusinessProcessHandler extends CallbackHandler
             .businessProcess(BusinessProcess.ready(RETRY_NOTIFY_RPA_ON_CASE_HANDED_OFFLINE))
             .build();
         return AboutToStartOrSubmitCallbackResponse.builder()
-            .data(caseDataUpdated.toMap(objectMapper))
+            .data(caseDataPatcher.toMap(callbackParams, caseDataUpdated))
             .build();
     }
 }
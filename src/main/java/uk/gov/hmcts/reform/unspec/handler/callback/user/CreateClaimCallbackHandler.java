@@ -1,6 +1,5 @@
 package uk.gov.hmcts.reform.unspec.handler.callback.user;
 
-import com.fasterxml.jackson.databind.ObjectMapper;
 import com.google.common.collect.ImmutableMap;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
@@ -13,10 +12,12 @@ import uk.gov.hmcts.reform.idam.client.models.UserDetails;
 import uk.gov.hmcts.reform.prd.model.Organisation;
 import uk.gov.hmcts.reform.unspec.callback.Callback;
 import uk.gov.hmcts.reform.unspec.callback.CallbackHandler;
+import uk.gov.hmcts.reform.unspec.callback.CallbackKey;
 import uk.gov.hmcts.reform.unspec.callback.CallbackParams;
 import uk.gov.hmcts.reform.unspec.callback.CaseEvent;
 import uk.gov.hmcts.reform.unspec.config.ClaimIssueConfiguration;
 import uk.gov.hmcts.reform.unspec.enums.YesOrNo;
+import uk.gov.hmcts.reform.unspec.helpers.CaseDataPatcher;
 import uk.gov.hmcts.reform.unspec.launchdarkly.OnBoardingOrganisationControlService;
 import uk.gov.hmcts.reform.unspec.model.BusinessProcess;
 import uk.gov.hmcts.reform.unspec.model.CaseData;
@@ -28,6 +29,7 @@ import uk.gov.hmcts.reform.unspec.model.SolicitorReferences;
 import uk.gov.hmcts.reform.unspec.model.StatementOfTruth;
 import uk.gov.hmcts.reform.unspec.model.common.DynamicList;
 import uk.gov.hmcts.reform.unspec.repositories.ReferenceNumberRepository;
+import uk.gov.hmcts.reform.unspec.service.ConcurrentCallService;
 import uk.gov.hmcts.reform.unspec.service.ExitSurveyContentService;
 import uk.gov.hmcts.reform.unspec.service.FeesService;
 import uk.gov.hmcts.reform.unspec.service.OrganisationService;
@@ -85,15 +87,16 @@ public class CreateClaimCallbackHandler extends CallbackHandler implements Parti
     private final DateOfBirthValidator dateOfBirthValidator;
     private final FeesService feesService;
     private final OrganisationService organisationService;
+    private final ConcurrentCallService concurrentCallService;
     private final IdamClient idamClient;
     private final OrgPolicyValidator orgPolicyValidator;
     private final OnBoardingOrganisationControlService onboardingOrganisationControlService;
-    private final ObjectMapper objectMapper;
+    private final CaseDataPatcher caseDataPatcher;
     private final Time time;
 
     @Override
-    protected Map<String, Callback> callbacks() {
-        return new ImmutableMap.Builder<String, Callback>()
+    protected Map<CallbackKey, Callback> callbacks() {
+        return new ImmutableMap.Builder<CallbackKey, Callback>()
             .put(callbackKey(ABOUT_TO_START), this::emptyCallbackResponse)
             .put(callbackKey(MID, "eligibilityCheck"), this::eligibilityCheck)
             .put(callbackKey(MID, "applicant"), this::validateDateOfBirth)
@@ -164,14 +167,17 @@ public class CreateClaimCallbackHandler extends CallbackHandler implements Parti
         PaymentDetails updatedDetails = PaymentDetails.builder().customerReference(customerReference).build();
         caseDataBuilder.claimIssuedPaymentDetails(updatedDetails);
 
-        List<String> pbaNumbers = getPbaAccounts(callbackParams.getParams().get(BEARER_TOKEN).toString());
-
-        caseDataBuilder.claimFee(feesService.getFeeDataByClaimValue(caseData.getClaimValue()))
-            .applicantSolicitor1PbaAccounts(DynamicList.fromList(pbaNumbers))
-            .applicantSolicitor1PbaAccountsIsEmpty(pbaNumbers.isEmpty() ? YES : NO);
+        // the fee and the payment accounts are looked up concurrently
+        concurrentCallService.combine(
+            () -> feesService.getFeeDataByClaimValue(caseData.getClaimValue()),
+            () -> getPbaAccounts(callbackParams.getParams().get(BEARER_TOKEN).toString()),
+            (claimFee, pbaNumbers) -> caseDataBuilder.claimFee(claimFee)
+                .applicantSolicitor1PbaAccounts(DynamicList.fromList(pbaNumbers))
+                .applicantSolicitor1PbaAccountsIsEmpty(pbaNumbers.isEmpty() ? YES : NO)
+        );
 
         return AboutToStartOrSubmitCallbackResponse.builder()
-            .data(caseDataBuilder.build().toMap(objectMapper))
+            .data(caseDataPatcher.toMap(callbackParams, caseDataBuilder.build()))
             .build();
     }
 
@@ -183,7 +189,7 @@ public class CreateClaimCallbackHandler extends CallbackHandler implements Parti
             .applicantSolicitor1UserDetails(IdamUserDetails.builder().build());
 
         return AboutToStartOrSubmitCallbackResponse.builder()
-            .data(caseDataBuilder.build().toMap(objectMapper))
+            .data(caseDataPatcher.toMap(callbackParams, caseDataBuilder.build()))
             .build();
     }
 
@@ -203,7 +209,7 @@ public class CreateClaimCallbackHandler extends CallbackHandler implements Parti
             .build();
 
         return AboutToStartOrSubmitCallbackResponse.builder()
-            .data(updatedCaseData.toMap(objectMapper))
+            .data(caseDataPatcher.toMap(callbackParams, updatedCaseData))
             .build();
     }
 
@@ -211,7 +217,7 @@ public class CreateClaimCallbackHandler extends CallbackHandler implements Parti
         CaseData.CaseDataBuilder dataBuilder = getSharedData(callbackParams);
 
         return AboutToStartOrSubmitCallbackResponse.builder()
-            .data(dataBuilder.build().toMap(objectMapper))
+            .data(caseDataPatcher.toMap(callbackParams, dataBuilder.build()))
             .build();
     }
 
@@ -227,7 +233,7 @@ public class CreateClaimCallbackHandler extends CallbackHandler implements Parti
         dataBuilder.applicantSolicitor1ClaimStatementOfTruth(statementOfTruth);
 
         return AboutToStartOrSubmitCallbackResponse.builder()
-            .data(dataBuilder.build().toMap(objectMapper))
+            .data(caseDataPatcher.toMap(callbackParams, dataBuilder.build()))
             .build();
     }
 
@@ -1,15 +1,15 @@
 package uk.gov.hmcts.reform.unspec.handler.callback.user;
 
-import com.fasterxml.jackson.databind.ObjectMapper;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
 import uk.gov.hmcts.reform.ccd.client.model.AboutToStartOrSubmitCallbackResponse;
 import uk.gov.hmcts.reform.ccd.client.model.CallbackResponse;
 import uk.gov.hmcts.reform.unspec.callback.Callback;
 import uk.gov.hmcts.reform.unspec.callback.CallbackHandler;
+import uk.gov.hmcts.reform.unspec.callback.CallbackKey;
 import uk.gov.hmcts.reform.unspec.callback.CallbackParams;
 import uk.gov.hmcts.reform.unspec.callback.CaseEvent;
-import uk.gov.hmcts.reform.unspec.helpers.CaseDetailsConverter;
+import uk.gov.hmcts.reform.unspec.helpers.CaseDataPatcher;
 import uk.gov.hmcts.reform.unspec.model.BusinessProcess;
 import uk.gov.hmcts.reform.unspec.model.CaseData;
 import uk.gov.hmcts.reform.unspec.service.Time;
@@ -28,11 +28,11 @@ public class DismissClaimCallbackHandler extends CallbackHandler {
 
     private static final List<CaseEvent> EVENTS = List.of(DISMISS_CLAIM);
 
-    private final ObjectMapper objectMapper;
+    private final CaseDataPatcher caseDataPatcher;
     private final Time time;
 
     @Override
-    protected Map<String, Callback> callbacks() {
+    protected Map<CallbackKey, Callback> callbacks() {
         return Map.of(
             callbackKey(ABOUT_TO_START), this::emptyCallbackResponse,
             callbackKey(ABOUT_TO_SUBMIT), this::updateBusinessStatusToReady,
@@ -45,17 +45,15 @@ public class DismissClaimCallbackHandler extends CallbackHandler {
         return EVENTS;
     }
 
-    private final CaseDetailsConverter caseDetailsConverter;
-
     private CallbackResponse updateBusinessStatusToReady(CallbackParams callbackParams) {
-        CaseData data = caseDetailsConverter.toCaseData(callbackParams.getRequest().getCaseDetails());
+        CaseData data = callbackParams.getCaseData();
 
         CaseData.CaseDataBuilder caseDataBuilder = data.toBuilder()
             .businessProcess(BusinessProcess.ready(DISMISS_CLAIM))
             .claimDismissedDate(time.now());
 
         return AboutToStartOrSubmitCallbackResponse.builder()
-            .data(caseDataBuilder.build().toMap(objectMapper))
+            .data(caseDataPatcher.toMap(callbackParams, caseDataBuilder.build()))
             .build();
     }
 }
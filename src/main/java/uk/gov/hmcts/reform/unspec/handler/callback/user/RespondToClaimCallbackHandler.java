@@ -1,6 +1,5 @@
 package uk.gov.hmcts.reform.unspec.handler.callback.user;
 
-import com.fasterxml.jackson.databind.ObjectMapper;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
 import uk.gov.hmcts.reform.ccd.client.model.AboutToStartOrSubmitCallbackResponse;
@@ -8,9 +7,11 @@ import uk.gov.hmcts.reform.ccd.client.model.CallbackResponse;
 import uk.gov.hmcts.reform.ccd.client.model.SubmittedCallbackResponse;
 import uk.gov.hmcts.reform.unspec.callback.Callback;
 import uk.gov.hmcts.reform.unspec.callback.CallbackHandler;
+import uk.gov.hmcts.reform.unspec.callback.CallbackKey;
 import uk.gov.hmcts.reform.unspec.callback.CallbackParams;
 import uk.gov.hmcts.reform.unspec.callback.CaseEvent;
 import uk.gov.hmcts.reform.unspec.enums.AllocatedTrack;
+import uk.gov.hmcts.reform.unspec.helpers.CaseDataPatcher;
 import uk.gov.hmcts.reform.unspec.model.BusinessProcess;
 import uk.gov.hmcts.reform.unspec.model.CaseData;
 import uk.gov.hmcts.reform.unspec.model.Party;
@@ -49,7 +50,7 @@ public class RespondToClaimCallbackHandler extends CallbackHandler implements Ex
     private final ExitSurveyContentService exitSurveyContentService;
     private final DateOfBirthValidator dateOfBirthValidator;
     private final UnavailableDateValidator unavailableDateValidator;
-    private final ObjectMapper objectMapper;
+    private final CaseDataPatcher caseDataPatcher;
     private final Time time;
     private final DeadlinesCalculator deadlinesCalculator;
 
@@ -59,7 +60,7 @@ public class RespondToClaimCallbackHandler extends CallbackHandler implements Ex
     }
 
     @Override
-    protected Map<String, Callback> callbacks() {
+    protected Map<CallbackKey, Callback> callbacks() {
         return Map.of(
             callbackKey(ABOUT_TO_START), this::emptyCallbackResponse,
             callbackKey(MID, "confirm-details"), this::validateDateOfBirth,
@@ -104,7 +105,7 @@ public class RespondToClaimCallbackHandler extends CallbackHandler implements Ex
             .build();
 
         return AboutToStartOrSubmitCallbackResponse.builder()
-            .data(updatedCaseData.toMap(objectMapper))
+            .data(caseDataPatcher.toMap(callbackParams, updatedCaseData))
             .build();
     }
 
@@ -120,7 +121,7 @@ public class RespondToClaimCallbackHandler extends CallbackHandler implements Ex
             .build();
 
         return AboutToStartOrSubmitCallbackResponse.builder()
-            .data(updatedData.toMap(objectMapper))
+            .data(caseDataPatcher.toMap(callbackParams, updatedData))
             .build();
     }
 
@@ -145,7 +146,7 @@ public class RespondToClaimCallbackHandler extends CallbackHandler implements Ex
         updatedData.uiStatementOfTruth(StatementOfTruth.builder().build());
 
         return AboutToStartOrSubmitCallbackResponse.builder()
-            .data(updatedData.build().toMap(objectMapper))
+            .data(caseDataPatcher.toMap(callbackParams, updatedData.build()))
             .build();
     }
 
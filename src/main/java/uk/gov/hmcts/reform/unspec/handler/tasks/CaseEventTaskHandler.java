@@ -10,6 +10,7 @@ import uk.gov.hmcts.reform.ccd.client.model.CaseDataContent;
 import uk.gov.hmcts.reform.ccd.client.model.Event;
 import uk.gov.hmcts.reform.ccd.client.model.StartEventResponse;
 import uk.gov.hmcts.reform.unspec.helpers.CaseDetailsConverter;
+import uk.gov.hmcts.reform.unspec.launchdarkly.FeatureToggleService;
 import uk.gov.hmcts.reform.unspec.model.BusinessProcess;
 import uk.gov.hmcts.reform.unspec.model.CaseData;
 import uk.gov.hmcts.reform.unspec.service.CoreCaseDataService;
@@ -26,8 +27,10 @@ public class CaseEventTaskHandler implements BaseExternalTaskHandler {
     private final CaseDetailsConverter caseDetailsConverter;
     private final ObjectMapper mapper;
     private final StateFlowEngine stateFlowEngine;
+    private final FeatureToggleService featureToggleService;
 
     private static final String FLOW_STATE = "flowState";
+    private static final String FLOW_STATE_SNAPSHOT_FEATURE = "flow-state-snapshot";
 
     private CaseData data;
 
@@ -40,7 +43,10 @@ public class CaseEventTaskHandler implements BaseExternalTaskHandler {
         BusinessProcess businessProcess = startEventData.getBusinessProcess()
             .updateActivityId(externalTask.getActivityId());
 
-        data = coreCaseDataService.submitUpdate(caseId, caseDataContent(startEventResponse, businessProcess));
+        data = coreCaseDataService.submitUpdate(
+            caseId,
+            caseDataContent(startEventResponse, businessProcess, startEventData)
+        );
     }
 
     @Override
@@ -50,9 +56,13 @@ public class CaseEventTaskHandler implements BaseExternalTaskHandler {
         return variables;
     }
 
-    private CaseDataContent caseDataContent(StartEventResponse startEventResponse, BusinessProcess businessProcess) {
+    private CaseDataContent caseDataContent(StartEventResponse startEventResponse, BusinessProcess businessProcess,
+                                            CaseData startEventData) {
         Map<String, Object> data = startEventResponse.getCaseDetails().getData();
         data.put("businessProcess", businessProcess);
+        if (featureToggleService.isFeatureEnabled(FLOW_STATE_SNAPSHOT_FEATURE)) {
+            data.put("flowStateSnapshot", stateFlowEngine.snapshot(startEventData));
+        }
 
         return CaseDataContent.builder()
             .eventToken(startEventResponse.getToken())
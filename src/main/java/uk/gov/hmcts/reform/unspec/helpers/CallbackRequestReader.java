@@ -0,0 +1,120 @@
+package uk.gov.hmcts.reform.unspec.helpers;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.DeserializationContext;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.annotation.JsonDeserialize;
+import com.fasterxml.jackson.databind.deser.std.StdDeserializer;
+import com.fasterxml.jackson.databind.exc.MismatchedInputException;
+import org.springframework.stereotype.Service;
+import uk.gov.hmcts.reform.ccd.client.model.CallbackRequest;
+import uk.gov.hmcts.reform.ccd.client.model.CaseDetails;
+import uk.gov.hmcts.reform.unspec.callback.BoundCallbackRequest;
+import uk.gov.hmcts.reform.unspec.enums.CaseState;
+import uk.gov.hmcts.reform.unspec.model.CaseData;
+import uk.gov.hmcts.reform.unspec.model.common.MapBuildingGenerator;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * Reads a CCD callback request, binding both the {@link CallbackRequest} and the {@link CaseData} of its case
+ * details in a single pass over the body. The raw data map CCD needs is built from the same tokens CaseData is bound
+ * from, rather than binding CaseData from the map, which would copy the map and serialise it again.
+ */
+@Service
+public class CallbackRequestReader {
+
+    private static final String EVENT_ID = "event_id";
+    private static final String CASE_DETAILS = "case_details";
+    private static final String CASE_DETAILS_BEFORE = "case_details_before";
+    private static final Class<CaseData> CASE_DATA = CaseData.class;
+
+    private final ObjectMapper objectMapper;
+    private final ObjectMapper caseDetailsMapper;
+
+    public CallbackRequestReader(ObjectMapper objectMapper) {
+        this.objectMapper = objectMapper;
+        this.caseDetailsMapper = objectMapper.copy().addMixIn(CaseDetails.class, CaseDetailsMixIn.class);
+    }
+
+    public BoundCallbackRequest read(InputStream body) throws IOException {
+        try (JsonParser parser = objectMapper.getFactory().createParser(body)) {
+            if (parser.nextToken() != JsonToken.START_OBJECT) {
+                throw MismatchedInputException.from(parser, CallbackRequest.class, "Callback request is not an object");
+            }
+            return read(parser);
+        }
+    }
+
+    private BoundCallbackRequest read(JsonParser parser) throws IOException {
+        CallbackRequest.CallbackRequestBuilder request = CallbackRequest.builder();
+        CaseDetails caseDetails = null;
+        AtomicReference<CaseData> caseData = new AtomicReference<>(CaseData.builder().build());
+
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            String name = parser.getCurrentName();
+            parser.nextToken();
+            switch (name) {
+                case EVENT_ID:
+                    request.eventId(objectMapper.readValue(parser, String.class));
+                    break;
+                case CASE_DETAILS:
+                    caseDetails = caseDetailsMapper.readerFor(CaseDetails.class)
+                        .withAttribute(CASE_DATA, caseData)
+                        .readValue(parser);
+                    request.caseDetails(caseDetails);
+                    break;
+                case CASE_DETAILS_BEFORE:
+                    request.caseDetailsBefore(objectMapper.readValue(parser, CaseDetails.class));
+                    break;
+                default:
+                    // unknown properties are ignored, as CallbackRequest does
+                    parser.skipChildren();
+            }
+        }
+
+        return new BoundCallbackRequest(request.build(), withCaseDetails(caseData.get(), caseDetails));
+    }
+
+    private static CaseData withCaseDetails(CaseData caseData, CaseDetails caseDetails) {
+        if (caseDetails == null) {
+            return caseData;
+        }
+        CaseData.CaseDataBuilder builder = caseData.toBuilder().ccdCaseReference(caseDetails.getId());
+        if (caseDetails.getState() != null) {
+            builder.ccdState(CaseState.valueOf(caseDetails.getState()));
+        }
+        return builder.build();
+    }
+
+    /**
+     * Reads the data of case details, CCD sends it as case_data and the CCD client also accepts data.
+     */
+    abstract static class CaseDetailsMixIn {
+
+        @JsonDeserialize(using = CaseDataMapDeserializer.class)
+        Map<String, Object> data;
+    }
+
+    /**
+     * Reads the raw data map of case details while binding {@link CaseData} from the same tokens, handing it to the
+     * reference set as an attribute of the read.
+     */
+    static class CaseDataMapDeserializer extends StdDeserializer<Map<String, Object>> {
+
+        CaseDataMapDeserializer() {
+            super(Map.class);
+        }
+
+        @Override
+        @SuppressWarnings("unchecked")
+        public Map<String, Object> deserialize(JsonParser parser, DeserializationContext context) throws IOException {
+            AtomicReference<CaseData> caseData = (AtomicReference<CaseData>) context.getAttribute(CASE_DATA);
+            return MapBuildingGenerator.readMap(parser, context, CaseData.class, caseData::set);
+        }
+    }
+}
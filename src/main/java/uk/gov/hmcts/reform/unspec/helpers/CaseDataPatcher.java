@@ -0,0 +1,131 @@
+package uk.gov.hmcts.reform.unspec.helpers;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.JsonSerializer;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.ser.BeanPropertyWriter;
+import com.fasterxml.jackson.databind.ser.PropertyWriter;
+import com.fasterxml.jackson.databind.util.TokenBuffer;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import uk.gov.hmcts.reform.ccd.client.model.CaseDetails;
+import uk.gov.hmcts.reform.unspec.callback.CallbackParams;
+import uk.gov.hmcts.reform.unspec.model.CaseData;
+
+import java.time.temporal.TemporalAccessor;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Builds the case data of a callback response from the case data of the request, re-serialising only the fields a
+ * handler changed rather than the whole case.
+ * Handlers derive the updated case with {@code toBuilder()}, so fields left untouched still hold the same instances
+ * as the case bound from the request. A field holding another instance has changed; a field holding the same instance
+ * of a mutable type may have been changed in place, so is serialised again.
+ * Changed fields are written with the serializers {@link CaseData#toMap(ObjectMapper)} uses, and fields of the request
+ * which are not part of the case are dropped, so the response holds the same fields and values it would have had.
+ */
+@Service
+@RequiredArgsConstructor
+public class CaseDataPatcher {
+
+    private static final TypeReference<Map<String, Object>> MAP_TYPE = new TypeReference<>() {
+    };
+
+    private final ObjectMapper objectMapper;
+
+    /**
+     * Case data for the response to the given callback.
+     *
+     * @param callbackParams callback holding the case data of the request, as sent and as bound
+     * @param updated        case derived by the handler from the case bound from the request
+     * @return data of the request with the changed fields applied, or the whole case when the request holds no data
+     */
+    public Map<String, Object> toMap(CallbackParams callbackParams, CaseData updated) {
+        CaseDetails caseDetails = callbackParams.getRequest() == null ? null : callbackParams.getRequest()
+            .getCaseDetails();
+        if (callbackParams.getCaseData() == null || caseDetails == null || caseDetails.getData() == null) {
+            return updated.toMap(objectMapper);
+        }
+        return patch(callbackParams.getCaseData(), caseDetails.getData(), updated);
+    }
+
+    /**
+     * Applies the fields of the updated case which differ from the original case onto a copy of the original data.
+     *
+     * @param original     case bound from the original data
+     * @param originalData data the original case was bound from, left unchanged
+     * @param updated      case derived from the original case
+     * @return copy of the original data with the changed fields applied and the fields not part of the case removed
+     */
+    public Map<String, Object> patch(CaseData original, Map<String, Object> originalData, CaseData updated) {
+        Map<String, Object> data = new HashMap<>(originalData);
+        Set<String> fields = new HashSet<>();
+        SerializerProvider provider = objectMapper.getSerializerProviderInstance();
+        try {
+            JsonSerializer<Object> serializer = provider.findValueSerializer(CaseData.class);
+            Iterator<PropertyWriter> properties = serializer.properties();
+            while (properties.hasNext()) {
+                PropertyWriter property = properties.next();
+                if (!(property instanceof BeanPropertyWriter)) {
+                    return updated.toMap(objectMapper);
+                }
+                BeanPropertyWriter writer = (BeanPropertyWriter) property;
+                Object value = writer.get(updated);
+                if (writer.get(original) != value) {
+                    if (writer.isUnwrapping()) {
+                        data.keySet().removeAll(serialize(writer, original, provider).keySet());
+                    } else {
+                        data.remove(writer.getName());
+                    }
+                    Map<String, Object> changed = serialize(writer, updated, provider);
+                    data.putAll(changed);
+                    fields.addAll(changed.keySet());
+                } else if (value != null && !isImmutable(value)) {
+                    // the same instance may have been changed in place
+                    Map<String, Object> current = serialize(writer, updated, provider);
+                    if (!writer.isUnwrapping()) {
+                        data.remove(writer.getName());
+                    }
+                    data.putAll(current);
+                    fields.addAll(current.keySet());
+                } else if (!writer.isUnwrapping()) {
+                    fields.add(writer.getName());
+                }
+            }
+        } catch (Exception e) {
+            throw new IllegalArgumentException("Failed to map case data of callback response", e);
+        }
+        data.keySet().retainAll(fields);
+        return data;
+    }
+
+    private static boolean isImmutable(Object value) {
+        return value instanceof String
+            || value instanceof Number
+            || value instanceof Boolean
+            || value instanceof Enum
+            || value instanceof TemporalAccessor;
+    }
+
+    /**
+     * Fields written for a single property of the case, as the serializer of the whole case would write them.
+     * Nothing is written for a value excluded by the inclusion rules of the mapper.
+     */
+    private Map<String, Object> serialize(BeanPropertyWriter writer, CaseData caseData, SerializerProvider provider)
+        throws Exception {
+        TokenBuffer buffer = new TokenBuffer(objectMapper, false);
+        if (objectMapper.isEnabled(DeserializationFeature.USE_BIG_DECIMAL_FOR_FLOATS)) {
+            buffer = buffer.forceUseOfBigDecimal(true);
+        }
+        buffer.writeStartObject();
+        writer.serializeAsField(caseData, buffer, provider);
+        buffer.writeEndObject();
+        return objectMapper.readValue(buffer.asParser(objectMapper), MAP_TYPE);
+    }
+}
@@ -9,6 +9,7 @@ import uk.gov.hmcts.reform.unspec.model.CaseData;
 
 import java.util.HashMap;
 import java.util.Map;
+import java.util.Set;
 
 @Service
 public class CaseDetailsConverter {
@@ -32,4 +33,21 @@ public class CaseDetailsConverter {
     public CaseData toCaseData(Map<String, Object> caseDataMap) {
         return objectMapper.convertValue(caseDataMap, CaseData.class);
     }
+
+    /**
+     * Binds only the given keys of the case data, leaving every other field of CaseData unset.
+     */
+    public CaseData toCaseData(CaseDetails caseDetails, Set<String> fields) {
+        Map<String, Object> data = new HashMap<>();
+        if (caseDetails.getData() != null) {
+            for (String field : fields) {
+                Object value = caseDetails.getData().get(field);
+                if (value != null) {
+                    data.put(field, value);
+                }
+            }
+        }
+        data.put("ccdCaseReference", caseDetails.getId());
+        return objectMapper.convertValue(data, CaseData.class);
+    }
 }
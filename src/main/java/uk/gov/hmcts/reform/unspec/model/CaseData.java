@@ -87,6 +87,8 @@ public class CaseData implements MappableObject {
 
     private final BusinessProcess businessProcess;
 
+    private final FlowStateSnapshot flowStateSnapshot;
+
     @JsonUnwrapped
     private final Respondent1DQ respondent1DQ;
 
@@ -0,0 +1,12 @@
+package uk.gov.hmcts.reform.unspec.model;
+
+import lombok.Builder;
+import lombok.Data;
+
+@Data
+@Builder
+public class FlowStateSnapshot {
+
+    private String flowState;
+    private Integer fingerprint;
+}
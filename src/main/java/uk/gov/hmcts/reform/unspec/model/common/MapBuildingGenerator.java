@@ -0,0 +1,344 @@
+package uk.gov.hmcts.reform.unspec.model.common;
+
+import com.fasterxml.jackson.core.Base64Variant;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.core.ObjectCodec;
+import com.fasterxml.jackson.core.base.GeneratorBase;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.core.util.JsonParserDelegate;
+import com.fasterxml.jackson.databind.DeserializationContext;
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.databind.util.RawValue;
+
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Deque;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Consumer;
+
+/**
+ * Generator building the maps and lists of a value as it is serialised, so an object is turned into a map in a single
+ * pass instead of being serialised into a buffer and read back as {@link ObjectMapper#convertValue} does.
+ * Values are held as the serializers write them, which is what {@code convertValue} reads back into a map unless the
+ * mapper is configured to read numbers or arrays differently, in which case {@code convertValue} is used.
+ * The same applies when reading: {@link #readMap} builds the map of an object from the tokens a typed value is bound
+ * from, so the JSON is walked once for both.
+ */
+public final class MapBuildingGenerator extends GeneratorBase {
+
+    private static final TypeReference<Map<String, Object>> MAP_TYPE = new TypeReference<>() {
+    };
+
+    private static final int UNTYPED_VALUE_FEATURES = DeserializationFeature.USE_BIG_DECIMAL_FOR_FLOATS.getMask()
+        | DeserializationFeature.USE_BIG_INTEGER_FOR_INTS.getMask()
+        | DeserializationFeature.USE_LONG_FOR_INTS.getMask()
+        | DeserializationFeature.USE_JAVA_ARRAY_FOR_JSON_ARRAY.getMask();
+
+    private final Deque<Object> containers = new ArrayDeque<>();
+    private String fieldName;
+    private StringBuilder raw;
+    private Object root;
+
+    private MapBuildingGenerator(ObjectCodec codec) {
+        super(0, codec);
+    }
+
+    @SuppressWarnings("unchecked")
+    static Map<String, Object> toMap(ObjectMapper mapper, Object value) {
+        if (mapper.getDeserializationConfig().hasSomeOfFeatures(UNTYPED_VALUE_FEATURES)) {
+            return mapper.convertValue(value, MAP_TYPE);
+        }
+        MapBuildingGenerator generator = new MapBuildingGenerator(mapper);
+        try {
+            mapper.writer().without(SerializationFeature.WRAP_ROOT_VALUE).writeValue(generator, value);
+            generator.flush();
+        } catch (IOException e) {
+            throw new IllegalArgumentException(e.getMessage(), e);
+        }
+        if (generator.root != null && !(generator.root instanceof Map)) {
+            throw new IllegalArgumentException(
+                "Cannot map " + value.getClass().getSimpleName() + " written as " + generator.root.getClass());
+        }
+        return (Map<String, Object>) generator.root;
+    }
+
+    /**
+     * Reads the object the parser is positioned at the start of as a map, binding a value of the given type from the
+     * same tokens as they are read. The value is handed to the consumer and the map returned.
+     */
+    @SuppressWarnings("unchecked")
+    public static <T> Map<String, Object> readMap(JsonParser parser, DeserializationContext context, Class<T> type,
+                                                  Consumer<? super T> valueConsumer) throws IOException {
+        if (context.getConfig().hasSomeOfFeatures(UNTYPED_VALUE_FEATURES)) {
+            Map<String, Object> map = context.readValue(parser, Map.class);
+            valueConsumer.accept(((ObjectMapper) parser.getCodec()).convertValue(map, type));
+            return map;
+        }
+        MapBuildingGenerator generator = new MapBuildingGenerator(parser.getCodec());
+        generator.copyCurrentEvent(parser);
+        valueConsumer.accept(context.readValue(new CopyingParser(parser, generator), type));
+        return (Map<String, Object>) generator.root;
+    }
+
+    @Override
+    public void writeStartObject() throws IOException {
+        flush();
+        _verifyValueWrite("start an object");
+        start(new LinkedHashMap<String, Object>());
+        _writeContext = _writeContext.createChildObjectContext();
+    }
+
+    @Override
+    public void writeEndObject() throws IOException {
+        flush();
+        _writeContext = _writeContext.clearAndGetParent();
+        containers.pop();
+    }
+
+    @Override
+    public void writeStartArray() throws IOException {
+        flush();
+        _verifyValueWrite("start an array");
+        start(new ArrayList<>());
+        _writeContext = _writeContext.createChildArrayContext();
+    }
+
+    @Override
+    public void writeEndArray() throws IOException {
+        flush();
+        _writeContext = _writeContext.clearAndGetParent();
+        containers.pop();
+    }
+
+    @Override
+    public void writeFieldName(String name) throws IOException {
+        flush();
+        _writeContext.writeFieldName(name);
+        fieldName = name;
+    }
+
+    @Override
+    public void writeString(String text) throws IOException {
+        value(text);
+    }
+
+    @Override
+    public void writeString(char[] text, int offset, int length) throws IOException {
+        value(new String(text, offset, length));
+    }
+
+    @Override
+    public void writeRawUTF8String(byte[] text, int offset, int length) throws IOException {
+        value(new String(text, offset, length, StandardCharsets.UTF_8));
+    }
+
+    @Override
+    public void writeUTF8String(byte[] text, int offset, int length) throws IOException {
+        value(new String(text, offset, length, StandardCharsets.UTF_8));
+    }
+
+    @Override
+    public void writeRaw(String text) {
+        raw().append(text);
+    }
+
+    @Override
+    public void writeRaw(String text, int offset, int len) {
+        raw().append(text, offset, offset + len);
+    }
+
+    @Override
+    public void writeRaw(char[] text, int offset, int len) {
+        raw().append(text, offset, len);
+    }
+
+    @Override
+    public void writeRaw(char c) {
+        raw().append(c);
+    }
+
+    @Override
+    public void writeRawValue(String text) throws IOException {
+        value(new RawValue(text));
+    }
+
+    @Override
+    public void writeRawValue(String text, int offset, int len) throws IOException {
+        value(new RawValue(text.substring(offset, offset + len)));
+    }
+
+    @Override
+    public void writeRawValue(char[] text, int offset, int len) throws IOException {
+        value(new RawValue(new String(text, offset, len)));
+    }
+
+    @Override
+    public void writeBinary(Base64Variant variant, byte[] data, int offset, int len) throws IOException {
+        value(Arrays.copyOfRange(data, offset, offset + len));
+    }
+
+    @Override
+    public void writeNumber(short number) throws IOException {
+        value(number);
+    }
+
+    @Override
+    public void writeNumber(int number) throws IOException {
+        value(number);
+    }
+
+    @Override
+    public void writeNumber(long number) throws IOException {
+        value(number);
+    }
+
+    @Override
+    public void writeNumber(BigInteger number) throws IOException {
+        value(number);
+    }
+
+    @Override
+    public void writeNumber(double number) throws IOException {
+        value(number);
+    }
+
+    @Override
+    public void writeNumber(float number) throws IOException {
+        value(number);
+    }
+
+    @Override
+    public void writeNumber(BigDecimal number) throws IOException {
+        value(number);
+    }
+
+    @Override
+    public void writeNumber(String encodedValue) throws IOException {
+        value(new BigDecimal(encodedValue));
+    }
+
+    @Override
+    public void writeBoolean(boolean state) throws IOException {
+        value(state);
+    }
+
+    @Override
+    public void writeNull() throws IOException {
+        value(null);
+    }
+
+    /**
+     * Adds the raw content written since the last value as a single {@link RawValue}, as {@link #writeRawValue} does.
+     */
+    @Override
+    public void flush() throws IOException {
+        if (raw != null) {
+            String text = raw.toString();
+            raw = null;
+            value(new RawValue(text));
+        }
+    }
+
+    @Override
+    protected void _releaseBuffers() {
+        // nothing is buffered
+    }
+
+    @Override
+    protected void _verifyValueWrite(String typeMsg) {
+        _writeContext.writeValue();
+    }
+
+    private void start(Object container) throws IOException {
+        add(container);
+        containers.push(container);
+    }
+
+    private StringBuilder raw() {
+        if (raw == null) {
+            raw = new StringBuilder();
+        }
+        return raw;
+    }
+
+    private void value(Object value) throws IOException {
+        flush();
+        _verifyValueWrite("write a value");
+        add(value);
+    }
+
+    @SuppressWarnings("unchecked")
+    private void add(Object value) throws IOException {
+        Object container = containers.peek();
+        if (container == null) {
+            root = value;
+        } else if (container instanceof Map) {
+            if (fieldName == null) {
+                throw new IOException("Value written without a field name");
+            }
+            ((Map<String, Object>) container).put(fieldName, value);
+            fieldName = null;
+        } else {
+            ((List<Object>) container).add(value);
+        }
+    }
+
+    /**
+     * Parser copying every token read through it into a generator, including the tokens of skipped values.
+     */
+    private static final class CopyingParser extends JsonParserDelegate {
+
+        private final MapBuildingGenerator generator;
+
+        CopyingParser(JsonParser parser, MapBuildingGenerator generator) {
+            super(parser);
+            this.generator = generator;
+        }
+
+        @Override
+        public JsonToken nextToken() throws IOException {
+            JsonToken token = delegate.nextToken();
+            if (token != null) {
+                generator.copyCurrentEvent(delegate);
+            }
+            return token;
+        }
+
+        @Override
+        public JsonToken nextValue() throws IOException {
+            JsonToken token = nextToken();
+            return token == JsonToken.FIELD_NAME ? nextToken() : token;
+        }
+
+        @Override
+        public JsonParser skipChildren() throws IOException {
+            JsonToken current = delegate.currentToken();
+            if (current != JsonToken.START_OBJECT && current != JsonToken.START_ARRAY) {
+                return this;
+            }
+            int depth = 1;
+            while (depth > 0) {
+                JsonToken token = nextToken();
+                if (token == null) {
+                    return this;
+                }
+                if (token.isStructStart()) {
+                    depth++;
+                } else if (token.isStructEnd()) {
+                    depth--;
+                }
+            }
+            return this;
+        }
+    }
+}
@@ -5,8 +5,6 @@ import com.fasterxml.jackson.annotation.JsonInclude;
 import lombok.Builder;
 import lombok.Data;
 
-import java.util.Map;
-
 @Data
 @Builder
 @JsonIgnoreProperties(ignoreUnknown = true)
@@ -17,5 +15,5 @@ public class DocmosisRequest {
     private final String templateName;
     private final String outputFormat;
     private final String outputName;
-    private final Map<String, Object> data;
+    private final DocmosisTemplateData data;
 }
@@ -0,0 +1,45 @@
+package uk.gov.hmcts.reform.unspec.model.docmosis;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.annotation.JsonSerialize;
+import com.fasterxml.jackson.databind.ser.std.StdSerializer;
+import lombok.AccessLevel;
+import lombok.EqualsAndHashCode;
+import lombok.RequiredArgsConstructor;
+
+import java.io.IOException;
+
+/**
+ * Template data of a {@link DocmosisRequest}, serialised once when the request is built and written into the request
+ * body as is.
+ */
+@EqualsAndHashCode
+@RequiredArgsConstructor(access = AccessLevel.PRIVATE)
+@JsonSerialize(using = DocmosisTemplateData.Serializer.class)
+public class DocmosisTemplateData {
+
+    private final String json;
+
+    public static DocmosisTemplateData of(String json) {
+        return new DocmosisTemplateData(json);
+    }
+
+    @Override
+    public String toString() {
+        return json;
+    }
+
+    static class Serializer extends StdSerializer<DocmosisTemplateData> {
+
+        Serializer() {
+            super(DocmosisTemplateData.class);
+        }
+
+        @Override
+        public void serialize(DocmosisTemplateData value, JsonGenerator generator, SerializerProvider provider)
+            throws IOException {
+            generator.writeRawValue(value.json);
+        }
+    }
+}
@@ -12,8 +12,15 @@ public class Query {
     private final QueryBuilder queryBuilder;
     private final List<String> dataToReturn;
     private final int startIndex;
+    private final Integer size;
+    private final Long searchAfter;
 
     public Query(QueryBuilder queryBuilder, List<String> dataToReturn, int startIndex) {
+        this(queryBuilder, dataToReturn, startIndex, null, null);
+    }
+
+    private Query(QueryBuilder queryBuilder, List<String> dataToReturn, int startIndex, Integer size,
+                  Long searchAfter) {
         Objects.requireNonNull(queryBuilder, "QueryBuilder cannot be null in search");
         if (startIndex < 0) {
             throw new IllegalArgumentException("Start index cannot be less than 0");
@@ -21,14 +28,40 @@ public class Query {
         this.queryBuilder = queryBuilder;
         this.dataToReturn = dataToReturn;
         this.startIndex = startIndex;
+        this.size = size;
+        this.searchAfter = searchAfter;
+    }
+
+    /**
+     * The same search returning a page of cases sorted by case reference, starting after the given reference.
+     * Unlike paging with from, any number of cases can be paged through and cases are neither skipped nor repeated.
+     *
+     * @param size        number of cases in the page
+     * @param searchAfter reference of the last case of the previous page, or null for the first page
+     * @return the query of the page
+     */
+    public Query searchAfter(int size, Long searchAfter) {
+        if (size < 1) {
+            throw new IllegalArgumentException("Size cannot be less than 1");
+        }
+        return new Query(queryBuilder, dataToReturn, 0, size, searchAfter);
     }
 
     @Override
     public String toString() {
+        if (size == null) {
+            return "{"
+                + "\"query\": " + queryBuilder.toString() + ", "
+                + "\"_source\": " + toJSONString(dataToReturn) + ", "
+                + "\"from\": " + startIndex
+                + "}";
+        }
         return "{"
             + "\"query\": " + queryBuilder.toString() + ", "
             + "\"_source\": " + toJSONString(dataToReturn) + ", "
-            + "\"from\": " + startIndex
+            + "\"size\": " + size + ", "
+            + "\"sort\": [{\"reference.keyword\": \"asc\"}]"
+            + (searchAfter == null ? "" : ", \"search_after\": [\"" + searchAfter + "\"]")
             + "}";
     }
 }
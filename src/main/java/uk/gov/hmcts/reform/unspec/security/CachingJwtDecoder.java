@@ -0,0 +1,77 @@
+package uk.gov.hmcts.reform.unspec.security;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import com.github.benmanes.caffeine.cache.Ticker;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.security.oauth2.jwt.Jwt;
+import org.springframework.security.oauth2.jwt.JwtDecoder;
+import uk.gov.hmcts.reform.unspec.config.JwtDecoderConfiguration;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+
+/**
+ * Keeps tokens verified by the decoder until they expire, so the signature and claims of a token used for several
+ * callbacks are verified once. Tokens failing verification are not kept.
+ */
+public class CachingJwtDecoder implements JwtDecoder, MeterBinder {
+
+    private static final String VERIFIED_TOKEN_CACHE_NAME = "verifiedTokenCache";
+
+    private final JwtDecoder delegate;
+    private final Clock clock;
+    private final Cache<String, Jwt> verifiedTokens;
+
+    public CachingJwtDecoder(JwtDecoder delegate, JwtDecoderConfiguration configuration) {
+        this(delegate, configuration, Clock.systemUTC(), Ticker.systemTicker());
+    }
+
+    CachingJwtDecoder(JwtDecoder delegate, JwtDecoderConfiguration configuration, Clock clock, Ticker ticker) {
+        this.delegate = delegate;
+        this.clock = clock;
+        this.verifiedTokens = Caffeine.newBuilder()
+            .maximumSize(configuration.getVerifiedTokenCacheMaximumSize())
+            .expireAfter(new TokenExpiry())
+            .ticker(ticker)
+            .recordStats()
+            .build();
+    }
+
+    @Override
+    public Jwt decode(String token) {
+        return verifiedTokens.get(token, delegate::decode);
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        CaffeineCacheMetrics.monitor(registry, verifiedTokens, VERIFIED_TOKEN_CACHE_NAME);
+    }
+
+    private class TokenExpiry implements Expiry<String, Jwt> {
+
+        @Override
+        public long expireAfterCreate(String token, Jwt jwt, long currentTime) {
+            Instant expiresAt = jwt.getExpiresAt();
+            if (expiresAt == null) {
+                return 0;
+            }
+            Duration lifetime = Duration.between(clock.instant(), expiresAt);
+            return lifetime.isNegative() ? 0 : lifetime.toNanos();
+        }
+
+        @Override
+        public long expireAfterUpdate(String token, Jwt jwt, long currentTime, long currentDuration) {
+            return currentDuration;
+        }
+
+        @Override
+        public long expireAfterRead(String token, Jwt jwt, long currentTime, long currentDuration) {
+            return currentDuration;
+        }
+    }
+}
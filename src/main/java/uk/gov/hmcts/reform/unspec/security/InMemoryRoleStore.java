@@ -0,0 +1,62 @@
+package uk.gov.hmcts.reform.unspec.security;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import org.springframework.stereotype.Component;
+import uk.gov.hmcts.reform.unspec.config.AuthoritiesConfiguration;
+
+import java.time.Duration;
+import java.util.Optional;
+
+/**
+ * Role store local to the pod, bounded and expiring values after their time to live.
+ */
+@Component
+public class InMemoryRoleStore implements RoleStore {
+
+    private final Cache<String, StoredValue> values;
+
+    public InMemoryRoleStore(AuthoritiesConfiguration configuration) {
+        values = Caffeine.newBuilder()
+            .maximumSize(configuration.getRoleCacheMaximumSize())
+            .expireAfter(new Expiry<String, StoredValue>() {
+                @Override
+                public long expireAfterCreate(String key, StoredValue value, long currentTime) {
+                    return value.timeToLive.toNanos();
+                }
+
+                @Override
+                public long expireAfterUpdate(String key, StoredValue value, long currentTime, long currentDuration) {
+                    return value.timeToLive.toNanos();
+                }
+
+                @Override
+                public long expireAfterRead(String key, StoredValue value, long currentTime, long currentDuration) {
+                    return currentDuration;
+                }
+            })
+            .build();
+    }
+
+    @Override
+    public Optional<String> get(String key) {
+        return Optional.ofNullable(values.getIfPresent(key)).map(stored -> stored.value);
+    }
+
+    @Override
+    public void put(String key, String value, Duration timeToLive) {
+        values.put(key, new StoredValue(value, timeToLive));
+    }
+
+    private static final class StoredValue {
+
+        private final String value;
+        private final Duration timeToLive;
+
+        private StoredValue(String value, Duration timeToLive) {
+            this.value = value;
+            this.timeToLive = timeToLive;
+        }
+    }
+}
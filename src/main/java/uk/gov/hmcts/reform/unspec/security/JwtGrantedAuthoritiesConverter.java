@@ -7,6 +7,7 @@ import org.springframework.security.core.authority.SimpleGrantedAuthority;
 import org.springframework.security.oauth2.jwt.Jwt;
 import org.springframework.stereotype.Component;
 import uk.gov.hmcts.reform.idam.client.models.UserInfo;
+import uk.gov.hmcts.reform.unspec.config.AuthoritiesConfiguration;
 import uk.gov.hmcts.reform.unspec.service.UserService;
 
 import java.util.ArrayList;
@@ -24,22 +25,55 @@ public class JwtGrantedAuthoritiesConverter implements Converter<Jwt, Collection
     public static final String TOKEN_NAME = "tokenName";
 
     private final UserService userService;
+    private final AuthoritiesConfiguration configuration;
+    private final SignedRoleCache signedRoleCache;
 
     @Autowired
-    public JwtGrantedAuthoritiesConverter(UserService userService) {
+    public JwtGrantedAuthoritiesConverter(UserService userService,
+                                          AuthoritiesConfiguration configuration,
+                                          SignedRoleCache signedRoleCache) {
         this.userService = userService;
+        this.configuration = configuration;
+        this.signedRoleCache = signedRoleCache;
     }
 
     @Override
     public Collection<GrantedAuthority> convert(Jwt jwt) {
         List<GrantedAuthority> authorities = new ArrayList<>();
         if (TRUE.equals(jwt.containsClaim(TOKEN_NAME)) && jwt.getClaim(TOKEN_NAME).equals(ACCESS_TOKEN)) {
-            UserInfo userInfo = userService.getUserInfo(BEARER + jwt.getTokenValue());
-            authorities = extractAuthorityFromClaims(userInfo.getRoles());
+            List<String> roles = configuration.getSource() == AuthoritiesConfiguration.Source.CLAIMS
+                ? rolesFromClaims(jwt)
+                : rolesFromUserInfo(jwt);
+            authorities = extractAuthorityFromClaims(roles);
         }
         return authorities;
     }
 
+    /**
+     * Roles stated by the JWT, which has been verified by the JWT decoder, or else the cached roles of its subject, so
+     * IDAM user info is only called for users not seen recently.
+     */
+    private List<String> rolesFromClaims(Jwt jwt) {
+        List<String> roles = jwt.getClaimAsStringList(configuration.getRolesClaim());
+        if (roles != null) {
+            return roles;
+        }
+        String subject = jwt.getSubject();
+        if (subject == null) {
+            return rolesFromUserInfo(jwt);
+        }
+        return signedRoleCache.getRoles(subject).orElseGet(() -> {
+            List<String> userRoles = rolesFromUserInfo(jwt);
+            signedRoleCache.putRoles(subject, userRoles);
+            return userRoles;
+        });
+    }
+
+    private List<String> rolesFromUserInfo(Jwt jwt) {
+        UserInfo userInfo = userService.getUserInfo(BEARER + jwt.getTokenValue());
+        return userInfo.getRoles();
+    }
+
     private List<GrantedAuthority> extractAuthorityFromClaims(List<String> roles) {
         return roles.stream()
             .map(SimpleGrantedAuthority::new)
@@ -0,0 +1,136 @@
+package uk.gov.hmcts.reform.unspec.security;
+
+import com.nimbusds.jose.jwk.JWK;
+import com.nimbusds.jose.jwk.JWKSelector;
+import com.nimbusds.jose.jwk.JWKSet;
+import com.nimbusds.jose.jwk.source.JWKSource;
+import com.nimbusds.jose.proc.SecurityContext;
+import com.nimbusds.jose.util.JSONObjectUtils;
+import com.nimbusds.jose.util.ResourceRetriever;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import uk.gov.hmcts.reform.unspec.config.JwtDecoderConfiguration;
+
+import java.io.IOException;
+import java.net.URL;
+import java.text.ParseException;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Signing keys of IDAM for the JWT decoder, fetched at startup and then refreshed in the background, so verifying a
+ * token never waits for IDAM. A token signed with a key not known yet, as after a key rotation, is rejected and
+ * triggers an early background refresh, at most once per minimum refresh interval.
+ */
+@Slf4j
+public class RefreshingJwkSource implements JWKSource<SecurityContext>, MeterBinder {
+
+    private static final String DISCOVERY_PATH = "/.well-known/openid-configuration";
+
+    private final String issuerUri;
+    private final JwtDecoderConfiguration configuration;
+    private final ResourceRetriever resourceRetriever;
+    private final ScheduledExecutorService refresher;
+
+    private final AtomicLong lastRefreshRequest = new AtomicLong(System.nanoTime());
+    private final LongAdder refreshesSucceeded = new LongAdder();
+    private final LongAdder refreshesFailed = new LongAdder();
+    private volatile String jwksUri;
+    private volatile JWKSet jwkSet;
+
+    public RefreshingJwkSource(String issuerUri,
+                               JwtDecoderConfiguration configuration,
+                               ResourceRetriever resourceRetriever) {
+        this.issuerUri = issuerUri;
+        this.configuration = configuration;
+        this.resourceRetriever = resourceRetriever;
+        CustomizableThreadFactory threadFactory = new CustomizableThreadFactory("jwks-refresh-");
+        threadFactory.setDaemon(true);
+        this.refresher = Executors.newSingleThreadScheduledExecutor(threadFactory);
+    }
+
+    /**
+     * Fetches the keys before the first token is verified, then schedules their refresh. The service still starts
+     * when IDAM is not available, tokens are rejected until the keys are fetched by a later refresh.
+     */
+    public void start() {
+        refresh();
+        long interval = configuration.getJwksRefreshInterval().toMillis();
+        refresher.scheduleWithFixedDelay(this::refresh, interval, interval, TimeUnit.MILLISECONDS);
+    }
+
+    @Override
+    public List<JWK> get(JWKSelector jwkSelector, SecurityContext context) {
+        JWKSet keys = jwkSet;
+        if (keys == null) {
+            requestRefresh();
+            return List.of();
+        }
+        List<JWK> matches = jwkSelector.select(keys);
+        if (matches.isEmpty()) {
+            requestRefresh();
+        }
+        return matches;
+    }
+
+    private void requestRefresh() {
+        long now = System.nanoTime();
+        long last = lastRefreshRequest.get();
+        if (now - last >= configuration.getJwksMinimumRefreshInterval().toNanos()
+            && lastRefreshRequest.compareAndSet(last, now)) {
+            refresher.execute(this::refresh);
+        }
+    }
+
+    void refresh() {
+        try {
+            if (jwksUri == null) {
+                jwksUri = discoverJwksUri();
+            }
+            jwkSet = JWKSet.parse(resourceRetriever.retrieveResource(new URL(jwksUri)).getContent());
+            refreshesSucceeded.increment();
+        } catch (IOException | ParseException | RuntimeException e) {
+            refreshesFailed.increment();
+            log.warn("Signing keys of {} could not be fetched", issuerUri, e);
+        }
+    }
+
+    private String discoverJwksUri() throws IOException, ParseException {
+        String content = resourceRetriever.retrieveResource(new URL(issuerUri + DISCOVERY_PATH)).getContent();
+        Map<String, Object> metadata = JSONObjectUtils.parse(content);
+        Object uri = metadata.get("jwks_uri");
+        if (uri == null) {
+            throw new ParseException("No jwks_uri in the OpenID configuration of " + issuerUri, 0);
+        }
+        return uri.toString();
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        bindCounter(registry, "success", refreshesSucceeded);
+        bindCounter(registry, "failure", refreshesFailed);
+        Gauge.builder("jwks.keys", this, source -> source.jwkSet == null ? 0 : source.jwkSet.getKeys().size())
+            .description("Signing keys of IDAM known to the JWT decoder")
+            .register(registry);
+    }
+
+    private static void bindCounter(MeterRegistry registry, String result, LongAdder counter) {
+        FunctionCounter.builder("jwks.refreshes", counter, LongAdder::sum)
+            .description("Fetches of the signing keys of IDAM")
+            .tag("result", result)
+            .register(registry);
+    }
+
+    public void shutdown() {
+        refresher.shutdownNow();
+    }
+}
@@ -0,0 +1,16 @@
+package uk.gov.hmcts.reform.unspec.security;
+
+import java.time.Duration;
+import java.util.Optional;
+
+/**
+ * Store of the signed roles kept by {@link SignedRoleCache}. The store only has to keep values for about their time
+ * to live, values are verified and expired by the cache itself, so a store shared by the pods of the service, such as
+ * a Redis or database backed one, can be plugged in by declaring it as the primary RoleStore bean.
+ */
+public interface RoleStore {
+
+    Optional<String> get(String key);
+
+    void put(String key, String value, Duration timeToLive);
+}
@@ -0,0 +1,140 @@
+package uk.gov.hmcts.reform.unspec.security;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+import uk.gov.hmcts.reform.unspec.config.AuthoritiesConfiguration;
+
+import java.security.InvalidKeyException;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.security.SecureRandom;
+import java.time.Clock;
+import java.time.Instant;
+import java.util.Arrays;
+import java.util.Base64;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.atomic.LongAdder;
+import javax.crypto.Mac;
+import javax.crypto.spec.SecretKeySpec;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+
+/**
+ * Roles of users as last read from IDAM user info, kept for a short time so that new tokens of a user seen recently
+ * by any pod sharing the {@link RoleStore} don't need a user info call. Cached roles are signed with a key of the
+ * service and carry their own expiry, so values altered or kept for too long by a shared store are ignored.
+ */
+@Slf4j
+@Component
+public class SignedRoleCache implements MeterBinder {
+
+    private static final String ALGORITHM = "HmacSHA256";
+    private static final String KEY_PREFIX = "roles:";
+    private static final String SEPARATOR = "\n";
+    private static final String ROLE_SEPARATOR = ",";
+
+    private final RoleStore roleStore;
+    private final AuthoritiesConfiguration configuration;
+    private final Clock clock;
+    private final SecretKeySpec signingKey;
+
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final LongAdder rejected = new LongAdder();
+
+    @Autowired
+    public SignedRoleCache(RoleStore roleStore, AuthoritiesConfiguration configuration) {
+        this(roleStore, configuration, Clock.systemUTC());
+    }
+
+    SignedRoleCache(RoleStore roleStore, AuthoritiesConfiguration configuration, Clock clock) {
+        this.roleStore = roleStore;
+        this.configuration = configuration;
+        this.clock = clock;
+        this.signingKey = new SecretKeySpec(signingKey(configuration.getRoleCacheSigningKey()), ALGORITHM);
+    }
+
+    /**
+     * Roles of the user, when cached, signed by this service and not expired.
+     */
+    public Optional<List<String>> getRoles(String subject) {
+        Optional<List<String>> roles = roleStore.get(KEY_PREFIX + subject).flatMap(value -> verify(subject, value));
+        if (roles.isPresent()) {
+            hits.increment();
+        } else {
+            misses.increment();
+        }
+        return roles;
+    }
+
+    public void putRoles(String subject, List<String> roles) {
+        Instant expiresAt = clock.instant().plus(configuration.getRoleCacheLifetime());
+        String payload = expiresAt.getEpochSecond() + SEPARATOR + String.join(ROLE_SEPARATOR, roles);
+        roleStore.put(
+            KEY_PREFIX + subject,
+            payload + SEPARATOR + sign(subject, payload),
+            configuration.getRoleCacheLifetime()
+        );
+    }
+
+    private Optional<List<String>> verify(String subject, String value) {
+        String[] parts = value.split(SEPARATOR, -1);
+        if (parts.length != 3) {
+            rejected.increment();
+            return Optional.empty();
+        }
+        String payload = parts[0] + SEPARATOR + parts[1];
+        byte[] expected = sign(subject, payload).getBytes(UTF_8);
+        if (!MessageDigest.isEqual(expected, parts[2].getBytes(UTF_8))) {
+            rejected.increment();
+            return Optional.empty();
+        }
+        if (!clock.instant().isBefore(Instant.ofEpochSecond(Long.parseLong(parts[0])))) {
+            return Optional.empty();
+        }
+        return Optional.of(parts[1].isEmpty() ? List.of() : Arrays.asList(parts[1].split(ROLE_SEPARATOR)));
+    }
+
+    /**
+     * Signature of the payload for the subject, so roles cannot be moved from one user to another.
+     */
+    private String sign(String subject, String payload) {
+        try {
+            Mac mac = Mac.getInstance(ALGORITHM);
+            mac.init(signingKey);
+            byte[] signature = mac.doFinal((subject + SEPARATOR + payload).getBytes(UTF_8));
+            return Base64.getUrlEncoder().withoutPadding().encodeToString(signature);
+        } catch (NoSuchAlgorithmException | InvalidKeyException e) {
+            throw new IllegalStateException("Cached roles cannot be signed", e);
+        }
+    }
+
+    private static byte[] signingKey(String configuredKey) {
+        if (!configuredKey.isBlank()) {
+            return configuredKey.getBytes(UTF_8);
+        }
+        log.info("No role cache signing key configured, cached roles are only trusted by this instance");
+        byte[] key = new byte[32];
+        new SecureRandom().nextBytes(key);
+        return key;
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        bindCounter(registry, "hit", hits);
+        bindCounter(registry, "miss", misses);
+        bindCounter(registry, "rejected", rejected);
+    }
+
+    private static void bindCounter(MeterRegistry registry, String result, LongAdder counter) {
+        FunctionCounter.builder("authorities.role.cache", counter, LongAdder::sum)
+            .description("Lookups of cached roles, rejected ones had an invalid signature")
+            .tag("result", result)
+            .register(registry);
+    }
+}
@@ -0,0 +1,117 @@
+package uk.gov.hmcts.reform.unspec.service;
+
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.stereotype.Service;
+import uk.gov.hmcts.reform.unspec.callback.CallbackTimings;
+import uk.gov.hmcts.reform.unspec.config.DownstreamCallConfiguration;
+
+import java.time.Duration;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.function.BiFunction;
+import java.util.function.Supplier;
+import javax.annotation.PreDestroy;
+
+/**
+ * Issues independent downstream calls of a callback concurrently, so the callback waits for the slowest call rather
+ * than for all of them in turn. Calls run on a bounded pool shared by all callbacks; when the pool and its queue are
+ * full a call is made by the calling thread, so calls are never rejected. A call which does not complete within its
+ * timeout fails with a {@link java.util.concurrent.TimeoutException} and its thread is interrupted.
+ */
+@Service
+public class ConcurrentCallService {
+
+    private final ThreadPoolExecutor executor;
+    private final Duration timeout;
+
+    public ConcurrentCallService(DownstreamCallConfiguration configuration) {
+        this.executor = new ThreadPoolExecutor(
+            configuration.getThreads(),
+            configuration.getThreads(),
+            60L,
+            TimeUnit.SECONDS,
+            new ArrayBlockingQueue<>(configuration.getQueueCapacity()),
+            new CustomizableThreadFactory("downstream-call-"),
+            new ThreadPoolExecutor.CallerRunsPolicy()
+        );
+        this.executor.allowCoreThreadTimeOut(true);
+        this.timeout = configuration.getTimeout();
+    }
+
+    /**
+     * Starts the call on the shared pool, with the default timeout.
+     */
+    public <T> CompletableFuture<T> supply(Supplier<T> call) {
+        return supply(call, timeout);
+    }
+
+    /**
+     * Starts the call on the shared pool.
+     *
+     * @param call    downstream call
+     * @param timeout time after which the call fails and is interrupted
+     * @return the result of the call; cancelling it interrupts the call
+     */
+    public <T> CompletableFuture<T> supply(Supplier<T> call, Duration timeout) {
+        CompletableFuture<T> result = new CompletableFuture<>();
+        // outbound calls are attributed to the callback which started them
+        Future<?> task = executor.submit(CallbackTimings.propagate(() -> {
+            try {
+                result.complete(call.get());
+            } catch (RuntimeException e) {
+                result.completeExceptionally(e);
+            }
+        }));
+        result.orTimeout(timeout.toMillis(), TimeUnit.MILLISECONDS)
+            .whenComplete((value, failure) -> {
+                if (failure != null) {
+                    task.cancel(true);
+                }
+            });
+        return result;
+    }
+
+    /**
+     * Makes two independent calls concurrently, the first on the shared pool and the second on the calling thread,
+     * and combines their results. When the second call fails the first is cancelled.
+     *
+     * @param first    call made on the shared pool, with the default timeout
+     * @param second   call made on the calling thread
+     * @param combiner combines the results of both calls
+     * @return the combined result
+     */
+    public <T, U, R> R combine(Supplier<T> first, Supplier<U> second, BiFunction<T, U, R> combiner) {
+        CompletableFuture<T> firstResult = supply(first);
+        U secondResult;
+        try {
+            secondResult = second.get();
+        } catch (RuntimeException e) {
+            firstResult.cancel(true);
+            throw e;
+        }
+        return combiner.apply(join(firstResult), secondResult);
+    }
+
+    /**
+     * Waits for the result of a call, rethrowing the exception a failed call threw as is.
+     */
+    public static <T> T join(CompletableFuture<T> result) {
+        try {
+            return result.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException) {
+                throw (RuntimeException) e.getCause();
+            }
+            throw e;
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdownNow();
+    }
+}
@@ -9,13 +9,10 @@ import uk.gov.hmcts.reform.ccd.client.model.CaseDetails;
 import uk.gov.hmcts.reform.ccd.client.model.Event;
 import uk.gov.hmcts.reform.ccd.client.model.SearchResult;
 import uk.gov.hmcts.reform.ccd.client.model.StartEventResponse;
-import uk.gov.hmcts.reform.idam.client.IdamClient;
 import uk.gov.hmcts.reform.unspec.callback.CaseEvent;
-import uk.gov.hmcts.reform.unspec.config.SystemUpdateUserConfiguration;
 import uk.gov.hmcts.reform.unspec.helpers.CaseDetailsConverter;
 import uk.gov.hmcts.reform.unspec.model.CaseData;
 import uk.gov.hmcts.reform.unspec.model.search.Query;
-import uk.gov.hmcts.reform.unspec.service.data.UserAuthContent;
 
 import java.util.HashMap;
 import java.util.Map;
@@ -27,9 +24,8 @@ import static uk.gov.hmcts.reform.unspec.CaseDefinitionConstants.JURISDICTION;
 @RequiredArgsConstructor
 public class CoreCaseDataService {
 
-    private final IdamClient idamClient;
     private final CoreCaseDataApi coreCaseDataApi;
-    private final SystemUpdateUserConfiguration userConfig;
+    private final SystemUpdateUserTokenBroker systemUpdateUserTokenBroker;
     private final AuthTokenGenerator authTokenGenerator;
     private final CaseDetailsConverter caseDetailsConverter;
 
@@ -43,49 +39,42 @@ public class CoreCaseDataService {
     }
 
     public StartEventResponse startUpdate(String caseId, CaseEvent eventName) {
-        UserAuthContent systemUpdateUser = getSystemUpdateUser();
-
-        return coreCaseDataApi.startEventForCaseWorker(
-            systemUpdateUser.getUserToken(),
-            authTokenGenerator.generate(),
-            systemUpdateUser.getUserId(),
-            JURISDICTION,
-            CASE_TYPE,
-            caseId,
-            eventName.name()
-        );
+        return systemUpdateUserTokenBroker.callAsSystemUpdateUser(
+            systemUpdateUser -> coreCaseDataApi.startEventForCaseWorker(
+                systemUpdateUser.getUserToken(),
+                authTokenGenerator.generate(),
+                systemUpdateUser.getUserId(),
+                JURISDICTION,
+                CASE_TYPE,
+                caseId,
+                eventName.name()
+            ));
     }
 
     public CaseData submitUpdate(String caseId, CaseDataContent caseDataContent) {
-        UserAuthContent systemUpdateUser = getSystemUpdateUser();
-
-        CaseDetails caseDetails = coreCaseDataApi.submitEventForCaseWorker(
-            systemUpdateUser.getUserToken(),
-            authTokenGenerator.generate(),
-            systemUpdateUser.getUserId(),
-            JURISDICTION,
-            CASE_TYPE,
-            caseId,
-            true,
-            caseDataContent
-        );
+        CaseDetails caseDetails = systemUpdateUserTokenBroker.callAsSystemUpdateUser(
+            systemUpdateUser -> coreCaseDataApi.submitEventForCaseWorker(
+                systemUpdateUser.getUserToken(),
+                authTokenGenerator.generate(),
+                systemUpdateUser.getUserId(),
+                JURISDICTION,
+                CASE_TYPE,
+                caseId,
+                true,
+                caseDataContent
+            ));
         return caseDetailsConverter.toCaseData(caseDetails);
     }
 
     public SearchResult searchCases(Query query) {
-        String userToken = idamClient.getAccessToken(userConfig.getUserName(), userConfig.getPassword());
-        return coreCaseDataApi.searchCases(userToken, authTokenGenerator.generate(), CASE_TYPE, query.toString());
+        return systemUpdateUserTokenBroker.callWithAccessToken(
+            userToken -> coreCaseDataApi.searchCases(
+                userToken, authTokenGenerator.generate(), CASE_TYPE, query.toString()));
     }
 
     public CaseDetails getCase(Long caseId) {
-        String userToken = idamClient.getAccessToken(userConfig.getUserName(), userConfig.getPassword());
-        return coreCaseDataApi.getCase(userToken, authTokenGenerator.generate(), caseId.toString());
-    }
-
-    private UserAuthContent getSystemUpdateUser() {
-        String userToken = idamClient.getAccessToken(userConfig.getUserName(), userConfig.getPassword());
-        String userId = idamClient.getUserInfo(userToken).getUid();
-        return UserAuthContent.builder().userToken(userToken).userId(userId).build();
+        return systemUpdateUserTokenBroker.callWithAccessToken(
+            userToken -> coreCaseDataApi.getCase(userToken, authTokenGenerator.generate(), caseId.toString()));
     }
 
     private CaseDataContent caseDataContentFromStartEventResponse(
@@ -10,7 +10,6 @@ import uk.gov.hmcts.reform.ccd.model.AddCaseAssignedUserRolesRequest;
 import uk.gov.hmcts.reform.ccd.model.CaseAssignedUserRoleWithOrganisation;
 import uk.gov.hmcts.reform.ccd.model.CaseAssignedUserRolesRequest;
 import uk.gov.hmcts.reform.ccd.model.CaseAssignedUserRolesResource;
-import uk.gov.hmcts.reform.idam.client.IdamClient;
 import uk.gov.hmcts.reform.unspec.config.CrossAccessUserConfiguration;
 import uk.gov.hmcts.reform.unspec.enums.CaseRole;
 
@@ -25,36 +24,30 @@ public class CoreCaseUserService {
     Logger log = LoggerFactory.getLogger(CoreCaseUserService.class);
 
     private final CaseAccessDataStoreApi caseAccessDataStoreApi;
-    private final IdamClient idamClient;
     private final CrossAccessUserConfiguration crossAccessUserConfiguration;
     private final AuthTokenGenerator authTokenGenerator;
+    private final UserTokenCache userTokenCache;
 
     public void assignCase(String caseId, String userId, String organisationId, CaseRole caseRole) {
-        String caaAccessToken = getCaaAccessToken();
-
-        if (!userHasCaseRole(caseId, caaAccessToken, caseRole)) {
-            assignUserToCaseForRole(caseId, userId, organisationId, caseRole, caaAccessToken);
-        } else {
-            log.info("Case already have the user with {} role", caseRole.getFormattedName());
-        }
+        userTokenCache.callAs(crossAccessUserConfiguration, caaAccessToken -> {
+            if (!userHasCaseRole(caseId, caaAccessToken, caseRole)) {
+                assignUserToCaseForRole(caseId, userId, organisationId, caseRole, caaAccessToken);
+            } else {
+                log.info("Case already have the user with {} role", caseRole.getFormattedName());
+            }
+            return null;
+        });
     }
 
     public void removeCreatorRoleCaseAssignment(String caseId, String userId, String organisationId) {
-
-        String caaAccessToken = getCaaAccessToken();
-
-        if (userHasCaseRole(caseId, caaAccessToken, CREATOR)) {
-            removeCreatorAccess(caseId, userId, organisationId, caaAccessToken);
-        } else {
-            log.info("User doesn't have {} role", CREATOR.getFormattedName());
-        }
-    }
-
-    private String getCaaAccessToken() {
-        return idamClient.getAccessToken(
-            crossAccessUserConfiguration.getUserName(),
-            crossAccessUserConfiguration.getPassword()
-        );
+        userTokenCache.callAs(crossAccessUserConfiguration, caaAccessToken -> {
+            if (userHasCaseRole(caseId, caaAccessToken, CREATOR)) {
+                removeCreatorAccess(caseId, userId, organisationId, caaAccessToken);
+            } else {
+                log.info("User doesn't have {} role", CREATOR.getFormattedName());
+            }
+            return null;
+        });
     }
 
     private void assignUserToCaseForRole(String caseId, String userId, String organisationId,
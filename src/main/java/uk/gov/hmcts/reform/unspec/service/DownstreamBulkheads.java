@@ -0,0 +1,84 @@
+package uk.gov.hmcts.reform.unspec.service;
+
+import org.springframework.stereotype.Component;
+import uk.gov.hmcts.reform.unspec.config.RequestExecutionConfiguration;
+
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+
+import static java.lang.String.format;
+import static uk.gov.hmcts.reform.unspec.config.RequestExecutionConfiguration.Mode.THREAD_PER_REQUEST;
+
+/**
+ * Limits the calls made to each downstream service at once when requests are not capped by the threads of tomcat,
+ * so a burst of requests waits for a slow service rather than overloading it. A call which waits longer than the
+ * bulkhead timeout fails without being made. There is a bulkhead for each of the configured number of downstream
+ * services, calls to any further service share a single bulkhead.
+ */
+@Component
+public class DownstreamBulkheads {
+
+    private final ConcurrentMap<String, Semaphore> bulkheads = new ConcurrentHashMap<>();
+    private final Semaphore otherDownstreams;
+    private final RequestExecutionConfiguration configuration;
+    private final boolean enabled;
+
+    public DownstreamBulkheads(RequestExecutionConfiguration configuration) {
+        this.configuration = configuration;
+        this.enabled = configuration.getMode() != THREAD_PER_REQUEST;
+        this.otherDownstreams = new Semaphore(configuration.getMaxConcurrentCalls());
+    }
+
+    /**
+     * Makes the call within the bulkhead of the downstream service.
+     *
+     * @param downstream authority of the downstream service called
+     * @param call       call to the service
+     * @return the result of the call
+     * @throws IOException when the call fails, or times out waiting for the bulkhead
+     */
+    public <T> T call(String downstream, DownstreamCall<T> call) throws IOException {
+        if (!enabled) {
+            return call.execute();
+        }
+        Semaphore bulkhead = bulkhead(downstream);
+        acquire(bulkhead, downstream);
+        try {
+            return call.execute();
+        } finally {
+            bulkhead.release();
+        }
+    }
+
+    private Semaphore bulkhead(String downstream) {
+        Semaphore bulkhead = bulkheads.get(downstream);
+        if (bulkhead != null) {
+            return bulkhead;
+        }
+        if (bulkheads.size() >= configuration.getDownstreamServices()) {
+            return otherDownstreams;
+        }
+        return bulkheads.computeIfAbsent(downstream, key -> new Semaphore(configuration.getMaxConcurrentCalls()));
+    }
+
+    private void acquire(Semaphore bulkhead, String downstream) throws IOException {
+        try {
+            if (!bulkhead.tryAcquire(configuration.getBulkheadTimeout().toMillis(), TimeUnit.MILLISECONDS)) {
+                throw new IOException(format("Too many concurrent calls to %s", downstream));
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new InterruptedIOException(format("Interrupted waiting to call %s", downstream));
+        }
+    }
+
+    @FunctionalInterface
+    public interface DownstreamCall<T> {
+
+        T execute() throws IOException;
+    }
+}
@@ -0,0 +1,186 @@
+package uk.gov.hmcts.reform.unspec.service;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.stereotype.Component;
+import uk.gov.hmcts.reform.unspec.config.EventEmitterConfiguration;
+import uk.gov.hmcts.reform.unspec.helpers.CaseDetailsConverter;
+import uk.gov.hmcts.reform.unspec.model.BusinessProcess;
+import uk.gov.hmcts.reform.unspec.model.CaseData;
+
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+import javax.annotation.PreDestroy;
+
+import static uk.gov.hmcts.reform.unspec.enums.BusinessProcessStatus.READY;
+
+/**
+ * Emits the camunda events of business processes made ready by SUBMITTED callbacks.
+ * In async mode an emission is queued and performed by a bounded pool of workers, so the callback does not wait for
+ * camunda, and a failed emission is retried with an exponential backoff. The queue is bounded: an emission which does
+ * not fit, or which still fails after the last attempt, is dropped and the case is left with a READY business process
+ * for the polling event emitter to pick up.
+ * A failed emission may have started the process in camunda before failing, and the polling event emitter may start it
+ * during the backoff, so the case is read again before each retry and the emission is given up once its business
+ * process is no longer READY without a process instance.
+ */
+@Slf4j
+@Component
+public class EventEmissionQueue implements MeterBinder {
+
+    private static final String METRIC_PREFIX = "event.emitter.";
+    // the backoff stops doubling after this many retries
+    private static final int MAX_BACKOFF_SHIFT = 10;
+
+    private final EventEmitterService eventEmitterService;
+    private final CoreCaseDataService coreCaseDataService;
+    private final CaseDetailsConverter caseDetailsConverter;
+    private final EventEmitterConfiguration configuration;
+    private final ScheduledExecutorService executor;
+
+    // emissions queued or waiting for a retry
+    private final AtomicInteger depth = new AtomicInteger();
+    private final LongAdder emitted = new LongAdder();
+    private final LongAdder retried = new LongAdder();
+    private final LongAdder superseded = new LongAdder();
+    private final LongAdder failed = new LongAdder();
+    private final LongAdder rejected = new LongAdder();
+    private volatile Timer lag;
+
+    public EventEmissionQueue(EventEmitterService eventEmitterService,
+                              CoreCaseDataService coreCaseDataService,
+                              CaseDetailsConverter caseDetailsConverter,
+                              EventEmitterConfiguration configuration) {
+        this.eventEmitterService = eventEmitterService;
+        this.coreCaseDataService = coreCaseDataService;
+        this.caseDetailsConverter = caseDetailsConverter;
+        this.configuration = configuration;
+        this.executor = configuration.isAsync() ? newExecutor(configuration.getWorkers()) : null;
+    }
+
+    private static ScheduledExecutorService newExecutor(int workers) {
+        return Executors.newScheduledThreadPool(workers, new CustomizableThreadFactory("event-emitter-"));
+    }
+
+    /**
+     * Emits the camunda event of the business process of the case, within the call unless async mode is enabled.
+     *
+     * @param caseData case holding a READY business process
+     */
+    public void emit(CaseData caseData) {
+        if (executor == null) {
+            eventEmitterService.emitBusinessProcessCamundaEvent(caseData, false);
+            return;
+        }
+        if (depth.incrementAndGet() > configuration.getQueueCapacity()) {
+            drop(rejected, caseData, "the queue is full");
+            return;
+        }
+        long queuedAt = System.nanoTime();
+        try {
+            executor.execute(() -> attempt(caseData, 1, queuedAt));
+        } catch (RejectedExecutionException e) {
+            drop(rejected, caseData, "the queue is shut down");
+        }
+    }
+
+    private void attempt(CaseData caseData, int attempt, long queuedAt) {
+        if (attempt == 1 && lag != null) {
+            lag.record(System.nanoTime() - queuedAt, TimeUnit.NANOSECONDS);
+        }
+        if (attempt > 1) {
+            try {
+                if (!hasReadyBusinessProcess(caseData.getCcdCaseReference())) {
+                    depth.decrementAndGet();
+                    superseded.increment();
+                    log.info("Camunda event for case {} not retried as its business process is no longer ready",
+                             caseData.getCcdCaseReference());
+                    return;
+                }
+            } catch (Exception e) {
+                log.warn("Case {} could not be read before retrying its camunda event: {}",
+                         caseData.getCcdCaseReference(), e.getMessage());
+                retry(caseData, attempt, queuedAt);
+                return;
+            }
+        }
+        if (eventEmitterService.emitBusinessProcessCamundaEvent(caseData, false)) {
+            depth.decrementAndGet();
+            emitted.increment();
+            return;
+        }
+        retry(caseData, attempt, queuedAt);
+    }
+
+    /**
+     * Whether the business process of the case, as currently stored, is still waiting for its camunda event.
+     */
+    private boolean hasReadyBusinessProcess(Long caseId) {
+        BusinessProcess businessProcess = caseDetailsConverter.toCaseData(coreCaseDataService.getCase(caseId))
+            .getBusinessProcess();
+        return businessProcess != null
+            && businessProcess.getStatusOrDefault() == READY
+            && businessProcess.getProcessInstanceId() == null;
+    }
+
+    private void retry(CaseData caseData, int attempt, long queuedAt) {
+        if (attempt >= configuration.getMaxAttempts()) {
+            drop(failed, caseData, "it failed " + attempt + " times");
+            return;
+        }
+        retried.increment();
+        long backoff = configuration.getRetryBackoff().toMillis() << Math.min(attempt - 1, MAX_BACKOFF_SHIFT);
+        try {
+            executor.schedule(() -> attempt(caseData, attempt + 1, queuedAt), backoff, TimeUnit.MILLISECONDS);
+        } catch (RejectedExecutionException e) {
+            drop(failed, caseData, "the queue is shut down");
+        }
+    }
+
+    private void drop(LongAdder counter, CaseData caseData, String reason) {
+        depth.decrementAndGet();
+        counter.increment();
+        log.warn("Camunda event for case {} left for polling as {}", caseData.getCcdCaseReference(), reason);
+    }
+
+    public int getDepth() {
+        return depth.get();
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        Gauge.builder(METRIC_PREFIX + "queue.depth", depth, AtomicInteger::get)
+            .description("Camunda event emissions queued or waiting for a retry")
+            .register(registry);
+        lag = Timer.builder(METRIC_PREFIX + "queue.lag")
+            .description("Time from queueing a camunda event emission to its first attempt")
+            .register(registry);
+        bindCounter(registry, "emitted", emitted);
+        bindCounter(registry, "retried", retried);
+        bindCounter(registry, "superseded", superseded);
+        bindCounter(registry, "failed", failed);
+        bindCounter(registry, "rejected", rejected);
+    }
+
+    private static void bindCounter(MeterRegistry registry, String result, LongAdder counter) {
+        FunctionCounter.builder(METRIC_PREFIX + "emissions", counter, LongAdder::sum)
+            .tag("result", result)
+            .register(registry);
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        if (executor != null) {
+            executor.shutdown();
+        }
+    }
+}
@@ -18,7 +18,14 @@ public class EventEmitterService {
     private final ApplicationEventPublisher applicationEventPublisher;
     private final RuntimeService runtimeService;
 
-    public void emitBusinessProcessCamundaEvent(CaseData caseData, boolean dispatchProcess) {
+    /**
+     * Starts the business process of the case in camunda, failures are logged rather than thrown.
+     *
+     * @param caseData        case holding the business process to start
+     * @param dispatchProcess whether to publish a {@link DispatchBusinessProcessEvent} once the process is started
+     * @return whether the business process was started
+     */
+    public boolean emitBusinessProcessCamundaEvent(CaseData caseData, boolean dispatchProcess) {
         var caseId = caseData.getCcdCaseReference();
         var businessProcess = caseData.getBusinessProcess();
         var camundaEvent = businessProcess.getCamundaEvent();
@@ -33,10 +40,12 @@ public class EventEmitterService {
             }
 
             log.info("Camunda event emitted successfully");
+            return true;
         } catch (Exception ex) {
             log.error(format("Emitting %s camunda event failed for case: %d, message: %s",
                              camundaEvent, caseId, ex.getMessage()
             ));
+            return false;
         }
     }
 }
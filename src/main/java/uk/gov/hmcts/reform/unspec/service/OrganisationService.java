@@ -5,7 +5,6 @@ import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
 import uk.gov.hmcts.reform.authorisation.generators.AuthTokenGenerator;
-import uk.gov.hmcts.reform.idam.client.IdamClient;
 import uk.gov.hmcts.reform.prd.client.OrganisationApi;
 import uk.gov.hmcts.reform.prd.model.Organisation;
 import uk.gov.hmcts.reform.unspec.config.PrdAdminUserConfiguration;
@@ -21,8 +20,8 @@ public class OrganisationService {
 
     private final OrganisationApi organisationApi;
     private final AuthTokenGenerator authTokenGenerator;
-    private final IdamClient idamClient;
     private final PrdAdminUserConfiguration userConfig;
+    private final UserTokenCache userTokenCache;
 
     public Optional<Organisation> findOrganisation(String authToken) {
         try {
@@ -35,9 +34,10 @@ public class OrganisationService {
     }
 
     public Optional<Organisation> findOrganisationById(String id) {
-        String authToken = idamClient.getAccessToken(userConfig.getUsername(), userConfig.getPassword());
         try {
-            return ofNullable(organisationApi.findOrganisationById(authToken, authTokenGenerator.generate(), id));
+            return userTokenCache.callAs(userConfig, authToken -> ofNullable(
+                organisationApi.findOrganisationById(authToken, authTokenGenerator.generate(), id)
+            ));
         } catch (FeignException.NotFound ex) {
             log.error("Organisation not found", ex);
             return Optional.empty();
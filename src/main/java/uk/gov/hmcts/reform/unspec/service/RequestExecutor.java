@@ -0,0 +1,161 @@
+package uk.gov.hmcts.reform.unspec.service;
+
+import lombok.extern.slf4j.Slf4j;
+import org.camunda.bpm.client.task.ExternalTask;
+import org.camunda.bpm.client.task.ExternalTaskHandler;
+import org.camunda.bpm.client.task.ExternalTaskService;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.stereotype.Component;
+import uk.gov.hmcts.reform.unspec.config.RequestExecutionConfiguration;
+
+import java.util.Date;
+import java.util.Optional;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import javax.annotation.PreDestroy;
+
+/**
+ * Runs callback requests and external tasks, which mostly block on downstream calls, on the threads of the configured
+ * {@link RequestExecutionConfiguration.Mode}, so their concurrency is not capped by the threads of tomcat and of the
+ * camunda client. In thread per request mode there is no executor and nothing changes.
+ */
+@Slf4j
+@Component
+public class RequestExecutor {
+
+    private final ExecutorService executor;
+
+    public RequestExecutor(RequestExecutionConfiguration configuration) {
+        this.executor = newExecutor(configuration);
+        log.info("Requests and external tasks run in {} mode", configuration.getMode());
+    }
+
+    private static ExecutorService newExecutor(RequestExecutionConfiguration configuration) {
+        switch (configuration.getMode()) {
+            case ELASTIC:
+                // grows a thread per task up to max threads before queueing, and shrinks back when idle; a task
+                // arriving with the queue full is rejected and tomcat closes the connection of a rejected request,
+                // so load beyond max threads and the queue is shed rather than held without bound
+                ThreadPoolExecutor pool = new ThreadPoolExecutor(
+                    configuration.getMaxThreads(),
+                    configuration.getMaxThreads(),
+                    configuration.getKeepAlive().toMillis(),
+                    TimeUnit.MILLISECONDS,
+                    new LinkedBlockingQueue<>(configuration.getQueueCapacity()),
+                    new CustomizableThreadFactory("request-"),
+                    new ThreadPoolExecutor.AbortPolicy()
+                );
+                pool.allowCoreThreadTimeOut(true);
+                return pool;
+            case VIRTUAL:
+                return newVirtualThreadPerTaskExecutor();
+            default:
+                return null;
+        }
+    }
+
+    private static ExecutorService newVirtualThreadPerTaskExecutor() {
+        try {
+            // looked up at run time, as the service is built for Java 11
+            return (ExecutorService) Executors.class.getMethod("newVirtualThreadPerTaskExecutor").invoke(null);
+        } catch (ReflectiveOperationException e) {
+            throw new IllegalStateException("Virtual threads request execution mode needs Java 21 or later", e);
+        }
+    }
+
+    /**
+     * Executor of requests and external tasks, or empty in thread per request mode.
+     */
+    public Optional<Executor> getExecutor() {
+        return Optional.ofNullable(executor);
+    }
+
+    /**
+     * Handler of a topic which runs its tasks on the executor rather than on the camunda client thread, so tasks of
+     * different topics run concurrently. Handlers keep the state of the task they handle, so tasks of a topic still
+     * run one at a time: they are queued and the camunda client thread carries on fetching without waiting for them.
+     *
+     * @param handler handler of the topic
+     * @return the handler run on the executor, or the handler itself in thread per request mode
+     */
+    public ExternalTaskHandler forTopic(ExternalTaskHandler handler) {
+        if (executor == null) {
+            return handler;
+        }
+        return new TopicQueue(handler)::submit;
+    }
+
+    /**
+     * Tasks of a topic waiting to run, run one after another on the executor. A task whose lock expired while it was
+     * queued is skipped, as it may have been fetched again and the engine no longer accepts its completion.
+     * Tasks still queued on shutdown stay locked and are fetched again once their lock expires.
+     */
+    private class TopicQueue {
+
+        private final ExternalTaskHandler handler;
+        private final Queue<Runnable> pending = new ConcurrentLinkedQueue<>();
+        private final AtomicBoolean running = new AtomicBoolean();
+
+        TopicQueue(ExternalTaskHandler handler) {
+            this.handler = handler;
+        }
+
+        void submit(ExternalTask externalTask, ExternalTaskService externalTaskService) {
+            pending.add(() -> run(externalTask, externalTaskService));
+            scheduleNext();
+        }
+
+        private void scheduleNext() {
+            if (pending.isEmpty() || !running.compareAndSet(false, true)) {
+                return;
+            }
+            try {
+                executor.execute(this::runNext);
+            } catch (RejectedExecutionException e) {
+                // the executor is full or shut down, the tasks stay queued until the next task of the topic arrives
+                running.set(false);
+                log.warn("External tasks of topic left queued as the request executor rejected them", e);
+            }
+        }
+
+        private void runNext() {
+            try {
+                Runnable next = pending.poll();
+                if (next != null) {
+                    next.run();
+                }
+            } finally {
+                running.set(false);
+                scheduleNext();
+            }
+        }
+
+        private void run(ExternalTask externalTask, ExternalTaskService externalTaskService) {
+            Date lockExpirationTime = externalTask.getLockExpirationTime();
+            if (lockExpirationTime != null && lockExpirationTime.before(new Date())) {
+                log.warn(
+                    "External task '{}' of topic '{}' skipped, its lock expired while queued",
+                    externalTask.getId(),
+                    externalTask.getTopicName()
+                );
+                return;
+            }
+            handler.execute(externalTask, externalTaskService);
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        if (executor != null) {
+            executor.shutdown();
+        }
+    }
+}
@@ -0,0 +1,112 @@
+package uk.gov.hmcts.reform.unspec.service;
+
+import feign.FeignException;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import uk.gov.hmcts.reform.idam.client.IdamClient;
+import uk.gov.hmcts.reform.unspec.config.SystemUpdateUserConfiguration;
+import uk.gov.hmcts.reform.unspec.service.data.UserAuthContent;
+
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Function;
+
+/**
+ * Hands out the access token and uid of the system update user, instead of a password grant and a user info call to
+ * IDAM for every CCD call. The token is kept by the {@link UserTokenCache}; the uid of the user never changes, so it
+ * is requested once.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class SystemUpdateUserTokenBroker implements MeterBinder {
+
+    private final IdamClient idamClient;
+    private final SystemUpdateUserConfiguration userConfig;
+    private final UserTokenCache userTokenCache;
+
+    private final Object userIdLock = new Object();
+    private final LongAdder callsMade = new LongAdder();
+    private final LongAdder callsSaved = new LongAdder();
+    private volatile String userId;
+
+    /**
+     * Access token and uid of the system update user.
+     */
+    public UserAuthContent getSystemUpdateUser() {
+        String userToken = getAccessToken();
+        return UserAuthContent.builder().userToken(userToken).userId(getUserId(userToken)).build();
+    }
+
+    /**
+     * Access token of the system update user.
+     */
+    public String getAccessToken() {
+        return userTokenCache.getAccessToken(userConfig);
+    }
+
+    /**
+     * Makes a call as the system update user. When the token is rejected with 401 it is dropped, and the call is made
+     * once more with a new token.
+     */
+    public <T> T callAsSystemUpdateUser(Function<UserAuthContent, T> call) {
+        UserAuthContent user = getSystemUpdateUser();
+        try {
+            return call.apply(user);
+        } catch (FeignException.Unauthorized e) {
+            log.warn("Access token of the system update user was rejected, retrying with a new token");
+            userTokenCache.invalidate(userConfig, user.getUserToken());
+            return call.apply(getSystemUpdateUser());
+        }
+    }
+
+    /**
+     * Makes a call with the access token of the system update user, retried once with a new token as above.
+     */
+    public <T> T callWithAccessToken(Function<String, T> call) {
+        return userTokenCache.callAs(userConfig, call);
+    }
+
+    /**
+     * Drops the cached token and uid, so the next caller requests them again.
+     */
+    public void invalidate() {
+        userTokenCache.invalidate(userConfig);
+        userId = null;
+    }
+
+    private String getUserId(String userToken) {
+        String id = userId;
+        if (id != null) {
+            callsSaved.increment();
+            return id;
+        }
+        synchronized (userIdLock) {
+            if (userId == null) {
+                userId = idamClient.getUserInfo(userToken).getUid();
+                callsMade.increment();
+            } else {
+                callsSaved.increment();
+            }
+            return userId;
+        }
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        bindCounter(registry, "made", callsMade);
+        bindCounter(registry, "saved", callsSaved);
+    }
+
+    private void bindCounter(MeterRegistry registry, String result, LongAdder counter) {
+        FunctionCounter.builder("idam.calls", counter, LongAdder::sum)
+            .description("IDAM calls for the uid of the system update user, made or saved by reusing the cached uid")
+            .tag("user", UserTokenCache.userType(userConfig))
+            .tag("call", "user-info")
+            .tag("result", result)
+            .register(registry);
+    }
+}
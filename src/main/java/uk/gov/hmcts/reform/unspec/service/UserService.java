@@ -1,23 +1,105 @@
 package uk.gov.hmcts.reform.unspec.service;
 
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import com.github.benmanes.caffeine.cache.Ticker;
+import com.nimbusds.jwt.JWTParser;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
 import org.springframework.beans.factory.annotation.Autowired;
-import org.springframework.cache.annotation.Cacheable;
 import org.springframework.stereotype.Service;
 import uk.gov.hmcts.reform.idam.client.IdamClient;
 import uk.gov.hmcts.reform.idam.client.models.UserInfo;
+import uk.gov.hmcts.reform.unspec.config.UserInfoCacheConfiguration;
+
+import java.text.ParseException;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Date;
 
 @Service
-public class UserService {
+public class UserService implements MeterBinder {
+
+    private static final String USER_INFO_CACHE_NAME = "userInfoCache";
+    private static final String BEARER_PREFIX = "Bearer ";
 
     private final IdamClient idamClient;
+    private final UserInfoCacheConfiguration configuration;
+    private final Clock clock;
+
+    /**
+     * User infos keyed by bearer token. An entry expires with its token, so roles are not trusted for longer than
+     * IDAM vouches for them, and the cache is bounded so tokens of many users cannot grow it without limit. Concurrent
+     * first requests with the same token wait for a single user info call.
+     */
+    private final Cache<String, UserInfo> userInfoCache;
 
     @Autowired
-    public UserService(IdamClient idamClient) {
+    public UserService(IdamClient idamClient, UserInfoCacheConfiguration configuration) {
+        this(idamClient, configuration, Clock.systemUTC(), Ticker.systemTicker());
+    }
+
+    UserService(IdamClient idamClient, UserInfoCacheConfiguration configuration, Clock clock, Ticker ticker) {
         this.idamClient = idamClient;
+        this.configuration = configuration;
+        this.clock = clock;
+        this.userInfoCache = Caffeine.newBuilder()
+            .maximumSize(configuration.getMaximumSize())
+            .expireAfter(new TokenExpiry())
+            .ticker(ticker)
+            .recordStats()
+            .build();
     }
 
-    @Cacheable(value = "userInfoCache")
     public UserInfo getUserInfo(String bearerToken) {
-        return idamClient.getUserInfo(bearerToken);
+        return userInfoCache.get(bearerToken, idamClient::getUserInfo);
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        CaffeineCacheMetrics.monitor(registry, userInfoCache, USER_INFO_CACHE_NAME);
+    }
+
+    /**
+     * Lifetime left of the token as stated by the token itself, capped by the configured maximum lifetime. The token
+     * is not verified here, it is only used to expire what IDAM returned for it.
+     */
+    private Duration lifetimeOf(String bearerToken) {
+        Duration maximumLifetime = configuration.getMaximumLifetime();
+        String jwt = bearerToken.startsWith(BEARER_PREFIX) ? bearerToken.substring(BEARER_PREFIX.length()) : bearerToken;
+        try {
+            Date expirationTime = JWTParser.parse(jwt).getJWTClaimsSet().getExpirationTime();
+            if (expirationTime == null) {
+                return maximumLifetime;
+            }
+            Duration lifetime = Duration.between(Instant.now(clock), expirationTime.toInstant());
+            if (lifetime.isNegative()) {
+                return Duration.ZERO;
+            }
+            return lifetime.compareTo(maximumLifetime) < 0 ? lifetime : maximumLifetime;
+        } catch (ParseException e) {
+            return maximumLifetime;
+        }
+    }
+
+    private class TokenExpiry implements Expiry<String, UserInfo> {
+
+        @Override
+        public long expireAfterCreate(String bearerToken, UserInfo userInfo, long currentTime) {
+            return lifetimeOf(bearerToken).toNanos();
+        }
+
+        @Override
+        public long expireAfterUpdate(String bearerToken, UserInfo userInfo, long currentTime, long currentDuration) {
+            return currentDuration;
+        }
+
+        @Override
+        public long expireAfterRead(String bearerToken, UserInfo userInfo, long currentTime, long currentDuration) {
+            return currentDuration;
+        }
     }
 }
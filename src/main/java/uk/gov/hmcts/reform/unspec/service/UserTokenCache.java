@@ -0,0 +1,257 @@
+package uk.gov.hmcts.reform.unspec.service;
+
+import com.nimbusds.jwt.JWTParser;
+import feign.FeignException;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.stereotype.Service;
+import org.springframework.util.ClassUtils;
+import uk.gov.hmcts.reform.idam.client.IdamClient;
+import uk.gov.hmcts.reform.unspec.config.TokenCacheConfiguration;
+import uk.gov.hmcts.reform.unspec.config.UserCredentials;
+
+import java.text.ParseException;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Date;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Function;
+import javax.annotation.PreDestroy;
+
+/**
+ * Access tokens of the users the service acts as, keyed by their {@link UserCredentials} configuration, so IDAM is
+ * asked for a token by password grant once per token lifetime rather than on every call made as the user.
+ * <ul>
+ *     <li>A token is handed out until shortly before the expiry stated by its JWT.</li>
+ *     <li>Tokens are refreshed in the background before they expire, at a jittered time so tokens of the users, and
+ *     of the pods of the service, are not all refreshed at once.</li>
+ *     <li>Concurrent callers finding no valid token of a user wait for a single password grant.</li>
+ *     <li>A token rejected with 401 is dropped and the call is retried once with a new token.</li>
+ * </ul>
+ */
+@Slf4j
+@Service
+public class UserTokenCache implements MeterBinder {
+
+    private static final String BEARER_PREFIX = "Bearer ";
+
+    private final IdamClient idamClient;
+    private final TokenCacheConfiguration configuration;
+    private final Clock clock;
+    private final ScheduledExecutorService refresher;
+    private final ConcurrentMap<UserCredentials, UserTokens> users = new ConcurrentHashMap<>();
+    private volatile MeterRegistry registry;
+
+    @Autowired
+    public UserTokenCache(IdamClient idamClient, TokenCacheConfiguration configuration) {
+        this(idamClient, configuration, Clock.systemUTC());
+    }
+
+    UserTokenCache(IdamClient idamClient, TokenCacheConfiguration configuration, Clock clock) {
+        this.idamClient = idamClient;
+        this.configuration = configuration;
+        this.clock = clock;
+        CustomizableThreadFactory threadFactory = new CustomizableThreadFactory("user-token-refresh-");
+        threadFactory.setDaemon(true);
+        this.refresher = Executors.newSingleThreadScheduledExecutor(threadFactory);
+        long interval = configuration.getRefreshInterval().toMillis();
+        this.refresher.scheduleWithFixedDelay(this::refreshDueTokens, interval, interval, TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * Access token of the user, cached or else requested from IDAM.
+     */
+    public String getAccessToken(UserCredentials user) {
+        UserTokens tokens = tokensOf(user);
+        CachedToken token = tokens.current;
+        if (token != null && token.isUsableAt(clock.instant())) {
+            tokens.callsSaved.increment();
+            return token.value;
+        }
+        return refresh(user, tokens, token, true).value;
+    }
+
+    /**
+     * Makes a call with an access token of the user. When the token is rejected with 401 it is dropped, and the call
+     * is made once more with a new token.
+     *
+     * @param user credentials of the user
+     * @param call call made with the access token of the user
+     * @return the result of the call
+     */
+    public <T> T callAs(UserCredentials user, Function<String, T> call) {
+        String token = getAccessToken(user);
+        try {
+            return call.apply(token);
+        } catch (FeignException.Unauthorized e) {
+            log.warn("Access token of {} was rejected, retrying with a new token", userType(user));
+            invalidate(user, token);
+            return call.apply(getAccessToken(user));
+        }
+    }
+
+    /**
+     * Drops the token of the user if it is still the cached one, so the next caller requests a new token.
+     */
+    public void invalidate(UserCredentials user, String token) {
+        UserTokens tokens = tokensOf(user);
+        synchronized (tokens) {
+            if (tokens.current != null && tokens.current.value.equals(token)) {
+                tokens.current = null;
+            }
+        }
+    }
+
+    /**
+     * Drops the token of the user, so the next caller requests a new token.
+     */
+    public void invalidate(UserCredentials user) {
+        tokensOf(user).current = null;
+    }
+
+    private UserTokens tokensOf(UserCredentials user) {
+        return users.computeIfAbsent(user, key -> {
+            UserTokens tokens = new UserTokens(userType(key));
+            if (registry != null) {
+                tokens.bindTo(registry);
+            }
+            return tokens;
+        });
+    }
+
+    /**
+     * Requests a new token unless another thread replaced the stale one while this one waited.
+     */
+    private CachedToken refresh(UserCredentials user, UserTokens tokens, CachedToken stale, boolean countSaved) {
+        synchronized (tokens) {
+            CachedToken token = tokens.current;
+            if (token != stale && token != null && token.isUsableAt(clock.instant())) {
+                if (countSaved) {
+                    tokens.callsSaved.increment();
+                }
+                return token;
+            }
+            String value = idamClient.getAccessToken(user.getUserName(), user.getPassword());
+            tokens.callsMade.increment();
+            if (value == null) {
+                // nothing to cache, the next caller asks IDAM again
+                return new CachedToken(null, clock.instant(), clock.instant());
+            }
+            Instant expiresAt = expiryOf(value);
+            token = new CachedToken(
+                value,
+                expiresAt.minus(configuration.getRefreshBeforeExpiry()).minus(jitter()),
+                expiresAt.minus(configuration.getExpiryMargin())
+            );
+            tokens.current = token;
+            return token;
+        }
+    }
+
+    private Duration jitter() {
+        long bound = configuration.getRefreshJitter().toMillis();
+        return bound > 0 ? Duration.ofMillis(ThreadLocalRandom.current().nextLong(bound)) : Duration.ZERO;
+    }
+
+    private void refreshDueTokens() {
+        users.forEach((user, tokens) -> {
+            CachedToken token = tokens.current;
+            if (token == null || clock.instant().isBefore(token.refreshAt)) {
+                return;
+            }
+            try {
+                refresh(user, tokens, token, false);
+            } catch (RuntimeException e) {
+                log.warn("Background refresh of the access token of {} failed", tokens.userType, e);
+            }
+        });
+    }
+
+    /**
+     * Expiry of the token as stated by the token itself, which is not verified as it was just issued by IDAM.
+     */
+    private Instant expiryOf(String userToken) {
+        String jwt = userToken.startsWith(BEARER_PREFIX) ? userToken.substring(BEARER_PREFIX.length()) : userToken;
+        try {
+            Date expirationTime = JWTParser.parse(jwt).getJWTClaimsSet().getExpirationTime();
+            if (expirationTime != null) {
+                return expirationTime.toInstant();
+            }
+        } catch (ParseException e) {
+            log.warn("Expiry of an access token cannot be read, assuming {}", configuration.getDefaultLifetime());
+        }
+        return clock.instant().plus(configuration.getDefaultLifetime());
+    }
+
+    /**
+     * Name of the user for logs and metrics, such as SystemUpdateUser for {@code SystemUpdateUserConfiguration}.
+     */
+    static String userType(UserCredentials user) {
+        return ClassUtils.getUserClass(user).getSimpleName().replace("Configuration", "");
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        this.registry = registry;
+        users.values().forEach(tokens -> tokens.bindTo(registry));
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        refresher.shutdownNow();
+    }
+
+    private static final class UserTokens {
+
+        private final String userType;
+        private final LongAdder callsMade = new LongAdder();
+        private final LongAdder callsSaved = new LongAdder();
+        private volatile CachedToken current;
+
+        private UserTokens(String userType) {
+            this.userType = userType;
+        }
+
+        private void bindTo(MeterRegistry registry) {
+            bindCounter(registry, "made", callsMade);
+            bindCounter(registry, "saved", callsSaved);
+        }
+
+        private void bindCounter(MeterRegistry registry, String result, LongAdder counter) {
+            FunctionCounter.builder("idam.calls", counter, LongAdder::sum)
+                .description("IDAM calls for the access token of a user, made or saved by reusing a cached token")
+                .tag("user", userType)
+                .tag("call", "token")
+                .tag("result", result)
+                .register(registry);
+        }
+    }
+
+    private static final class CachedToken {
+
+        private final String value;
+        private final Instant refreshAt;
+        private final Instant usableUntil;
+
+        private CachedToken(String value, Instant refreshAt, Instant usableUntil) {
+            this.value = value;
+            this.refreshAt = refreshAt;
+            this.usableUntil = usableUntil;
+        }
+
+        private boolean isUsableAt(Instant instant) {
+            return instant.isBefore(usableUntil);
+        }
+    }
+}
@@ -1,5 +1,6 @@
 package uk.gov.hmcts.reform.unspec.service.docmosis;
 
+import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -14,6 +15,7 @@ import uk.gov.hmcts.reform.unspec.config.DocmosisConfiguration;
 import uk.gov.hmcts.reform.unspec.model.common.MappableObject;
 import uk.gov.hmcts.reform.unspec.model.docmosis.DocmosisDocument;
 import uk.gov.hmcts.reform.unspec.model.docmosis.DocmosisRequest;
+import uk.gov.hmcts.reform.unspec.model.docmosis.DocmosisTemplateData;
 
 import java.util.Map;
 
@@ -27,11 +29,27 @@ public class DocumentGeneratorService {
     private final DocmosisConfiguration configuration;
     private final ObjectMapper mapper;
 
+    /**
+     * Template data is serialised once, with the mapper of the service, and embedded in the request as is rather than
+     * being converted to a map and serialised again.
+     */
     public DocmosisDocument generateDocmosisDocument(MappableObject templateData, DocmosisTemplates template) {
-        return generateDocmosisDocument(templateData.toMap(mapper), template);
+        return generateDocmosisDocument(serialise(templateData), template);
     }
 
     public DocmosisDocument generateDocmosisDocument(Map<String, Object> templateData, DocmosisTemplates template) {
+        return generateDocmosisDocument(serialise(templateData), template);
+    }
+
+    private DocmosisTemplateData serialise(Object templateData) {
+        try {
+            return DocmosisTemplateData.of(mapper.writeValueAsString(templateData));
+        } catch (JsonProcessingException e) {
+            throw new IllegalArgumentException(e.getMessage(), e);
+        }
+    }
+
+    private DocmosisDocument generateDocmosisDocument(DocmosisTemplateData templateData, DocmosisTemplates template) {
         HttpHeaders headers = new HttpHeaders();
         headers.setContentType(MediaType.APPLICATION_JSON);
 
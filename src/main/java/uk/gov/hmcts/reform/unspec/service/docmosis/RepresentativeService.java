@@ -11,7 +11,6 @@ import static java.util.Optional.ofNullable;
 import static uk.gov.hmcts.reform.unspec.model.docmosis.sealedclaim.Representative.fromOrganisation;
 import static uk.gov.hmcts.reform.unspec.service.flowstate.FlowState.Main.PENDING_CLAIM_ISSUED_UNREGISTERED_DEFENDANT;
 import static uk.gov.hmcts.reform.unspec.service.flowstate.FlowState.Main.PENDING_CLAIM_ISSUED_UNREPRESENTED_DEFENDANT;
-import static uk.gov.hmcts.reform.unspec.service.flowstate.FlowState.fromFullName;
 
 @Service
 @RequiredArgsConstructor
@@ -35,7 +34,7 @@ public class RepresentativeService {
     }
 
     private boolean organisationPicked(CaseData caseData) {
-        var flowState = fromFullName(stateFlowEngine.evaluate(caseData).getState().getName());
+        var flowState = stateFlowEngine.getFlowState(caseData);
         return flowState != PENDING_CLAIM_ISSUED_UNREPRESENTED_DEFENDANT
             && flowState != PENDING_CLAIM_ISSUED_UNREGISTERED_DEFENDANT;
     }
@@ -0,0 +1,78 @@
+package uk.gov.hmcts.reform.unspec.service.flowstate;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import uk.gov.hmcts.reform.unspec.model.CaseData;
+import uk.gov.hmcts.reform.unspec.stateflow.StateFlow;
+import uk.gov.hmcts.reform.unspec.stateflow.exception.StateFlowException;
+
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.BiConsumer;
+import java.util.stream.Stream;
+
+/**
+ * Evaluates the flow state of large sets of cases in parallel on a dedicated {@link ForkJoinPool}.
+ * Cases are consumed from the stream as they are evaluated and only per-state counts are kept, so memory use does
+ * not grow with the number of cases. Evaluations bypass the per-request cache of {@link StateFlowEngine}.
+ * A case whose flow is ambiguous is counted as such rather than failing the evaluation of the other cases.
+ */
+@Service
+@RequiredArgsConstructor
+public class BulkFlowStateEvaluator {
+
+    private final StateFlowEngine stateFlowEngine;
+    private final ForkJoinPool flowStateEvaluationPool;
+
+    public FlowStateCounts evaluateAll(Stream<CaseData> cases) {
+        return evaluateAll(cases, (caseData, stateFlow) -> { });
+    }
+
+    /**
+     * Evaluates every case of the stream.
+     *
+     * @param cases          cases to evaluate, consumed in parallel
+     * @param resultConsumer receives each case with its evaluation as soon as it is evaluated, from many threads,
+     *                       including evaluations in error because the flow of the case is ambiguous
+     * @return number of cases in each flow state, only states reached by at least one case are present, and number
+     *     of cases whose flow is ambiguous
+     */
+    public FlowStateCounts evaluateAll(Stream<CaseData> cases, BiConsumer<CaseData, StateFlow> resultConsumer) {
+        Map<FlowState.Main, LongAdder> counts = new EnumMap<>(FlowState.Main.class);
+        for (FlowState.Main flowState : FlowState.Main.values()) {
+            counts.put(flowState, new LongAdder());
+        }
+        LongAdder ambiguous = new LongAdder();
+
+        try {
+            flowStateEvaluationPool.submit(() -> cases.parallel().forEach(caseData -> {
+                StateFlow stateFlow = stateFlowEngine.evaluateFrom(caseData.getFlowStateSnapshot(), caseData);
+                if (stateFlow.hasError()) {
+                    ambiguous.increment();
+                } else {
+                    counts.get(stateFlowEngine.getFlowState(stateFlow)).increment();
+                }
+                resultConsumer.accept(caseData, stateFlow);
+            })).get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new StateFlowException("Interrupted while evaluating cases", e);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException) {
+                throw (RuntimeException) e.getCause();
+            }
+            throw new StateFlowException("Failed to evaluate cases", e.getCause());
+        }
+
+        Map<FlowState.Main, Long> result = new EnumMap<>(FlowState.Main.class);
+        counts.forEach((flowState, count) -> {
+            if (count.sum() > 0) {
+                result.put(flowState, count.sum());
+            }
+        });
+        return new FlowStateCounts(result, ambiguous.sum());
+    }
+}
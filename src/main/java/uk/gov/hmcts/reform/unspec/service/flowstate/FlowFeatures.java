@@ -0,0 +1,149 @@
+package uk.gov.hmcts.reform.unspec.service.flowstate;
+
+import uk.gov.hmcts.reform.unspec.model.CaseData;
+import uk.gov.hmcts.reform.unspec.model.PaymentDetails;
+
+import java.time.LocalDateTime;
+import java.util.Set;
+import java.util.function.ToIntFunction;
+
+import static uk.gov.hmcts.reform.unspec.enums.PaymentStatus.FAILED;
+import static uk.gov.hmcts.reform.unspec.enums.RespondentResponseType.COUNTER_CLAIM;
+import static uk.gov.hmcts.reform.unspec.enums.RespondentResponseType.FULL_ADMISSION;
+import static uk.gov.hmcts.reform.unspec.enums.RespondentResponseType.FULL_DEFENCE;
+import static uk.gov.hmcts.reform.unspec.enums.RespondentResponseType.PART_ADMISSION;
+import static uk.gov.hmcts.reform.unspec.enums.YesOrNo.NO;
+import static uk.gov.hmcts.reform.unspec.enums.YesOrNo.YES;
+
+/**
+ * Bitmask encoding of the facts about a case which {@link FlowPredicate} conditions depend on.
+ * Each case is encoded once per flow evaluation; deadlines are compared against a single point in time.
+ */
+public class FlowFeatures {
+
+    public static final int SUBMITTED = 1;
+    public static final int PAYMENT_SUCCESSFUL = 1 << 1;
+    public static final int PAYMENT_FAILED = 1 << 2;
+    public static final int CLAIM_ISSUED_PAYMENT_FAILED = 1 << 3;
+    public static final int ISSUED = 1 << 4;
+    public static final int RESPONDENT1_REPRESENTED = 1 << 5;
+    public static final int RESPONDENT1_NOT_REPRESENTED = 1 << 6;
+    public static final int RESPONDENT1_ORG_REGISTERED = 1 << 7;
+    public static final int RESPONDENT1_ORG_NOT_REGISTERED = 1 << 8;
+    public static final int CLAIM_NOTIFIED = 1 << 9;
+    public static final int CLAIM_NOTIFICATION_DEADLINE = 1 << 10;
+    public static final int CLAIM_NOTIFICATION_DEADLINE_PASSED = 1 << 11;
+    public static final int CLAIM_NOTIFICATION_DEADLINE_AHEAD = 1 << 12;
+    public static final int CLAIM_DETAILS_NOTIFIED = 1 << 13;
+    public static final int CLAIM_DETAILS_NOTIFICATION_DEADLINE_PASSED = 1 << 14;
+    public static final int CLAIM_DETAILS_NOTIFICATION_DEADLINE_AHEAD = 1 << 15;
+    public static final int RESPONDENT1_TIME_EXTENSION = 1 << 16;
+    public static final int RESPONDENT1_ACKNOWLEDGED = 1 << 17;
+    public static final int RESPONDENT1_RESPONDED = 1 << 18;
+    public static final int RESPONSE_FULL_DEFENCE = 1 << 19;
+    public static final int RESPONSE_FULL_ADMISSION = 1 << 20;
+    public static final int RESPONSE_PART_ADMISSION = 1 << 21;
+    public static final int RESPONSE_COUNTER_CLAIM = 1 << 22;
+    public static final int RESPONSE_INTENTION = 1 << 23;
+    public static final int APPLICANT1_PROCEED = 1 << 24;
+    public static final int APPLICANT1_NOT_PROCEED = 1 << 25;
+    public static final int TAKEN_OFFLINE = 1 << 26;
+    public static final int TAKEN_OFFLINE_BY_STAFF = 1 << 27;
+    public static final int CLAIM_DISMISSED = 1 << 28;
+    public static final int APPLICANT1_RESPONSE_DEADLINE_PASSED = 1 << 29;
+
+    public static final ToIntFunction<CaseData> ENCODER = FlowFeatures::encode;
+
+    /**
+     * Keys of the CCD case data holding the CaseData fields read by {@link #encode(CaseData)}, so a case can be
+     * evaluated by binding only these keys rather than the whole case.
+     */
+    public static final Set<String> CASE_DATA_FIELDS = Set.of(
+        "submittedDate",
+        "paymentSuccessfulDate",
+        "paymentDetails",
+        "claimIssuedPaymentDetails",
+        "issueDate",
+        "respondent1Represented",
+        "respondent1OrgRegistered",
+        "claimNotificationDate",
+        "claimNotificationDeadline",
+        "claimDetailsNotificationDate",
+        "claimDetailsNotificationDeadline",
+        "respondent1TimeExtensionDate",
+        "respondent1AcknowledgeNotificationDate",
+        "respondent1ResponseDate",
+        "respondent1ClaimResponseType",
+        "respondent1ClaimResponseIntentionType",
+        "applicant1ProceedWithClaim",
+        "takenOfflineDate",
+        "takenOfflineByStaffDate",
+        "claimDismissedDate",
+        "applicant1ResponseDeadline"
+    );
+
+    private FlowFeatures() {
+        //Utility class
+    }
+
+    public static int encode(CaseData caseData) {
+        LocalDateTime now = LocalDateTime.now();
+        int features = 0;
+        features |= flag(caseData.getSubmittedDate() != null, SUBMITTED);
+        features |= flag(caseData.getPaymentSuccessfulDate() != null, PAYMENT_SUCCESSFUL);
+        features |= flag(isFailed(caseData.getPaymentDetails()), PAYMENT_FAILED);
+        features |= flag(isFailed(caseData.getClaimIssuedPaymentDetails()), CLAIM_ISSUED_PAYMENT_FAILED);
+        features |= flag(caseData.getIssueDate() != null, ISSUED);
+        features |= flag(caseData.getRespondent1Represented() == YES, RESPONDENT1_REPRESENTED);
+        features |= flag(caseData.getRespondent1Represented() == NO, RESPONDENT1_NOT_REPRESENTED);
+        features |= flag(caseData.getRespondent1OrgRegistered() == YES, RESPONDENT1_ORG_REGISTERED);
+        features |= flag(caseData.getRespondent1OrgRegistered() == NO, RESPONDENT1_ORG_NOT_REGISTERED);
+        features |= flag(caseData.getClaimNotificationDate() != null, CLAIM_NOTIFIED);
+        features |= flag(caseData.getClaimNotificationDeadline() != null, CLAIM_NOTIFICATION_DEADLINE);
+        features |= flag(isBefore(caseData.getClaimNotificationDeadline(), now), CLAIM_NOTIFICATION_DEADLINE_PASSED);
+        features |= flag(isAfter(caseData.getClaimNotificationDeadline(), now), CLAIM_NOTIFICATION_DEADLINE_AHEAD);
+        features |= flag(caseData.getClaimDetailsNotificationDate() != null, CLAIM_DETAILS_NOTIFIED);
+        features |= flag(
+            isBefore(caseData.getClaimDetailsNotificationDeadline(), now),
+            CLAIM_DETAILS_NOTIFICATION_DEADLINE_PASSED
+        );
+        features |= flag(
+            isAfter(caseData.getClaimDetailsNotificationDeadline(), now),
+            CLAIM_DETAILS_NOTIFICATION_DEADLINE_AHEAD
+        );
+        features |= flag(caseData.getRespondent1TimeExtensionDate() != null, RESPONDENT1_TIME_EXTENSION);
+        features |= flag(caseData.getRespondent1AcknowledgeNotificationDate() != null, RESPONDENT1_ACKNOWLEDGED);
+        features |= flag(caseData.getRespondent1ResponseDate() != null, RESPONDENT1_RESPONDED);
+        features |= flag(caseData.getRespondent1ClaimResponseType() == FULL_DEFENCE, RESPONSE_FULL_DEFENCE);
+        features |= flag(caseData.getRespondent1ClaimResponseType() == FULL_ADMISSION, RESPONSE_FULL_ADMISSION);
+        features |= flag(caseData.getRespondent1ClaimResponseType() == PART_ADMISSION, RESPONSE_PART_ADMISSION);
+        features |= flag(caseData.getRespondent1ClaimResponseType() == COUNTER_CLAIM, RESPONSE_COUNTER_CLAIM);
+        features |= flag(caseData.getRespondent1ClaimResponseIntentionType() != null, RESPONSE_INTENTION);
+        features |= flag(caseData.getApplicant1ProceedWithClaim() == YES, APPLICANT1_PROCEED);
+        features |= flag(caseData.getApplicant1ProceedWithClaim() == NO, APPLICANT1_NOT_PROCEED);
+        features |= flag(caseData.getTakenOfflineDate() != null, TAKEN_OFFLINE);
+        features |= flag(caseData.getTakenOfflineByStaffDate() != null, TAKEN_OFFLINE_BY_STAFF);
+        features |= flag(caseData.getClaimDismissedDate() != null, CLAIM_DISMISSED);
+        features |= flag(
+            isBefore(caseData.getApplicant1ResponseDeadline(), now),
+            APPLICANT1_RESPONSE_DEADLINE_PASSED
+        );
+        return features;
+    }
+
+    private static int flag(boolean condition, int feature) {
+        return condition ? feature : 0;
+    }
+
+    private static boolean isFailed(PaymentDetails paymentDetails) {
+        return paymentDetails != null && paymentDetails.getStatus() == FAILED;
+    }
+
+    private static boolean isBefore(LocalDateTime deadline, LocalDateTime now) {
+        return deadline != null && deadline.isBefore(now);
+    }
+
+    private static boolean isAfter(LocalDateTime deadline, LocalDateTime now) {
+        return deadline != null && deadline.isAfter(now);
+    }
+}
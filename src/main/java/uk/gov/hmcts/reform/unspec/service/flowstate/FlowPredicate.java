@@ -1,221 +1,201 @@
 package uk.gov.hmcts.reform.unspec.service.flowstate;
 
-import uk.gov.hmcts.reform.unspec.model.CaseData;
+import uk.gov.hmcts.reform.unspec.stateflow.FeaturePredicate;
+
+import static uk.gov.hmcts.reform.unspec.service.flowstate.FlowFeatures.APPLICANT1_NOT_PROCEED;
+import static uk.gov.hmcts.reform.unspec.service.flowstate.FlowFeatures.APPLICANT1_PROCEED;
+import static uk.gov.hmcts.reform.unspec.service.flowstate.FlowFeatures.APPLICANT1_RESPONSE_DEADLINE_PASSED;
+import static uk.gov.hmcts.reform.unspec.service.flowstate.FlowFeatures.CLAIM_DETAILS_NOTIFICATION_DEADLINE_AHEAD;
+import static uk.gov.hmcts.reform.unspec.service.flowstate.FlowFeatures.CLAIM_DETAILS_NOTIFICATION_DEADLINE_PASSED;
+import static uk.gov.hmcts.reform.unspec.service.flowstate.FlowFeatures.CLAIM_DETAILS_NOTIFIED;
+import static uk.gov.hmcts.reform.unspec.service.flowstate.FlowFeatures.CLAIM_DISMISSED;
+import static uk.gov.hmcts.reform.unspec.service.flowstate.FlowFeatures.CLAIM_ISSUED_PAYMENT_FAILED;
+import static uk.gov.hmcts.reform.unspec.service.flowstate.FlowFeatures.CLAIM_NOTIFICATION_DEADLINE;
+import static uk.gov.hmcts.reform.unspec.service.flowstate.FlowFeatures.CLAIM_NOTIFICATION_DEADLINE_AHEAD;
+import static uk.gov.hmcts.reform.unspec.service.flowstate.FlowFeatures.CLAIM_NOTIFICATION_DEADLINE_PASSED;
+import static uk.gov.hmcts.reform.unspec.service.flowstate.FlowFeatures.CLAIM_NOTIFIED;
+import static uk.gov.hmcts.reform.unspec.service.flowstate.FlowFeatures.ENCODER;
+import static uk.gov.hmcts.reform.unspec.service.flowstate.FlowFeatures.ISSUED;
+import static uk.gov.hmcts.reform.unspec.service.flowstate.FlowFeatures.PAYMENT_FAILED;
+import static uk.gov.hmcts.reform.unspec.service.flowstate.FlowFeatures.PAYMENT_SUCCESSFUL;
+import static uk.gov.hmcts.reform.unspec.service.flowstate.FlowFeatures.RESPONDENT1_ACKNOWLEDGED;
+import static uk.gov.hmcts.reform.unspec.service.flowstate.FlowFeatures.RESPONDENT1_NOT_REPRESENTED;
+import static uk.gov.hmcts.reform.unspec.service.flowstate.FlowFeatures.RESPONDENT1_ORG_NOT_REGISTERED;
+import static uk.gov.hmcts.reform.unspec.service.flowstate.FlowFeatures.RESPONDENT1_ORG_REGISTERED;
+import static uk.gov.hmcts.reform.unspec.service.flowstate.FlowFeatures.RESPONDENT1_REPRESENTED;
+import static uk.gov.hmcts.reform.unspec.service.flowstate.FlowFeatures.RESPONDENT1_RESPONDED;
+import static uk.gov.hmcts.reform.unspec.service.flowstate.FlowFeatures.RESPONDENT1_TIME_EXTENSION;
+import static uk.gov.hmcts.reform.unspec.service.flowstate.FlowFeatures.RESPONSE_COUNTER_CLAIM;
+import static uk.gov.hmcts.reform.unspec.service.flowstate.FlowFeatures.RESPONSE_FULL_ADMISSION;
+import static uk.gov.hmcts.reform.unspec.service.flowstate.FlowFeatures.RESPONSE_FULL_DEFENCE;
+import static uk.gov.hmcts.reform.unspec.service.flowstate.FlowFeatures.RESPONSE_INTENTION;
+import static uk.gov.hmcts.reform.unspec.service.flowstate.FlowFeatures.RESPONSE_PART_ADMISSION;
+import static uk.gov.hmcts.reform.unspec.service.flowstate.FlowFeatures.SUBMITTED;
+import static uk.gov.hmcts.reform.unspec.service.flowstate.FlowFeatures.TAKEN_OFFLINE;
+import static uk.gov.hmcts.reform.unspec.service.flowstate.FlowFeatures.TAKEN_OFFLINE_BY_STAFF;
+
+/**
+ * Conditions on the transitions of the main flow, expressed over the {@link FlowFeatures} of a case.
+ */
+public class FlowPredicate {
 
-import java.time.LocalDateTime;
-import java.util.function.Predicate;
+    public static final FeaturePredicate claimSubmitted = when(SUBMITTED);
 
-import static uk.gov.hmcts.reform.unspec.enums.PaymentStatus.FAILED;
-import static uk.gov.hmcts.reform.unspec.enums.RespondentResponseType.COUNTER_CLAIM;
-import static uk.gov.hmcts.reform.unspec.enums.RespondentResponseType.FULL_ADMISSION;
-import static uk.gov.hmcts.reform.unspec.enums.RespondentResponseType.FULL_DEFENCE;
-import static uk.gov.hmcts.reform.unspec.enums.RespondentResponseType.PART_ADMISSION;
-import static uk.gov.hmcts.reform.unspec.enums.YesOrNo.NO;
-import static uk.gov.hmcts.reform.unspec.enums.YesOrNo.YES;
+    public static final FeaturePredicate respondent1NotRepresented = when(ISSUED | RESPONDENT1_NOT_REPRESENTED);
 
-public class FlowPredicate {
+    public static final FeaturePredicate respondent1OrgNotRegistered = when(ISSUED | RESPONDENT1_ORG_NOT_REGISTERED);
+
+    public static final FeaturePredicate paymentFailed = when(PAYMENT_FAILED, PAYMENT_SUCCESSFUL)
+        .or(when(CLAIM_ISSUED_PAYMENT_FAILED));
+
+    public static final FeaturePredicate paymentSuccessful = when(PAYMENT_SUCCESSFUL);
+
+    public static final FeaturePredicate pendingClaimIssued =
+        when(ISSUED | RESPONDENT1_REPRESENTED | RESPONDENT1_ORG_REGISTERED);
+
+    public static final FeaturePredicate claimNotified = when(CLAIM_NOTIFIED);
+
+    public static final FeaturePredicate claimIssued = when(CLAIM_NOTIFICATION_DEADLINE);
+
+    public static final FeaturePredicate claimDetailsNotifiedTimeExtension =
+        when(RESPONDENT1_TIME_EXTENSION, RESPONDENT1_ACKNOWLEDGED);
+
+    public static final FeaturePredicate claimDetailsNotified = when(CLAIM_DETAILS_NOTIFIED);
+
+    public static final FeaturePredicate notificationAcknowledged = when(RESPONDENT1_ACKNOWLEDGED);
+
+    public static final FeaturePredicate notificationAcknowledgedTimeExtension =
+        when(RESPONDENT1_TIME_EXTENSION | RESPONDENT1_ACKNOWLEDGED);
+
+    public static final FeaturePredicate fullDefence = response(RESPONSE_FULL_DEFENCE);
+
+    public static final FeaturePredicate fullDefenceAfterNotifyDetails = responseAfterNotifyDetails(
+        RESPONSE_FULL_DEFENCE);
+
+    public static final FeaturePredicate fullDefenceAfterAcknowledge = responseAfterAcknowledge(RESPONSE_FULL_DEFENCE);
+
+    public static final FeaturePredicate fullAdmission = response(RESPONSE_FULL_ADMISSION);
+
+    public static final FeaturePredicate fullAdmissionAfterNotifyDetails = responseAfterNotifyDetails(
+        RESPONSE_FULL_ADMISSION);
+
+    public static final FeaturePredicate fullAdmissionAfterAcknowledge = responseAfterAcknowledge(
+        RESPONSE_FULL_ADMISSION);
+
+    public static final FeaturePredicate partAdmission = response(RESPONSE_PART_ADMISSION);
+
+    public static final FeaturePredicate partAdmissionAfterNotifyDetails = responseAfterNotifyDetails(
+        RESPONSE_PART_ADMISSION);
+
+    public static final FeaturePredicate partAdmissionAfterAcknowledge = responseAfterAcknowledge(
+        RESPONSE_PART_ADMISSION);
+
+    public static final FeaturePredicate counterClaim = response(RESPONSE_COUNTER_CLAIM);
+
+    public static final FeaturePredicate counterClaimAfterNotifyDetails = responseAfterNotifyDetails(
+        RESPONSE_COUNTER_CLAIM);
+
+    public static final FeaturePredicate counterClaimAfterAcknowledge = responseAfterAcknowledge(
+        RESPONSE_COUNTER_CLAIM);
+
+    public static final FeaturePredicate fullDefenceProceed = when(APPLICANT1_PROCEED);
+
+    public static final FeaturePredicate fullDefenceNotProceed = when(APPLICANT1_NOT_PROCEED);
 
-    public static final Predicate<CaseData> claimSubmitted = caseData ->
-        caseData.getSubmittedDate() != null;
-
-    public static final Predicate<CaseData> respondent1NotRepresented = caseData ->
-        caseData.getIssueDate() != null && caseData.getRespondent1Represented() == NO;
-
-    public static final Predicate<CaseData> respondent1OrgNotRegistered = caseData ->
-        caseData.getIssueDate() != null && caseData.getRespondent1OrgRegistered() == NO;
-
-    public static final Predicate<CaseData> paymentFailed = caseData ->
-        caseData.getPaymentSuccessfulDate() == null
-            && (caseData.getPaymentDetails() != null
-            && caseData.getPaymentDetails().getStatus() == FAILED)
-            || (caseData.getClaimIssuedPaymentDetails() != null
-            && caseData.getClaimIssuedPaymentDetails().getStatus() == FAILED);
-
-    public static final Predicate<CaseData> paymentSuccessful = caseData ->
-        caseData.getPaymentSuccessfulDate() != null;
-
-    public static final Predicate<CaseData> pendingClaimIssued = caseData ->
-        caseData.getIssueDate() != null
-            && caseData.getRespondent1Represented() == YES
-            && caseData.getRespondent1OrgRegistered() == YES;
-
-    public static final Predicate<CaseData> claimNotified = caseData ->
-        caseData.getClaimNotificationDate() != null;
-
-    public static final Predicate<CaseData> claimIssued = caseData ->
-        caseData.getClaimNotificationDeadline() != null;
-
-    public static final Predicate<CaseData> claimDetailsNotifiedTimeExtension = caseData ->
-        caseData.getRespondent1TimeExtensionDate() != null
-            && caseData.getRespondent1AcknowledgeNotificationDate() == null;
-
-    public static final Predicate<CaseData> claimDetailsNotified = caseData ->
-        caseData.getClaimDetailsNotificationDate() != null;
-
-    public static final Predicate<CaseData> notificationAcknowledged = caseData ->
-        caseData.getRespondent1AcknowledgeNotificationDate() != null;
-
-    public static final Predicate<CaseData> notificationAcknowledgedTimeExtension = caseData ->
-        caseData.getRespondent1TimeExtensionDate() != null
-            && caseData.getRespondent1AcknowledgeNotificationDate() != null;
-
-    public static final Predicate<CaseData> fullDefence = caseData ->
-        caseData.getRespondent1ResponseDate() != null
-            && caseData.getRespondent1ClaimResponseType() == FULL_DEFENCE;
-
-    public static final Predicate<CaseData> fullDefenceAfterNotifyDetails = caseData ->
-        caseData.getRespondent1ResponseDate() != null
-            && caseData.getRespondent1AcknowledgeNotificationDate() == null
-            && caseData.getRespondent1ClaimResponseType() == FULL_DEFENCE;
-
-    public static final Predicate<CaseData> fullDefenceAfterAcknowledge = caseData ->
-        caseData.getRespondent1ResponseDate() != null
-            && caseData.getRespondent1AcknowledgeNotificationDate() != null
-            && caseData.getRespondent1TimeExtensionDate() == null
-            && caseData.getRespondent1ClaimResponseType() == FULL_DEFENCE;
-
-    public static final Predicate<CaseData> fullAdmission = caseData ->
-        caseData.getRespondent1ResponseDate() != null
-            && caseData.getRespondent1ClaimResponseType() == FULL_ADMISSION;
-
-    public static final Predicate<CaseData> fullAdmissionAfterNotifyDetails = caseData ->
-        caseData.getRespondent1ResponseDate() != null
-            && caseData.getRespondent1AcknowledgeNotificationDate() == null
-            && caseData.getRespondent1ClaimResponseType() == FULL_ADMISSION;
-
-    public static final Predicate<CaseData> fullAdmissionAfterAcknowledge = caseData ->
-        caseData.getRespondent1ResponseDate() != null
-            && caseData.getRespondent1AcknowledgeNotificationDate() != null
-            && caseData.getRespondent1TimeExtensionDate() == null
-            && caseData.getRespondent1ClaimResponseType() == FULL_ADMISSION;
-
-    public static final Predicate<CaseData> partAdmission = caseData ->
-        caseData.getRespondent1ResponseDate() != null
-            && caseData.getRespondent1ClaimResponseType() == PART_ADMISSION;
-
-    public static final Predicate<CaseData> partAdmissionAfterNotifyDetails = caseData ->
-        caseData.getRespondent1ResponseDate() != null
-            && caseData.getRespondent1AcknowledgeNotificationDate() == null
-            && caseData.getRespondent1ClaimResponseType() == PART_ADMISSION;
-
-    public static final Predicate<CaseData> partAdmissionAfterAcknowledge = caseData ->
-        caseData.getRespondent1ResponseDate() != null
-            && caseData.getRespondent1AcknowledgeNotificationDate() != null
-            && caseData.getRespondent1TimeExtensionDate() == null
-            && caseData.getRespondent1ClaimResponseType() == PART_ADMISSION;
-
-    public static final Predicate<CaseData> counterClaim = caseData ->
-        caseData.getRespondent1ResponseDate() != null
-            && caseData.getRespondent1ClaimResponseType() == COUNTER_CLAIM;
-
-    public static final Predicate<CaseData> counterClaimAfterNotifyDetails = caseData ->
-        caseData.getRespondent1ResponseDate() != null
-            && caseData.getRespondent1AcknowledgeNotificationDate() == null
-            && caseData.getRespondent1ClaimResponseType() == COUNTER_CLAIM;
-
-    public static final Predicate<CaseData> counterClaimAfterAcknowledge = caseData ->
-        caseData.getRespondent1ResponseDate() != null
-            && caseData.getRespondent1AcknowledgeNotificationDate() != null
-            && caseData.getRespondent1TimeExtensionDate() == null
-            && caseData.getRespondent1ClaimResponseType() == COUNTER_CLAIM;
-
-    public static final Predicate<CaseData> fullDefenceProceed = caseData ->
-        caseData.getApplicant1ProceedWithClaim() != null
-            && caseData.getApplicant1ProceedWithClaim() == YES;
-
-    public static final Predicate<CaseData> fullDefenceNotProceed = caseData ->
-        caseData.getApplicant1ProceedWithClaim() != null
-            && caseData.getApplicant1ProceedWithClaim() == NO;
-
-    public static final Predicate<CaseData> takenOfflineBySystem = caseData ->
-        caseData.getTakenOfflineDate() != null;
-
-    public static final Predicate<CaseData> takenOfflineByStaff = caseData ->
-        caseData.getTakenOfflineByStaffDate() != null;
-
-    public static final Predicate<CaseData> takenOfflineByStaffAfterClaimIssue = caseData ->
-        caseData.getTakenOfflineByStaffDate() != null
-            && caseData.getClaimNotificationDate() == null
-            && caseData.getClaimDetailsNotificationDate() == null
-            && caseData.getRespondent1AcknowledgeNotificationDate() == null
-            && caseData.getRespondent1ResponseDate() == null
-            && caseData.getClaimNotificationDeadline() != null
-            && caseData.getClaimNotificationDeadline().isAfter(LocalDateTime.now());
-
-    public static final Predicate<CaseData> takenOfflineByStaffAfterClaimNotified = caseData ->
-        caseData.getTakenOfflineByStaffDate() != null
-            && caseData.getClaimDetailsNotificationDate() == null
-            && caseData.getRespondent1AcknowledgeNotificationDate() == null
-            && caseData.getRespondent1ResponseDate() == null
-            && caseData.getClaimDetailsNotificationDeadline() != null
-            && caseData.getClaimDetailsNotificationDeadline().isAfter(LocalDateTime.now());
-
-    public static final Predicate<CaseData> takenOfflineByStaffAfterClaimDetailsNotified = caseData ->
-        caseData.getTakenOfflineByStaffDate() != null
-            && caseData.getRespondent1AcknowledgeNotificationDate() == null
-            && caseData.getRespondent1TimeExtensionDate() == null
-            && caseData.getClaimDismissedDate() == null
-            && caseData.getRespondent1ResponseDate() == null;
-
-    public static final Predicate<CaseData> takenOfflineByStaffAfterClaimDetailsNotifiedExtension = caseData ->
-        caseData.getTakenOfflineByStaffDate() != null
-            && caseData.getRespondent1AcknowledgeNotificationDate() == null
-            && caseData.getRespondent1TimeExtensionDate() != null
-            && caseData.getRespondent1ResponseDate() == null;
-
-    public static final Predicate<CaseData> takenOfflineByStaffAfterNotificationAcknowledgedTimeExtension = caseData ->
-        caseData.getTakenOfflineByStaffDate() != null
-            && caseData.getRespondent1AcknowledgeNotificationDate() != null
-            && caseData.getRespondent1TimeExtensionDate() != null
-            && caseData.getRespondent1ResponseDate() == null;
-
-    public static final Predicate<CaseData> takenOfflineByStaffAfterNotificationAcknowledged = caseData ->
-        caseData.getTakenOfflineByStaffDate() != null
-            && caseData.getRespondent1AcknowledgeNotificationDate() != null
-            && caseData.getRespondent1TimeExtensionDate() == null
-            && caseData.getRespondent1ResponseDate() == null;
-
-    public static final Predicate<CaseData> caseDismissedAfterDetailNotified = caseData ->
-        caseData.getClaimDismissedDate() != null
-            && caseData.getRespondent1AcknowledgeNotificationDate() == null
-            && caseData.getRespondent1TimeExtensionDate() == null
-            && caseData.getRespondent1ClaimResponseIntentionType() == null;
-
-    public static final Predicate<CaseData> caseDismissedAfterDetailNotifiedExtension = caseData ->
-        caseData.getClaimDismissedDate() != null
-            && caseData.getRespondent1AcknowledgeNotificationDate() == null
-            && caseData.getRespondent1TimeExtensionDate() != null
-            && caseData.getRespondent1ClaimResponseIntentionType() == null;
-
-    public static final Predicate<CaseData> caseDismissedAfterClaimAcknowledged = caseData ->
-        caseData.getClaimDismissedDate() != null
-            && caseData.getRespondent1TimeExtensionDate() == null
-            && caseData.getRespondent1AcknowledgeNotificationDate() != null;
-
-    public static final Predicate<CaseData> caseDismissedAfterClaimAcknowledgedExtension = caseData ->
-        caseData.getClaimDismissedDate() != null
-            && caseData.getRespondent1TimeExtensionDate() != null
-            && caseData.getRespondent1AcknowledgeNotificationDate() != null;
-
-    public static final Predicate<CaseData> applicantOutOfTime = caseData ->
-        caseData.getTakenOfflineDate() != null
-            && caseData.getApplicant1ResponseDeadline() != null
-            && caseData.getApplicant1ResponseDeadline().isBefore(LocalDateTime.now());
-
-    public static final Predicate<CaseData> pastClaimNotificationDeadline = caseData ->
-        caseData.getClaimDismissedDate() != null
-            && caseData.getClaimNotificationDeadline() != null
-            && caseData.getClaimNotificationDeadline().isBefore(LocalDateTime.now())
-            && caseData.getClaimNotificationDate() == null;
-
-    public static final Predicate<CaseData> pastClaimDetailsNotificationDeadline = caseData ->
-        caseData.getClaimDetailsNotificationDeadline() != null
-            && caseData.getClaimDetailsNotificationDeadline().isBefore(LocalDateTime.now())
-            && caseData.getClaimDetailsNotificationDate() == null
-            && caseData.getClaimNotificationDate() != null
-            && caseData.getClaimDismissedDate() != null;
+    public static final FeaturePredicate takenOfflineBySystem = when(TAKEN_OFFLINE);
+
+    public static final FeaturePredicate takenOfflineByStaff = when(TAKEN_OFFLINE_BY_STAFF);
+
+    public static final FeaturePredicate takenOfflineByStaffAfterDefendantResponse = when(
+        TAKEN_OFFLINE_BY_STAFF,
+        APPLICANT1_PROCEED | APPLICANT1_NOT_PROCEED
+    );
+
+    public static final FeaturePredicate takenOfflineByStaffAfterClaimIssue = when(
+        TAKEN_OFFLINE_BY_STAFF | CLAIM_NOTIFICATION_DEADLINE_AHEAD,
+        CLAIM_NOTIFIED | CLAIM_DETAILS_NOTIFIED | RESPONDENT1_ACKNOWLEDGED | RESPONDENT1_RESPONDED
+    );
+
+    public static final FeaturePredicate takenOfflineByStaffAfterClaimNotified = when(
+        TAKEN_OFFLINE_BY_STAFF | CLAIM_DETAILS_NOTIFICATION_DEADLINE_AHEAD,
+        CLAIM_DETAILS_NOTIFIED | RESPONDENT1_ACKNOWLEDGED | RESPONDENT1_RESPONDED
+    );
+
+    public static final FeaturePredicate takenOfflineByStaffAfterClaimDetailsNotified = when(
+        TAKEN_OFFLINE_BY_STAFF,
+        RESPONDENT1_ACKNOWLEDGED | RESPONDENT1_TIME_EXTENSION | CLAIM_DISMISSED | RESPONDENT1_RESPONDED
+    );
+
+    public static final FeaturePredicate takenOfflineByStaffAfterClaimDetailsNotifiedExtension = when(
+        TAKEN_OFFLINE_BY_STAFF | RESPONDENT1_TIME_EXTENSION,
+        RESPONDENT1_ACKNOWLEDGED | RESPONDENT1_RESPONDED
+    );
+
+    public static final FeaturePredicate takenOfflineByStaffAfterNotificationAcknowledgedTimeExtension = when(
+        TAKEN_OFFLINE_BY_STAFF | RESPONDENT1_ACKNOWLEDGED | RESPONDENT1_TIME_EXTENSION,
+        RESPONDENT1_RESPONDED
+    );
+
+    public static final FeaturePredicate takenOfflineByStaffAfterNotificationAcknowledged = when(
+        TAKEN_OFFLINE_BY_STAFF | RESPONDENT1_ACKNOWLEDGED,
+        RESPONDENT1_TIME_EXTENSION | RESPONDENT1_RESPONDED
+    );
+
+    public static final FeaturePredicate caseDismissedAfterDetailNotified = when(
+        CLAIM_DISMISSED,
+        RESPONDENT1_ACKNOWLEDGED | RESPONDENT1_TIME_EXTENSION | RESPONSE_INTENTION
+    );
+
+    public static final FeaturePredicate caseDismissedAfterDetailNotifiedExtension = when(
+        CLAIM_DISMISSED | RESPONDENT1_TIME_EXTENSION,
+        RESPONDENT1_ACKNOWLEDGED | RESPONSE_INTENTION
+    );
+
+    public static final FeaturePredicate caseDismissedAfterClaimAcknowledged = when(
+        CLAIM_DISMISSED | RESPONDENT1_ACKNOWLEDGED,
+        RESPONDENT1_TIME_EXTENSION
+    );
+
+    public static final FeaturePredicate caseDismissedAfterClaimAcknowledgedExtension = when(
+        CLAIM_DISMISSED | RESPONDENT1_TIME_EXTENSION | RESPONDENT1_ACKNOWLEDGED
+    );
+
+    public static final FeaturePredicate applicantOutOfTime = when(
+        TAKEN_OFFLINE | APPLICANT1_RESPONSE_DEADLINE_PASSED,
+        APPLICANT1_PROCEED | APPLICANT1_NOT_PROCEED | TAKEN_OFFLINE_BY_STAFF
+    );
+
+    public static final FeaturePredicate pastClaimNotificationDeadline = when(
+        CLAIM_DISMISSED | CLAIM_NOTIFICATION_DEADLINE_PASSED,
+        CLAIM_NOTIFIED
+    );
+
+    public static final FeaturePredicate pastClaimDetailsNotificationDeadline = when(
+        CLAIM_DETAILS_NOTIFICATION_DEADLINE_PASSED | CLAIM_NOTIFIED | CLAIM_DISMISSED,
+        CLAIM_DETAILS_NOTIFIED
+    );
 
     private FlowPredicate() {
         //Utility class
     }
+
+    private static FeaturePredicate when(int required) {
+        return when(required, 0);
+    }
+
+    private static FeaturePredicate when(int required, int excluded) {
+        return FeaturePredicate.of(ENCODER, required, excluded);
+    }
+
+    private static FeaturePredicate response(int responseType) {
+        return when(RESPONDENT1_RESPONDED | responseType);
+    }
+
+    private static FeaturePredicate responseAfterNotifyDetails(int responseType) {
+        return when(RESPONDENT1_RESPONDED | responseType, RESPONDENT1_ACKNOWLEDGED | RESPONDENT1_TIME_EXTENSION);
+    }
+
+    private static FeaturePredicate responseAfterAcknowledge(int responseType) {
+        return when(RESPONDENT1_RESPONDED | RESPONDENT1_ACKNOWLEDGED | responseType, RESPONDENT1_TIME_EXTENSION);
+    }
 }
@@ -2,16 +2,17 @@ package uk.gov.hmcts.reform.unspec.service.flowstate;
 
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
-import uk.gov.hmcts.reform.ccd.client.model.CaseDetails;
 import uk.gov.hmcts.reform.unspec.callback.CaseEvent;
 import uk.gov.hmcts.reform.unspec.model.CaseData;
-import uk.gov.hmcts.reform.unspec.stateflow.StateFlow;
 
-import java.util.List;
+import java.util.EnumMap;
+import java.util.EnumSet;
 import java.util.Map;
-import java.util.stream.Collectors;
+import java.util.Set;
 
-import static java.util.Collections.emptyList;
+import static java.util.Collections.emptySet;
+import static java.util.Collections.unmodifiableMap;
+import static java.util.Collections.unmodifiableSet;
 import static java.util.Map.entry;
 import static uk.gov.hmcts.reform.unspec.callback.CaseEvent.ACKNOWLEDGE_CLAIM;
 import static uk.gov.hmcts.reform.unspec.callback.CaseEvent.ADD_DEFENDANT_LITIGATION_FRIEND;
@@ -50,17 +51,17 @@ public class FlowStateAllowedEventService {
 
     private final StateFlowEngine stateFlowEngine;
 
-    private static final Map<String, List<CaseEvent>> ALLOWED_EVENTS_ON_FLOW_STATE = Map.ofEntries(
+    private static final Map<FlowState.Main, Set<CaseEvent>> ALLOWED_EVENTS_ON_FLOW_STATE = allowedEvents(Map.ofEntries(
         entry(
-            DRAFT.fullName(),
-            List.of(
+            DRAFT,
+            EnumSet.of(
                 CREATE_CLAIM
             )
         ),
 
         entry(
-            CLAIM_ISSUED_PAYMENT_FAILED.fullName(),
-            List.of(
+            CLAIM_ISSUED_PAYMENT_FAILED,
+            EnumSet.of(
                 RESUBMIT_CLAIM,
                 WITHDRAW_CLAIM,
                 DISCONTINUE_CLAIM,
@@ -69,8 +70,8 @@ public class FlowStateAllowedEventService {
         ),
 
         entry(
-            CLAIM_ISSUED.fullName(),
-            List.of(
+            CLAIM_ISSUED,
+            EnumSet.of(
                 NOTIFY_DEFENDANT_OF_CLAIM,
                 ADD_DEFENDANT_LITIGATION_FRIEND,
                 CASE_PROCEEDS_IN_CASEMAN,
@@ -83,8 +84,8 @@ public class FlowStateAllowedEventService {
         ),
 
         entry(
-            CLAIM_NOTIFIED.fullName(),
-            List.of(
+            CLAIM_NOTIFIED,
+            EnumSet.of(
                 NOTIFY_DEFENDANT_OF_CLAIM_DETAILS,
                 ADD_DEFENDANT_LITIGATION_FRIEND,
                 CASE_PROCEEDS_IN_CASEMAN,
@@ -97,8 +98,8 @@ public class FlowStateAllowedEventService {
         ),
 
         entry(
-            CLAIM_DETAILS_NOTIFIED.fullName(),
-            List.of(
+            CLAIM_DETAILS_NOTIFIED,
+            EnumSet.of(
                 ACKNOWLEDGE_CLAIM,
                 DEFENDANT_RESPONSE,
                 INFORM_AGREED_EXTENSION_DATE,
@@ -112,8 +113,8 @@ public class FlowStateAllowedEventService {
         ),
 
         entry(
-            CLAIM_DETAILS_NOTIFIED_TIME_EXTENSION.fullName(),
-            List.of(
+            CLAIM_DETAILS_NOTIFIED_TIME_EXTENSION,
+            EnumSet.of(
                 ACKNOWLEDGE_CLAIM,
                 DEFENDANT_RESPONSE,
                 ADD_DEFENDANT_LITIGATION_FRIEND,
@@ -126,8 +127,8 @@ public class FlowStateAllowedEventService {
         ),
 
         entry(
-            NOTIFICATION_ACKNOWLEDGED.fullName(),
-            List.of(
+            NOTIFICATION_ACKNOWLEDGED,
+            EnumSet.of(
                 DEFENDANT_RESPONSE,
                 ADD_DEFENDANT_LITIGATION_FRIEND,
                 WITHDRAW_CLAIM,
@@ -140,8 +141,8 @@ public class FlowStateAllowedEventService {
         ),
 
         entry(
-            NOTIFICATION_ACKNOWLEDGED_TIME_EXTENSION.fullName(),
-            List.of(
+            NOTIFICATION_ACKNOWLEDGED_TIME_EXTENSION,
+            EnumSet.of(
                 DEFENDANT_RESPONSE,
                 ADD_DEFENDANT_LITIGATION_FRIEND,
                 WITHDRAW_CLAIM,
@@ -153,8 +154,8 @@ public class FlowStateAllowedEventService {
         ),
 
         entry(
-            FULL_DEFENCE.fullName(),
-            List.of(
+            FULL_DEFENCE,
+            EnumSet.of(
                 CLAIMANT_RESPONSE,
                 WITHDRAW_CLAIM,
                 ADD_DEFENDANT_LITIGATION_FRIEND,
@@ -166,8 +167,8 @@ public class FlowStateAllowedEventService {
         ),
 
         entry(
-            FULL_ADMISSION.fullName(),
-            List.of(
+            FULL_ADMISSION,
+            EnumSet.of(
                 WITHDRAW_CLAIM,
                 ADD_DEFENDANT_LITIGATION_FRIEND,
                 DISCONTINUE_CLAIM,
@@ -177,8 +178,8 @@ public class FlowStateAllowedEventService {
         ),
 
         entry(
-            PART_ADMISSION.fullName(),
-            List.of(
+            PART_ADMISSION,
+            EnumSet.of(
                 WITHDRAW_CLAIM,
                 ADD_DEFENDANT_LITIGATION_FRIEND,
                 DISCONTINUE_CLAIM,
@@ -188,8 +189,8 @@ public class FlowStateAllowedEventService {
         ),
 
         entry(
-            COUNTER_CLAIM.fullName(),
-            List.of(
+            COUNTER_CLAIM,
+            EnumSet.of(
                 WITHDRAW_CLAIM,
                 ADD_DEFENDANT_LITIGATION_FRIEND,
                 DISCONTINUE_CLAIM,
@@ -199,8 +200,8 @@ public class FlowStateAllowedEventService {
         ),
 
         entry(
-            FULL_DEFENCE_PROCEED.fullName(),
-            List.of(
+            FULL_DEFENCE_PROCEED,
+            EnumSet.of(
                 ADD_DEFENDANT_LITIGATION_FRIEND,
                 WITHDRAW_CLAIM,
                 DISCONTINUE_CLAIM,
@@ -210,8 +211,8 @@ public class FlowStateAllowedEventService {
         ),
 
         entry(
-            FULL_DEFENCE_NOT_PROCEED.fullName(),
-            List.of(
+            FULL_DEFENCE_NOT_PROCEED,
+            EnumSet.of(
                 ADD_DEFENDANT_LITIGATION_FRIEND,
                 WITHDRAW_CLAIM,
                 DISCONTINUE_CLAIM,
@@ -219,32 +220,44 @@ public class FlowStateAllowedEventService {
                 AMEND_PARTY_DETAILS
             )
         )
-    );
+    ));
 
-    public FlowState getFlowState(CaseData caseData) {
-        StateFlow stateFlow = stateFlowEngine.evaluate(caseData);
-        return FlowState.fromFullName(stateFlow.getState().getName());
+    private static final Map<CaseEvent, Set<FlowState.Main>> ALLOWED_STATES_FOR_CASE_EVENT =
+        allowedStates(ALLOWED_EVENTS_ON_FLOW_STATE);
+
+    public FlowState.Main getFlowState(CaseData caseData) {
+        return stateFlowEngine.getFlowState(caseData);
+    }
+
+    public Set<CaseEvent> getAllowedEvents(FlowState.Main flowState) {
+        return ALLOWED_EVENTS_ON_FLOW_STATE.getOrDefault(flowState, emptySet());
+    }
+
+    public boolean isAllowedOnState(FlowState.Main flowState, CaseEvent caseEvent) {
+        return getAllowedEvents(flowState).contains(caseEvent);
     }
 
-    public List<CaseEvent> getAllowedEvents(String stateFullName) {
-        return ALLOWED_EVENTS_ON_FLOW_STATE.getOrDefault(stateFullName, emptyList());
+    public boolean isAllowed(CaseData caseData, CaseEvent caseEvent) {
+        return isAllowedOnState(stateFlowEngine.getFlowState(caseData), caseEvent);
     }
 
-    public boolean isAllowedOnState(String stateFullName, CaseEvent caseEvent) {
-        return ALLOWED_EVENTS_ON_FLOW_STATE
-            .getOrDefault(stateFullName, emptyList())
-            .contains(caseEvent);
+    public Set<FlowState.Main> getAllowedStates(CaseEvent caseEvent) {
+        return ALLOWED_STATES_FOR_CASE_EVENT.getOrDefault(caseEvent, emptySet());
     }
 
-    public boolean isAllowed(CaseDetails caseDetails, CaseEvent caseEvent) {
-        StateFlow stateFlow = stateFlowEngine.evaluate(caseDetails);
-        return isAllowedOnState(stateFlow.getState().getName(), caseEvent);
+    private static Map<FlowState.Main, Set<CaseEvent>> allowedEvents(Map<FlowState.Main, Set<CaseEvent>> entries) {
+        Map<FlowState.Main, Set<CaseEvent>> allowedEvents = new EnumMap<>(FlowState.Main.class);
+        entries.forEach((flowState, caseEvents) -> allowedEvents.put(flowState, unmodifiableSet(caseEvents)));
+        return unmodifiableMap(allowedEvents);
     }
 
-    public List<String> getAllowedStates(CaseEvent caseEvent) {
-        return ALLOWED_EVENTS_ON_FLOW_STATE.entrySet().stream()
-            .filter(entry -> entry.getValue().contains(caseEvent))
-            .map(Map.Entry::getKey)
-            .collect(Collectors.toList());
+    private static Map<CaseEvent, Set<FlowState.Main>> allowedStates(Map<FlowState.Main, Set<CaseEvent>> allowedEvents) {
+        Map<CaseEvent, Set<FlowState.Main>> allowedStates = new EnumMap<>(CaseEvent.class);
+        allowedEvents.forEach((flowState, caseEvents) -> caseEvents.forEach(
+            caseEvent -> allowedStates.computeIfAbsent(caseEvent, event -> EnumSet.noneOf(FlowState.Main.class))
+                .add(flowState)
+        ));
+        allowedStates.replaceAll((caseEvent, flowStates) -> unmodifiableSet(flowStates));
+        return unmodifiableMap(allowedStates);
     }
 }
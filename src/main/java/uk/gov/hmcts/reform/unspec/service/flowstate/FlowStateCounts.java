@@ -0,0 +1,16 @@
+package uk.gov.hmcts.reform.unspec.service.flowstate;
+
+import lombok.Value;
+
+import java.util.Map;
+
+/**
+ * Number of cases in each flow state, together with the number of cases whose flow is ambiguous and so has no state.
+ */
+@Value
+public class FlowStateCounts {
+
+    Map<FlowState.Main, Long> flowStates;
+
+    long ambiguous;
+}
@@ -5,9 +5,16 @@ import org.springframework.stereotype.Component;
 import uk.gov.hmcts.reform.ccd.client.model.CaseDetails;
 import uk.gov.hmcts.reform.unspec.helpers.CaseDetailsConverter;
 import uk.gov.hmcts.reform.unspec.model.CaseData;
+import uk.gov.hmcts.reform.unspec.model.FlowStateSnapshot;
 import uk.gov.hmcts.reform.unspec.stateflow.StateFlow;
 import uk.gov.hmcts.reform.unspec.stateflow.StateFlowBuilder;
-import uk.gov.hmcts.reform.unspec.stateflow.model.State;
+import uk.gov.hmcts.reform.unspec.stateflow.StateFlowGraph;
+
+import java.util.AbstractList;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
 
 import static uk.gov.hmcts.reform.unspec.service.flowstate.FlowPredicate.applicantOutOfTime;
 import static uk.gov.hmcts.reform.unspec.service.flowstate.FlowPredicate.caseDismissedAfterClaimAcknowledged;
@@ -47,6 +54,7 @@ import static uk.gov.hmcts.reform.unspec.service.flowstate.FlowPredicate.takenOf
 import static uk.gov.hmcts.reform.unspec.service.flowstate.FlowPredicate.takenOfflineByStaffAfterClaimDetailsNotifiedExtension;
 import static uk.gov.hmcts.reform.unspec.service.flowstate.FlowPredicate.takenOfflineByStaffAfterClaimIssue;
 import static uk.gov.hmcts.reform.unspec.service.flowstate.FlowPredicate.takenOfflineByStaffAfterClaimNotified;
+import static uk.gov.hmcts.reform.unspec.service.flowstate.FlowPredicate.takenOfflineByStaffAfterDefendantResponse;
 import static uk.gov.hmcts.reform.unspec.service.flowstate.FlowPredicate.takenOfflineByStaffAfterNotificationAcknowledged;
 import static uk.gov.hmcts.reform.unspec.service.flowstate.FlowPredicate.takenOfflineByStaffAfterNotificationAcknowledgedTimeExtension;
 import static uk.gov.hmcts.reform.unspec.service.flowstate.FlowPredicate.takenOfflineBySystem;
@@ -82,9 +90,22 @@ import static uk.gov.hmcts.reform.unspec.service.flowstate.FlowState.Main.TAKEN_
 @RequiredArgsConstructor
 public class StateFlowEngine {
 
+    // case data keys bound when evaluating only the fields the flow depends on
+    private static final Set<String> FLOW_FIELDS = flowFields();
+
     private final CaseDetailsConverter caseDetailsConverter;
 
-    public StateFlow build() {
+    private final StateFlowGraph stateFlowGraph = build();
+
+    // flow states indexed like the states of the graph, so evaluation results map to FlowState without parsing names
+    private final FlowState.Main[] flowStates = flowStates(stateFlowGraph);
+
+    // indexes of the states of the graph by FlowState.Main ordinal, -1 for flow states which are not in the graph
+    private final int[] stateIndexes = stateIndexes(flowStates);
+
+    private final boolean evaluatesFlowFieldsOnly = stateFlowGraph.hasOnlyFeatureConditions();
+
+    public StateFlowGraph build() {
         return StateFlowBuilder.<FlowState.Main>flow(FLOW_NAME)
             .initial(DRAFT)
                 .transitionTo(CLAIM_SUBMITTED).onlyIf(claimSubmitted)
@@ -152,7 +173,7 @@ public class StateFlowEngine {
             .state(FULL_DEFENCE)
                 .transitionTo(FULL_DEFENCE_PROCEED).onlyIf(fullDefenceProceed)
                 .transitionTo(FULL_DEFENCE_NOT_PROCEED).onlyIf(fullDefenceNotProceed)
-                .transitionTo(TAKEN_OFFLINE_BY_STAFF).onlyIf(takenOfflineByStaff)
+                .transitionTo(TAKEN_OFFLINE_BY_STAFF).onlyIf(takenOfflineByStaffAfterDefendantResponse)
                 .transitionTo(TAKEN_OFFLINE_PAST_APPLICANT_RESPONSE_DEADLINE).onlyIf(applicantOutOfTime)
             .state(CLAIM_DISMISSED_PAST_CLAIM_NOTIFICATION_DEADLINE)
                 .transitionTo(TAKEN_OFFLINE_BY_STAFF).onlyIf(takenOfflineByStaff)
@@ -163,7 +184,9 @@ public class StateFlowEngine {
             .state(PART_ADMISSION)
             .state(COUNTER_CLAIM)
             .state(FULL_DEFENCE_PROCEED)
+                .transitionTo(TAKEN_OFFLINE_BY_STAFF).onlyIf(takenOfflineByStaff)
             .state(FULL_DEFENCE_NOT_PROCEED)
+                .transitionTo(TAKEN_OFFLINE_BY_STAFF).onlyIf(takenOfflineByStaff)
             .state(TAKEN_OFFLINE_BY_STAFF)
             .state(PENDING_CLAIM_ISSUED_UNREPRESENTED_DEFENDANT)
             .state(PENDING_CLAIM_ISSUED_UNREGISTERED_DEFENDANT)
@@ -174,16 +197,100 @@ public class StateFlowEngine {
     }
 
     public StateFlow evaluate(CaseDetails caseDetails) {
-        return evaluate(caseDetailsConverter.toCaseData(caseDetails));
+        CaseData caseData = caseDetailsConverter.toCaseData(caseDetails);
+        return evaluateFrom(caseData.getFlowStateSnapshot(), caseData);
+    }
+
+    /**
+     * Evaluates case details binding only the case data fields the flow depends on, skipping the binding of parties,
+     * documents and questionnaires for callers which need the flow state but not the rest of the case.
+     * The whole case is bound when the flow has guards which are not feature predicates.
+     */
+    public StateFlow evaluateFlowFields(CaseDetails caseDetails) {
+        if (!evaluatesFlowFieldsOnly) {
+            return evaluate(caseDetails);
+        }
+        CaseData flowFields = caseDetailsConverter.toCaseData(caseDetails, FLOW_FIELDS);
+        return evaluateFrom(flowFields.getFlowStateSnapshot(), flowFields);
     }
 
     public StateFlow evaluate(CaseData caseData) {
-        return build().evaluate(caseData);
+        return evaluateFrom(caseData.getFlowStateSnapshot(), caseData);
+    }
+
+    /**
+     * Evaluates the case starting from the flow state recorded in the snapshot, falling back to evaluating the whole
+     * flow when the snapshot is missing or the case no longer matches its fingerprint.
+     */
+    public StateFlow evaluateFrom(FlowStateSnapshot snapshot, CaseData caseData) {
+        if (snapshot == null || snapshot.getFlowState() == null || snapshot.getFingerprint() == null) {
+            return stateFlowGraph.evaluate(caseData);
+        }
+        return stateFlowGraph.evaluateFrom(
+            stateFlowGraph.indexOf(snapshot.getFlowState()),
+            snapshot.getFingerprint(),
+            caseData
+        );
+    }
+
+    public FlowStateSnapshot snapshot(CaseData caseData) {
+        StateFlow stateFlow = evaluate(caseData);
+        return FlowStateSnapshot.builder()
+            .flowState(stateFlow.getState().getName())
+            .fingerprint(stateFlowGraph.fingerprint(stateFlow.getStateIndex(), caseData))
+            .build();
+    }
+
+    public FlowState.Main getFlowState(CaseData caseData) {
+        return getFlowState(evaluate(caseData));
+    }
+
+    public FlowState.Main getFlowState(StateFlow stateFlow) {
+        return flowStates[stateFlow.getStateIndex()];
+    }
+
+    /**
+     * Flow states visited by the case, in order, as a view over the history of the evaluation.
+     */
+    public List<FlowState.Main> getFlowStateHistory(StateFlow stateFlow) {
+        return new AbstractList<>() {
+            @Override
+            public FlowState.Main get(int step) {
+                return flowStates[stateFlow.getStateIndex(step)];
+            }
+
+            @Override
+            public int size() {
+                return stateFlow.getHistorySize();
+            }
+        };
     }
 
     public boolean hasTransitionedTo(CaseDetails caseDetails, FlowState.Main state) {
-        return evaluate(caseDetails).getStateHistory().stream()
-            .map(State::getName)
-            .anyMatch(name -> name.equals(state.fullName()));
+        int stateIndex = stateIndexes[state.ordinal()];
+        return stateIndex >= 0 && evaluateFlowFields(caseDetails).hasVisited(stateIndex);
+    }
+
+    private static FlowState.Main[] flowStates(StateFlowGraph stateFlowGraph) {
+        FlowState.Main[] flowStates = new FlowState.Main[stateFlowGraph.getStateCount()];
+        for (int index = 0; index < flowStates.length; index++) {
+            flowStates[index] = (FlowState.Main) FlowState.fromFullName(stateFlowGraph.getState(index).getName());
+        }
+        return flowStates;
+    }
+
+    private static Set<String> flowFields() {
+        Set<String> fields = new HashSet<>(FlowFeatures.CASE_DATA_FIELDS);
+        fields.add("flowStateSnapshot");
+        return Set.copyOf(fields);
+    }
+
+    private static int[] stateIndexes(FlowState.Main[] flowStates) {
+        int[] stateIndexes = new int[FlowState.Main.values().length];
+        Arrays.fill(stateIndexes, -1);
+        for (int index = 0; index < flowStates.length; index++) {
+            stateIndexes[flowStates[index].ordinal()] = index;
+        }
+        return stateIndexes;
     }
 }
@@ -13,7 +13,6 @@ import uk.gov.hmcts.reform.unspec.model.robotics.EventDetails;
 import uk.gov.hmcts.reform.unspec.model.robotics.EventHistory;
 import uk.gov.hmcts.reform.unspec.service.flowstate.FlowState;
 import uk.gov.hmcts.reform.unspec.service.flowstate.StateFlowEngine;
-import uk.gov.hmcts.reform.unspec.stateflow.model.State;
 
 import java.time.LocalDateTime;
 import java.util.List;
@@ -36,11 +35,9 @@ public class EventHistoryMapper {
         EventHistory.EventHistoryBuilder builder = EventHistory.builder()
             .directionsQuestionnaireFiled(List.of(Event.builder().build()));
 
-        List<State> stateHistory = stateFlowEngine.evaluate(caseData)
-            .getStateHistory();
+        List<FlowState.Main> stateHistory = stateFlowEngine.getFlowStateHistory(stateFlowEngine.evaluate(caseData));
         stateHistory
-            .forEach(state -> {
-                FlowState.Main flowState = (FlowState.Main) FlowState.fromFullName(state.getName());
+            .forEach(flowState -> {
                 switch (flowState) {
                     case TAKEN_OFFLINE_UNREPRESENTED_DEFENDANT:
                         buildUnrepresentedDefendant(builder, caseData);
@@ -139,9 +136,8 @@ public class EventHistoryMapper {
     }
 
     private void buildClaimDismissedPastDeadline(EventHistory.EventHistoryBuilder builder,
-                                                 CaseData caseData, List<State> stateHistory) {
-        State previousState = getPreviousState(stateHistory);
-        FlowState.Main flowState = (FlowState.Main) FlowState.fromFullName(previousState.getName());
+                                                 CaseData caseData, List<FlowState.Main> stateHistory) {
+        FlowState.Main flowState = getPreviousState(stateHistory);
         builder.miscellaneous(
             Event.builder()
                 .eventSequence(prepareEventSequence(builder.build()))
@@ -168,7 +164,7 @@ public class EventHistoryMapper {
         }
     }
 
-    private State getPreviousState(List<State> stateHistory) {
+    private FlowState.Main getPreviousState(List<FlowState.Main> stateHistory) {
         if (stateHistory.size() > 1) {
             return stateHistory.get(stateHistory.size() - 2);
         } else {
@@ -0,0 +1,21 @@
+package uk.gov.hmcts.reform.unspec.service.search;
+
+import org.springframework.stereotype.Service;
+import uk.gov.hmcts.reform.unspec.model.search.Query;
+import uk.gov.hmcts.reform.unspec.service.CoreCaseDataService;
+
+import java.util.List;
+
+import static org.elasticsearch.index.query.QueryBuilders.matchAllQuery;
+
+@Service
+public class AllCasesSearchService extends ElasticSearchService {
+
+    public AllCasesSearchService(CoreCaseDataService coreCaseDataService) {
+        super(coreCaseDataService);
+    }
+
+    public Query query(int startIndex) {
+        return new Query(matchAllQuery(), List.of(), startIndex);
+    }
+}
@@ -8,9 +8,16 @@ import uk.gov.hmcts.reform.unspec.service.CoreCaseDataService;
 
 import java.math.BigDecimal;
 import java.util.ArrayList;
+import java.util.Iterator;
 import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.Spliterators;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
 
 import static java.math.RoundingMode.UP;
+import static java.util.Spliterator.NONNULL;
+import static java.util.Spliterator.ORDERED;
 
 @RequiredArgsConstructor
 public abstract class ElasticSearchService {
@@ -19,6 +26,7 @@ public abstract class ElasticSearchService {
 
     private static final int START_INDEX = 0;
     private static final int ES_DEFAULT_SEARCH_LIMIT = 10;
+    static final int STREAM_PAGE_SIZE = 500;
 
     public List<CaseDetails> getCases() {
         SearchResult searchResult = coreCaseDataService.searchCases(query(START_INDEX));
@@ -33,9 +41,55 @@ public abstract class ElasticSearchService {
         return caseDetails;
     }
 
+    /**
+     * Lazily streams the cases page by page, so only the pages in use are held in memory. Pages are sorted by case
+     * reference and each page is searched after the last case of the previous one, so any number of cases can be
+     * streamed without skipping or repeating cases. Pages are fetched one after another as the stream is consumed,
+     * also when it is consumed in parallel. The first page is fetched straight away.
+     */
+    public Stream<CaseDetails> streamCases() {
+        return StreamSupport.stream(
+            Spliterators.spliteratorUnknownSize(new CaseIterator(query(START_INDEX)), ORDERED | NONNULL),
+            false
+        );
+    }
+
     abstract Query query(int startIndex);
 
     private int calculatePages(SearchResult searchResult) {
         return new BigDecimal(searchResult.getTotal()).divide(new BigDecimal(ES_DEFAULT_SEARCH_LIMIT), UP).intValue();
     }
+
+    private class CaseIterator implements Iterator<CaseDetails> {
+
+        private final Query query;
+        private List<CaseDetails> page;
+        private Iterator<CaseDetails> pageCases;
+
+        CaseIterator(Query query) {
+            this.query = query;
+            fetchPage(null);
+        }
+
+        @Override
+        public boolean hasNext() {
+            if (!pageCases.hasNext() && page.size() == STREAM_PAGE_SIZE) {
+                fetchPage(page.get(page.size() - 1).getId());
+            }
+            return pageCases.hasNext();
+        }
+
+        @Override
+        public CaseDetails next() {
+            if (!hasNext()) {
+                throw new NoSuchElementException();
+            }
+            return pageCases.next();
+        }
+
+        private void fetchPage(Long searchAfter) {
+            page = coreCaseDataService.searchCases(query.searchAfter(STREAM_PAGE_SIZE, searchAfter)).getCases();
+            pageCases = page.iterator();
+        }
+    }
 }
@@ -5,6 +5,7 @@ import org.camunda.bpm.client.topic.TopicSubscriptionBuilder;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Component;
 import uk.gov.hmcts.reform.unspec.handler.tasks.ClaimDismissedHandler;
+import uk.gov.hmcts.reform.unspec.service.RequestExecutor;
 
 @Component
 public class CaseDismissedExternalTaskListener {
@@ -12,8 +13,10 @@ public class CaseDismissedExternalTaskListener {
     private static final String TOPIC = "CASE_DISMISSED";
 
     @Autowired
-    private CaseDismissedExternalTaskListener(ClaimDismissedHandler claimDismissedHandler, ExternalTaskClient client) {
+    private CaseDismissedExternalTaskListener(ClaimDismissedHandler claimDismissedHandler,
+                                              ExternalTaskClient client,
+                                              RequestExecutor requestExecutor) {
         TopicSubscriptionBuilder subscriptionBuilder = client.subscribe(TOPIC);
-        subscriptionBuilder.handler(claimDismissedHandler).open();
+        subscriptionBuilder.handler(requestExecutor.forTopic(claimDismissedHandler)).open();
     }
 }
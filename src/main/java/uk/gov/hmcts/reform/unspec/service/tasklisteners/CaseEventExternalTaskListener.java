@@ -5,6 +5,7 @@ import org.camunda.bpm.client.topic.TopicSubscriptionBuilder;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Component;
 import uk.gov.hmcts.reform.unspec.handler.tasks.CaseEventTaskHandler;
+import uk.gov.hmcts.reform.unspec.service.RequestExecutor;
 
 @Component
 public class CaseEventExternalTaskListener {
@@ -12,8 +13,10 @@ public class CaseEventExternalTaskListener {
     private static final String TOPIC = "processCaseEvent";
 
     @Autowired
-    private CaseEventExternalTaskListener(CaseEventTaskHandler caseEventTaskHandler, ExternalTaskClient client) {
+    private CaseEventExternalTaskListener(CaseEventTaskHandler caseEventTaskHandler,
+                                          ExternalTaskClient client,
+                                          RequestExecutor requestExecutor) {
         TopicSubscriptionBuilder subscriptionBuilder = client.subscribe(TOPIC);
-        subscriptionBuilder.handler(caseEventTaskHandler).open();
+        subscriptionBuilder.handler(requestExecutor.forTopic(caseEventTaskHandler)).open();
     }
 }
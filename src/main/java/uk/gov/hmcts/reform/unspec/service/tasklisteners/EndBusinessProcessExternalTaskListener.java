@@ -5,6 +5,7 @@ import org.camunda.bpm.client.topic.TopicSubscriptionBuilder;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Component;
 import uk.gov.hmcts.reform.unspec.handler.tasks.EndBusinessProcessTaskHandler;
+import uk.gov.hmcts.reform.unspec.service.RequestExecutor;
 
 @Component
 public class EndBusinessProcessExternalTaskListener {
@@ -12,8 +13,10 @@ public class EndBusinessProcessExternalTaskListener {
     private static final String TOPIC = "END_BUSINESS_PROCESS";
 
     @Autowired
-    private EndBusinessProcessExternalTaskListener(EndBusinessProcessTaskHandler handler, ExternalTaskClient client) {
+    private EndBusinessProcessExternalTaskListener(EndBusinessProcessTaskHandler handler,
+                                                   ExternalTaskClient client,
+                                                   RequestExecutor requestExecutor) {
         TopicSubscriptionBuilder subscriptionBuilder = client.subscribe(TOPIC);
-        subscriptionBuilder.handler(handler).open();
+        subscriptionBuilder.handler(requestExecutor.forTopic(handler)).open();
     }
 }
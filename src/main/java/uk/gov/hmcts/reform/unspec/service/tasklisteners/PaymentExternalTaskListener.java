@@ -5,6 +5,7 @@ import org.camunda.bpm.client.topic.TopicSubscriptionBuilder;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Component;
 import uk.gov.hmcts.reform.unspec.handler.tasks.PaymentTaskHandler;
+import uk.gov.hmcts.reform.unspec.service.RequestExecutor;
 
 @Component
 public class PaymentExternalTaskListener {
@@ -12,8 +13,10 @@ public class PaymentExternalTaskListener {
     private static final String TOPIC = "processPayment";
 
     @Autowired
-    private PaymentExternalTaskListener(PaymentTaskHandler paymentTaskHandler, ExternalTaskClient client) {
+    private PaymentExternalTaskListener(PaymentTaskHandler paymentTaskHandler,
+                                        ExternalTaskClient client,
+                                        RequestExecutor requestExecutor) {
         TopicSubscriptionBuilder subscriptionBuilder = client.subscribe(TOPIC);
-        subscriptionBuilder.handler(paymentTaskHandler).open();
+        subscriptionBuilder.handler(requestExecutor.forTopic(paymentTaskHandler)).open();
     }
 }
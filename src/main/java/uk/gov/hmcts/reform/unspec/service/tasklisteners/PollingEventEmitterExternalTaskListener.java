@@ -6,6 +6,7 @@ import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnExpression;
 import org.springframework.stereotype.Component;
 import uk.gov.hmcts.reform.unspec.handler.tasks.PollingEventEmitterHandler;
+import uk.gov.hmcts.reform.unspec.service.RequestExecutor;
 
 @Component
 @ConditionalOnExpression("${polling.event.emitter.enabled:true}")
@@ -15,8 +16,9 @@ public class PollingEventEmitterExternalTaskListener {
 
     @Autowired
     private PollingEventEmitterExternalTaskListener(PollingEventEmitterHandler pollingEventEmitterHandler,
-                                                    ExternalTaskClient client) {
+                                                    ExternalTaskClient client,
+                                                    RequestExecutor requestExecutor) {
         TopicSubscriptionBuilder subscriptionBuilder = client.subscribe(TOPIC);
-        subscriptionBuilder.handler(pollingEventEmitterHandler).open();
+        subscriptionBuilder.handler(requestExecutor.forTopic(pollingEventEmitterHandler)).open();
     }
 }
@@ -5,6 +5,7 @@ import org.camunda.bpm.client.topic.TopicSubscriptionBuilder;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Component;
 import uk.gov.hmcts.reform.unspec.handler.tasks.StartBusinessProcessTaskHandler;
+import uk.gov.hmcts.reform.unspec.service.RequestExecutor;
 
 @Component
 public class StartBusinessProcessExternalTaskListener {
@@ -13,8 +14,9 @@ public class StartBusinessProcessExternalTaskListener {
 
     @Autowired
     private StartBusinessProcessExternalTaskListener(StartBusinessProcessTaskHandler startBusinessProcessTaskHandler,
-                                                     ExternalTaskClient client) {
+                                                     ExternalTaskClient client,
+                                                     RequestExecutor requestExecutor) {
         TopicSubscriptionBuilder subscriptionBuilder = client.subscribe(TOPIC);
-        subscriptionBuilder.handler(startBusinessProcessTaskHandler).open();
+        subscriptionBuilder.handler(requestExecutor.forTopic(startBusinessProcessTaskHandler)).open();
     }
 }
@@ -5,6 +5,7 @@ import org.camunda.bpm.client.topic.TopicSubscriptionBuilder;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Component;
 import uk.gov.hmcts.reform.unspec.handler.tasks.TakeCaseOfflineHandler;
+import uk.gov.hmcts.reform.unspec.service.RequestExecutor;
 
 @Component
 public class TakeCaseOfflineExternalTaskListener {
@@ -12,8 +13,10 @@ public class TakeCaseOfflineExternalTaskListener {
     private static final String TOPIC = "TAKE_CASE_OFFLINE";
 
     @Autowired
-    private TakeCaseOfflineExternalTaskListener(TakeCaseOfflineHandler handler, ExternalTaskClient client) {
+    private TakeCaseOfflineExternalTaskListener(TakeCaseOfflineHandler handler,
+                                                ExternalTaskClient client,
+                                                RequestExecutor requestExecutor) {
         TopicSubscriptionBuilder subscriptionBuilder = client.subscribe(TOPIC);
-        subscriptionBuilder.handler(handler).open();
+        subscriptionBuilder.handler(requestExecutor.forTopic(handler)).open();
     }
 }
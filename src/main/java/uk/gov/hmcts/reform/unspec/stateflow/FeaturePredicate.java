@@ -0,0 +1,91 @@
+package uk.gov.hmcts.reform.unspec.stateflow;
+
+import uk.gov.hmcts.reform.unspec.model.CaseData;
+
+import java.util.Arrays;
+import java.util.Objects;
+import java.util.function.Predicate;
+import java.util.function.ToIntFunction;
+
+/**
+ * Condition over a bitmask of features extracted from a case by an encoder.
+ * The condition holds when, for any of its alternatives, all the required feature bits are set and all the
+ * excluded feature bits are clear. A {@link StateFlowGraph} whose guards are feature predicates encodes each case
+ * once per evaluation and checks every guard with a couple of integer operations.
+ */
+public final class FeaturePredicate implements Predicate<CaseData> {
+
+    private final ToIntFunction<CaseData> encoder;
+    private final int[] required;
+    private final int[] excluded;
+
+    private FeaturePredicate(ToIntFunction<CaseData> encoder, int[] required, int[] excluded) {
+        this.encoder = encoder;
+        this.required = required;
+        this.excluded = excluded;
+    }
+
+    /**
+     * Creates a condition which holds when all the required bits are set and all the excluded bits are clear.
+     *
+     * @param encoder  extracts the features of a case
+     * @param required bits which must be set
+     * @param excluded bits which must be clear
+     * @return the condition
+     */
+    public static FeaturePredicate of(ToIntFunction<CaseData> encoder, int required, int excluded) {
+        Objects.requireNonNull(encoder, "encoder may not be null");
+        if ((required & excluded) != 0) {
+            throw new IllegalArgumentException("A feature may not be both required and excluded");
+        }
+        return new FeaturePredicate(encoder, new int[]{required}, new int[]{excluded});
+    }
+
+    /**
+     * Combines with another condition on the same encoder, holding when either holds.
+     *
+     * @param other condition over the same features
+     * @return the combined condition
+     */
+    public FeaturePredicate or(FeaturePredicate other) {
+        if (other.encoder != encoder) {
+            throw new IllegalArgumentException("Feature predicates must share the same encoder to be combined");
+        }
+        int[] combinedRequired = Arrays.copyOf(required, required.length + other.required.length);
+        int[] combinedExcluded = Arrays.copyOf(excluded, excluded.length + other.excluded.length);
+        System.arraycopy(other.required, 0, combinedRequired, required.length, other.required.length);
+        System.arraycopy(other.excluded, 0, combinedExcluded, excluded.length, other.excluded.length);
+        return new FeaturePredicate(encoder, combinedRequired, combinedExcluded);
+    }
+
+    public ToIntFunction<CaseData> getEncoder() {
+        return encoder;
+    }
+
+    /**
+     * All the features this condition reads.
+     *
+     * @return bits which are required or excluded by any alternative
+     */
+    public int getFeatureMask() {
+        int mask = 0;
+        for (int i = 0; i < required.length; i++) {
+            mask |= required[i] | excluded[i];
+        }
+        return mask;
+    }
+
+    public boolean test(int features) {
+        for (int i = 0; i < required.length; i++) {
+            if ((features & required[i]) == required[i] && (features & excluded[i]) == 0) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    @Override
+    public boolean test(CaseData caseData) {
+        return test(encoder.applyAsInt(caseData));
+    }
+}
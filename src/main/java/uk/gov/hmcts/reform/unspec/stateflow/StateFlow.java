@@ -1,47 +1,88 @@
 package uk.gov.hmcts.reform.unspec.stateflow;
 
-import org.springframework.statemachine.StateMachine;
-import uk.gov.hmcts.reform.unspec.model.CaseData;
 import uk.gov.hmcts.reform.unspec.stateflow.exception.StateFlowException;
 import uk.gov.hmcts.reform.unspec.stateflow.model.State;
 
-import java.util.ArrayList;
+import java.util.AbstractList;
 import java.util.List;
-import java.util.Map;
-import java.util.stream.Collectors;
-
-import static uk.gov.hmcts.reform.unspec.stateflow.StateFlowContext.EXTENDED_STATE_CASE_KEY;
-import static uk.gov.hmcts.reform.unspec.stateflow.StateFlowContext.EXTENDED_STATE_HISTORY_KEY;
 
+/**
+ * Result of evaluating a case against a {@link StateFlowGraph}.
+ * The history is kept as the indexes of the states visited, in order, so it can be inspected without creating or
+ * parsing state names. {@link #getStateHistory()} is a view resolving the indexes against the states of the graph.
+ * When more than one transition was permitted out of a visited state the result is in error and has no current state.
+ */
 public class StateFlow {
 
-    private StateMachine<String, String> stateMachine;
+    private final State[] states;
+    private final int[] history;
+    private final boolean error;
 
-    public StateFlow(StateMachine<String, String> stateMachine) {
-        this.stateMachine = stateMachine;
+    StateFlow(State[] states, int[] history, boolean error) {
+        this.states = states;
+        this.history = history;
+        this.error = error;
     }
 
-    public StateMachine<String, String> asStateMachine() {
-        return stateMachine;
+    public State getState() {
+        return states[getStateIndex()];
     }
 
-    public StateFlow evaluate(CaseData caseData) {
-        Map<Object, Object> variables = stateMachine.getExtendedState().getVariables();
-        variables.put(EXTENDED_STATE_CASE_KEY, caseData);
-        stateMachine.startReactively().block();
-        return this;
+    /**
+     * Position of the current state in the {@link StateFlowGraph} which produced this result, allowing callers to
+     * map the state to their own representation without looking it up by name.
+     *
+     * @return index of the current state, see {@link StateFlowGraph#getState(int)}
+     * @throws StateFlowException when the evaluation was ambiguous, see {@link #hasError()}
+     */
+    public int getStateIndex() {
+        if (error) {
+            throw new StateFlowException("The state machine is at error state.");
+        }
+        return history[history.length - 1];
     }
 
-    public State getState() {
-        if (stateMachine.hasStateMachineError()) {
-            throw new StateFlowException("The state machine is at error state.");
+    /**
+     * Number of states visited, including the initial and the current state.
+     */
+    public int getHistorySize() {
+        return history.length;
+    }
+
+    /**
+     * Index of the state visited at the given step, the initial state being at step 0.
+     *
+     * @param step position in the history, from 0 to {@link #getHistorySize()} - 1
+     * @return index of the state, see {@link StateFlowGraph#getState(int)}
+     */
+    public int getStateIndex(int step) {
+        return history[step];
+    }
+
+    public boolean hasVisited(int stateIndex) {
+        for (int visited : history) {
+            if (visited == stateIndex) {
+                return true;
+            }
         }
-        return State.from(stateMachine.getState().getId());
+        return false;
+    }
+
+    public boolean hasError() {
+        return error;
     }
 
-    @SuppressWarnings("unchecked")
     public List<State> getStateHistory() {
-        List<String> historyList = stateMachine.getExtendedState().get(EXTENDED_STATE_HISTORY_KEY, ArrayList.class);
-        return historyList.stream().map(State::from).collect(Collectors.toList());
+        return new AbstractList<>() {
+            @Override
+            public State get(int step) {
+                return states[history[step]];
+            }
+
+            @Override
+            public int size() {
+                return history.length;
+            }
+        };
     }
 }
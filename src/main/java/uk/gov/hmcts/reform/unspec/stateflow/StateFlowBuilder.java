@@ -1,11 +1,6 @@
 package uk.gov.hmcts.reform.unspec.stateflow;
 
-import org.springframework.statemachine.StateMachine;
-import org.springframework.statemachine.config.StateMachineBuilder;
-import org.springframework.statemachine.config.configurers.ExternalTransitionConfigurer;
-import org.springframework.statemachine.config.configurers.StateConfigurer;
 import uk.gov.hmcts.reform.unspec.model.CaseData;
-import uk.gov.hmcts.reform.unspec.stateflow.exception.StateFlowException;
 import uk.gov.hmcts.reform.unspec.stateflow.grammar.Build;
 import uk.gov.hmcts.reform.unspec.stateflow.grammar.BuildNext;
 import uk.gov.hmcts.reform.unspec.stateflow.grammar.CreateFlow;
@@ -27,13 +22,11 @@ import uk.gov.hmcts.reform.unspec.stateflow.model.Transition;
 import java.util.function.Consumer;
 import java.util.function.Predicate;
 
-import static uk.gov.hmcts.reform.unspec.stateflow.StateFlowContext.EXTENDED_STATE_CASE_KEY;
-
 /**
- * DSL for creating a StateFlow which wraps a state engine backed by Spring State Machine.
- * Once created a StateFlow can:
- * - evaluate the current state of a Case
- * - return the internal state engine for further processing
+ * DSL for creating a StateFlowGraph, an immutable compiled form of the flow.
+ * Once created a StateFlowGraph can:
+ * - evaluate the current state and state history of a Case
+ * - be shared and reused for any number of evaluations
  */
 public class StateFlowBuilder<S> {
 
@@ -172,47 +165,8 @@ public class StateFlowBuilder<S> {
         }
 
         @Override
-        public StateFlow build() {
-            StateMachineBuilder.Builder<String, String> stateMachineBuilder =
-                StateMachineBuilder.builder();
-
-            try {
-                // Config
-                stateMachineBuilder.configureConfiguration()
-                    .withConfiguration()
-                    .autoStartup(false);
-
-                // States
-                StateConfigurer<String, String> statesConfigurer =
-                    stateMachineBuilder.configureStates().withStates();
-                stateFlowContext.getInitialState().ifPresent(statesConfigurer::initial);
-                stateFlowContext.getStates().forEach(statesConfigurer::state);
-
-                // Transitions
-                for (Transition transition : stateFlowContext.getTransitions()) {
-                    ExternalTransitionConfigurer<String, String> transitionConfigurer =
-                        stateMachineBuilder.configureTransitions()
-                            .withExternal()
-                            .source(transition.getSourceState())
-                            .target(transition.getTargetState());
-
-                    if (transition.getCondition() != null) {
-                        transitionConfigurer.guard(
-                            context -> transition.getCondition().test(
-                                context.getExtendedState().get(EXTENDED_STATE_CASE_KEY, CaseData.class)
-                            )
-                        );
-                    }
-                }
-            } catch (Exception e) {
-                throw new StateFlowException("Failed to build StateFlow internal state machine.", e);
-            }
-
-            // Register listener
-            StateMachine<String, String> stateMachine = stateMachineBuilder.build();
-            stateMachine.addStateListener(new StateFlowListener());
-
-            return new StateFlow(stateMachine);
+        public StateFlowGraph build() {
+            return new StateFlowGraph(stateFlowContext);
         }
 
         private String fullyQualified(S state) {
@@ -8,9 +8,6 @@ import java.util.Optional;
 
 public class StateFlowContext {
 
-    protected static final String EXTENDED_STATE_CASE_KEY = "case";
-    protected static final String EXTENDED_STATE_HISTORY_KEY = "history";
-
     private final List<String> states = new ArrayList<>();
 
     private final List<Transition> transitions = new ArrayList<>();
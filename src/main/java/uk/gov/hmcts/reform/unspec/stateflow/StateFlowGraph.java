@@ -0,0 +1,344 @@
+package uk.gov.hmcts.reform.unspec.stateflow;
+
+import lombok.extern.slf4j.Slf4j;
+import uk.gov.hmcts.reform.unspec.model.CaseData;
+import uk.gov.hmcts.reform.unspec.stateflow.exception.StateFlowException;
+import uk.gov.hmcts.reform.unspec.stateflow.model.State;
+import uk.gov.hmcts.reform.unspec.stateflow.model.Transition;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Deque;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Predicate;
+import java.util.function.ToIntFunction;
+
+/**
+ * Immutable, compiled form of a flow defined with {@link StateFlowBuilder}.
+ * States are indexed once at build time and each state holds an array of its outgoing guarded transitions,
+ * so a single instance can be shared and evaluated concurrently by any number of threads.
+ * When guards are {@link FeaturePredicate}s the case is encoded once per evaluation and every guard is checked
+ * against the encoded features; all feature predicates of a flow must share the same encoder.
+ * Evaluation can also resume from a previously reached state, see {@link #evaluateFrom(int, int, CaseData)}.
+ */
+@Slf4j
+public class StateFlowGraph {
+
+    // upper bound on memoized paths to resumed states, beyond which paths are walked on every resume
+    private static final int MAX_RESUMED_PATHS = 4096;
+
+    private final State[] states;
+    private final Edge[][] edges;
+    private final int initialState;
+    private final ToIntFunction<CaseData> encoder;
+    private final int[] fingerprintMasks;
+    private final boolean[] resumable;
+    private final Map<Long, int[]> resumedPaths = new ConcurrentHashMap<>();
+
+    StateFlowGraph(StateFlowContext stateFlowContext) {
+        final String initialStateName = stateFlowContext.getInitialState()
+            .orElseThrow(() -> new StateFlowException("Failed to build StateFlow, no initial state defined."));
+
+        Map<String, Integer> indexes = new LinkedHashMap<>();
+        stateFlowContext.getStates().forEach(name -> indexes.putIfAbsent(name, indexes.size()));
+
+        ToIntFunction<CaseData> featureEncoder = null;
+        List<List<Edge>> outgoing = new ArrayList<>();
+        List<State> compiledStates = new ArrayList<>();
+        indexes.keySet().forEach(name -> {
+            compiledStates.add(State.from(name));
+            outgoing.add(new ArrayList<>());
+        });
+
+        for (Transition transition : stateFlowContext.getTransitions()) {
+            Integer source = indexes.get(transition.getSourceState());
+            Integer target = indexes.get(transition.getTargetState());
+            // transitions to states which were never declared are ignored, as the previous engine did
+            if (source != null && target != null) {
+                Edge edge = new Edge(target, transition.getCondition());
+                featureEncoder = sharedEncoder(featureEncoder, edge);
+                outgoing.get(source).add(edge);
+            }
+        }
+
+        this.states = compiledStates.toArray(new State[0]);
+        this.edges = new Edge[states.length][];
+        for (int i = 0; i < states.length; i++) {
+            this.edges[i] = outgoing.get(i).toArray(new Edge[0]);
+        }
+        this.initialState = indexes.get(initialStateName);
+        this.encoder = featureEncoder;
+        this.fingerprintMasks = new int[states.length];
+        this.resumable = new boolean[states.length];
+        for (int i = 0; i < states.length; i++) {
+            computeFingerprintMask(i);
+        }
+    }
+
+    /**
+     * The fingerprint mask of a state covers every feature read by guards leaving the states it can be reached from.
+     * While those features are unchanged the path to the state is unchanged. A state reachable from a guard which
+     * is not a {@link FeaturePredicate} cannot be fingerprinted and is never resumed from.
+     */
+    private void computeFingerprintMask(int state) {
+        boolean[] ancestors = new boolean[states.length];
+        Deque<Integer> pending = new ArrayDeque<>();
+        pending.push(state);
+        while (!pending.isEmpty()) {
+            int target = pending.pop();
+            for (int source = 0; source < states.length; source++) {
+                if (!ancestors[source] && hasEdge(source, target)) {
+                    ancestors[source] = true;
+                    pending.push(source);
+                }
+            }
+        }
+
+        int mask = 0;
+        boolean fingerprintable = true;
+        for (int source = 0; source < states.length; source++) {
+            if (ancestors[source]) {
+                for (Edge edge : edges[source]) {
+                    if (edge.featureCondition != null) {
+                        mask |= edge.featureCondition.getFeatureMask();
+                    } else if (edge.condition != null) {
+                        fingerprintable = false;
+                    }
+                }
+            }
+        }
+        fingerprintMasks[state] = mask;
+        resumable[state] = fingerprintable;
+    }
+
+    private boolean hasEdge(int source, int target) {
+        for (Edge edge : edges[source]) {
+            if (edge.target == target) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static ToIntFunction<CaseData> sharedEncoder(ToIntFunction<CaseData> encoder, Edge edge) {
+        if (edge.featureCondition == null) {
+            return encoder;
+        }
+        if (encoder != null && encoder != edge.featureCondition.getEncoder()) {
+            throw new StateFlowException("Failed to build StateFlow, feature predicates use more than one encoder.");
+        }
+        return edge.featureCondition.getEncoder();
+    }
+
+    /**
+     * Walks the flow from the initial state for the given case, following the first permitted transition out of
+     * each state. Guards leaving the same state are expected to be mutually exclusive; when more than one is
+     * permitted the ambiguity is logged and the result is marked as in error, see {@link StateFlow#hasError()}.
+     *
+     * @param caseData case to evaluate
+     * @return the immutable result of the evaluation
+     */
+    public StateFlow evaluate(CaseData caseData) {
+        int[] history = new int[states.length + 1];
+        history[0] = initialState;
+        return walk(history, 1, caseData, encode(caseData));
+    }
+
+    /**
+     * Fingerprint of the features a case had when it reached the given state, to be kept alongside the state and
+     * passed to {@link #evaluateFrom(int, int, CaseData)} on a later evaluation.
+     *
+     * @param state    index of the state reached by the case
+     * @param caseData case which reached the state
+     * @return the fingerprint
+     */
+    public int fingerprint(int state, CaseData caseData) {
+        return encode(caseData) & fingerprintMasks[state];
+    }
+
+    /**
+     * Evaluates the case starting from a state it reached earlier. When the case still has the features recorded in
+     * the fingerprint the path to that state is known to be unchanged, so guards are only evaluated from that state
+     * onwards. Otherwise, or when the state cannot be fingerprinted, the flow is evaluated from the initial state.
+     *
+     * @param state       index of the state reached earlier
+     * @param fingerprint fingerprint recorded when the state was reached, see {@link #fingerprint(int, CaseData)}
+     * @param caseData    case to evaluate
+     * @return the immutable result of the evaluation, the same as {@link #evaluate(CaseData)} would return
+     */
+    public StateFlow evaluateFrom(int state, int fingerprint, CaseData caseData) {
+        final int features = encode(caseData);
+        if (state < 0 || state >= states.length || !resumable[state]
+            || (features & fingerprintMasks[state]) != fingerprint) {
+            return evaluate(caseData);
+        }
+        int[] path = resumedPath(state, fingerprint, caseData);
+        if (path.length == 0) {
+            return evaluate(caseData);
+        }
+        return walk(Arrays.copyOf(path, states.length + 1), path.length, caseData, features);
+    }
+
+    /**
+     * Path from the initial state to the resumed state. Guards on the way only read fingerprinted features, so the
+     * path is walked against the fingerprint itself and can be shared by every case with the same fingerprint.
+     * The path is empty when the fingerprint does not lead to the state.
+     */
+    private int[] resumedPath(int state, int fingerprint, CaseData caseData) {
+        Long key = ((long) state << Integer.SIZE) | Integer.toUnsignedLong(fingerprint);
+        int[] path = resumedPaths.get(key);
+        if (path != null) {
+            return path;
+        }
+
+        int[] history = new int[states.length + 1];
+        int length = 0;
+        int current = initialState;
+        history[length++] = current;
+        while (current != state && length <= states.length) {
+            int edge = permittedEdge(current, 0, caseData, fingerprint);
+            // an ambiguous state on the way is left to the whole evaluation, which reports it
+            if (edge < 0 || permittedEdge(current, edge + 1, caseData, fingerprint) >= 0) {
+                break;
+            }
+            current = edges[current][edge].target;
+            history[length++] = current;
+        }
+        path = current == state ? Arrays.copyOf(history, length) : new int[0];
+
+        if (resumedPaths.size() < MAX_RESUMED_PATHS) {
+            resumedPaths.putIfAbsent(key, path);
+        }
+        return path;
+    }
+
+    /**
+     * Follows permitted transitions from the last state of the history, which is a buffer with room for every state
+     * of the flow plus one, so a cycle is detected before the buffer overflows.
+     */
+    private StateFlow walk(int[] history, int length, CaseData caseData, int features) {
+        int size = length;
+        boolean error = false;
+        while (true) {
+            int source = history[size - 1];
+            int edge = permittedEdge(source, 0, caseData, features);
+            if (edge < 0) {
+                break;
+            }
+            if (permittedEdge(source, edge + 1, caseData, features) >= 0) {
+                error = true;
+                logAmbiguity(source, caseData, features);
+            }
+            int next = edges[source][edge].target;
+            if (size > states.length) {
+                throw new StateFlowException(
+                    String.format("Cycle detected while evaluating StateFlow at state [%s].", states[next].getName())
+                );
+            }
+            history[size++] = next;
+        }
+
+        return new StateFlow(states, Arrays.copyOf(history, size), error);
+    }
+
+    private int permittedEdge(int source, int fromEdge, CaseData caseData, int features) {
+        Edge[] outgoing = edges[source];
+        for (int edge = fromEdge; edge < outgoing.length; edge++) {
+            if (outgoing[edge].isPermitted(caseData, features)) {
+                return edge;
+            }
+        }
+        return -1;
+    }
+
+    private void logAmbiguity(int source, CaseData caseData, int features) {
+        List<String> permittedStates = new ArrayList<>();
+        for (Edge edge : edges[source]) {
+            if (edge.isPermitted(caseData, features)) {
+                permittedStates.add(states[edge.target].getName());
+            }
+        }
+        log.error(String.format(
+            "Ambiguous transitions permitting state [%s] to move to more than one next states [%s].",
+            states[source].getName(), String.join(",", permittedStates)
+        ));
+    }
+
+    /**
+     * Whether every guard of the flow is a {@link FeaturePredicate}, in which case evaluation only depends on the
+     * features of a case and a case holding just the fields read by the encoder evaluates the same as the full case.
+     */
+    public boolean hasOnlyFeatureConditions() {
+        for (Edge[] outgoing : edges) {
+            for (Edge edge : outgoing) {
+                if (edge.featureCondition == null && edge.condition != null) {
+                    return false;
+                }
+            }
+        }
+        return true;
+    }
+
+    int encode(CaseData caseData) {
+        return encoder == null ? 0 : encoder.applyAsInt(caseData);
+    }
+
+    int getInitialState() {
+        return initialState;
+    }
+
+    public int getStateCount() {
+        return states.length;
+    }
+
+    public State getState(int index) {
+        return states[index];
+    }
+
+    /**
+     * Index of the state with the given name.
+     *
+     * @param stateName fully qualified name of the state
+     * @return index of the state, or -1 when the flow has no such state
+     */
+    public int indexOf(String stateName) {
+        for (int i = 0; i < states.length; i++) {
+            if (states[i].getName().equals(stateName)) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    Edge[] getEdges(int source) {
+        return edges[source];
+    }
+
+    static class Edge {
+
+        private final int target;
+        private final Predicate<CaseData> condition;
+        private final FeaturePredicate featureCondition;
+
+        Edge(int target, Predicate<CaseData> condition) {
+            this.target = target;
+            this.condition = condition;
+            this.featureCondition = condition instanceof FeaturePredicate ? (FeaturePredicate) condition : null;
+        }
+
+        int getTarget() {
+            return target;
+        }
+
+        boolean isPermitted(CaseData caseData, int features) {
+            if (featureCondition != null) {
+                return featureCondition.test(features);
+            }
+            return condition == null || condition.test(caseData);
+        }
+    }
+}
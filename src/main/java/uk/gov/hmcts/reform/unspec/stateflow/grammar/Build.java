@@ -1,11 +1,11 @@
 package uk.gov.hmcts.reform.unspec.stateflow.grammar;
 
-import uk.gov.hmcts.reform.unspec.stateflow.StateFlow;
+import uk.gov.hmcts.reform.unspec.stateflow.StateFlowGraph;
 
 /**
  * Represents the BUILD clause.
  */
 public interface Build {
 
-    StateFlow build();
+    StateFlowGraph build();
 }
@@ -13,6 +13,8 @@ import org.springframework.boot.test.mock.mockito.MockBean;
 import org.springframework.test.context.junit.jupiter.SpringExtension;
 import uk.gov.hmcts.reform.ccd.client.model.AboutToStartOrSubmitCallbackResponse;
 import uk.gov.hmcts.reform.ccd.client.model.CallbackRequest;
+import uk.gov.hmcts.reform.ccd.client.model.CaseDetails;
+import uk.gov.hmcts.reform.unspec.callback.CallbackContextFactory;
 import uk.gov.hmcts.reform.unspec.callback.CallbackParams;
 import uk.gov.hmcts.reform.unspec.callback.CallbackType;
 import uk.gov.hmcts.reform.unspec.helpers.CaseDetailsConverter;
@@ -34,6 +36,7 @@ import static uk.gov.hmcts.reform.unspec.callback.CaseEvent.DEFENDANT_RESPONSE;
 @ExtendWith(SpringExtension.class)
 @SpringBootTest(classes = {
     EventAllowedAspect.class,
+    CallbackContextFactory.class,
     FlowStateAllowedEventService.class,
     JacksonAutoConfiguration.class,
     CaseDetailsConverter.class,
@@ -45,6 +48,8 @@ class EventAllowedAspectTest {
 
     @Autowired
     EventAllowedAspect eventAllowedAspect;
+    @Autowired
+    CaseDetailsConverter caseDetailsConverter;
     @MockBean
     ProceedingJoinPoint proceedingJoinPoint;
 
@@ -72,12 +77,14 @@ class EventAllowedAspectTest {
             .build();
         when(proceedingJoinPoint.proceed()).thenReturn(response);
 
+        CaseDetails caseDetails = CaseDetailsBuilder.builder().atStatePendingClaimIssued().build();
         CallbackParams callbackParams = CallbackParamsBuilder.builder()
             .type(ABOUT_TO_START)
             .request(CallbackRequest.builder()
                          .eventId(DEFENDANT_RESPONSE.name())
-                         .caseDetails(CaseDetailsBuilder.builder().atStatePendingClaimIssued().build())
+                         .caseDetails(caseDetails)
                          .build())
+            .caseData(caseDetailsConverter.toCaseData(caseDetails))
             .build();
         Object result = eventAllowedAspect.checkEventAllowed(proceedingJoinPoint, callbackParams);
 
@@ -91,12 +98,14 @@ class EventAllowedAspectTest {
         AboutToStartOrSubmitCallbackResponse response = AboutToStartOrSubmitCallbackResponse.builder().build();
         when(proceedingJoinPoint.proceed()).thenReturn(response);
 
+        CaseDetails caseDetails = CaseDetailsBuilder.builder().atStateRespondedToClaim().build();
         CallbackParams callbackParams = CallbackParamsBuilder.builder()
             .type(ABOUT_TO_START)
             .request(CallbackRequest.builder()
                          .eventId(CLAIMANT_RESPONSE.name())
-                         .caseDetails(CaseDetailsBuilder.builder().atStateRespondedToClaim().build())
+                         .caseDetails(caseDetails)
                          .build())
+            .caseData(caseDetailsConverter.toCaseData(caseDetails))
             .build();
         Object result = eventAllowedAspect.checkEventAllowed(proceedingJoinPoint, callbackParams);
 
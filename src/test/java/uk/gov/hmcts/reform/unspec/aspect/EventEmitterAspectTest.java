@@ -11,14 +11,18 @@ import org.springframework.boot.autoconfigure.jackson.JacksonAutoConfiguration;
 import org.springframework.boot.test.context.SpringBootTest;
 import org.springframework.boot.test.mock.mockito.MockBean;
 import org.springframework.test.context.junit.jupiter.SpringExtension;
+import uk.gov.hmcts.reform.unspec.callback.CallbackContextFactory;
 import uk.gov.hmcts.reform.unspec.callback.CallbackParams;
 import uk.gov.hmcts.reform.unspec.callback.CallbackType;
+import uk.gov.hmcts.reform.unspec.config.EventEmitterConfiguration;
 import uk.gov.hmcts.reform.unspec.enums.BusinessProcessStatus;
 import uk.gov.hmcts.reform.unspec.helpers.CaseDetailsConverter;
 import uk.gov.hmcts.reform.unspec.model.BusinessProcess;
 import uk.gov.hmcts.reform.unspec.model.CaseData;
 import uk.gov.hmcts.reform.unspec.sampledata.CallbackParamsBuilder;
+import uk.gov.hmcts.reform.unspec.service.EventEmissionQueue;
 import uk.gov.hmcts.reform.unspec.service.EventEmitterService;
+import uk.gov.hmcts.reform.unspec.service.flowstate.StateFlowEngine;
 
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.verifyNoInteractions;
@@ -28,8 +32,12 @@ import static uk.gov.hmcts.reform.unspec.enums.BusinessProcessStatus.READY;
 @ExtendWith(SpringExtension.class)
 @SpringBootTest(classes = {
     EventEmitterAspect.class,
+    EventEmissionQueue.class,
+    EventEmitterConfiguration.class,
+    CallbackContextFactory.class,
     JacksonAutoConfiguration.class,
-    CaseDetailsConverter.class
+    CaseDetailsConverter.class,
+    StateFlowEngine.class
 })
 class EventEmitterAspectTest {
 
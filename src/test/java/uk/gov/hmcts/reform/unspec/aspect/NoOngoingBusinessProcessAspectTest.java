@@ -15,11 +15,14 @@ import org.springframework.boot.test.mock.mockito.MockBean;
 import org.springframework.test.context.junit.jupiter.SpringExtension;
 import uk.gov.hmcts.reform.ccd.client.model.AboutToStartOrSubmitCallbackResponse;
 import uk.gov.hmcts.reform.ccd.client.model.CallbackRequest;
+import uk.gov.hmcts.reform.unspec.callback.CallbackContextFactory;
 import uk.gov.hmcts.reform.unspec.callback.CallbackParams;
 import uk.gov.hmcts.reform.unspec.enums.BusinessProcessStatus;
+import uk.gov.hmcts.reform.unspec.helpers.CaseDetailsConverter;
 import uk.gov.hmcts.reform.unspec.model.BusinessProcess;
 import uk.gov.hmcts.reform.unspec.sampledata.CallbackParamsBuilder;
 import uk.gov.hmcts.reform.unspec.sampledata.CaseDataBuilder;
+import uk.gov.hmcts.reform.unspec.service.flowstate.StateFlowEngine;
 
 import java.util.List;
 
@@ -37,6 +40,9 @@ import static uk.gov.hmcts.reform.unspec.callback.CaseEvent.START_BUSINESS_PROCE
 @ExtendWith(SpringExtension.class)
 @SpringBootTest(classes = {
     NoOngoingBusinessProcessAspect.class,
+    CallbackContextFactory.class,
+    CaseDetailsConverter.class,
+    StateFlowEngine.class,
     JacksonAutoConfiguration.class
 })
 class NoOngoingBusinessProcessAspectTest {
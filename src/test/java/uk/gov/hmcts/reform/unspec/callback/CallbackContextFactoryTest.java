@@ -0,0 +1,146 @@
+package uk.gov.hmcts.reform.unspec.callback;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.jackson.JacksonAutoConfiguration;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.mock.mockito.SpyBean;
+import uk.gov.hmcts.reform.ccd.client.model.CallbackRequest;
+import uk.gov.hmcts.reform.ccd.client.model.CaseDetails;
+import uk.gov.hmcts.reform.unspec.helpers.CaseDetailsConverter;
+import uk.gov.hmcts.reform.unspec.model.BusinessProcess;
+import uk.gov.hmcts.reform.unspec.model.CaseData;
+import uk.gov.hmcts.reform.unspec.sampledata.CaseDataBuilder;
+import uk.gov.hmcts.reform.unspec.sampledata.CaseDetailsBuilder;
+import uk.gov.hmcts.reform.unspec.service.flowstate.FlowState;
+import uk.gov.hmcts.reform.unspec.service.flowstate.StateFlowEngine;
+
+import java.util.Map;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anySet;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static uk.gov.hmcts.reform.unspec.callback.CallbackType.ABOUT_TO_START;
+import static uk.gov.hmcts.reform.unspec.callback.CaseEvent.CREATE_CLAIM;
+
+@SpringBootTest(classes = {
+    CallbackContextFactory.class,
+    CaseDetailsConverter.class,
+    StateFlowEngine.class,
+    JacksonAutoConfiguration.class
+})
+class CallbackContextFactoryTest {
+
+    @Autowired
+    private CallbackContextFactory callbackContextFactory;
+
+    @SpyBean
+    private CaseDetailsConverter caseDetailsConverter;
+
+    @SpyBean
+    private StateFlowEngine stateFlowEngine;
+
+    @Test
+    void shouldNotConvertCaseDetails_whenCaseDataBoundOnReceipt() {
+        CaseData caseData = CaseDataBuilder.builder().atStateClaimDraft().build();
+        CallbackRequest request = CallbackRequest.builder()
+            .caseDetails(CaseDetailsBuilder.builder().data(caseData).build())
+            .build();
+
+        CallbackContext context = callbackContextFactory.create(request, caseData, "BEARER_TOKEN");
+
+        assertThat(context.getCaseData()).isSameAs(caseData);
+        assertThat(context.getBearerToken()).isEqualTo("BEARER_TOKEN");
+        assertThat(context.getConversions()).isEqualTo(1);
+        verify(caseDetailsConverter, never()).toCaseData(any(CaseDetails.class));
+    }
+
+    @Test
+    void shouldConvertCaseDetailsOnce_whenCaseDataNotBound() {
+        CaseDetails caseDetails = CaseDetailsBuilder.builder().atStatePendingClaimIssued().build();
+        CallbackContext context = callbackContextFactory.create(
+            CallbackRequest.builder().caseDetails(caseDetails).build(),
+            null,
+            "BEARER_TOKEN"
+        );
+
+        CaseData caseData = context.getCaseData();
+
+        assertThat(context.getCaseData()).isSameAs(caseData);
+        assertThat(context.getConversions()).isEqualTo(1);
+        verify(caseDetailsConverter).toCaseData(caseDetails);
+    }
+
+    @Test
+    void shouldDecodeOnlyBusinessProcessOfCaseBefore_once() {
+        CaseDetails caseDetailsBefore = CaseDetails.builder()
+            .data(Map.of("businessProcess", BusinessProcess.ready(CREATE_CLAIM), "applicant1", Map.of()))
+            .build();
+        CallbackContext context = callbackContextFactory.create(
+            CallbackRequest.builder().caseDetailsBefore(caseDetailsBefore).build(),
+            CaseData.builder().build(),
+            "BEARER_TOKEN"
+        );
+
+        assertThat(context.getBusinessProcessBefore()).isEqualTo(BusinessProcess.ready(CREATE_CLAIM));
+        assertThat(context.getBusinessProcessBefore()).isEqualTo(BusinessProcess.ready(CREATE_CLAIM));
+        assertThat(context.getConversions()).isEqualTo(2);
+        verify(caseDetailsConverter).toCaseData(caseDetailsBefore, Set.of("businessProcess"));
+    }
+
+    @Test
+    void shouldNotDecodeCaseBefore_whenNotRead() {
+        CallbackContext context = callbackContextFactory.create(
+            CallbackRequest.builder().caseDetailsBefore(CaseDetails.builder().data(Map.of()).build()).build(),
+            CaseData.builder().build(),
+            "BEARER_TOKEN"
+        );
+
+        assertThat(context.getConversions()).isEqualTo(1);
+        verify(caseDetailsConverter, never()).toCaseData(any(CaseDetails.class), anySet());
+    }
+
+    @Test
+    void shouldEvaluateFlowStateOnce() {
+        CaseData caseData = CaseDataBuilder.builder().atStateClaimDraft().build();
+        CallbackContext context = callbackContextFactory.create(CallbackRequest.builder().build(), caseData, null);
+
+        assertThat(context.getFlowState()).isEqualTo(FlowState.Main.DRAFT);
+        assertThat(context.getFlowState()).isEqualTo(FlowState.Main.DRAFT);
+        verify(stateFlowEngine, times(1)).getFlowState(caseData);
+    }
+
+    @Test
+    void shouldReturnContextOfCallback_whenGivenOnReceipt() {
+        CallbackContext context = callbackContextFactory.create(
+            CallbackRequest.builder().build(),
+            CaseData.builder().build(),
+            "BEARER_TOKEN"
+        );
+        CallbackParams params = CallbackParams.builder().type(ABOUT_TO_START).context(context).build();
+
+        assertThat(callbackContextFactory.of(params)).isSameAs(context);
+    }
+
+    @Test
+    void shouldCreateContextFromCallback_whenNotGivenOnReceipt() {
+        CaseData caseData = CaseData.builder().build();
+        CallbackParams params = CallbackParams.builder()
+            .type(ABOUT_TO_START)
+            .request(CallbackRequest.builder().build())
+            .caseData(caseData)
+            .params(Map.of(CallbackParams.Params.BEARER_TOKEN, "BEARER_TOKEN"))
+            .build();
+
+        CallbackContext context = callbackContextFactory.of(params);
+
+        assertThat(context.getCaseData()).isSameAs(caseData);
+        assertThat(context.getBearerToken()).isEqualTo("BEARER_TOKEN");
+        assertThat(params.getContext()).isSameAs(context);
+        assertThat(callbackContextFactory.of(params)).isSameAs(context);
+    }
+}
@@ -0,0 +1,65 @@
+package uk.gov.hmcts.reform.unspec.callback;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static uk.gov.hmcts.reform.unspec.callback.CallbackType.ABOUT_TO_START;
+import static uk.gov.hmcts.reform.unspec.callback.CallbackType.ABOUT_TO_SUBMIT;
+import static uk.gov.hmcts.reform.unspec.callback.CallbackType.MID;
+import static uk.gov.hmcts.reform.unspec.callback.CallbackType.SUBMITTED;
+import static uk.gov.hmcts.reform.unspec.callback.CallbackVersion.V_1;
+import static uk.gov.hmcts.reform.unspec.callback.CallbackVersion.V_2;
+
+class CallbackDispatchTableTest {
+
+    private final Callback aboutToSubmit = params -> null;
+    private final Callback aboutToSubmitV2 = params -> null;
+    private final Callback midPage = params -> null;
+    private final Callback midPageV1 = params -> null;
+
+    private final CallbackDispatchTable table = new CallbackDispatchTable(Map.of(
+        CallbackKey.of(null, ABOUT_TO_SUBMIT, null), aboutToSubmit,
+        CallbackKey.of(V_2, ABOUT_TO_SUBMIT, null), aboutToSubmitV2,
+        CallbackKey.of(null, MID, "page"), midPage,
+        CallbackKey.of(V_1, MID, "page"), midPageV1
+    ));
+
+    @Test
+    void shouldReturnCallbackOfVersion_whenVersionHasCallback() {
+        assertThat(table.get(V_2, ABOUT_TO_SUBMIT, null)).isSameAs(aboutToSubmitV2);
+        assertThat(table.get(V_1, MID, "page")).isSameAs(midPageV1);
+    }
+
+    @Test
+    void shouldFallBackToCallbackWithoutVersion_whenVersionHasNoCallback() {
+        assertThat(table.get(V_1, ABOUT_TO_SUBMIT, null)).isSameAs(aboutToSubmit);
+        assertThat(table.get(V_2, MID, "page")).isSameAs(midPage);
+    }
+
+    @Test
+    void shouldReturnCallbackWithoutVersion_whenNoVersionGiven() {
+        assertThat(table.get(null, ABOUT_TO_SUBMIT, null)).isSameAs(aboutToSubmit);
+        assertThat(table.get(null, MID, "page")).isSameAs(midPage);
+    }
+
+    @Test
+    void shouldReturnNull_whenNoCallbackForTypeOrPage() {
+        assertThat(table.get(null, SUBMITTED, null)).isNull();
+        assertThat(table.get(V_1, ABOUT_TO_START, null)).isNull();
+        assertThat(table.get(V_1, MID, "other-page")).isNull();
+        assertThat(table.get(V_1, MID, null)).isNull();
+    }
+
+    @Test
+    void shouldNotFallBackAcrossVersions_whenOnlyVersionedCallback() {
+        CallbackDispatchTable versionedOnly = new CallbackDispatchTable(Map.of(
+            CallbackKey.of(V_1, ABOUT_TO_SUBMIT, null), aboutToSubmit
+        ));
+
+        assertThat(versionedOnly.get(V_1, ABOUT_TO_SUBMIT, null)).isSameAs(aboutToSubmit);
+        assertThat(versionedOnly.get(V_2, ABOUT_TO_SUBMIT, null)).isNull();
+        assertThat(versionedOnly.get(null, ABOUT_TO_SUBMIT, null)).isNull();
+    }
+}
@@ -1,11 +1,13 @@
 package uk.gov.hmcts.reform.unspec.callback;
 
 import com.google.common.collect.ImmutableMap;
+import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.autoconfigure.jackson.JacksonAutoConfiguration;
 import org.springframework.boot.test.context.SpringBootTest;
 import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.boot.test.mock.mockito.SpyBean;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Import;
 import uk.gov.hmcts.reform.ccd.client.model.AboutToStartOrSubmitCallbackResponse;
@@ -14,14 +16,21 @@ import uk.gov.hmcts.reform.ccd.client.model.CallbackResponse;
 import uk.gov.hmcts.reform.ccd.client.model.CaseDetails;
 import uk.gov.hmcts.reform.unspec.helpers.CaseDetailsConverter;
 import uk.gov.hmcts.reform.unspec.model.BusinessProcess;
+import uk.gov.hmcts.reform.unspec.service.flowstate.StateFlowEngine;
 
 import java.util.Collections;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import static java.lang.String.format;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anySet;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
 import static uk.gov.hmcts.reform.unspec.callback.CallbackType.ABOUT_TO_SUBMIT;
 import static uk.gov.hmcts.reform.unspec.callback.CallbackVersion.V_1;
 import static uk.gov.hmcts.reform.unspec.callback.CallbackVersion.V_2;
@@ -31,7 +40,9 @@ import static uk.gov.hmcts.reform.unspec.callback.CaseEvent.NOTIFY_RESPONDENT_SO
 
 @SpringBootTest(classes = {
     CallbackHandlerFactory.class,
+    CallbackContextFactory.class,
     CaseDetailsConverter.class,
+    StateFlowEngine.class,
     JacksonAutoConfiguration.class},
     properties = {"spring.main.allow-bean-definition-overriding=true"}
 )
@@ -47,6 +58,8 @@ class CallbackHandlerFactoryTest {
         .errors(List.of(format("Event %s is already processed", NOTIFY_RESPONDENT_SOLICITOR1_FOR_CLAIM_ISSUE.name())))
         .build();
 
+    private static final AtomicInteger SEND_SEALED_CLAIM_CALLS = new AtomicInteger();
+
     @TestConfiguration
     public static class OverrideBean {
         @Bean
@@ -54,7 +67,7 @@ class CallbackHandlerFactoryTest {
 
             return new CallbackHandler() {
                 @Override
-                protected Map<String, Callback> callbacks() {
+                protected Map<CallbackKey, Callback> callbacks() {
                     return ImmutableMap.of(
                         callbackKey(V_1, ABOUT_TO_SUBMIT), this::createCitizenClaim
                     );
@@ -76,13 +89,14 @@ class CallbackHandlerFactoryTest {
 
             return new CallbackHandler() {
                 @Override
-                protected Map<String, Callback> callbacks() {
+                protected Map<CallbackKey, Callback> callbacks() {
                     return ImmutableMap.of(
                         callbackKey(V_1, ABOUT_TO_SUBMIT), this::sendSealedClaim
                     );
                 }
 
                 private CallbackResponse sendSealedClaim(CallbackParams callbackParams) {
+                    SEND_SEALED_CLAIM_CALLS.incrementAndGet();
                     return EVENT_HANDLED_RESPONSE;
                 }
 
@@ -103,7 +117,7 @@ class CallbackHandlerFactoryTest {
 
             return new CallbackHandler() {
                 @Override
-                protected Map<String, Callback> callbacks() {
+                protected Map<CallbackKey, Callback> callbacks() {
                     return ImmutableMap.of(
                         callbackKey(ABOUT_TO_SUBMIT), this::doMethod
                     );
@@ -124,6 +138,17 @@ class CallbackHandlerFactoryTest {
     @Autowired
     private CallbackHandlerFactory callbackHandlerFactory;
 
+    @Autowired
+    private CallbackContextFactory callbackContextFactory;
+
+    @SpyBean
+    private CaseDetailsConverter caseDetailsConverter;
+
+    @BeforeEach
+    void resetCalls() {
+        SEND_SEALED_CLAIM_CALLS.set(0);
+    }
+
     @Test
     void shouldThrowCallbackException_whenUnknownEvent() {
         CallbackRequest callbackRequest = CallbackRequest
@@ -202,6 +227,7 @@ class CallbackHandlerFactoryTest {
         CallbackResponse callbackResponse = callbackHandlerFactory.dispatch(params);
 
         assertEquals(ALREADY_HANDLED_EVENT_RESPONSE, callbackResponse);
+        assertEquals(0, SEND_SEALED_CLAIM_CALLS.get());
     }
 
     @Test
@@ -225,6 +251,8 @@ class CallbackHandlerFactoryTest {
         CallbackResponse callbackResponse = callbackHandlerFactory.dispatch(params);
 
         assertEquals(EVENT_HANDLED_RESPONSE, callbackResponse);
+        assertEquals(1, SEND_SEALED_CLAIM_CALLS.get());
+        verify(caseDetailsConverter).toCaseData(callbackRequest.getCaseDetailsBefore(), Set.of("businessProcess"));
     }
 
     @Test
@@ -248,6 +276,8 @@ class CallbackHandlerFactoryTest {
         CallbackResponse callbackResponse = callbackHandlerFactory.dispatch(params);
 
         assertEquals(EVENT_HANDLED_RESPONSE, callbackResponse);
+        verify(caseDetailsConverter, never()).toCaseData(any(CaseDetails.class), anySet());
+        verify(caseDetailsConverter, never()).toCaseData(any(CaseDetails.class));
     }
 
     @Test
@@ -305,4 +335,41 @@ class CallbackHandlerFactoryTest {
 
         assertEquals(EVENT_HANDLED_RESPONSE, callbackResponse);
     }
+
+    @Test
+    void shouldFailToStart_whenTwoHandlersHandleSameEvent() {
+        CallbackHandler first = handlerOf(CREATE_CLAIM, Map.of(callbackKey(ABOUT_TO_SUBMIT), params -> null));
+        CallbackHandler second = handlerOf(CREATE_CLAIM, Map.of(callbackKey(ABOUT_TO_SUBMIT), params -> null));
+
+        assertThatThrownBy(() -> new CallbackHandlerFactory(callbackContextFactory, first, second))
+            .isInstanceOf(IllegalStateException.class)
+            .hasMessageStartingWith("Event CREATE_CLAIM is handled by both");
+    }
+
+    @Test
+    void shouldFailToStart_whenHandlerHasNoCallbacks() {
+        CallbackHandler handler = handlerOf(CREATE_CLAIM, Map.of());
+
+        assertThatThrownBy(() -> new CallbackHandlerFactory(callbackContextFactory, handler))
+            .isInstanceOf(IllegalStateException.class)
+            .hasMessageStartingWith("No callbacks defined by");
+    }
+
+    private static CallbackKey callbackKey(CallbackType type) {
+        return CallbackKey.of(null, type, null);
+    }
+
+    private static CallbackHandler handlerOf(CaseEvent event, Map<CallbackKey, Callback> callbacks) {
+        return new CallbackHandler() {
+            @Override
+            protected Map<CallbackKey, Callback> callbacks() {
+                return callbacks;
+            }
+
+            @Override
+            public List<CaseEvent> handledEvents() {
+                return List.of(event);
+            }
+        };
+    }
 }
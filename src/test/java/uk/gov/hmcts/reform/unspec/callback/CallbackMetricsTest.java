@@ -0,0 +1,115 @@
+package uk.gov.hmcts.reform.unspec.callback;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import uk.gov.hmcts.reform.ccd.client.model.CallbackRequest;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+import static uk.gov.hmcts.reform.unspec.callback.CallbackPhase.DESERIALISATION;
+import static uk.gov.hmcts.reform.unspec.callback.CallbackPhase.HANDLER;
+import static uk.gov.hmcts.reform.unspec.callback.CallbackPhase.OUTBOUND_CALLS;
+import static uk.gov.hmcts.reform.unspec.callback.CallbackType.MID;
+import static uk.gov.hmcts.reform.unspec.callback.CaseEvent.CREATE_CLAIM;
+
+class CallbackMetricsTest {
+
+    private final SimpleMeterRegistry registry = new SimpleMeterRegistry();
+    private final CallbackHandlerFactory callbackHandlerFactory = mock(CallbackHandlerFactory.class);
+    private final CallbackMetrics callbackMetrics = new CallbackMetrics(registry, callbackHandlerFactory);
+    private final MockHttpServletRequest request = new MockHttpServletRequest();
+    private final MockHttpServletResponse response = new MockHttpServletResponse();
+
+    @BeforeEach
+    void registerCallbacks() {
+        when(callbackHandlerFactory.isRegistered(CREATE_CLAIM.name())).thenReturn(true);
+        when(callbackHandlerFactory.isRegistered(CREATE_CLAIM.name(), "fee")).thenReturn(true);
+    }
+
+    @AfterEach
+    void unbind() {
+        CallbackTimings.end();
+    }
+
+    @Test
+    void shouldRecordCallbackAndPhases_whenCallbackHandled() {
+        callbackMetrics.preHandle(request, response, null);
+        CallbackTimings timings = CallbackTimings.current();
+        CallbackTimings.recordCurrent(DESERIALISATION, 1_000_000);
+        timings.record(HANDLER, 5_000_000);
+        timings.handled(callbackParams());
+
+        callbackMetrics.afterCompletion(request, response, null, null);
+
+        assertThat(registry.get("ccd.callback")
+                       .tags("event", CREATE_CLAIM.name(), "type", "mid", "page", "fee", "version", "V_1")
+                       .timer().count()).isEqualTo(1);
+        assertThat(registry.get("ccd.callback.phase").tags("event", CREATE_CLAIM.name(), "phase", "handler")
+                       .timer().totalTime(TimeUnit.MILLISECONDS)).isEqualTo(5);
+        assertThat(registry.get("ccd.callback.phase").tags("phase", "deserialisation")
+                       .timer().totalTime(TimeUnit.MILLISECONDS)).isEqualTo(1);
+        assertThat(registry.get("ccd.callback.phase").tags("phase", "serialisation").timer().count()).isEqualTo(1);
+        assertThat(registry.find("ccd.callback.phase").tags("phase", "aspects").timer()).isNull();
+        assertThat(CallbackTimings.current()).isNull();
+    }
+
+    @Test
+    void shouldTagAsUnknown_whenEventOrPageIdIsNotRegistered() {
+        callbackMetrics.preHandle(request, response, null);
+        CallbackTimings.current().handled(callbackParams().toBuilder()
+                                              .request(CallbackRequest.builder().eventId("NOT_AN_EVENT").build())
+                                              .pageId("not-a-page")
+                                              .build());
+
+        callbackMetrics.afterCompletion(request, response, null, null);
+
+        assertThat(registry.get("ccd.callback").tags("event", "unknown", "page", "unknown").timer().count())
+            .isEqualTo(1);
+        assertThat(registry.find("ccd.callback").tags("event", "NOT_AN_EVENT").timer()).isNull();
+    }
+
+    @Test
+    void shouldNotRecordCallback_whenRequestNotHandled() {
+        callbackMetrics.preHandle(request, response, null);
+
+        callbackMetrics.afterCompletion(request, response, null, new IllegalArgumentException("bad request"));
+
+        assertThat(registry.find("ccd.callback").timer()).isNull();
+        assertThat(CallbackTimings.current()).isNull();
+    }
+
+    @Test
+    void shouldAttributeTimeToCallback_whenTaskPropagatedToOtherThread() {
+        CallbackTimings timings = CallbackTimings.start();
+
+        CompletableFuture.runAsync(CallbackTimings.propagate(
+            () -> CallbackTimings.recordCurrent(OUTBOUND_CALLS, 2_000_000)
+        )).join();
+
+        assertThat(timings.get(OUTBOUND_CALLS)).isEqualTo(2_000_000);
+    }
+
+    @Test
+    void shouldNotRecordTime_whenNoCallbackHandled() {
+        CallbackTimings.recordCurrent(OUTBOUND_CALLS, 2_000_000);
+
+        assertThat(CallbackTimings.current()).isNull();
+    }
+
+    private static CallbackParams callbackParams() {
+        return CallbackParams.builder()
+            .request(CallbackRequest.builder().eventId(CREATE_CLAIM.name()).build())
+            .type(MID)
+            .pageId("fee")
+            .version(CallbackVersion.V_1)
+            .build();
+    }
+}
@@ -0,0 +1,24 @@
+package uk.gov.hmcts.reform.unspec.config;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.test.context.runner.ApplicationContextRunner;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class EventEmitterConfigurationTest {
+
+    ApplicationContextRunner context = new ApplicationContextRunner()
+        .withUserConfiguration(EventEmitterConfiguration.class);
+
+    @Test
+    void shouldBindConfiguration_whenPropertiesAreWithinBounds() {
+        context.withPropertyValues("event-emitter.workers=4")
+            .run(it -> assertThat(it.getBean(EventEmitterConfiguration.class).getWorkers()).isEqualTo(4));
+    }
+
+    @Test
+    void shouldFailToStart_whenPropertyIsOutOfBounds() {
+        context.withPropertyValues("event-emitter.workers=0")
+            .run(it -> assertThat(it).hasFailed());
+    }
+}
@@ -0,0 +1,45 @@
+package uk.gov.hmcts.reform.unspec.handler.callback;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.springframework.beans.factory.BeanFactory;
+import org.springframework.beans.factory.BeanFactoryAware;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import uk.gov.hmcts.reform.unspec.callback.CallbackParams;
+import uk.gov.hmcts.reform.unspec.helpers.CaseDataPatcher;
+import uk.gov.hmcts.reform.unspec.model.CaseData;
+
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Replaces the {@link CaseDataPatcher} of a handler test with one checking every response it builds holds the whole
+ * updated case, as {@link CaseData#toMap(ObjectMapper)} maps it.
+ */
+public class CaseDataPatcherGuard implements BeanPostProcessor, BeanFactoryAware {
+
+    private BeanFactory beanFactory;
+
+    @Override
+    public void setBeanFactory(BeanFactory beanFactory) {
+        this.beanFactory = beanFactory;
+    }
+
+    @Override
+    public Object postProcessAfterInitialization(Object bean, String beanName) {
+        if (bean.getClass() != CaseDataPatcher.class) {
+            return bean;
+        }
+        ObjectMapper objectMapper = beanFactory.getBean(ObjectMapper.class);
+        return new CaseDataPatcher(objectMapper) {
+            @Override
+            public Map<String, Object> toMap(CallbackParams callbackParams, CaseData updated) {
+                Map<String, Object> data = super.toMap(callbackParams, updated);
+                assertThat(data)
+                    .as("case data patched from the changed fields of the case")
+                    .isEqualTo(updated.toMap(objectMapper));
+                return data;
+            }
+        };
+    }
+}
@@ -11,6 +11,7 @@ import uk.gov.hmcts.reform.ccd.client.model.AboutToStartOrSubmitCallbackResponse
 import uk.gov.hmcts.reform.unspec.callback.CallbackParams;
 import uk.gov.hmcts.reform.unspec.enums.BusinessProcessStatus;
 import uk.gov.hmcts.reform.unspec.handler.callback.BaseCallbackHandlerTest;
+import uk.gov.hmcts.reform.unspec.helpers.CaseDataPatcher;
 import uk.gov.hmcts.reform.unspec.helpers.CaseDetailsConverter;
 import uk.gov.hmcts.reform.unspec.model.BusinessProcess;
 import uk.gov.hmcts.reform.unspec.model.CaseData;
@@ -25,6 +26,7 @@ import static uk.gov.hmcts.reform.unspec.enums.BusinessProcessStatus.READY;
 
 @SpringBootTest(classes = {
     DispatchBusinessProcessCallbackHandler.class,
+    CaseDataPatcher.class,
     JacksonAutoConfiguration.class,
     CaseDetailsConverter.class
 })
@@ -1,6 +1,5 @@
 package uk.gov.hmcts.reform.unspec.handler.callback.camunda.caseassignment;
 
-import com.fasterxml.jackson.core.type.TypeReference;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -16,6 +15,7 @@ import uk.gov.hmcts.reform.unspec.callback.CallbackType;
 import uk.gov.hmcts.reform.unspec.enums.BusinessProcessStatus;
 import uk.gov.hmcts.reform.unspec.enums.CaseRole;
 import uk.gov.hmcts.reform.unspec.handler.callback.BaseCallbackHandlerTest;
+import uk.gov.hmcts.reform.unspec.helpers.CaseDataPatcher;
 import uk.gov.hmcts.reform.unspec.helpers.CaseDetailsConverter;
 import uk.gov.hmcts.reform.unspec.model.BusinessProcess;
 import uk.gov.hmcts.reform.unspec.model.CaseData;
@@ -23,13 +23,13 @@ import uk.gov.hmcts.reform.unspec.model.IdamUserDetails;
 import uk.gov.hmcts.reform.unspec.sampledata.CaseDataBuilder;
 import uk.gov.hmcts.reform.unspec.service.CoreCaseUserService;
 
-import java.util.Map;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.Mockito.verify;
 
 @SpringBootTest(classes = {
     AssignCaseToUserHandler.class,
+    CaseDataPatcher.class,
     JacksonAutoConfiguration.class,
     CaseDetailsConverter.class
 })
@@ -64,9 +64,7 @@ class AssignCaseToUserHandlerTest extends BaseCallbackHandlerTest {
                                                .build())
             .build();
 
-        Map<String, Object> dataMap = objectMapper.convertValue(caseData, new TypeReference<>() {
-        });
-        params = callbackParamsOf(dataMap, CallbackType.ABOUT_TO_SUBMIT);
+        params = callbackParamsOf(caseData, CallbackType.ABOUT_TO_SUBMIT);
     }
 
     @Test
@@ -8,6 +8,7 @@ import org.springframework.boot.test.context.SpringBootTest;
 import uk.gov.hmcts.reform.ccd.client.model.AboutToStartOrSubmitCallbackResponse;
 import uk.gov.hmcts.reform.unspec.callback.CallbackParams;
 import uk.gov.hmcts.reform.unspec.handler.callback.BaseCallbackHandlerTest;
+import uk.gov.hmcts.reform.unspec.helpers.CaseDataPatcher;
 import uk.gov.hmcts.reform.unspec.model.CaseData;
 import uk.gov.hmcts.reform.unspec.sampledata.CaseDataBuilder;
 
@@ -17,6 +18,7 @@ import static uk.gov.hmcts.reform.unspec.callback.CallbackType.ABOUT_TO_SUBMIT;
 @SpringBootTest(classes = {
     ProceedOfflineForUnRepresentedCallbackHandler.class,
     ProceedOfflineForUnRegisteredCallbackHandler.class,
+    CaseDataPatcher.class,
     JacksonAutoConfiguration.class
 })
 class ProceedOfflineCallbackHandlerTest extends BaseCallbackHandlerTest {
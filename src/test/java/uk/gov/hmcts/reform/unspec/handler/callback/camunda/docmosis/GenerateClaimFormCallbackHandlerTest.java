@@ -13,6 +13,7 @@ import org.springframework.test.context.junit.jupiter.SpringExtension;
 import uk.gov.hmcts.reform.ccd.client.model.AboutToStartOrSubmitCallbackResponse;
 import uk.gov.hmcts.reform.unspec.callback.CallbackParams;
 import uk.gov.hmcts.reform.unspec.handler.callback.BaseCallbackHandlerTest;
+import uk.gov.hmcts.reform.unspec.helpers.CaseDataPatcher;
 import uk.gov.hmcts.reform.unspec.helpers.CaseDetailsConverter;
 import uk.gov.hmcts.reform.unspec.model.CaseData;
 import uk.gov.hmcts.reform.unspec.model.documents.CaseDocument;
@@ -37,6 +38,7 @@ import static uk.gov.hmcts.reform.unspec.model.documents.DocumentType.SEALED_CLA
 @ExtendWith(SpringExtension.class)
 @SpringBootTest(classes = {
     GenerateClaimFormCallbackHandler.class,
+    CaseDataPatcher.class,
     JacksonAutoConfiguration.class,
     CaseDetailsConverter.class
 })
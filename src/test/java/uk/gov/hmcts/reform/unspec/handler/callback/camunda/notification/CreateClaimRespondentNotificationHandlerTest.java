@@ -11,6 +11,7 @@ import uk.gov.hmcts.reform.ccd.client.model.CallbackRequest;
 import uk.gov.hmcts.reform.unspec.callback.CallbackParams;
 import uk.gov.hmcts.reform.unspec.config.properties.notification.NotificationsProperties;
 import uk.gov.hmcts.reform.unspec.handler.callback.BaseCallbackHandlerTest;
+import uk.gov.hmcts.reform.unspec.helpers.CaseDataPatcher;
 import uk.gov.hmcts.reform.unspec.model.CaseData;
 import uk.gov.hmcts.reform.unspec.sampledata.CallbackParamsBuilder;
 import uk.gov.hmcts.reform.unspec.sampledata.CaseDataBuilder;
@@ -32,6 +33,7 @@ import static uk.gov.hmcts.reform.unspec.sampledata.CaseDataBuilder.NOTIFICATION
 
 @SpringBootTest(classes = {
     CreateClaimRespondentNotificationHandler.class,
+    CaseDataPatcher.class,
     JacksonAutoConfiguration.class,
 })
 class CreateClaimRespondentNotificationHandlerTest extends BaseCallbackHandlerTest {
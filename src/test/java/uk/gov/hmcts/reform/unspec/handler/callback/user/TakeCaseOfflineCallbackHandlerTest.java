@@ -12,6 +12,7 @@ import org.springframework.test.context.junit.jupiter.SpringExtension;
 import uk.gov.hmcts.reform.ccd.client.model.AboutToStartOrSubmitCallbackResponse;
 import uk.gov.hmcts.reform.unspec.callback.CallbackParams;
 import uk.gov.hmcts.reform.unspec.handler.callback.BaseCallbackHandlerTest;
+import uk.gov.hmcts.reform.unspec.helpers.CaseDataPatcher;
 import uk.gov.hmcts.reform.unspec.model.CaseData;
 import uk.gov.hmcts.reform.unspec.sampledata.CaseDataBuilder;
 import uk.gov.hmcts.reform.unspec.service.Time;
@@ -28,6 +29,7 @@ import static uk.gov.hmcts.reform.unspec.callback.CaseEvent.TAKE_CASE_OFFLINE;
 @ExtendWith(SpringExtension.class)
 @SpringBootTest(classes = {
     TakeCaseOfflineCallbackHandler.class,
+    CaseDataPatcher.class,
     JacksonAutoConfiguration.class
 })
 class TakeCaseOfflineCallbackHandlerTest extends BaseCallbackHandlerTest {
@@ -11,6 +11,7 @@ import org.camunda.bpm.engine.variable.Variables;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
 import org.mockito.Mock;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.autoconfigure.jackson.JacksonAutoConfiguration;
@@ -22,8 +23,10 @@ import uk.gov.hmcts.reform.ccd.client.model.CaseDetails;
 import uk.gov.hmcts.reform.ccd.client.model.StartEventResponse;
 import uk.gov.hmcts.reform.unspec.enums.BusinessProcessStatus;
 import uk.gov.hmcts.reform.unspec.helpers.CaseDetailsConverter;
+import uk.gov.hmcts.reform.unspec.launchdarkly.FeatureToggleService;
 import uk.gov.hmcts.reform.unspec.model.BusinessProcess;
 import uk.gov.hmcts.reform.unspec.model.CaseData;
+import uk.gov.hmcts.reform.unspec.model.FlowStateSnapshot;
 import uk.gov.hmcts.reform.unspec.sampledata.CaseDataBuilder;
 import uk.gov.hmcts.reform.unspec.sampledata.CaseDetailsBuilder;
 import uk.gov.hmcts.reform.unspec.service.CoreCaseDataService;
@@ -32,6 +35,7 @@ import uk.gov.hmcts.reform.unspec.service.flowstate.StateFlowEngine;
 import java.util.HashMap;
 import java.util.Map;
 
+import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyInt;
 import static org.mockito.ArgumentMatchers.anyLong;
@@ -64,6 +68,9 @@ class CaseEventTaskHandlerTest {
     @MockBean
     private CoreCaseDataService coreCaseDataService;
 
+    @MockBean
+    private FeatureToggleService featureToggleService;
+
     @Autowired
     private CaseEventTaskHandler caseEventTaskHandler;
 
@@ -101,6 +108,30 @@ class CaseEventTaskHandlerTest {
         verify(externalTaskService).complete(mockTask, getVariableMap("MAIN.DRAFT"));
     }
 
+    @Test
+    void shouldSubmitFlowStateSnapshot_whenFlowStateSnapshotFeatureEnabled() {
+        CaseData caseData = new CaseDataBuilder().atStateClaimIssued()
+            .businessProcess(BusinessProcess.builder().status(BusinessProcessStatus.READY).build())
+            .build();
+
+        CaseDetails caseDetails = CaseDetailsBuilder.builder().data(caseData).build();
+
+        when(featureToggleService.isFeatureEnabled("flow-state-snapshot")).thenReturn(true);
+        when(coreCaseDataService.startUpdate(CASE_ID, NOTIFY_RESPONDENT_SOLICITOR1_FOR_CLAIM_ISSUE))
+            .thenReturn(StartEventResponse.builder().caseDetails(caseDetails).build());
+        when(coreCaseDataService.submitUpdate(eq(CASE_ID), any(CaseDataContent.class))).thenReturn(caseData);
+
+        caseEventTaskHandler.execute(mockTask, externalTaskService);
+
+        ArgumentCaptor<CaseDataContent> caseDataContent = ArgumentCaptor.forClass(CaseDataContent.class);
+        verify(coreCaseDataService).submitUpdate(eq(CASE_ID), caseDataContent.capture());
+        assertThat(caseDataContent.getValue().getData())
+            .extracting(data -> ((Map<?, ?>) data).get("flowStateSnapshot"))
+            .isInstanceOf(FlowStateSnapshot.class)
+            .extracting("flowState")
+            .isEqualTo("MAIN.CLAIM_ISSUED");
+    }
+
     @Test
     void shouldCallHandleFailureMethod_whenExceptionFromBusinessLogic() {
         String errorMessage = "there was an error";
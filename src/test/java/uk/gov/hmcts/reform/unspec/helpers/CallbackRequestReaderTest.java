@@ -0,0 +1,137 @@
+package uk.gov.hmcts.reform.unspec.helpers;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.SneakyThrows;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.jackson.JacksonAutoConfiguration;
+import org.springframework.boot.test.context.SpringBootTest;
+import uk.gov.hmcts.reform.ccd.client.model.CallbackRequest;
+import uk.gov.hmcts.reform.ccd.client.model.CaseDetails;
+import uk.gov.hmcts.reform.unspec.callback.BoundCallbackRequest;
+import uk.gov.hmcts.reform.unspec.model.CaseData;
+import uk.gov.hmcts.reform.unspec.sampledata.CaseDataBuilder;
+import uk.gov.hmcts.reform.unspec.sampledata.CaseDetailsBuilder;
+
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static uk.gov.hmcts.reform.unspec.callback.CaseEvent.CLAIMANT_RESPONSE;
+import static uk.gov.hmcts.reform.unspec.enums.CaseState.AWAITING_APPLICANT_INTENTION;
+import static uk.gov.hmcts.reform.unspec.service.flowstate.FlowState.Main.FULL_DEFENCE_PROCEED;
+
+@SpringBootTest(classes = {
+    JacksonAutoConfiguration.class,
+    CaseDetailsConverter.class,
+    CallbackRequestReader.class
+})
+class CallbackRequestReaderTest {
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private CaseDetailsConverter caseDetailsConverter;
+
+    @Autowired
+    private CallbackRequestReader callbackRequestReader;
+
+    @Test
+    void shouldBindSameRequestAndCaseDataAsCaseDetailsConverter() {
+        CaseDetails caseDetails = CaseDetailsBuilder.builder()
+            .data(CaseDataBuilder.builder().atState(FULL_DEFENCE_PROCEED).build())
+            .state(AWAITING_APPLICANT_INTENTION)
+            .id(1594901956117591L)
+            .build();
+        CallbackRequest callbackRequest = CallbackRequest.builder()
+            .eventId(CLAIMANT_RESPONSE.name())
+            .caseDetails(caseDetails)
+            .caseDetailsBefore(caseDetails)
+            .build();
+        String json = toJson(callbackRequest);
+        CallbackRequest expectedRequest = fromJson(json);
+
+        BoundCallbackRequest boundCallbackRequest = read(json);
+
+        assertThat(boundCallbackRequest.getRequest()).isEqualTo(expectedRequest);
+        assertThat(boundCallbackRequest.getCaseData())
+            .isEqualTo(caseDetailsConverter.toCaseData(expectedRequest.getCaseDetails()));
+        assertThat(boundCallbackRequest.getCaseData().getCcdCaseReference()).isEqualTo(1594901956117591L);
+        assertThat(boundCallbackRequest.getCaseData().getCcdState()).isEqualTo(AWAITING_APPLICANT_INTENTION);
+        assertThat(boundCallbackRequest.getCaseData().getRespondent1DQ()).isNotNull();
+    }
+
+    @Test
+    void shouldBindCaseData_whenCaseDataSentAsData() {
+        String json = toJson(Map.of(
+            "event_id", CLAIMANT_RESPONSE.name(),
+            "case_details", Map.of("id", 1L, "data", Map.of("legacyCaseReference", "000LR001"))
+        ));
+
+        CaseData caseData = read(json).getCaseData();
+
+        assertThat(caseData.getLegacyCaseReference()).isEqualTo("000LR001");
+        assertThat(caseData.getCcdCaseReference()).isEqualTo(1L);
+    }
+
+    @Test
+    void shouldKeepWholeDataMap_whenDataHasFieldsNotBoundToCaseData() {
+        Map<String, Object> data = Map.of(
+            "legacyCaseReference", "000LR001",
+            "notInCaseData", Map.of("values", List.of(1, "two", true))
+        );
+        String json = toJson(Map.of(
+            "unknown", List.of(Map.of("id", 2)),
+            "event_id", CLAIMANT_RESPONSE.name(),
+            "case_details", Map.of("id", 1L, "unknown", Map.of("id", 3), "case_data", data)
+        ));
+
+        BoundCallbackRequest boundCallbackRequest = read(json);
+
+        assertThat(boundCallbackRequest.getRequest()).isEqualTo(fromJson(json));
+        assertThat(boundCallbackRequest.getRequest().getCaseDetails().getData()).isEqualTo(data);
+        assertThat(boundCallbackRequest.getCaseData().getLegacyCaseReference()).isEqualTo("000LR001");
+    }
+
+    @Test
+    void shouldBindEmptyCaseData_whenNoCaseDetails() {
+        BoundCallbackRequest boundCallbackRequest = read(toJson(Map.of("event_id", CLAIMANT_RESPONSE.name())));
+
+        assertThat(boundCallbackRequest.getRequest().getEventId()).isEqualTo(CLAIMANT_RESPONSE.name());
+        assertThat(boundCallbackRequest.getCaseData()).isEqualTo(CaseData.builder().build());
+    }
+
+    @Test
+    void shouldThrowJsonProcessingException_whenBodyIsNotJson() {
+        ByteArrayInputStream body = new ByteArrayInputStream("{\"event_id\":".getBytes(StandardCharsets.UTF_8));
+
+        assertThrows(JsonProcessingException.class, () -> callbackRequestReader.read(body));
+    }
+
+    @Test
+    void shouldThrowJsonProcessingException_whenBodyIsNotObject() {
+        ByteArrayInputStream body = new ByteArrayInputStream("[]".getBytes(StandardCharsets.UTF_8));
+
+        assertThrows(JsonProcessingException.class, () -> callbackRequestReader.read(body));
+    }
+
+    @SneakyThrows
+    private BoundCallbackRequest read(String json) {
+        return callbackRequestReader.read(new ByteArrayInputStream(json.getBytes(StandardCharsets.UTF_8)));
+    }
+
+    @SneakyThrows
+    private String toJson(Object value) {
+        return objectMapper.writeValueAsString(value);
+    }
+
+    @SneakyThrows
+    private CallbackRequest fromJson(String json) {
+        return objectMapper.readValue(json, CallbackRequest.class);
+    }
+}
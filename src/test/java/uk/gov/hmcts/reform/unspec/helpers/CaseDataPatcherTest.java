@@ -0,0 +1,160 @@
+package uk.gov.hmcts.reform.unspec.helpers;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.MethodSource;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.jackson.JacksonAutoConfiguration;
+import org.springframework.boot.test.context.SpringBootTest;
+import uk.gov.hmcts.reform.ccd.client.model.CallbackRequest;
+import uk.gov.hmcts.reform.ccd.client.model.CaseDetails;
+import uk.gov.hmcts.reform.unspec.callback.CallbackParams;
+import uk.gov.hmcts.reform.unspec.model.BusinessProcess;
+import uk.gov.hmcts.reform.unspec.model.CaseData;
+import uk.gov.hmcts.reform.unspec.model.StatementOfTruth;
+import uk.gov.hmcts.reform.unspec.model.common.Element;
+import uk.gov.hmcts.reform.unspec.model.documents.CaseDocument;
+import uk.gov.hmcts.reform.unspec.sampledata.CaseDataBuilder;
+import uk.gov.hmcts.reform.unspec.service.flowstate.FlowState;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.UnaryOperator;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static uk.gov.hmcts.reform.unspec.callback.CaseEvent.CREATE_CLAIM;
+import static uk.gov.hmcts.reform.unspec.model.documents.DocumentType.SEALED_CLAIM;
+import static uk.gov.hmcts.reform.unspec.utils.ElementUtils.element;
+
+@SpringBootTest(classes = {
+    CaseDataPatcher.class,
+    CaseDetailsConverter.class,
+    JacksonAutoConfiguration.class
+})
+class CaseDataPatcherTest {
+
+    private static final List<FlowState.Main> STATES = List.of(
+        FlowState.Main.DRAFT,
+        FlowState.Main.CLAIM_ISSUED,
+        FlowState.Main.NOTIFICATION_ACKNOWLEDGED,
+        FlowState.Main.FULL_DEFENCE,
+        FlowState.Main.FULL_DEFENCE_PROCEED,
+        FlowState.Main.TAKEN_OFFLINE_BY_STAFF
+    );
+
+    private static final Map<String, UnaryOperator<CaseData>> UPDATES = Map.of(
+        "unchanged", caseData -> caseData.toBuilder().build(),
+        "businessProcess set", caseData -> caseData.toBuilder()
+            .businessProcess(BusinessProcess.ready(CREATE_CLAIM))
+            .build(),
+        "statement of truth moved", caseData -> caseData.toBuilder()
+            .applicantSolicitor1ClaimStatementOfTruth(StatementOfTruth.builder().name("Signer").build())
+            .uiStatementOfTruth(null)
+            .build(),
+        "fields cleared", caseData -> caseData.toBuilder()
+            .applicant1(null)
+            .submittedDate(null)
+            .build(),
+        "unwrapped questionnaire cleared", caseData -> caseData.toBuilder()
+            .respondent1DQ(null)
+            .build(),
+        "unwrapped questionnaire set", caseData -> caseData.toBuilder()
+            .respondent1DQ(CaseDataBuilder.builder().atStateRespondentFullDefence().build().getRespondent1DQ())
+            .applicant1DQ(CaseDataBuilder.builder().atStateApplicantRespondToDefenceAndProceed().build()
+                              .getApplicant1DQ())
+            .build(),
+        "document added", caseData -> {
+            List<Element<CaseDocument>> documents = new ArrayList<>();
+            if (caseData.getSystemGeneratedCaseDocuments() != null) {
+                documents.addAll(caseData.getSystemGeneratedCaseDocuments());
+            }
+            documents.add(element(CaseDocument.builder().documentType(SEALED_CLAIM).build()));
+            return caseData.toBuilder()
+                .systemGeneratedCaseDocuments(documents)
+                .takenOfflineDate(LocalDateTime.now())
+                .build();
+        }
+    );
+
+    @Autowired
+    private CaseDataPatcher caseDataPatcher;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    static Stream<Arguments> casesAndUpdates() {
+        return STATES.stream().flatMap(state -> UPDATES.keySet().stream().map(update -> Arguments.of(state, update)));
+    }
+
+    @ParameterizedTest(name = "{0}, {1}")
+    @MethodSource("casesAndUpdates")
+    void shouldPatchToSameMapAsFullCase_whenOriginalDataIsMappedFromCase(FlowState.Main state, String update) {
+        CaseData original = CaseDataBuilder.builder().atState(state).build();
+        Map<String, Object> originalData = original.toMap(objectMapper);
+        CaseData updated = UPDATES.get(update).apply(original);
+
+        Map<String, Object> patched = caseDataPatcher.patch(original, originalData, updated);
+
+        assertThat(patched).isEqualTo(updated.toMap(objectMapper));
+        assertThat(originalData).isEqualTo(original.toMap(objectMapper));
+    }
+
+    @Test
+    void shouldPatchToSameMapAsFullCase_whenFieldIsChangedInPlace() {
+        CaseData original = CaseDataBuilder.builder().atStateClaimDraft().build().toBuilder()
+            .systemGeneratedCaseDocuments(new ArrayList<>())
+            .build();
+        Map<String, Object> originalData = original.toMap(objectMapper);
+        CaseData updated = original.toBuilder().build();
+        updated.getSystemGeneratedCaseDocuments().add(element(CaseDocument.builder().documentType(SEALED_CLAIM)
+                                                                  .build()));
+
+        Map<String, Object> patched = caseDataPatcher.patch(original, originalData, updated);
+
+        assertThat(patched).isEqualTo(updated.toMap(objectMapper));
+    }
+
+    @Test
+    void shouldDropFieldsOfOriginalData_whenNotPartOfCaseData() {
+        CaseData original = CaseDataBuilder.builder().atStateClaimDraft().build();
+        Map<String, Object> originalData = new HashMap<>(original.toMap(objectMapper));
+        originalData.put("unknownField", "value");
+        CaseData updated = original.toBuilder().businessProcess(BusinessProcess.ready(CREATE_CLAIM)).build();
+
+        Map<String, Object> patched = caseDataPatcher.patch(original, originalData, updated);
+
+        assertThat(patched).doesNotContainKey("unknownField").isEqualTo(updated.toMap(objectMapper));
+    }
+
+    @Test
+    void shouldMapWholeCase_whenCallbackHasNoCaseData() {
+        CaseData caseData = CaseDataBuilder.builder().atStateClaimDraft().build();
+        CallbackParams params = CallbackParams.builder()
+            .request(CallbackRequest.builder().caseDetails(CaseDetails.builder().data(Map.of()).build()).build())
+            .build();
+
+        assertThat(caseDataPatcher.toMap(params, caseData)).isEqualTo(caseData.toMap(objectMapper));
+    }
+
+    @Test
+    void shouldPatchDataOfRequest_whenCallbackHasCaseData() {
+        CaseData caseData = CaseDataBuilder.builder().atStateClaimDraft().build();
+        Map<String, Object> data = new HashMap<>(caseData.toMap(objectMapper));
+        data.put("unknownField", "value");
+        CallbackParams params = CallbackParams.builder()
+            .request(CallbackRequest.builder().caseDetails(CaseDetails.builder().data(data).build()).build())
+            .caseData(caseData)
+            .build();
+        CaseData updated = caseData.toBuilder().legacyCaseReference("ref").build();
+
+        Map<String, Object> response = caseDataPatcher.toMap(params, updated);
+
+        assertThat(response).containsEntry("legacyCaseReference", "ref").isEqualTo(updated.toMap(objectMapper));
+    }
+}
@@ -0,0 +1,179 @@
+package uk.gov.hmcts.reform.unspec.model.common;
+
+import com.fasterxml.jackson.annotation.JsonRawValue;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.JsonSerializer;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.annotation.JsonSerialize;
+import com.fasterxml.jackson.databind.util.RawValue;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import lombok.Builder;
+import lombok.Value;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.EnumSource;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.jackson.JacksonAutoConfiguration;
+import org.springframework.boot.test.context.SpringBootTest;
+import uk.gov.hmcts.reform.unspec.enums.YesOrNo;
+import uk.gov.hmcts.reform.unspec.helpers.CaseDetailsConverter;
+import uk.gov.hmcts.reform.unspec.model.CaseData;
+import uk.gov.hmcts.reform.unspec.model.docmosis.dq.DirectionsQuestionnaireForm;
+import uk.gov.hmcts.reform.unspec.model.docmosis.sealedclaim.SealedClaimForm;
+import uk.gov.hmcts.reform.unspec.sampledata.CaseDataBuilder;
+import uk.gov.hmcts.reform.unspec.service.flowstate.FlowState;
+
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.entry;
+
+@SpringBootTest(classes = {
+    CaseDetailsConverter.class,
+    JacksonAutoConfiguration.class
+})
+class MappableObjectTest {
+
+    private static final TypeReference<Map<String, Object>> MAP_TYPE = new TypeReference<>() {
+    };
+
+    @Autowired
+    private ObjectMapper mapper;
+
+    @ParameterizedTest
+    @EnumSource(value = FlowState.Main.class, names = {
+        "DRAFT",
+        "CLAIM_ISSUED_PAYMENT_FAILED",
+        "PENDING_CLAIM_ISSUED_UNREPRESENTED_DEFENDANT",
+        "CLAIM_DETAILS_NOTIFIED_TIME_EXTENSION",
+        "NOTIFICATION_ACKNOWLEDGED",
+        "FULL_DEFENCE",
+        "FULL_DEFENCE_PROCEED",
+        "TAKEN_OFFLINE_BY_STAFF",
+        "CLAIM_DISMISSED_PAST_CLAIM_DISMISSED_DEADLINE"
+    })
+    void shouldMapCaseDataAsConvertValue_whenCaseAtState(FlowState.Main state) {
+        CaseData caseData = CaseDataBuilder.builder().atState(state).build();
+
+        assertThat(caseData.toMap(mapper)).isEqualTo(mapper.convertValue(caseData, MAP_TYPE));
+    }
+
+    @Test
+    void shouldMapDocmosisFormsAsConvertValue() {
+        SealedClaimForm sealedClaimForm = SealedClaimForm.builder()
+            .issueDate(LocalDate.now())
+            .referenceNumber("000LR001")
+            .build();
+        DirectionsQuestionnaireForm directionsQuestionnaireForm = DirectionsQuestionnaireForm.builder()
+            .caseName("case name")
+            .submittedOn(LocalDate.now())
+            .build();
+
+        assertThat(sealedClaimForm.toMap(mapper)).isEqualTo(mapper.convertValue(sealedClaimForm, MAP_TYPE));
+        assertThat(directionsQuestionnaireForm.toMap(mapper))
+            .isEqualTo(mapper.convertValue(directionsQuestionnaireForm, MAP_TYPE));
+    }
+
+    @Test
+    void shouldMapValuesOfEveryTypeAsConvertValue() {
+        ObjectMapper plainMapper = new ObjectMapper().registerModule(new JavaTimeModule());
+        Values values = valuesOfEveryType();
+
+        Map<String, Object> map = new HashMap<>(values.toMap(plainMapper));
+        Map<String, Object> expected = new HashMap<>(plainMapper.convertValue(values, MAP_TYPE));
+
+        // byte arrays are only equal by content
+        assertThat((byte[]) map.remove("binary")).isEqualTo(expected.remove("binary"));
+        assertThat(map).isEqualTo(expected);
+    }
+
+    @Test
+    void shouldMapAsConvertValue_whenMapperReadsNumbersDifferently() {
+        ObjectMapper bigDecimalMapper = new ObjectMapper().registerModule(new JavaTimeModule())
+            .enable(DeserializationFeature.USE_BIG_DECIMAL_FOR_FLOATS);
+        Values values = valuesOfEveryType();
+
+        assertThat(values.toMap(bigDecimalMapper).get("decimal"))
+            .isEqualTo(bigDecimalMapper.convertValue(values, MAP_TYPE).get("decimal"))
+            .isInstanceOf(BigDecimal.class);
+    }
+
+    @Test
+    void shouldMapRawValuesAsRawValueLeaves() {
+        RawValues rawValues = new RawValues("{\"key\":1}", new RawValue("[1,2]"), "1,2");
+
+        Map<String, Object> map = rawValues.toMap(mapper);
+
+        assertThat(map).containsOnly(
+            entry("annotated", new RawValue("{\"key\":1}")),
+            entry("rawValue", new RawValue("[1,2]")),
+            entry("fragments", new RawValue("[1,2]"))
+        );
+    }
+
+    private static Values valuesOfEveryType() {
+        return Values.builder()
+            .text("text")
+            .smallInt(1)
+            .bigLong(Long.MAX_VALUE)
+            .decimal(1.5d)
+            .decimalFloat(2.5f)
+            .bigDecimal(new BigDecimal("1234567890.123456789"))
+            .bigInteger(BigInteger.TEN.pow(30))
+            .flag(true)
+            .yesOrNo(YesOrNo.YES)
+            .dateTime(LocalDateTime.of(2021, 3, 1, 10, 15))
+            .nested(List.of(Map.of("key", List.of(1, 2)), List.of()))
+            .binary(new byte[]{1, 2, 3})
+            .build();
+    }
+
+    @Value
+    @Builder
+    static class Values implements MappableObject {
+
+        String text;
+        String absent;
+        int smallInt;
+        long bigLong;
+        double decimal;
+        float decimalFloat;
+        BigDecimal bigDecimal;
+        BigInteger bigInteger;
+        boolean flag;
+        YesOrNo yesOrNo;
+        LocalDateTime dateTime;
+        List<Object> nested;
+        byte[] binary;
+    }
+
+    @Value
+    static class RawValues implements MappableObject {
+
+        @JsonRawValue
+        String annotated;
+        RawValue rawValue;
+        @JsonSerialize(using = RawFragmentsSerializer.class)
+        String fragments;
+    }
+
+    static class RawFragmentsSerializer extends JsonSerializer<String> {
+
+        @Override
+        public void serialize(String value, JsonGenerator generator, SerializerProvider provider) throws IOException {
+            generator.writeRaw('[');
+            generator.writeRaw(value);
+            generator.writeRaw("]");
+        }
+    }
+}
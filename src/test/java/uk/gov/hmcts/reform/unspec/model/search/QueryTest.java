@@ -41,4 +41,28 @@ class QueryTest {
 
         JSONAssert.assertEquals(EXPECTED_QUERY, query.toString(), true);
     }
+
+    @Test
+    void shouldSortBySearchingAfterReference_whenSearchAfter() throws JSONException {
+        Query query = new Query(matchAllQuery(), List.of("reference"), 0).searchAfter(500, 1594901956117591L);
+
+        JSONAssert.assertEquals(
+            "{\"query\": {\"match_all\": {\"boost\": 1.0 }}, \"_source\": [\"reference\"], \"size\": 500, "
+                + "\"sort\": [{\"reference.keyword\": \"asc\"}], \"search_after\": [\"1594901956117591\"]}",
+            query.toString(),
+            true
+        );
+    }
+
+    @Test
+    void shouldNotSearchAfterReference_whenFirstPage() throws JSONException {
+        Query query = new Query(matchAllQuery(), List.of("reference"), 0).searchAfter(500, null);
+
+        JSONAssert.assertEquals(
+            "{\"query\": {\"match_all\": {\"boost\": 1.0 }}, \"_source\": [\"reference\"], \"size\": 500, "
+                + "\"sort\": [{\"reference.keyword\": \"asc\"}]}",
+            query.toString(),
+            true
+        );
+    }
 }
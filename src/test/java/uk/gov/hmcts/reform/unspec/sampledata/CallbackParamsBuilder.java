@@ -61,6 +61,11 @@ public class CallbackParamsBuilder {
         return this;
     }
 
+    public CallbackParamsBuilder caseData(CaseData caseData) {
+        this.caseData = caseData;
+        return this;
+    }
+
     public CallbackParamsBuilder params(Map<CallbackParams.Params, Object> params) {
         this.params = params;
         return this;
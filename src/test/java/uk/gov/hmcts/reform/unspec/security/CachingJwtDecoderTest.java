@@ -0,0 +1,96 @@
+package uk.gov.hmcts.reform.unspec.security;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.oauth2.jwt.BadJwtException;
+import org.springframework.security.oauth2.jwt.Jwt;
+import org.springframework.security.oauth2.jwt.JwtDecoder;
+import uk.gov.hmcts.reform.unspec.config.JwtDecoderConfiguration;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class CachingJwtDecoderTest {
+
+    private static final String TOKEN = "token";
+
+    private final JwtDecoder delegate = mock(JwtDecoder.class);
+    private final FakeTime time = new FakeTime();
+    private final CachingJwtDecoder decoder =
+        new CachingJwtDecoder(delegate, new JwtDecoderConfiguration(), time, time::nanos);
+
+    @Test
+    void shouldVerifyTokenOnce_untilItExpires() {
+        Jwt jwt = jwtExpiringIn(Duration.ofMinutes(10));
+        when(delegate.decode(TOKEN)).thenReturn(jwt);
+        SimpleMeterRegistry registry = new SimpleMeterRegistry();
+        decoder.bindTo(registry);
+
+        decoder.decode(TOKEN);
+        time.advance(Duration.ofMinutes(10).minusSeconds(1));
+        assertThat(decoder.decode(TOKEN)).isEqualTo(jwt);
+        verify(delegate, times(1)).decode(TOKEN);
+
+        time.advance(Duration.ofSeconds(1));
+        decoder.decode(TOKEN);
+        verify(delegate, times(2)).decode(TOKEN);
+        assertThat(registry.get("cache.gets").tag("result", "hit").functionCounter().count()).isEqualTo(1);
+        assertThat(registry.get("cache.gets").tag("result", "miss").functionCounter().count()).isEqualTo(2);
+    }
+
+    @Test
+    void shouldVerifyTokenAgain_whenVerificationFailed() {
+        when(delegate.decode(TOKEN)).thenThrow(new BadJwtException("Invalid signature"));
+
+        assertThatThrownBy(() -> decoder.decode(TOKEN)).isInstanceOf(BadJwtException.class);
+        assertThatThrownBy(() -> decoder.decode(TOKEN)).isInstanceOf(BadJwtException.class);
+
+        verify(delegate, times(2)).decode(TOKEN);
+    }
+
+    private Jwt jwtExpiringIn(Duration lifetime) {
+        return Jwt.withTokenValue(TOKEN)
+            .header("alg", "RS256")
+            .subject("solicitor@example.com")
+            .expiresAt(time.instant().plus(lifetime))
+            .build();
+    }
+
+    private static class FakeTime extends Clock {
+
+        private volatile Instant instant = Instant.parse("2021-03-01T10:00:00Z");
+
+        void advance(Duration duration) {
+            instant = instant.plus(duration);
+        }
+
+        long nanos() {
+            return instant.getEpochSecond() * 1_000_000_000L + instant.getNano();
+        }
+
+        @Override
+        public ZoneId getZone() {
+            return ZoneOffset.UTC;
+        }
+
+        @Override
+        public Clock withZone(ZoneId zone) {
+            return this;
+        }
+
+        @Override
+        public Instant instant() {
+            return instant;
+        }
+    }
+}
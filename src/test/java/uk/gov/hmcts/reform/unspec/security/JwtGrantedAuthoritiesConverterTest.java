@@ -9,21 +9,32 @@ import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.context.SpringBootTest;
 import org.springframework.boot.test.mock.mockito.MockBean;
 import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
 import org.springframework.security.oauth2.jwt.Jwt;
 import uk.gov.hmcts.reform.idam.client.models.UserInfo;
+import uk.gov.hmcts.reform.unspec.config.AuthoritiesConfiguration;
 import uk.gov.hmcts.reform.unspec.service.UserService;
 
 import java.util.Collection;
 import java.util.Collections;
+import java.util.List;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.Mockito.doReturn;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
 import static org.mockito.Mockito.when;
 
-@SpringBootTest(classes = {JwtGrantedAuthoritiesConverter.class})
+@SpringBootTest(classes = {
+    JwtGrantedAuthoritiesConverter.class,
+    AuthoritiesConfiguration.class,
+    SignedRoleCache.class,
+    InMemoryRoleStore.class
+})
 class JwtGrantedAuthoritiesConverterTest {
 
     @MockBean
@@ -95,4 +106,49 @@ class JwtGrantedAuthoritiesConverterTest {
             assertEquals(1, authorities.size());
         }
     }
+
+    @Nested
+    class ClaimsAuthorities {
+
+        private final UserService claimsUserService = mock(UserService.class);
+        private final AuthoritiesConfiguration configuration = new AuthoritiesConfiguration();
+        private final JwtGrantedAuthoritiesConverter claimsConverter = new JwtGrantedAuthoritiesConverter(
+            claimsUserService,
+            configuration,
+            new SignedRoleCache(new InMemoryRoleStore(configuration), configuration)
+        );
+
+        ClaimsAuthorities() {
+            configuration.setSource(AuthoritiesConfiguration.Source.CLAIMS);
+        }
+
+        @Test
+        void shouldReturnAuthoritiesOfClaims_whenJwtHasRoles() {
+            Jwt jwt = jwt().claim("roles", List.of("caseworker-civil-solicitor")).build();
+
+            Collection<GrantedAuthority> authorities = claimsConverter.convert(jwt);
+
+            assertEquals(List.of(new SimpleGrantedAuthority("caseworker-civil-solicitor")), authorities);
+            verifyNoInteractions(claimsUserService);
+        }
+
+        @Test
+        void shouldCallIdamOncePerUser_whenJwtHasNoRoles() {
+            UserInfo userInfo = UserInfo.builder().roles(List.of("caseworker-civil-solicitor")).build();
+            when(claimsUserService.getUserInfo(anyString())).thenReturn(userInfo);
+
+            claimsConverter.convert(jwt().tokenValue("first-token").build());
+            Collection<GrantedAuthority> authorities = claimsConverter.convert(jwt().tokenValue("second-token").build());
+
+            assertEquals(List.of(new SimpleGrantedAuthority("caseworker-civil-solicitor")), authorities);
+            verify(claimsUserService, times(1)).getUserInfo(anyString());
+        }
+
+        private Jwt.Builder jwt() {
+            return Jwt.withTokenValue("token")
+                .header("alg", "RS256")
+                .subject("solicitor@example.com")
+                .claim(JwtGrantedAuthoritiesConverter.TOKEN_NAME, "access_token");
+        }
+    }
 }
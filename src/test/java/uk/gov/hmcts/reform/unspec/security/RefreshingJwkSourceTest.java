@@ -0,0 +1,119 @@
+package uk.gov.hmcts.reform.unspec.security;
+
+import com.nimbusds.jose.jwk.JWKMatcher;
+import com.nimbusds.jose.jwk.JWKSelector;
+import com.nimbusds.jose.jwk.JWKSet;
+import com.nimbusds.jose.jwk.RSAKey;
+import com.nimbusds.jose.jwk.gen.RSAKeyGenerator;
+import com.nimbusds.jose.util.Resource;
+import com.nimbusds.jose.util.ResourceRetriever;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import uk.gov.hmcts.reform.unspec.config.JwtDecoderConfiguration;
+
+import java.io.IOException;
+import java.net.URL;
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.spy;
+import static org.mockito.Mockito.timeout;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class RefreshingJwkSourceTest {
+
+    private static final String ISSUER = "http://idam-api/o";
+    private static final String JWKS_URI = "http://idam-api/o/jwks";
+
+    private final JwtDecoderConfiguration configuration = new JwtDecoderConfiguration();
+    private final AtomicReference<JWKSet> published = new AtomicReference<>();
+    private final AtomicInteger discoveries = new AtomicInteger();
+    private final ResourceRetriever idam = spy(new FakeIdam());
+    private RefreshingJwkSource jwkSource;
+
+    @AfterEach
+    void shutdown() {
+        jwkSource.shutdown();
+    }
+
+    @Test
+    void shouldFetchKeys_whenStarted() throws Exception {
+        RSAKey key = key("key-1");
+        published.set(new JWKSet(key));
+        jwkSource = new RefreshingJwkSource(ISSUER, configuration, idam);
+        SimpleMeterRegistry registry = new SimpleMeterRegistry();
+        jwkSource.bindTo(registry);
+
+        jwkSource.start();
+
+        assertThat(jwkSource.get(selector("key-1"), null)).containsExactly(key.toPublicJWK());
+        assertThat(registry.get("jwks.keys").gauge().value()).isEqualTo(1);
+        assertThat(registry.get("jwks.refreshes").tag("result", "success").functionCounter().count()).isEqualTo(1);
+    }
+
+    @Test
+    void shouldRefreshKeysInBackground_whenTokenSignedWithUnknownKey() throws Exception {
+        configuration.setJwksMinimumRefreshInterval(Duration.ZERO);
+        published.set(new JWKSet(key("key-1")));
+        jwkSource = new RefreshingJwkSource(ISSUER, configuration, idam);
+        jwkSource.start();
+        RSAKey rotated = key("key-2");
+        published.set(new JWKSet(rotated));
+
+        assertThat(jwkSource.get(selector("key-2"), null)).isEmpty();
+
+        verify(idam, timeout(1000).times(2)).retrieveResource(new URL(JWKS_URI));
+        assertThat(jwkSource.get(selector("key-2"), null)).containsExactly(rotated.toPublicJWK());
+        assertThat(discoveries).hasValue(1);
+    }
+
+    @Test
+    void shouldNotRefreshKeysEarly_withinMinimumRefreshInterval() throws Exception {
+        published.set(new JWKSet(key("key-1")));
+        jwkSource = new RefreshingJwkSource(ISSUER, configuration, idam);
+        jwkSource.start();
+
+        jwkSource.get(selector("key-2"), null);
+        jwkSource.get(selector("key-2"), null);
+
+        verify(idam, times(1)).retrieveResource(new URL(JWKS_URI));
+    }
+
+    @Test
+    void shouldStart_whenIdamNotAvailable() throws Exception {
+        ResourceRetriever unavailable = mock(ResourceRetriever.class);
+        when(unavailable.retrieveResource(any())).thenThrow(new IOException("Connection refused"));
+        jwkSource = new RefreshingJwkSource(ISSUER, configuration, unavailable);
+
+        jwkSource.start();
+
+        assertThat(jwkSource.get(selector("key-1"), null)).isEmpty();
+    }
+
+    private static JWKSelector selector(String keyId) {
+        return new JWKSelector(new JWKMatcher.Builder().keyID(keyId).build());
+    }
+
+    private static RSAKey key(String keyId) throws Exception {
+        return new RSAKeyGenerator(2048).keyID(keyId).generate();
+    }
+
+    private class FakeIdam implements ResourceRetriever {
+
+        @Override
+        public Resource retrieveResource(URL url) {
+            if (url.toString().endsWith("/.well-known/openid-configuration")) {
+                discoveries.incrementAndGet();
+                return new Resource("{\"issuer\":\"" + ISSUER + "\",\"jwks_uri\":\"" + JWKS_URI + "\"}", null);
+            }
+            return new Resource(published.get().toString(), null);
+        }
+    }
+}
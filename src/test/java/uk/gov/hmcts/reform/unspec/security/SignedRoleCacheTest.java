@@ -0,0 +1,70 @@
+package uk.gov.hmcts.reform.unspec.security;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import uk.gov.hmcts.reform.unspec.config.AuthoritiesConfiguration;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.util.List;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class SignedRoleCacheTest {
+
+    private static final String SUBJECT = "solicitor@example.com";
+    private static final List<String> ROLES = List.of("caseworker-civil", "caseworker-civil-solicitor");
+    private static final Instant NOW = Instant.parse("2021-03-01T10:00:00Z");
+
+    private final AuthoritiesConfiguration configuration = new AuthoritiesConfiguration();
+    private final RoleStore roleStore = new InMemoryRoleStore(configuration);
+
+    @Test
+    void shouldReturnCachedRoles_whenSignedByServiceAndNotExpired() {
+        configuration.setRoleCacheSigningKey("shared-key");
+        SignedRoleCache writer = new SignedRoleCache(roleStore, configuration, Clock.fixed(NOW, ZoneOffset.UTC));
+        SignedRoleCache reader = new SignedRoleCache(roleStore, configuration, Clock.fixed(NOW, ZoneOffset.UTC));
+
+        writer.putRoles(SUBJECT, ROLES);
+
+        assertThat(reader.getRoles(SUBJECT)).contains(ROLES);
+        assertThat(reader.getRoles("other@example.com")).isEmpty();
+    }
+
+    @Test
+    void shouldIgnoreCachedRoles_whenExpired() {
+        SignedRoleCache cache = new SignedRoleCache(roleStore, configuration, Clock.fixed(NOW, ZoneOffset.UTC));
+        cache.putRoles(SUBJECT, ROLES);
+
+        SignedRoleCache later = new SignedRoleCache(
+            roleStore,
+            configuration,
+            Clock.fixed(NOW.plus(configuration.getRoleCacheLifetime()), ZoneOffset.UTC)
+        );
+
+        assertThat(later.getRoles(SUBJECT)).isEmpty();
+    }
+
+    @Test
+    void shouldRejectCachedRoles_whenAlteredOrSignedWithOtherKey() {
+        SignedRoleCache cache = new SignedRoleCache(roleStore, configuration, Clock.fixed(NOW, ZoneOffset.UTC));
+        SimpleMeterRegistry registry = new SimpleMeterRegistry();
+        cache.bindTo(registry);
+        cache.putRoles(SUBJECT, ROLES);
+        String stored = roleStore.get("roles:" + SUBJECT).orElseThrow();
+
+        roleStore.put("roles:" + SUBJECT, stored.replace("caseworker-civil,", "caseworker-civil-admin,"),
+                      Duration.ofMinutes(1));
+        Optional<List<String>> altered = cache.getRoles(SUBJECT);
+        cache.putRoles(SUBJECT, ROLES);
+        Optional<List<String>> otherKey = new SignedRoleCache(roleStore, configuration).getRoles(SUBJECT);
+
+        assertThat(altered).isEmpty();
+        assertThat(otherKey).isEmpty();
+        assertThat(registry.get("authorities.role.cache").tag("result", "rejected").functionCounter().count())
+            .isEqualTo(1);
+    }
+}
@@ -0,0 +1,138 @@
+package uk.gov.hmcts.reform.unspec.service;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import uk.gov.hmcts.reform.unspec.config.DownstreamCallConfiguration;
+
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class ConcurrentCallServiceTest {
+
+    private final ConcurrentCallService concurrentCallService = concurrentCallService(2, 1);
+
+    @AfterEach
+    void shutdown() {
+        concurrentCallService.shutdown();
+    }
+
+    @Test
+    void shouldMakeCallsConcurrently_whenCombined() {
+        CountDownLatch bothStarted = new CountDownLatch(2);
+
+        String result = concurrentCallService.combine(
+            () -> awaitOther(bothStarted, "fee"),
+            () -> awaitOther(bothStarted, "accounts"),
+            (first, second) -> first + " " + second
+        );
+
+        assertThat(result).isEqualTo("fee accounts");
+    }
+
+    @Test
+    void shouldRethrowExceptionOfFirstCall_whenItFails() {
+        IllegalStateException failure = new IllegalStateException("fee not found");
+
+        assertThatThrownBy(() -> concurrentCallService.combine(
+            () -> {
+                throw failure;
+            },
+            () -> "accounts",
+            (first, second) -> first + second
+        )).isSameAs(failure);
+    }
+
+    @Test
+    void shouldInterruptFirstCall_whenSecondCallFails() throws InterruptedException {
+        CountDownLatch interrupted = new CountDownLatch(1);
+        CountDownLatch started = new CountDownLatch(1);
+        IllegalStateException failure = new IllegalStateException("accounts not found");
+
+        assertThatThrownBy(() -> concurrentCallService.combine(
+            () -> blockUntilInterrupted(started, interrupted),
+            () -> {
+                await(started);
+                throw failure;
+            },
+            (first, second) -> first
+        )).isSameAs(failure);
+
+        assertThat(interrupted.await(1, TimeUnit.SECONDS)).isTrue();
+    }
+
+    @Test
+    void shouldFailAndInterruptCall_whenItTimesOut() throws InterruptedException {
+        CountDownLatch interrupted = new CountDownLatch(1);
+        CountDownLatch started = new CountDownLatch(1);
+
+        CompletableFuture<String> result = concurrentCallService.supply(
+            () -> blockUntilInterrupted(started, interrupted),
+            Duration.ofMillis(50)
+        );
+
+        assertThatThrownBy(result::join)
+            .isInstanceOf(CompletionException.class)
+            .hasCauseInstanceOf(TimeoutException.class);
+        assertThat(interrupted.await(1, TimeUnit.SECONDS)).isTrue();
+    }
+
+    @Test
+    void shouldMakeCallOnCallingThread_whenPoolIsSaturated() {
+        ConcurrentCallService saturated = concurrentCallService(1, 1);
+        CountDownLatch release = new CountDownLatch(1);
+        try {
+            saturated.supply(() -> await(release));
+            saturated.supply(() -> await(release));
+
+            String thread = ConcurrentCallService.join(saturated.supply(() -> Thread.currentThread().getName()));
+
+            assertThat(thread).isEqualTo(Thread.currentThread().getName());
+        } finally {
+            release.countDown();
+            saturated.shutdown();
+        }
+    }
+
+    private static String awaitOther(CountDownLatch bothStarted, String value) {
+        bothStarted.countDown();
+        await(bothStarted);
+        return value;
+    }
+
+    private static String blockUntilInterrupted(CountDownLatch started, CountDownLatch interrupted) {
+        started.countDown();
+        try {
+            new CountDownLatch(1).await();
+        } catch (InterruptedException e) {
+            interrupted.countDown();
+        }
+        return "interrupted";
+    }
+
+    private static String await(CountDownLatch latch) {
+        try {
+            if (!latch.await(1, TimeUnit.SECONDS)) {
+                throw new IllegalStateException("timed out waiting for latch");
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException(e);
+        }
+        return "released";
+    }
+
+    private static ConcurrentCallService concurrentCallService(int threads, int queueCapacity) {
+        DownstreamCallConfiguration configuration = new DownstreamCallConfiguration();
+        configuration.setThreads(threads);
+        configuration.setQueueCapacity(queueCapacity);
+        configuration.setTimeout(Duration.ofSeconds(5));
+        return new ConcurrentCallService(configuration);
+    }
+}
@@ -21,6 +21,7 @@ import uk.gov.hmcts.reform.idam.client.IdamClient;
 import uk.gov.hmcts.reform.idam.client.models.UserInfo;
 import uk.gov.hmcts.reform.unspec.callback.CaseEvent;
 import uk.gov.hmcts.reform.unspec.config.SystemUpdateUserConfiguration;
+import uk.gov.hmcts.reform.unspec.config.TokenCacheConfiguration;
 import uk.gov.hmcts.reform.unspec.enums.BusinessProcessStatus;
 import uk.gov.hmcts.reform.unspec.helpers.CaseDetailsConverter;
 import uk.gov.hmcts.reform.unspec.model.BusinessProcess;
@@ -43,6 +44,9 @@ import static org.mockito.Mockito.when;
 @ExtendWith(SpringExtension.class)
 @SpringBootTest(classes = {
     CoreCaseDataService.class,
+    SystemUpdateUserTokenBroker.class,
+    UserTokenCache.class,
+    TokenCacheConfiguration.class,
     JacksonAutoConfiguration.class,
     CaseDetailsConverter.class
 })
@@ -70,10 +74,14 @@ class CoreCaseDataServiceTest {
     @Autowired
     private CoreCaseDataService service;
 
+    @Autowired
+    private SystemUpdateUserTokenBroker systemUpdateUserTokenBroker;
+
     @BeforeEach
     void init() {
         clearInvocations(authTokenGenerator);
         clearInvocations(idamClient);
+        systemUpdateUserTokenBroker.invalidate();
         when(authTokenGenerator.generate()).thenReturn(SERVICE_AUTH_TOKEN);
         when(idamClient.getAccessToken(userConfig.getUserName(), userConfig.getPassword())).thenReturn(USER_AUTH_TOKEN);
     }
@@ -17,6 +17,7 @@ import uk.gov.hmcts.reform.ccd.model.CaseAssignedUserRolesRequest;
 import uk.gov.hmcts.reform.ccd.model.CaseAssignedUserRolesResource;
 import uk.gov.hmcts.reform.idam.client.IdamClient;
 import uk.gov.hmcts.reform.unspec.config.CrossAccessUserConfiguration;
+import uk.gov.hmcts.reform.unspec.config.TokenCacheConfiguration;
 import uk.gov.hmcts.reform.unspec.enums.CaseRole;
 
 import java.util.List;
@@ -28,7 +29,9 @@ import static org.mockito.Mockito.when;
 
 @ExtendWith(SpringExtension.class)
 @SpringBootTest(classes = {
-    CoreCaseUserService.class
+    CoreCaseUserService.class,
+    UserTokenCache.class,
+    TokenCacheConfiguration.class
 })
 class CoreCaseUserServiceTest {
 
@@ -53,10 +56,14 @@ class CoreCaseUserServiceTest {
     @Autowired
     private CoreCaseUserService service;
 
+    @Autowired
+    private UserTokenCache userTokenCache;
+
     @BeforeEach
     void init() {
         clearInvocations(authTokenGenerator);
         clearInvocations(idamClient);
+        userTokenCache.invalidate(userConfig);
         when(authTokenGenerator.generate()).thenReturn(SERVICE_AUTH_TOKEN);
         when(idamClient.getAccessToken(userConfig.getUserName(), userConfig.getPassword())).thenReturn(
             CAA_USER_AUTH_TOKEN);
@@ -0,0 +1,104 @@
+package uk.gov.hmcts.reform.unspec.service;
+
+import org.junit.jupiter.api.Test;
+import uk.gov.hmcts.reform.unspec.config.RequestExecutionConfiguration;
+import uk.gov.hmcts.reform.unspec.config.RequestExecutionConfiguration.Mode;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class DownstreamBulkheadsTest {
+
+    private static final String IDAM = "idam-api:5000";
+    private static final String FEES = "fees-api:8080";
+    private static final String PAYMENTS = "payments-api:8080";
+    private static final String PRD = "rd-professional-api:8090";
+
+    @Test
+    void shouldFailCall_whenBulkheadOfDownstreamIsFull() throws Exception {
+        DownstreamBulkheads bulkheads = bulkheads(Mode.ELASTIC);
+        CountDownLatch calling = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        CompletableFuture<String> blocked = CompletableFuture.supplyAsync(() -> call(bulkheads, IDAM, () -> {
+            calling.countDown();
+            release.await(1, TimeUnit.SECONDS);
+            return "token";
+        }));
+        assertThat(calling.await(1, TimeUnit.SECONDS)).isTrue();
+
+        assertThatThrownBy(() -> bulkheads.call(IDAM, () -> "token"))
+            .isInstanceOf(IOException.class)
+            .hasMessage("Too many concurrent calls to " + IDAM);
+        assertThat(bulkheads.call(FEES, () -> "fee")).isEqualTo("fee");
+
+        release.countDown();
+        assertThat(blocked.get(1, TimeUnit.SECONDS)).isEqualTo("token");
+        assertThat(bulkheads.call(IDAM, () -> "token")).isEqualTo("token");
+    }
+
+    @Test
+    void shouldShareBulkhead_whenMoreDownstreamsThanConfiguredAreCalled() throws Exception {
+        DownstreamBulkheads bulkheads = bulkheads(Mode.ELASTIC);
+        assertThat(bulkheads.call(IDAM, () -> "token")).isEqualTo("token");
+        assertThat(bulkheads.call(FEES, () -> "fee")).isEqualTo("fee");
+        CountDownLatch calling = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        CompletableFuture<String> blocked = CompletableFuture.supplyAsync(() -> call(bulkheads, PAYMENTS, () -> {
+            calling.countDown();
+            release.await(1, TimeUnit.SECONDS);
+            return "payment";
+        }));
+        assertThat(calling.await(1, TimeUnit.SECONDS)).isTrue();
+
+        assertThatThrownBy(() -> bulkheads.call(PRD, () -> "organisation"))
+            .isInstanceOf(IOException.class)
+            .hasMessage("Too many concurrent calls to " + PRD);
+        assertThat(bulkheads.call(IDAM, () -> "token")).isEqualTo("token");
+
+        release.countDown();
+        assertThat(blocked.get(1, TimeUnit.SECONDS)).isEqualTo("payment");
+    }
+
+    @Test
+    void shouldNotLimitCalls_whenThreadPerRequestMode() throws Exception {
+        DownstreamBulkheads bulkheads = bulkheads(Mode.THREAD_PER_REQUEST);
+
+        String result = bulkheads.call(IDAM, () -> bulkheads.call(IDAM, () -> "token"));
+
+        assertThat(result).isEqualTo("token");
+    }
+
+    private static String call(DownstreamBulkheads bulkheads, String downstream, BlockingCall call) {
+        try {
+            return bulkheads.call(downstream, () -> {
+                try {
+                    return call.execute();
+                } catch (InterruptedException e) {
+                    throw new IOException(e);
+                }
+            });
+        } catch (IOException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private static DownstreamBulkheads bulkheads(Mode mode) {
+        RequestExecutionConfiguration configuration = new RequestExecutionConfiguration();
+        configuration.setMode(mode);
+        configuration.setMaxConcurrentCalls(1);
+        configuration.setBulkheadTimeout(Duration.ofMillis(10));
+        configuration.setDownstreamServices(2);
+        return new DownstreamBulkheads(configuration);
+    }
+
+    private interface BlockingCall {
+
+        String execute() throws InterruptedException;
+    }
+}
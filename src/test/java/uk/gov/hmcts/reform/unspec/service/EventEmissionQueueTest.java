@@ -0,0 +1,192 @@
+package uk.gov.hmcts.reform.unspec.service;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import uk.gov.hmcts.reform.ccd.client.model.CaseDetails;
+import uk.gov.hmcts.reform.unspec.config.EventEmitterConfiguration;
+import uk.gov.hmcts.reform.unspec.helpers.CaseDetailsConverter;
+import uk.gov.hmcts.reform.unspec.model.BusinessProcess;
+import uk.gov.hmcts.reform.unspec.model.CaseData;
+
+import java.time.Duration;
+import java.util.concurrent.CountDownLatch;
+import java.util.function.BooleanSupplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyBoolean;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.timeout;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+import static uk.gov.hmcts.reform.unspec.callback.CaseEvent.CREATE_CLAIM;
+import static uk.gov.hmcts.reform.unspec.enums.BusinessProcessStatus.STARTED;
+
+class EventEmissionQueueTest {
+
+    private static final CaseData CASE_DATA = CaseData.builder()
+        .ccdCaseReference(1L)
+        .businessProcess(BusinessProcess.ready(CREATE_CLAIM))
+        .build();
+
+    private static final CaseDetails CASE_DETAILS = CaseDetails.builder().id(1L).build();
+
+    private final EventEmitterService eventEmitterService = mock(EventEmitterService.class);
+    private final CoreCaseDataService coreCaseDataService = mock(CoreCaseDataService.class);
+    private final CaseDetailsConverter caseDetailsConverter = mock(CaseDetailsConverter.class);
+    private MeterRegistry registry;
+    private EventEmissionQueue queue;
+
+    @BeforeEach
+    void setup() {
+        queue = queue(true, 10);
+        when(coreCaseDataService.getCase(1L)).thenReturn(CASE_DETAILS);
+        when(caseDetailsConverter.toCaseData(CASE_DETAILS)).thenReturn(CASE_DATA);
+    }
+
+    @AfterEach
+    void shutdown() {
+        queue.shutdown();
+    }
+
+    @Test
+    void shouldEmitWithinCall_whenAsyncDisabled() {
+        queue = queue(false, 10);
+
+        queue.emit(CASE_DATA);
+
+        verify(eventEmitterService).emitBusinessProcessCamundaEvent(CASE_DATA, false);
+        assertThat(queue.getDepth()).isZero();
+    }
+
+    @Test
+    void shouldEmitOnWorker_whenAsyncEnabled() {
+        when(eventEmitterService.emitBusinessProcessCamundaEvent(CASE_DATA, false)).thenReturn(true);
+
+        queue.emit(CASE_DATA);
+
+        verify(eventEmitterService, timeout(1000)).emitBusinessProcessCamundaEvent(CASE_DATA, false);
+        assertEmissions("emitted", 1);
+        assertThat(registry.get("event.emitter.queue.lag").timer().count()).isEqualTo(1);
+    }
+
+    @Test
+    void shouldRetry_whenEmissionFails() {
+        when(eventEmitterService.emitBusinessProcessCamundaEvent(CASE_DATA, false)).thenReturn(false, true);
+
+        queue.emit(CASE_DATA);
+
+        verify(eventEmitterService, timeout(1000).times(2)).emitBusinessProcessCamundaEvent(CASE_DATA, false);
+        assertEmissions("emitted", 1);
+        assertEmissions("retried", 1);
+    }
+
+    @Test
+    void shouldDropEmission_whenEveryAttemptFails() {
+        when(eventEmitterService.emitBusinessProcessCamundaEvent(CASE_DATA, false)).thenReturn(false);
+
+        queue.emit(CASE_DATA);
+
+        verify(eventEmitterService, timeout(1000).times(3)).emitBusinessProcessCamundaEvent(CASE_DATA, false);
+        assertEmissions("failed", 1);
+        assertEmissions("retried", 2);
+    }
+
+    @Test
+    void shouldNotRetry_whenBusinessProcessIsNoLongerReady() {
+        when(eventEmitterService.emitBusinessProcessCamundaEvent(CASE_DATA, false)).thenReturn(false);
+        when(caseDetailsConverter.toCaseData(CASE_DETAILS)).thenReturn(CaseData.builder()
+            .ccdCaseReference(1L)
+            .businessProcess(BusinessProcess.builder()
+                                 .camundaEvent(CREATE_CLAIM.name())
+                                 .status(STARTED)
+                                 .processInstanceId("processInstanceId")
+                                 .build())
+            .build());
+
+        queue.emit(CASE_DATA);
+
+        assertEmissions("superseded", 1);
+        verify(eventEmitterService, times(1)).emitBusinessProcessCamundaEvent(CASE_DATA, false);
+        assertThat(queue.getDepth()).isZero();
+    }
+
+    @Test
+    void shouldRetryLater_whenCaseCannotBeReadBeforeRetry() {
+        when(eventEmitterService.emitBusinessProcessCamundaEvent(CASE_DATA, false)).thenReturn(false);
+        when(coreCaseDataService.getCase(1L)).thenThrow(new RuntimeException("ccd unavailable"));
+
+        queue.emit(CASE_DATA);
+
+        assertEmissions("failed", 1);
+        assertEmissions("retried", 2);
+        verify(eventEmitterService, times(1)).emitBusinessProcessCamundaEvent(CASE_DATA, false);
+    }
+
+    @Test
+    void shouldNotReadCase_whenFirstAttemptSucceeds() {
+        when(eventEmitterService.emitBusinessProcessCamundaEvent(CASE_DATA, false)).thenReturn(true);
+
+        queue.emit(CASE_DATA);
+
+        assertEmissions("emitted", 1);
+        verify(coreCaseDataService, never()).getCase(any());
+    }
+
+    @Test
+    void shouldRejectEmission_whenQueueIsFull() throws InterruptedException {
+        queue = queue(true, 1);
+        CountDownLatch release = new CountDownLatch(1);
+        when(eventEmitterService.emitBusinessProcessCamundaEvent(any(), anyBoolean())).thenAnswer(invocation -> {
+            release.await();
+            return true;
+        });
+
+        queue.emit(CASE_DATA);
+        queue.emit(CASE_DATA);
+
+        assertEmissions("rejected", 1);
+        assertThat(registry.get("event.emitter.queue.depth").gauge().value()).isEqualTo(1);
+        release.countDown();
+        verify(eventEmitterService, timeout(1000).times(1)).emitBusinessProcessCamundaEvent(CASE_DATA, false);
+    }
+
+    private void assertEmissions(String result, int count) {
+        await(() -> registry.get("event.emitter.emissions").tag("result", result).functionCounter().count() == count);
+        assertThat(registry.get("event.emitter.emissions").tag("result", result).functionCounter().count())
+            .isEqualTo(count);
+    }
+
+    private static void await(BooleanSupplier condition) {
+        long deadline = System.nanoTime() + Duration.ofSeconds(1).toNanos();
+        while (!condition.getAsBoolean() && System.nanoTime() < deadline) {
+            Thread.onSpinWait();
+        }
+    }
+
+    private EventEmissionQueue queue(boolean async, int capacity) {
+        if (queue != null) {
+            queue.shutdown();
+        }
+        EventEmitterConfiguration configuration = new EventEmitterConfiguration();
+        configuration.setAsync(async);
+        configuration.setQueueCapacity(capacity);
+        configuration.setWorkers(1);
+        configuration.setMaxAttempts(3);
+        configuration.setRetryBackoff(Duration.ofMillis(1));
+        EventEmissionQueue eventEmissionQueue = new EventEmissionQueue(
+            eventEmitterService,
+            coreCaseDataService,
+            caseDetailsConverter,
+            configuration
+        );
+        registry = new SimpleMeterRegistry();
+        eventEmissionQueue.bindTo(registry);
+        return eventEmissionQueue;
+    }
+}
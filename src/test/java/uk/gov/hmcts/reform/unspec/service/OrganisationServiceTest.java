@@ -2,11 +2,11 @@ package uk.gov.hmcts.reform.unspec.service;
 
 import feign.FeignException;
 import feign.Request;
+import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
-import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.springframework.test.context.junit.jupiter.SpringExtension;
 import uk.gov.hmcts.reform.authorisation.generators.AuthTokenGenerator;
@@ -14,6 +14,7 @@ import uk.gov.hmcts.reform.idam.client.IdamClient;
 import uk.gov.hmcts.reform.prd.client.OrganisationApi;
 import uk.gov.hmcts.reform.prd.model.Organisation;
 import uk.gov.hmcts.reform.unspec.config.PrdAdminUserConfiguration;
+import uk.gov.hmcts.reform.unspec.config.TokenCacheConfiguration;
 
 import java.util.Map;
 import java.util.Optional;
@@ -54,18 +55,25 @@ class OrganisationServiceTest {
     @Mock
     private PrdAdminUserConfiguration userConfig;
 
-    @InjectMocks
+    private UserTokenCache userTokenCache;
     private OrganisationService organisationService;
 
     @BeforeEach
     void setUp() {
+        userTokenCache = new UserTokenCache(idamClient, new TokenCacheConfiguration());
+        organisationService = new OrganisationService(organisationApi, authTokenGenerator, userConfig, userTokenCache);
         given(organisationApi.findUserOrganisation(any(), any())).willReturn(expectedOrganisation);
         given(organisationApi.findOrganisationById(any(), any(), any())).willReturn(expectedOrganisation);
         given(authTokenGenerator.generate()).willReturn(SERVICE_AUTH_TOKEN);
-        when(idamClient.getAccessToken(userConfig.getUsername(), userConfig.getPassword())).thenReturn(
+        when(idamClient.getAccessToken(userConfig.getUserName(), userConfig.getPassword())).thenReturn(
             PRD_ADMIN_AUTH_TOKEN);
     }
 
+    @AfterEach
+    void tearDown() {
+        userTokenCache.shutdown();
+    }
+
     @Nested
     class FindOrganisation {
 
@@ -94,7 +102,7 @@ class OrganisationServiceTest {
         void shouldReturnOrganisation_whenInvoked() {
             var organisation = organisationService.findOrganisationById(ORG_ID);
 
-            verify(idamClient).getAccessToken(userConfig.getUsername(), userConfig.getPassword());
+            verify(idamClient).getAccessToken(userConfig.getUserName(), userConfig.getPassword());
             verify(organisationApi).findOrganisationById(PRD_ADMIN_AUTH_TOKEN, SERVICE_AUTH_TOKEN, ORG_ID);
             assertThat(organisation).isEqualTo(Optional.of(expectedOrganisation));
         }
@@ -104,7 +112,7 @@ class OrganisationServiceTest {
             given(organisationApi.findOrganisationById(any(), any(), any())).willThrow(notFoundFeignException);
             var organisation = organisationService.findOrganisationById(ORG_ID);
 
-            verify(idamClient).getAccessToken(userConfig.getUsername(), userConfig.getPassword());
+            verify(idamClient).getAccessToken(userConfig.getUserName(), userConfig.getPassword());
             verify(organisationApi).findOrganisationById(PRD_ADMIN_AUTH_TOKEN, SERVICE_AUTH_TOKEN, ORG_ID);
             assertThat(organisation).isEmpty();
         }
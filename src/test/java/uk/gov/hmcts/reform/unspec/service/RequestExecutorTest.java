@@ -0,0 +1,203 @@
+package uk.gov.hmcts.reform.unspec.service;
+
+import org.camunda.bpm.client.task.ExternalTask;
+import org.camunda.bpm.client.task.ExternalTaskHandler;
+import org.camunda.bpm.client.task.ExternalTaskService;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import uk.gov.hmcts.reform.unspec.config.RequestExecutionConfiguration;
+import uk.gov.hmcts.reform.unspec.config.RequestExecutionConfiguration.Mode;
+
+import java.util.Date;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class RequestExecutorTest {
+
+    // requests blocking until all of them are running, so they only complete when the executor runs them all at once
+    private static final int REQUESTS = 300;
+
+    private final ExternalTask externalTask = mock(ExternalTask.class);
+    private final ExternalTaskService externalTaskService = mock(ExternalTaskService.class);
+    private RequestExecutor requestExecutor;
+
+    @AfterEach
+    void shutdown() {
+        if (requestExecutor != null) {
+            requestExecutor.shutdown();
+        }
+    }
+
+    @Test
+    void shouldHaveNoExecutor_whenThreadPerRequestMode() {
+        requestExecutor = requestExecutor(Mode.THREAD_PER_REQUEST);
+        ExternalTaskHandler handler = mock(ExternalTaskHandler.class);
+
+        assertThat(requestExecutor.getExecutor()).isEmpty();
+        assertThat(requestExecutor.forTopic(handler)).isSameAs(handler);
+    }
+
+    @Test
+    void shouldRunBlockingRequestsConcurrently_whenElasticMode() throws InterruptedException {
+        requestExecutor = requestExecutor(Mode.ELASTIC);
+
+        assertThat(runBlockingRequests(requestExecutor.getExecutor().orElseThrow())).isTrue();
+    }
+
+    @Test
+    void shouldRejectRequest_whenElasticPoolAndQueueAreFull() {
+        RequestExecutionConfiguration configuration = configuration(Mode.ELASTIC);
+        configuration.setMaxThreads(1);
+        configuration.setQueueCapacity(1);
+        requestExecutor = new RequestExecutor(configuration);
+        Executor executor = requestExecutor.getExecutor().orElseThrow();
+        CountDownLatch release = new CountDownLatch(1);
+
+        executor.execute(() -> await(release));
+        executor.execute(() -> await(release));
+
+        assertThatThrownBy(() -> executor.execute(() -> { }))
+            .isInstanceOf(RejectedExecutionException.class);
+        release.countDown();
+    }
+
+    @Test
+    void shouldRunBlockingRequestsConcurrently_whenVirtualMode() throws InterruptedException {
+        assumeTrue(Runtime.version().feature() >= 21, "virtual threads need Java 21");
+        requestExecutor = requestExecutor(Mode.VIRTUAL);
+
+        assertThat(runBlockingRequests(requestExecutor.getExecutor().orElseThrow())).isTrue();
+    }
+
+    @Test
+    void shouldFailToStart_whenVirtualModeBeforeJava21() {
+        assumeTrue(Runtime.version().feature() < 21, "virtual threads are available");
+
+        assertThatThrownBy(() -> requestExecutor(Mode.VIRTUAL))
+            .isInstanceOf(IllegalStateException.class)
+            .hasMessageContaining("Java 21");
+    }
+
+    @Test
+    void shouldRunTasksOfDifferentTopicsConcurrently_whenElasticMode() throws InterruptedException {
+        requestExecutor = requestExecutor(Mode.ELASTIC);
+        CountDownLatch bothRunning = new CountDownLatch(2);
+        CountDownLatch bothDone = new CountDownLatch(2);
+        ExternalTaskHandler handler = (task, service) -> {
+            bothRunning.countDown();
+            await(bothRunning);
+            bothDone.countDown();
+        };
+
+        requestExecutor.forTopic(handler).execute(externalTask, externalTaskService);
+        requestExecutor.forTopic(handler).execute(externalTask, externalTaskService);
+
+        assertThat(bothDone.await(1, TimeUnit.SECONDS)).isTrue();
+    }
+
+    @Test
+    void shouldRunTasksOfTopicOneAtATime_whenElasticMode() throws InterruptedException {
+        requestExecutor = requestExecutor(Mode.ELASTIC);
+        AtomicInteger running = new AtomicInteger();
+        AtomicInteger maxRunning = new AtomicInteger();
+        CountDownLatch done = new CountDownLatch(5);
+        ExternalTaskHandler handler = requestExecutor.forTopic((task, service) -> {
+            maxRunning.accumulateAndGet(running.incrementAndGet(), Math::max);
+            sleep();
+            running.decrementAndGet();
+            done.countDown();
+        });
+
+        for (int task = 0; task < 5; task++) {
+            handler.execute(externalTask, externalTaskService);
+        }
+
+        assertThat(done.await(1, TimeUnit.SECONDS)).isTrue();
+        assertThat(maxRunning.get()).isEqualTo(1);
+    }
+
+    @Test
+    void shouldQueueTaskWithoutWaiting_whenTaskOfTopicIsRunning() throws InterruptedException {
+        requestExecutor = requestExecutor(Mode.ELASTIC);
+        CountDownLatch release = new CountDownLatch(1);
+        CountDownLatch done = new CountDownLatch(2);
+        ExternalTaskHandler handler = requestExecutor.forTopic((task, service) -> {
+            await(release);
+            done.countDown();
+        });
+
+        handler.execute(externalTask, externalTaskService);
+        handler.execute(externalTask, externalTaskService);
+
+        assertThat(done.getCount()).isEqualTo(2);
+        release.countDown();
+        assertThat(done.await(1, TimeUnit.SECONDS)).isTrue();
+    }
+
+    @Test
+    void shouldSkipTask_whenLockExpiredWhileQueued() throws InterruptedException {
+        requestExecutor = requestExecutor(Mode.ELASTIC);
+        ExternalTask expiredTask = mock(ExternalTask.class);
+        when(expiredTask.getLockExpirationTime()).thenReturn(new Date(System.currentTimeMillis() - 1000));
+        AtomicInteger handled = new AtomicInteger();
+        CountDownLatch done = new CountDownLatch(1);
+        ExternalTaskHandler handler = requestExecutor.forTopic((task, service) -> {
+            handled.incrementAndGet();
+            done.countDown();
+        });
+
+        handler.execute(expiredTask, externalTaskService);
+        handler.execute(externalTask, externalTaskService);
+
+        assertThat(done.await(1, TimeUnit.SECONDS)).isTrue();
+        assertThat(handled.get()).isEqualTo(1);
+    }
+
+    private static boolean runBlockingRequests(Executor executor) throws InterruptedException {
+        CountDownLatch allWaiting = new CountDownLatch(REQUESTS);
+        CountDownLatch allDone = new CountDownLatch(REQUESTS);
+        for (int request = 0; request < REQUESTS; request++) {
+            executor.execute(() -> {
+                allWaiting.countDown();
+                await(allWaiting);
+                allDone.countDown();
+            });
+        }
+        return allDone.await(5, TimeUnit.SECONDS);
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private static void sleep() {
+        try {
+            Thread.sleep(10);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private static RequestExecutor requestExecutor(Mode mode) {
+        return new RequestExecutor(configuration(mode));
+    }
+
+    private static RequestExecutionConfiguration configuration(Mode mode) {
+        RequestExecutionConfiguration configuration = new RequestExecutionConfiguration();
+        configuration.setMode(mode);
+        return configuration;
+    }
+}
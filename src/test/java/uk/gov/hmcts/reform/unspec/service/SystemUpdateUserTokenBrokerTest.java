@@ -0,0 +1,96 @@
+package uk.gov.hmcts.reform.unspec.service;
+
+import feign.FeignException;
+import feign.Request;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import uk.gov.hmcts.reform.idam.client.IdamClient;
+import uk.gov.hmcts.reform.idam.client.models.UserInfo;
+import uk.gov.hmcts.reform.unspec.config.SystemUpdateUserConfiguration;
+import uk.gov.hmcts.reform.unspec.config.TokenCacheConfiguration;
+import uk.gov.hmcts.reform.unspec.service.data.UserAuthContent;
+
+import java.util.Map;
+
+import static feign.Request.HttpMethod.GET;
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class SystemUpdateUserTokenBrokerTest {
+
+    private static final String USER_NAME = "system-update@example.com";
+    private static final String PASSWORD = "password";
+    private static final String USER_ID = "system-update-uid";
+    private static final String TOKEN = "Bearer token";
+    private static final String NEW_TOKEN = "Bearer new-token";
+
+    private final IdamClient idamClient = mock(IdamClient.class);
+    private final SystemUpdateUserConfiguration userConfig = new SystemUpdateUserConfiguration(USER_NAME, PASSWORD);
+    private final UserTokenCache userTokenCache = new UserTokenCache(idamClient, new TokenCacheConfiguration());
+    private final SimpleMeterRegistry registry = new SimpleMeterRegistry();
+    private SystemUpdateUserTokenBroker broker;
+
+    @BeforeEach
+    void setUp() {
+        when(idamClient.getUserInfo(anyString())).thenReturn(UserInfo.builder().uid(USER_ID).build());
+        when(idamClient.getAccessToken(USER_NAME, PASSWORD)).thenReturn(TOKEN, NEW_TOKEN);
+        broker = new SystemUpdateUserTokenBroker(idamClient, userConfig, userTokenCache);
+        broker.bindTo(registry);
+    }
+
+    @AfterEach
+    void shutdown() {
+        userTokenCache.shutdown();
+    }
+
+    @Test
+    void shouldRequestTokenAndUidOnce_whenSystemUpdateUserRequestedRepeatedly() {
+        UserAuthContent user = broker.getSystemUpdateUser();
+        broker.getSystemUpdateUser();
+        broker.getAccessToken();
+
+        assertThat(user).isEqualTo(UserAuthContent.builder().userToken(TOKEN).userId(USER_ID).build());
+        verify(idamClient, times(1)).getAccessToken(USER_NAME, PASSWORD);
+        verify(idamClient, times(1)).getUserInfo(TOKEN);
+        assertThat(userInfoCalls("made")).isEqualTo(1);
+        assertThat(userInfoCalls("saved")).isEqualTo(1);
+    }
+
+    @Test
+    void shouldRetryCallWithNewToken_whenTokenRejected() {
+        String result = broker.callAsSystemUpdateUser(user -> {
+            if (user.getUserToken().equals(TOKEN)) {
+                throw new FeignException.Unauthorized(
+                    "unauthorised",
+                    Request.create(GET, "", Map.of(), new byte[]{}, UTF_8, null),
+                    new byte[]{}
+                );
+            }
+            return user.getUserId();
+        });
+
+        assertThat(result).isEqualTo(USER_ID);
+        verify(idamClient, times(2)).getAccessToken(USER_NAME, PASSWORD);
+    }
+
+    @Test
+    void shouldRequestTokenAndUidAgain_whenInvalidated() {
+        broker.getSystemUpdateUser();
+        broker.invalidate();
+
+        assertThat(broker.getSystemUpdateUser().getUserToken()).isEqualTo(NEW_TOKEN);
+        verify(idamClient, times(2)).getAccessToken(USER_NAME, PASSWORD);
+        verify(idamClient).getUserInfo(NEW_TOKEN);
+    }
+
+    private double userInfoCalls(String result) {
+        return registry.get("idam.calls").tag("call", "user-info").tag("result", result).functionCounter().count();
+    }
+}
@@ -1,6 +1,9 @@
 package uk.gov.hmcts.reform.unspec.service;
 
 import com.google.common.collect.Lists;
+import com.nimbusds.jwt.JWTClaimsSet;
+import com.nimbusds.jwt.PlainJWT;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -8,11 +11,24 @@ import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 import uk.gov.hmcts.reform.idam.client.IdamClient;
 import uk.gov.hmcts.reform.idam.client.models.UserInfo;
-import uk.gov.hmcts.reform.unspec.service.UserService;
+import uk.gov.hmcts.reform.unspec.config.UserInfoCacheConfiguration;
 
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.util.Date;
 import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.lenient;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 @ExtendWith(MockitoExtension.class)
@@ -39,12 +55,14 @@ class UserServiceTest {
     @Mock
     private IdamClient idamClient;
 
+    private final UserInfoCacheConfiguration configuration = new UserInfoCacheConfiguration();
+    private final FakeTime time = new FakeTime();
     private UserService userService;
 
     @BeforeEach
     public void setup() {
-        userService = new UserService(idamClient);
-        when(idamClient.getUserInfo(AUTHORISATION)).thenReturn(userInfo);
+        userService = new UserService(idamClient, configuration, time, time::nanos);
+        lenient().when(idamClient.getUserInfo(anyString())).thenReturn(userInfo);
     }
 
     @Test
@@ -58,4 +76,121 @@ class UserServiceTest {
         assertThat(found.getFamilyName()).isEqualTo(FAMILY_NAME);
         assertThat(found.getRoles()).isEqualTo(ROLES);
     }
+
+    @Test
+    void shouldReuseUserInfo_untilTokenExpires() {
+        String token = tokenExpiringIn(Duration.ofMinutes(10));
+
+        userService.getUserInfo(token);
+        time.advance(Duration.ofMinutes(10).minusSeconds(1));
+        userService.getUserInfo(token);
+        verify(idamClient, times(1)).getUserInfo(token);
+
+        time.advance(Duration.ofSeconds(1));
+        userService.getUserInfo(token);
+        verify(idamClient, times(2)).getUserInfo(token);
+    }
+
+    @Test
+    void shouldReuseUserInfo_noLongerThanMaximumLifetime() {
+        String token = tokenExpiringIn(Duration.ofHours(8));
+
+        userService.getUserInfo(token);
+        time.advance(configuration.getMaximumLifetime());
+        userService.getUserInfo(token);
+
+        verify(idamClient, times(2)).getUserInfo(token);
+    }
+
+    @Test
+    void shouldNotKeepUserInfo_whenTokenAlreadyExpired() {
+        String token = tokenExpiringIn(Duration.ofMinutes(-1));
+
+        userService.getUserInfo(token);
+        userService.getUserInfo(token);
+
+        verify(idamClient, times(2)).getUserInfo(token);
+    }
+
+    @Test
+    void shouldRequestUserInfoOnce_whenConcurrentRequestsWithSameToken() throws Exception {
+        CountDownLatch requesting = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        when(idamClient.getUserInfo(AUTHORISATION)).thenAnswer(invocation -> {
+            requesting.countDown();
+            release.await(1, TimeUnit.SECONDS);
+            return userInfo;
+        });
+
+        CompletableFuture<UserInfo> first = CompletableFuture.supplyAsync(() -> userService.getUserInfo(AUTHORISATION));
+        assertThat(requesting.await(1, TimeUnit.SECONDS)).isTrue();
+        CompletableFuture<UserInfo> second = CompletableFuture.supplyAsync(() -> userService.getUserInfo(AUTHORISATION));
+        release.countDown();
+
+        assertThat(first.get(1, TimeUnit.SECONDS)).isEqualTo(userInfo);
+        assertThat(second.get(1, TimeUnit.SECONDS)).isEqualTo(userInfo);
+        verify(idamClient, times(1)).getUserInfo(AUTHORISATION);
+    }
+
+    @Test
+    void shouldPublishHitsAndEvictions_whenCacheIsFull() throws InterruptedException {
+        configuration.setMaximumSize(1);
+        userService = new UserService(idamClient, configuration, time, time::nanos);
+        SimpleMeterRegistry registry = new SimpleMeterRegistry();
+        userService.bindTo(registry);
+        String token = tokenExpiringIn(Duration.ofMinutes(10));
+
+        userService.getUserInfo(token);
+        userService.getUserInfo(token);
+        userService.getUserInfo(AUTHORISATION);
+        userService.getUserInfo(AUTHORISATION);
+
+        assertThat(registry.get("cache.gets").tag("result", "hit").functionCounter().count()).isEqualTo(2);
+        assertThat(registry.get("cache.gets").tag("result", "miss").functionCounter().count()).isEqualTo(2);
+        // evictions are done by the cache maintenance, which runs asynchronously
+        for (int i = 0; i < 100 && evictions(registry) == 0; i++) {
+            Thread.sleep(10);
+        }
+        assertThat(evictions(registry)).isEqualTo(1);
+    }
+
+    private static double evictions(SimpleMeterRegistry registry) {
+        return registry.get("cache.evictions").functionCounter().count();
+    }
+
+    private String tokenExpiringIn(Duration lifetime) {
+        JWTClaimsSet claims = new JWTClaimsSet.Builder()
+            .subject(SUB)
+            .expirationTime(Date.from(time.instant().plus(lifetime)))
+            .build();
+        return "Bearer " + new PlainJWT(claims).serialize();
+    }
+
+    private static class FakeTime extends Clock {
+
+        private volatile Instant instant = Instant.parse("2021-03-01T10:00:00Z");
+
+        void advance(Duration duration) {
+            instant = instant.plus(duration);
+        }
+
+        long nanos() {
+            return instant.getEpochSecond() * 1_000_000_000L + instant.getNano();
+        }
+
+        @Override
+        public ZoneId getZone() {
+            return ZoneOffset.UTC;
+        }
+
+        @Override
+        public Clock withZone(ZoneId zone) {
+            return this;
+        }
+
+        @Override
+        public Instant instant() {
+            return instant;
+        }
+    }
 }
@@ -0,0 +1,226 @@
+package uk.gov.hmcts.reform.unspec.service;
+
+import com.nimbusds.jwt.JWTClaimsSet;
+import com.nimbusds.jwt.PlainJWT;
+import feign.FeignException;
+import feign.Request;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import uk.gov.hmcts.reform.idam.client.IdamClient;
+import uk.gov.hmcts.reform.unspec.config.CrossAccessUserConfiguration;
+import uk.gov.hmcts.reform.unspec.config.SystemUpdateUserConfiguration;
+import uk.gov.hmcts.reform.unspec.config.TokenCacheConfiguration;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.util.Date;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static feign.Request.HttpMethod.GET;
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.timeout;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class UserTokenCacheTest {
+
+    private static final String SYSTEM_UPDATE = "system-update@example.com";
+    private static final String CROSS_ACCESS = "cross-access@example.com";
+    private static final String PASSWORD = "password";
+    private static final Instant NOW = Instant.parse("2021-03-01T10:00:00Z");
+
+    private final IdamClient idamClient = mock(IdamClient.class);
+    private final SystemUpdateUserConfiguration systemUpdateUser =
+        new SystemUpdateUserConfiguration(SYSTEM_UPDATE, PASSWORD);
+    private final CrossAccessUserConfiguration crossAccessUser =
+        new CrossAccessUserConfiguration(CROSS_ACCESS, PASSWORD);
+    private final TokenCacheConfiguration configuration = new TokenCacheConfiguration();
+    private final MutableClock clock = new MutableClock();
+    private final SimpleMeterRegistry registry = new SimpleMeterRegistry();
+    private UserTokenCache cache;
+
+    @AfterEach
+    void shutdown() {
+        cache.shutdown();
+    }
+
+    @Test
+    void shouldReuseTokenOfEachUser_untilShortlyBeforeItExpires() {
+        String systemUpdateToken = tokenExpiringIn(SYSTEM_UPDATE, Duration.ofHours(8));
+        String crossAccessToken = tokenExpiringIn(CROSS_ACCESS, Duration.ofHours(8));
+        when(idamClient.getAccessToken(SYSTEM_UPDATE, PASSWORD)).thenReturn(systemUpdateToken);
+        when(idamClient.getAccessToken(CROSS_ACCESS, PASSWORD)).thenReturn(crossAccessToken);
+        cache = cache();
+
+        assertThat(cache.getAccessToken(systemUpdateUser)).isEqualTo(systemUpdateToken);
+        assertThat(cache.getAccessToken(crossAccessUser)).isEqualTo(crossAccessToken);
+        clock.advance(Duration.ofHours(7));
+        assertThat(cache.getAccessToken(systemUpdateUser)).isEqualTo(systemUpdateToken);
+        assertThat(cache.getAccessToken(new SystemUpdateUserConfiguration(SYSTEM_UPDATE, PASSWORD)))
+            .isEqualTo(systemUpdateToken);
+
+        verify(idamClient, times(1)).getAccessToken(SYSTEM_UPDATE, PASSWORD);
+        verify(idamClient, times(1)).getAccessToken(CROSS_ACCESS, PASSWORD);
+        assertThat(calls("SystemUpdateUser", "made")).isEqualTo(1);
+        assertThat(calls("SystemUpdateUser", "saved")).isEqualTo(2);
+        assertThat(calls("CrossAccessUser", "made")).isEqualTo(1);
+    }
+
+    @Test
+    void shouldRequestNewToken_whenTokenAboutToExpire() {
+        String first = tokenExpiringIn(SYSTEM_UPDATE, Duration.ofHours(8));
+        String second = tokenExpiringIn(SYSTEM_UPDATE, Duration.ofHours(16));
+        when(idamClient.getAccessToken(SYSTEM_UPDATE, PASSWORD)).thenReturn(first, second);
+        cache = cache();
+
+        cache.getAccessToken(systemUpdateUser);
+        clock.advance(Duration.ofHours(8).minusSeconds(10));
+
+        assertThat(cache.getAccessToken(systemUpdateUser)).isEqualTo(second);
+        verify(idamClient, times(2)).getAccessToken(SYSTEM_UPDATE, PASSWORD);
+    }
+
+    @Test
+    void shouldAssumeDefaultLifetime_whenTokenIsNotJwt() {
+        when(idamClient.getAccessToken(SYSTEM_UPDATE, PASSWORD)).thenReturn("Bearer opaque", "Bearer opaque-2");
+        cache = cache();
+
+        cache.getAccessToken(systemUpdateUser);
+        clock.advance(configuration.getDefaultLifetime().minus(configuration.getExpiryMargin()).minusSeconds(1));
+        assertThat(cache.getAccessToken(systemUpdateUser)).isEqualTo("Bearer opaque");
+        clock.advance(Duration.ofSeconds(1));
+
+        assertThat(cache.getAccessToken(systemUpdateUser)).isEqualTo("Bearer opaque-2");
+    }
+
+    @Test
+    void shouldRequestTokenOnce_whenConcurrentCallersFindNoToken() throws Exception {
+        CountDownLatch granting = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        String token = tokenExpiringIn(SYSTEM_UPDATE, Duration.ofHours(8));
+        when(idamClient.getAccessToken(SYSTEM_UPDATE, PASSWORD)).thenAnswer(invocation -> {
+            granting.countDown();
+            release.await(1, TimeUnit.SECONDS);
+            return token;
+        });
+        cache = cache();
+
+        CompletableFuture<String> first = CompletableFuture.supplyAsync(() -> cache.getAccessToken(systemUpdateUser));
+        assertThat(granting.await(1, TimeUnit.SECONDS)).isTrue();
+        CompletableFuture<String> second = CompletableFuture.supplyAsync(() -> cache.getAccessToken(systemUpdateUser));
+        release.countDown();
+
+        assertThat(first.get(1, TimeUnit.SECONDS)).isEqualTo(token);
+        assertThat(second.get(1, TimeUnit.SECONDS)).isEqualTo(token);
+        verify(idamClient, times(1)).getAccessToken(SYSTEM_UPDATE, PASSWORD);
+    }
+
+    @Test
+    void shouldRefreshTokenInBackground_whenTokenDueForRefresh() {
+        configuration.setRefreshInterval(Duration.ofMillis(10));
+        String first = tokenExpiringIn(CROSS_ACCESS, Duration.ofHours(8));
+        String second = tokenExpiringIn(CROSS_ACCESS, Duration.ofHours(16));
+        when(idamClient.getAccessToken(CROSS_ACCESS, PASSWORD)).thenReturn(first, second);
+        cache = cache();
+
+        cache.getAccessToken(crossAccessUser);
+        clock.advance(Duration.ofHours(8).minus(configuration.getRefreshBeforeExpiry()));
+
+        verify(idamClient, timeout(1000).times(2)).getAccessToken(CROSS_ACCESS, PASSWORD);
+        assertThat(cache.getAccessToken(crossAccessUser)).isEqualTo(second);
+    }
+
+    @Test
+    void shouldRetryCallWithNewToken_whenTokenRejected() {
+        String rejected = tokenExpiringIn(CROSS_ACCESS, Duration.ofHours(8));
+        String accepted = tokenExpiringIn(CROSS_ACCESS, Duration.ofHours(9));
+        when(idamClient.getAccessToken(CROSS_ACCESS, PASSWORD)).thenReturn(rejected, accepted);
+        cache = cache();
+        AtomicInteger attempts = new AtomicInteger();
+
+        String result = cache.callAs(crossAccessUser, token -> {
+            attempts.incrementAndGet();
+            if (token.equals(rejected)) {
+                throw new FeignException.Unauthorized(
+                    "unauthorised",
+                    Request.create(GET, "", Map.of(), new byte[]{}, UTF_8, null),
+                    new byte[]{}
+                );
+            }
+            return "result";
+        });
+
+        assertThat(result).isEqualTo("result");
+        assertThat(attempts).hasValue(2);
+        assertThat(cache.getAccessToken(crossAccessUser)).isEqualTo(accepted);
+    }
+
+    @Test
+    void shouldKeepNewerToken_whenStaleTokenInvalidated() {
+        String stale = tokenExpiringIn(SYSTEM_UPDATE, Duration.ofHours(8));
+        String current = tokenExpiringIn(SYSTEM_UPDATE, Duration.ofHours(9));
+        when(idamClient.getAccessToken(SYSTEM_UPDATE, PASSWORD)).thenReturn(stale, current);
+        cache = cache();
+
+        cache.getAccessToken(systemUpdateUser);
+        cache.invalidate(systemUpdateUser);
+        cache.getAccessToken(systemUpdateUser);
+        cache.invalidate(systemUpdateUser, stale);
+
+        assertThat(cache.getAccessToken(systemUpdateUser)).isEqualTo(current);
+        verify(idamClient, times(2)).getAccessToken(SYSTEM_UPDATE, PASSWORD);
+    }
+
+    private double calls(String user, String result) {
+        return registry.get("idam.calls").tag("user", user).tag("result", result).functionCounter().count();
+    }
+
+    private String tokenExpiringIn(String subject, Duration lifetime) {
+        JWTClaimsSet claims = new JWTClaimsSet.Builder()
+            .subject(subject)
+            .expirationTime(Date.from(clock.instant().plus(lifetime)))
+            .build();
+        return "Bearer " + new PlainJWT(claims).serialize();
+    }
+
+    private UserTokenCache cache() {
+        UserTokenCache tokenCache = new UserTokenCache(idamClient, configuration, clock);
+        tokenCache.bindTo(registry);
+        return tokenCache;
+    }
+
+    static class MutableClock extends Clock {
+
+        private volatile Instant instant = NOW;
+
+        void advance(Duration duration) {
+            instant = instant.plus(duration);
+        }
+
+        @Override
+        public ZoneId getZone() {
+            return ZoneOffset.UTC;
+        }
+
+        @Override
+        public Clock withZone(ZoneId zone) {
+            return this;
+        }
+
+        @Override
+        public Instant instant() {
+            return instant;
+        }
+    }
+}
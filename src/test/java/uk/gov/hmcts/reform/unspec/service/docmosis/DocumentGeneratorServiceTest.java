@@ -1,5 +1,7 @@
 package uk.gov.hmcts.reform.unspec.service.docmosis;
 
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.ArgumentCaptor;
@@ -50,6 +52,9 @@ class DocumentGeneratorServiceTest {
     @Autowired
     private DocumentGeneratorService documentGeneratorService;
 
+    @Autowired
+    private ObjectMapper objectMapper;
+
     @Test
     void shouldInvokesTornado() {
         SealedClaimForm sealedClaimForm = SealedClaimForm.builder().issueDate(LocalDate.now()).build();
@@ -68,6 +73,21 @@ class DocumentGeneratorServiceTest {
         assertThat(argumentCaptor.getValue().getBody().getOutputFormat()).isEqualTo("pdf");
     }
 
+    @Test
+    void shouldSendTemplateDataAsJson_whenRequestBodyIsSerialised() throws JsonProcessingException {
+        SealedClaimForm sealedClaimForm = SealedClaimForm.builder().issueDate(LocalDate.of(2020, 8, 1)).build();
+
+        when(restTemplate.exchange(eq(configuration.getUrl() + API_RENDER),
+                                   eq(HttpMethod.POST), argumentCaptor.capture(), eq(byte[].class)
+        )).thenReturn(tornadoResponse);
+
+        documentGeneratorService.generateDocmosisDocument(sealedClaimForm, N1);
+
+        String requestBody = objectMapper.writeValueAsString(argumentCaptor.getValue().getBody());
+        assertThat(objectMapper.readTree(requestBody).get("data"))
+            .isEqualTo(objectMapper.valueToTree(sealedClaimForm));
+    }
+
     @Test
     void shouldThrowWhenTornadoFails() {
         when(restTemplate.exchange(eq(configuration.getUrl() + API_RENDER),
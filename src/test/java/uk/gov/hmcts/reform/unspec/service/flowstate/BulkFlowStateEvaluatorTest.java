@@ -0,0 +1,135 @@
+package uk.gov.hmcts.reform.unspec.service.flowstate;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.jackson.JacksonAutoConfiguration;
+import org.springframework.boot.test.context.SpringBootTest;
+import uk.gov.hmcts.reform.unspec.config.FlowStateEvaluationConfiguration;
+import uk.gov.hmcts.reform.unspec.enums.PaymentStatus;
+import uk.gov.hmcts.reform.unspec.helpers.CaseDetailsConverter;
+import uk.gov.hmcts.reform.unspec.model.CaseData;
+import uk.gov.hmcts.reform.unspec.model.PaymentDetails;
+import uk.gov.hmcts.reform.unspec.sampledata.CaseDataBuilder;
+import uk.gov.hmcts.reform.unspec.stateflow.StateFlow;
+
+import java.time.LocalDateTime;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static uk.gov.hmcts.reform.unspec.service.flowstate.FlowState.Main.CLAIM_ISSUED;
+import static uk.gov.hmcts.reform.unspec.service.flowstate.FlowState.Main.DRAFT;
+import static uk.gov.hmcts.reform.unspec.service.flowstate.FlowState.Main.FULL_DEFENCE;
+
+@SpringBootTest(classes = {
+    JacksonAutoConfiguration.class,
+    CaseDetailsConverter.class,
+    StateFlowEngine.class,
+    FlowStateEvaluationConfiguration.class,
+    BulkFlowStateEvaluator.class
+})
+class BulkFlowStateEvaluatorTest {
+
+    @Autowired
+    private BulkFlowStateEvaluator bulkFlowStateEvaluator;
+
+    @Autowired
+    private StateFlowEngine stateFlowEngine;
+
+    @Autowired
+    private ForkJoinPool flowStateEvaluationPool;
+
+    @Test
+    void shouldCountCasesByFlowState_whenCasesAreInDifferentStates() {
+        Stream<CaseData> cases = Stream.of(
+            IntStream.range(0, 50).mapToObj(i -> CaseDataBuilder.builder().atState(DRAFT).build()),
+            IntStream.range(0, 30).mapToObj(i -> CaseDataBuilder.builder().atState(CLAIM_ISSUED).build()),
+            IntStream.range(0, 20).mapToObj(i -> CaseDataBuilder.builder().atState(FULL_DEFENCE).build())
+        ).flatMap(stream -> stream);
+
+        FlowStateCounts counts = bulkFlowStateEvaluator.evaluateAll(cases);
+
+        assertThat(counts.getAmbiguous()).isZero();
+        assertThat(counts.getFlowStates()).containsOnly(
+            Map.entry(DRAFT, 50L),
+            Map.entry(CLAIM_ISSUED, 30L),
+            Map.entry(FULL_DEFENCE, 20L)
+        );
+    }
+
+    @Test
+    void shouldReturnNoCounts_whenNoCases() {
+        FlowStateCounts counts = bulkFlowStateEvaluator.evaluateAll(Stream.empty());
+
+        assertThat(counts.getFlowStates()).isEmpty();
+        assertThat(counts.getAmbiguous()).isZero();
+    }
+
+    @Test
+    void shouldCountAmbiguousCasesSeparately_whenFlowOfCaseIsAmbiguous() {
+        CaseData ambiguousCase = CaseDataBuilder.builder().atStateClaimSubmitted().build().toBuilder()
+            .paymentSuccessfulDate(LocalDateTime.now())
+            .claimIssuedPaymentDetails(PaymentDetails.builder().status(PaymentStatus.FAILED).build())
+            .build();
+        Map<CaseData, StateFlow> results = new ConcurrentHashMap<>();
+        Stream<CaseData> cases = Stream.of(
+            ambiguousCase,
+            CaseDataBuilder.builder().atState(DRAFT).build(),
+            CaseDataBuilder.builder().atState(CLAIM_ISSUED).build()
+        );
+
+        FlowStateCounts counts = bulkFlowStateEvaluator.evaluateAll(cases, results::put);
+
+        assertThat(counts.getAmbiguous()).isEqualTo(1);
+        assertThat(counts.getFlowStates()).containsOnly(Map.entry(DRAFT, 1L), Map.entry(CLAIM_ISSUED, 1L));
+        assertThat(results).hasSize(3);
+        assertThat(results.get(ambiguousCase).hasError()).isTrue();
+    }
+
+    @Test
+    void shouldPassEveryCaseWithItsStateFlowToConsumer_onEvaluationPool() {
+        Map<CaseData, StateFlow> results = new ConcurrentHashMap<>();
+        Set<Boolean> onEvaluationPool = ConcurrentHashMap.newKeySet();
+        Stream<CaseData> cases = IntStream.range(0, 100)
+            .mapToObj(i -> CaseDataBuilder.builder().atState(FULL_DEFENCE).caseReference((long) i).build());
+
+        bulkFlowStateEvaluator.evaluateAll(cases, (caseData, stateFlow) -> {
+            results.put(caseData, stateFlow);
+            onEvaluationPool.add(ForkJoinTask.getPool() == flowStateEvaluationPool);
+        });
+
+        assertThat(results).hasSize(100);
+        assertThat(results.values())
+            .allSatisfy(stateFlow -> assertThat(stateFlow.getState().getName()).isEqualTo(FULL_DEFENCE.fullName()));
+        assertThat(onEvaluationPool).containsOnly(true);
+    }
+
+    @Test
+    void shouldPropagateException_whenConsumerFails() {
+        Stream<CaseData> cases = Stream.of(CaseDataBuilder.builder().atState(DRAFT).build());
+
+        IllegalStateException exception = assertThrows(
+            IllegalStateException.class,
+            () -> bulkFlowStateEvaluator.evaluateAll(cases, (caseData, stateFlow) -> {
+                throw new IllegalStateException("consumer failed");
+            })
+        );
+
+        assertThat(exception).hasMessageContaining("consumer failed");
+    }
+
+    @Test
+    void shouldEvaluateFromSnapshot_whenCaseHasFlowStateSnapshot() {
+        CaseData caseData = CaseDataBuilder.builder().atState(FULL_DEFENCE).build();
+        CaseData withSnapshot = caseData.toBuilder().flowStateSnapshot(stateFlowEngine.snapshot(caseData)).build();
+
+        assertThat(bulkFlowStateEvaluator.evaluateAll(Stream.of(withSnapshot)).getFlowStates())
+            .containsOnly(Map.entry(FULL_DEFENCE, 1L));
+    }
+}
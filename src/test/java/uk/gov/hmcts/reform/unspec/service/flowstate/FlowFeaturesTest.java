@@ -0,0 +1,72 @@
+package uk.gov.hmcts.reform.unspec.service.flowstate;
+
+import org.junit.jupiter.api.Test;
+import uk.gov.hmcts.reform.unspec.model.CaseData;
+import uk.gov.hmcts.reform.unspec.model.PaymentDetails;
+import uk.gov.hmcts.reform.unspec.sampledata.CaseDataBuilder;
+
+import java.time.LocalDateTime;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static uk.gov.hmcts.reform.unspec.enums.PaymentStatus.FAILED;
+import static uk.gov.hmcts.reform.unspec.enums.RespondentResponseType.FULL_DEFENCE;
+import static uk.gov.hmcts.reform.unspec.enums.YesOrNo.NO;
+import static uk.gov.hmcts.reform.unspec.enums.YesOrNo.YES;
+import static uk.gov.hmcts.reform.unspec.service.flowstate.FlowFeatures.APPLICANT1_NOT_PROCEED;
+import static uk.gov.hmcts.reform.unspec.service.flowstate.FlowFeatures.CLAIM_ISSUED_PAYMENT_FAILED;
+import static uk.gov.hmcts.reform.unspec.service.flowstate.FlowFeatures.CLAIM_NOTIFICATION_DEADLINE;
+import static uk.gov.hmcts.reform.unspec.service.flowstate.FlowFeatures.CLAIM_NOTIFICATION_DEADLINE_AHEAD;
+import static uk.gov.hmcts.reform.unspec.service.flowstate.FlowFeatures.CLAIM_NOTIFICATION_DEADLINE_PASSED;
+import static uk.gov.hmcts.reform.unspec.service.flowstate.FlowFeatures.RESPONDENT1_REPRESENTED;
+import static uk.gov.hmcts.reform.unspec.service.flowstate.FlowFeatures.RESPONDENT1_RESPONDED;
+import static uk.gov.hmcts.reform.unspec.service.flowstate.FlowFeatures.RESPONSE_FULL_DEFENCE;
+import static uk.gov.hmcts.reform.unspec.service.flowstate.FlowFeatures.SUBMITTED;
+
+class FlowFeaturesTest {
+
+    @Test
+    void shouldNameFieldsOfCaseData_whenListingCaseDataFields() {
+        assertThat(FlowFeatures.CASE_DATA_FIELDS)
+            .allSatisfy(field -> assertThat(CaseData.class).hasDeclaredFields(field));
+    }
+
+    @Test
+    void shouldHaveNoFeatures_whenCaseDataEmpty() {
+        assertThat(FlowFeatures.encode(CaseData.builder().build())).isZero();
+    }
+
+    @Test
+    void shouldEncodePresenceOfDatesAndValuesOfEnums() {
+        CaseData caseData = CaseData.builder()
+            .submittedDate(LocalDateTime.now())
+            .respondent1Represented(YES)
+            .respondent1ResponseDate(LocalDateTime.now())
+            .respondent1ClaimResponseType(FULL_DEFENCE)
+            .applicant1ProceedWithClaim(NO)
+            .claimIssuedPaymentDetails(PaymentDetails.builder().status(FAILED).build())
+            .build();
+
+        assertThat(FlowFeatures.encode(caseData)).isEqualTo(
+            SUBMITTED | RESPONDENT1_REPRESENTED | RESPONDENT1_RESPONDED | RESPONSE_FULL_DEFENCE
+                | APPLICANT1_NOT_PROCEED | CLAIM_ISSUED_PAYMENT_FAILED
+        );
+    }
+
+    @Test
+    void shouldEncodeWhetherDeadlineHasPassed() {
+        CaseData pastDeadline = CaseData.builder().claimNotificationDeadline(LocalDateTime.now().minusDays(1)).build();
+        CaseData futureDeadline = CaseData.builder().claimNotificationDeadline(LocalDateTime.now().plusDays(1)).build();
+
+        assertThat(FlowFeatures.encode(pastDeadline))
+            .isEqualTo(CLAIM_NOTIFICATION_DEADLINE | CLAIM_NOTIFICATION_DEADLINE_PASSED);
+        assertThat(FlowFeatures.encode(futureDeadline))
+            .isEqualTo(CLAIM_NOTIFICATION_DEADLINE | CLAIM_NOTIFICATION_DEADLINE_AHEAD);
+    }
+
+    @Test
+    void shouldEncodeSameFeatures_whenSameCaseData() {
+        CaseData caseData = CaseDataBuilder.builder().atStateClaimDetailsNotified().build();
+
+        assertThat(FlowFeatures.encode(caseData)).isEqualTo(FlowFeatures.encode(caseData));
+    }
+}
@@ -0,0 +1,167 @@
+package uk.gov.hmcts.reform.unspec.service.flowstate;
+
+import uk.gov.hmcts.reform.unspec.enums.PaymentStatus;
+import uk.gov.hmcts.reform.unspec.enums.RespondentResponseType;
+import uk.gov.hmcts.reform.unspec.enums.ResponseIntention;
+import uk.gov.hmcts.reform.unspec.enums.YesOrNo;
+import uk.gov.hmcts.reform.unspec.model.CaseData;
+import uk.gov.hmcts.reform.unspec.model.PaymentDetails;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.function.BiFunction;
+import java.util.function.UnaryOperator;
+import java.util.stream.LongStream;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+/**
+ * Enumerates every combination of the CaseData fields read by {@link FlowPredicate}, using one value per outcome a
+ * predicate can distinguish (e.g. a date being absent, or a deadline being absent, in the past or in the future).
+ * Used with {@link uk.gov.hmcts.reform.unspec.stateflow.StateFlowAnalyser} to prove the flow is unambiguous.
+ */
+public class FlowPredicateCombinations {
+
+    // dimensions from this index onwards are split into chunks which can be generated in parallel
+    private static final int OUTER_DIMENSION = 14;
+
+    private final List<List<UnaryOperator<CaseData.CaseDataBuilder>>> dimensions = new ArrayList<>();
+
+    public FlowPredicateCombinations() {
+        LocalDateTime now = LocalDateTime.now();
+        LocalDateTime past = now.minusDays(1);
+        LocalDateTime future = now.plusDays(1);
+
+        date(CaseData.CaseDataBuilder::submittedDate, now);
+        date(CaseData.CaseDataBuilder::paymentSuccessfulDate, now);
+        date(CaseData.CaseDataBuilder::issueDate, LocalDate.now());
+        date(CaseData.CaseDataBuilder::claimNotificationDate, now);
+        date(CaseData.CaseDataBuilder::claimDetailsNotificationDate, now);
+        date(CaseData.CaseDataBuilder::respondent1TimeExtensionDate, now);
+        date(CaseData.CaseDataBuilder::respondent1AcknowledgeNotificationDate, now);
+        date(CaseData.CaseDataBuilder::respondent1ResponseDate, now);
+        date(CaseData.CaseDataBuilder::takenOfflineDate, now);
+        date(CaseData.CaseDataBuilder::takenOfflineByStaffDate, now);
+        date(CaseData.CaseDataBuilder::claimDismissedDate, now);
+
+        deadline(CaseData.CaseDataBuilder::claimNotificationDeadline, past, future);
+        deadline(CaseData.CaseDataBuilder::claimDetailsNotificationDeadline, past, future);
+        date(CaseData.CaseDataBuilder::applicant1ResponseDeadline, past);
+
+        values(CaseData.CaseDataBuilder::respondent1Represented, YesOrNo.values());
+        values(CaseData.CaseDataBuilder::respondent1OrgRegistered, YesOrNo.values());
+        values(CaseData.CaseDataBuilder::applicant1ProceedWithClaim, YesOrNo.values());
+        values(CaseData.CaseDataBuilder::respondent1ClaimResponseType, RespondentResponseType.values());
+        values(CaseData.CaseDataBuilder::respondent1ClaimResponseIntentionType, ResponseIntention.FULL_DEFENCE);
+
+        PaymentDetails failedPayment = PaymentDetails.builder().status(PaymentStatus.FAILED).build();
+        values(CaseData.CaseDataBuilder::paymentDetails, failedPayment);
+        values(CaseData.CaseDataBuilder::claimIssuedPaymentDetails, failedPayment);
+    }
+
+    public long size() {
+        return product(0, dimensions.size());
+    }
+
+    public Stream<CaseData> stream() {
+        return LongStream.range(0, product(OUTER_DIMENSION, dimensions.size())).boxed().flatMap(this::chunk);
+    }
+
+    public Stream<CaseData> parallelStream() {
+        return stream().parallel();
+    }
+
+    /**
+     * Combinations sharing the values of the outer dimensions. Inner dimensions are advanced like an odometer on a
+     * builder owned by the chunk, so most combinations only change a single field.
+     */
+    private Stream<CaseData> chunk(long outerIndex) {
+        CaseData.CaseDataBuilder builder = CaseData.builder();
+        long remainder = outerIndex;
+        for (int dimension = OUTER_DIMENSION; dimension < dimensions.size(); dimension++) {
+            int size = dimensions.get(dimension).size();
+            apply(builder, dimension, (int) (remainder % size));
+            remainder /= size;
+        }
+        int[] digits = new int[OUTER_DIMENSION];
+        for (int dimension = 0; dimension < OUTER_DIMENSION; dimension++) {
+            apply(builder, dimension, 0);
+        }
+
+        Iterator<CaseData> combinations = new Iterator<>() {
+            private boolean exhausted;
+
+            @Override
+            public boolean hasNext() {
+                return !exhausted;
+            }
+
+            @Override
+            public CaseData next() {
+                if (exhausted) {
+                    throw new NoSuchElementException();
+                }
+                CaseData caseData = builder.build();
+                exhausted = !advance(builder, digits);
+                return caseData;
+            }
+        };
+        return StreamSupport.stream(
+            Spliterators.spliterator(combinations, product(0, OUTER_DIMENSION), Spliterator.NONNULL),
+            false
+        );
+    }
+
+    private boolean advance(CaseData.CaseDataBuilder builder, int[] digits) {
+        for (int dimension = 0; dimension < digits.length; dimension++) {
+            digits[dimension]++;
+            if (digits[dimension] < dimensions.get(dimension).size()) {
+                apply(builder, dimension, digits[dimension]);
+                return true;
+            }
+            digits[dimension] = 0;
+            apply(builder, dimension, 0);
+        }
+        return false;
+    }
+
+    private void apply(CaseData.CaseDataBuilder builder, int dimension, int value) {
+        dimensions.get(dimension).get(value).apply(builder);
+    }
+
+    private long product(int fromDimension, int toDimension) {
+        long product = 1;
+        for (int dimension = fromDimension; dimension < toDimension; dimension++) {
+            product *= dimensions.get(dimension).size();
+        }
+        return product;
+    }
+
+    private <T> void date(BiFunction<CaseData.CaseDataBuilder, T, CaseData.CaseDataBuilder> field, T value) {
+        values(field, value);
+    }
+
+    private void deadline(
+        BiFunction<CaseData.CaseDataBuilder, LocalDateTime, CaseData.CaseDataBuilder> field,
+        LocalDateTime past,
+        LocalDateTime future
+    ) {
+        values(field, past, future);
+    }
+
+    @SafeVarargs
+    private <T> void values(BiFunction<CaseData.CaseDataBuilder, T, CaseData.CaseDataBuilder> field, T... values) {
+        List<UnaryOperator<CaseData.CaseDataBuilder>> dimension = new ArrayList<>();
+        dimension.add(builder -> field.apply(builder, null));
+        for (T value : values) {
+            dimension.add(builder -> field.apply(builder, value));
+        }
+        dimensions.add(dimension);
+    }
+}
@@ -0,0 +1,42 @@
+package uk.gov.hmcts.reform.unspec.service.flowstate;
+
+import org.junit.jupiter.api.Test;
+import uk.gov.hmcts.reform.unspec.model.CaseData;
+
+import java.util.List;
+import java.util.stream.Collectors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class FlowPredicateCombinationsTest {
+
+    private final FlowPredicateCombinations flowPredicateCombinations = new FlowPredicateCombinations();
+
+    @Test
+    void shouldCountEveryCombinationOfFlowPredicateInputs() {
+        // 11 dates, 2 deadlines, applicant response deadline, 3 yes/no fields, response type, intention, payments
+        assertThat(flowPredicateCombinations.size()).isEqualTo(2048L * 9 * 2 * 27 * 5 * 2 * 4);
+    }
+
+    @Test
+    void shouldStartWithEmptyCaseAndChangeOneFieldAtATime() {
+        List<CaseData> combinations = flowPredicateCombinations.stream().limit(4).collect(Collectors.toList());
+
+        assertThat(combinations.get(0)).isEqualTo(CaseData.builder().build());
+        assertThat(combinations.get(1).getSubmittedDate()).isNotNull();
+        assertThat(combinations.get(1).getPaymentSuccessfulDate()).isNull();
+        assertThat(combinations.get(2).getSubmittedDate()).isNull();
+        assertThat(combinations.get(2).getPaymentSuccessfulDate()).isNotNull();
+        assertThat(combinations.get(3).getSubmittedDate()).isNotNull();
+        assertThat(combinations.get(3).getPaymentSuccessfulDate()).isNotNull();
+    }
+
+    @Test
+    void shouldProduceDistinctCombinations() {
+        List<CaseData> combinations = flowPredicateCombinations.parallelStream()
+            .limit(100_000)
+            .collect(Collectors.toList());
+
+        assertThat(combinations).doesNotHaveDuplicates();
+    }
+}
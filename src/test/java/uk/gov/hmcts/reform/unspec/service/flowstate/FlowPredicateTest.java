@@ -46,6 +46,7 @@ import static uk.gov.hmcts.reform.unspec.service.flowstate.FlowPredicate.takenOf
 import static uk.gov.hmcts.reform.unspec.service.flowstate.FlowPredicate.takenOfflineByStaffAfterClaimDetailsNotifiedExtension;
 import static uk.gov.hmcts.reform.unspec.service.flowstate.FlowPredicate.takenOfflineByStaffAfterClaimIssue;
 import static uk.gov.hmcts.reform.unspec.service.flowstate.FlowPredicate.takenOfflineByStaffAfterClaimNotified;
+import static uk.gov.hmcts.reform.unspec.service.flowstate.FlowPredicate.takenOfflineByStaffAfterDefendantResponse;
 import static uk.gov.hmcts.reform.unspec.service.flowstate.FlowPredicate.takenOfflineByStaffAfterNotificationAcknowledged;
 import static uk.gov.hmcts.reform.unspec.service.flowstate.FlowPredicate.takenOfflineByStaffAfterNotificationAcknowledgedTimeExtension;
 
@@ -423,6 +424,15 @@ class FlowPredicateTest {
         @Test
         void shouldReturnTrue_whenCaseDataAtStateTakenOfflineAfterDefendantResponse() {
             CaseData caseData = CaseDataBuilder.builder().atStateTakenOfflineByStaffAfterDefendantResponse().build();
+            assertTrue(takenOfflineByStaffAfterDefendantResponse.test(caseData));
+        }
+
+        @Test
+        void shouldReturnFalse_whenCaseDataTakenOfflineAfterApplicantResponse() {
+            CaseData caseData = CaseDataBuilder.builder().atStateApplicantRespondToDefenceAndProceed()
+                .takenOfflineByStaffDate(LocalDateTime.now())
+                .build();
+            assertFalse(takenOfflineByStaffAfterDefendantResponse.test(caseData));
             assertTrue(takenOfflineByStaff.test(caseData));
         }
 
@@ -2,6 +2,7 @@ package uk.gov.hmcts.reform.unspec.service.flowstate;
 
 import lombok.SneakyThrows;
 import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtensionContext;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.Arguments;
@@ -19,10 +20,12 @@ import uk.gov.hmcts.reform.unspec.sampledata.CaseDataBuilder;
 import uk.gov.hmcts.reform.unspec.sampledata.CaseDetailsBuilder;
 
 import java.util.Arrays;
+import java.util.Set;
 import java.util.stream.Stream;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.junit.jupiter.params.provider.Arguments.of;
 import static uk.gov.hmcts.reform.unspec.callback.CaseEvent.ACKNOWLEDGE_CLAIM;
@@ -68,6 +71,9 @@ class FlowStateAllowedEventServiceTest {
     @Autowired
     FlowStateAllowedEventService flowStateAllowedEventService;
 
+    @Autowired
+    CaseDetailsConverter caseDetailsConverter;
+
     static class GetFlowStateArguments implements ArgumentsProvider {
 
         @Override
@@ -277,9 +283,14 @@ class FlowStateAllowedEventServiceTest {
         @ParameterizedTest
         @ArgumentsSource(GetAllowedCaseEventForFlowStateArguments.class)
         void shouldReturnValidEvents_whenFlowStateIsProvided(FlowState.Main flowState, CaseEvent... caseEvents) {
-            assertThat(flowStateAllowedEventService.getAllowedEvents(flowState.fullName()))
+            assertThat(flowStateAllowedEventService.getAllowedEvents(flowState))
                 .containsExactlyInAnyOrder(caseEvents);
         }
+
+        @Test
+        void shouldReturnNoEvents_whenFlowStateHasNoAllowedEvents() {
+            assertThat(flowStateAllowedEventService.getAllowedEvents(FlowState.Main.TAKEN_OFFLINE_BY_STAFF)).isEmpty();
+        }
     }
 
     @Nested
@@ -290,7 +301,7 @@ class FlowStateAllowedEventServiceTest {
         void shouldReturnTrue_whenEventIsAllowedAtGivenState(FlowState.Main flowState, CaseEvent... caseEvents) {
             Arrays.stream(caseEvents).forEach(caseEvent ->
                                                   assertTrue(flowStateAllowedEventService.isAllowedOnState(
-                                                      flowState.fullName(),
+                                                      flowState,
                                                       caseEvent
                                                   ))
             );
@@ -305,7 +316,7 @@ class FlowStateAllowedEventServiceTest {
             "CLAIM_NOTIFIED, INFORM_AGREED_EXTENSION_DATE"
         })
         void shouldReturnFalse_whenEventIsNotAllowedAtGivenState(FlowState.Main flowState, CaseEvent caseEvent) {
-            assertFalse(flowStateAllowedEventService.isAllowedOnState(flowState.fullName(), caseEvent));
+            assertFalse(flowStateAllowedEventService.isAllowedOnState(flowState, caseEvent));
         }
     }
 
@@ -315,80 +326,80 @@ class FlowStateAllowedEventServiceTest {
         @SneakyThrows
         public Stream<? extends Arguments> provideArguments(ExtensionContext context) {
             return Stream.of(
-                of(CREATE_CLAIM, new String[] {DRAFT.fullName()}),
-                of(RESUBMIT_CLAIM, new String[] {CLAIM_ISSUED_PAYMENT_FAILED.fullName()}),
-                of(ACKNOWLEDGE_CLAIM, new String[] {CLAIM_DETAILS_NOTIFIED.fullName(),
-                    CLAIM_DETAILS_NOTIFIED_TIME_EXTENSION.fullName()}),
-                of(NOTIFY_DEFENDANT_OF_CLAIM, new String[] {CLAIM_ISSUED.fullName()}),
-                of(CLAIMANT_RESPONSE, new String[] {FULL_DEFENCE.fullName()}),
+                of(CREATE_CLAIM, new FlowState.Main[] {DRAFT}),
+                of(RESUBMIT_CLAIM, new FlowState.Main[] {CLAIM_ISSUED_PAYMENT_FAILED}),
+                of(ACKNOWLEDGE_CLAIM, new FlowState.Main[] {CLAIM_DETAILS_NOTIFIED,
+                    CLAIM_DETAILS_NOTIFIED_TIME_EXTENSION}),
+                of(NOTIFY_DEFENDANT_OF_CLAIM, new FlowState.Main[] {CLAIM_ISSUED}),
+                of(CLAIMANT_RESPONSE, new FlowState.Main[] {FULL_DEFENCE}),
                 of(
                     DEFENDANT_RESPONSE,
-                    new String[] {NOTIFICATION_ACKNOWLEDGED.fullName(),
-                        CLAIM_DETAILS_NOTIFIED.fullName(),
-                        CLAIM_DETAILS_NOTIFIED_TIME_EXTENSION.fullName(),
-                        NOTIFICATION_ACKNOWLEDGED_TIME_EXTENSION.fullName()
+                    new FlowState.Main[] {NOTIFICATION_ACKNOWLEDGED,
+                        CLAIM_DETAILS_NOTIFIED,
+                        CLAIM_DETAILS_NOTIFIED_TIME_EXTENSION,
+                        NOTIFICATION_ACKNOWLEDGED_TIME_EXTENSION
                     }
                 ),
                 of(
                     WITHDRAW_CLAIM,
-                    new String[] {CLAIM_ISSUED.fullName(), CLAIM_NOTIFIED.fullName(), CLAIM_DETAILS_NOTIFIED.fullName(),
-                        NOTIFICATION_ACKNOWLEDGED.fullName(), CLAIM_ISSUED_PAYMENT_FAILED.fullName(),
-                        FULL_DEFENCE.fullName(), FULL_ADMISSION.fullName(),
-                        PART_ADMISSION.fullName(), COUNTER_CLAIM.fullName(),
-                        FULL_DEFENCE_PROCEED.fullName(), FULL_DEFENCE_NOT_PROCEED.fullName(),
-                        CLAIM_DETAILS_NOTIFIED_TIME_EXTENSION.fullName(),
-                        NOTIFICATION_ACKNOWLEDGED_TIME_EXTENSION.fullName()
+                    new FlowState.Main[] {CLAIM_ISSUED, CLAIM_NOTIFIED, CLAIM_DETAILS_NOTIFIED,
+                        NOTIFICATION_ACKNOWLEDGED, CLAIM_ISSUED_PAYMENT_FAILED,
+                        FULL_DEFENCE, FULL_ADMISSION,
+                        PART_ADMISSION, COUNTER_CLAIM,
+                        FULL_DEFENCE_PROCEED, FULL_DEFENCE_NOT_PROCEED,
+                        CLAIM_DETAILS_NOTIFIED_TIME_EXTENSION,
+                        NOTIFICATION_ACKNOWLEDGED_TIME_EXTENSION
                     }
                 ),
                 of(
                     DISCONTINUE_CLAIM,
-                    new String[] {CLAIM_ISSUED.fullName(), CLAIM_NOTIFIED.fullName(), CLAIM_DETAILS_NOTIFIED.fullName(),
-                        NOTIFICATION_ACKNOWLEDGED.fullName(), CLAIM_ISSUED_PAYMENT_FAILED.fullName(),
-                        FULL_DEFENCE.fullName(), FULL_ADMISSION.fullName(),
-                        PART_ADMISSION.fullName(), COUNTER_CLAIM.fullName(),
-                        FULL_DEFENCE_PROCEED.fullName(), FULL_DEFENCE_NOT_PROCEED.fullName(),
-                        CLAIM_DETAILS_NOTIFIED_TIME_EXTENSION.fullName(),
-                        NOTIFICATION_ACKNOWLEDGED_TIME_EXTENSION.fullName()
+                    new FlowState.Main[] {CLAIM_ISSUED, CLAIM_NOTIFIED, CLAIM_DETAILS_NOTIFIED,
+                        NOTIFICATION_ACKNOWLEDGED, CLAIM_ISSUED_PAYMENT_FAILED,
+                        FULL_DEFENCE, FULL_ADMISSION,
+                        PART_ADMISSION, COUNTER_CLAIM,
+                        FULL_DEFENCE_PROCEED, FULL_DEFENCE_NOT_PROCEED,
+                        CLAIM_DETAILS_NOTIFIED_TIME_EXTENSION,
+                        NOTIFICATION_ACKNOWLEDGED_TIME_EXTENSION
                     }
                 ),
                 of(
                     CASE_PROCEEDS_IN_CASEMAN,
-                    new String[] {CLAIM_ISSUED.fullName(), CLAIM_NOTIFIED.fullName(),
-                        CLAIM_DETAILS_NOTIFIED.fullName(), NOTIFICATION_ACKNOWLEDGED.fullName(),
-                        FULL_DEFENCE.fullName(), FULL_ADMISSION.fullName(),
-                        PART_ADMISSION.fullName(), COUNTER_CLAIM.fullName(),
-                        FULL_DEFENCE_PROCEED.fullName(), FULL_DEFENCE_NOT_PROCEED.fullName(),
-                        CLAIM_DETAILS_NOTIFIED_TIME_EXTENSION.fullName(),
-                        NOTIFICATION_ACKNOWLEDGED_TIME_EXTENSION.fullName()
+                    new FlowState.Main[] {CLAIM_ISSUED, CLAIM_NOTIFIED,
+                        CLAIM_DETAILS_NOTIFIED, NOTIFICATION_ACKNOWLEDGED,
+                        FULL_DEFENCE, FULL_ADMISSION,
+                        PART_ADMISSION, COUNTER_CLAIM,
+                        FULL_DEFENCE_PROCEED, FULL_DEFENCE_NOT_PROCEED,
+                        CLAIM_DETAILS_NOTIFIED_TIME_EXTENSION,
+                        NOTIFICATION_ACKNOWLEDGED_TIME_EXTENSION
                     }
                 ),
                 of(
                     ADD_DEFENDANT_LITIGATION_FRIEND,
-                    new String[] {CLAIM_ISSUED.fullName(), CLAIM_NOTIFIED.fullName(),
-                        CLAIM_DETAILS_NOTIFIED.fullName(), NOTIFICATION_ACKNOWLEDGED.fullName(),
-                        FULL_DEFENCE.fullName(), FULL_ADMISSION.fullName(),
-                        PART_ADMISSION.fullName(), COUNTER_CLAIM.fullName(),
-                        FULL_DEFENCE_PROCEED.fullName(), FULL_DEFENCE_NOT_PROCEED.fullName(),
-                        CLAIM_DETAILS_NOTIFIED_TIME_EXTENSION.fullName(),
-                        NOTIFICATION_ACKNOWLEDGED_TIME_EXTENSION.fullName()
+                    new FlowState.Main[] {CLAIM_ISSUED, CLAIM_NOTIFIED,
+                        CLAIM_DETAILS_NOTIFIED, NOTIFICATION_ACKNOWLEDGED,
+                        FULL_DEFENCE, FULL_ADMISSION,
+                        PART_ADMISSION, COUNTER_CLAIM,
+                        FULL_DEFENCE_PROCEED, FULL_DEFENCE_NOT_PROCEED,
+                        CLAIM_DETAILS_NOTIFIED_TIME_EXTENSION,
+                        NOTIFICATION_ACKNOWLEDGED_TIME_EXTENSION
                     }
                 ),
                 of(
                     ADD_OR_AMEND_CLAIM_DOCUMENTS,
-                    new String[] {CLAIM_ISSUED.fullName(), CLAIM_NOTIFIED.fullName()}
+                    new FlowState.Main[] {CLAIM_ISSUED, CLAIM_NOTIFIED}
                 ),
-                of(NOTIFY_DEFENDANT_OF_CLAIM_DETAILS, new String[] {CLAIM_NOTIFIED.fullName()}),
-                of(INFORM_AGREED_EXTENSION_DATE, new String[] {CLAIM_DETAILS_NOTIFIED.fullName(),
-                    NOTIFICATION_ACKNOWLEDGED.fullName()}),
+                of(NOTIFY_DEFENDANT_OF_CLAIM_DETAILS, new FlowState.Main[] {CLAIM_NOTIFIED}),
+                of(INFORM_AGREED_EXTENSION_DATE, new FlowState.Main[] {CLAIM_DETAILS_NOTIFIED,
+                    NOTIFICATION_ACKNOWLEDGED}),
                 of(
                     AMEND_PARTY_DETAILS,
-                    new String[] {CLAIM_ISSUED.fullName(), CLAIM_ISSUED_PAYMENT_FAILED.fullName(),
-                        CLAIM_NOTIFIED.fullName(), CLAIM_DETAILS_NOTIFIED.fullName(),
-                        CLAIM_DETAILS_NOTIFIED_TIME_EXTENSION.fullName(), NOTIFICATION_ACKNOWLEDGED.fullName(),
-                        FULL_DEFENCE.fullName(), FULL_ADMISSION.fullName(),
-                        PART_ADMISSION.fullName(), COUNTER_CLAIM.fullName(),
-                        FULL_DEFENCE_PROCEED.fullName(), FULL_DEFENCE_NOT_PROCEED.fullName(),
-                        NOTIFICATION_ACKNOWLEDGED_TIME_EXTENSION.fullName()
+                    new FlowState.Main[] {CLAIM_ISSUED, CLAIM_ISSUED_PAYMENT_FAILED,
+                        CLAIM_NOTIFIED, CLAIM_DETAILS_NOTIFIED,
+                        CLAIM_DETAILS_NOTIFIED_TIME_EXTENSION, NOTIFICATION_ACKNOWLEDGED,
+                        FULL_DEFENCE, FULL_ADMISSION,
+                        PART_ADMISSION, COUNTER_CLAIM,
+                        FULL_DEFENCE_PROCEED, FULL_DEFENCE_NOT_PROCEED,
+                        NOTIFICATION_ACKNOWLEDGED_TIME_EXTENSION
                     }
                 )
             );
@@ -400,10 +411,17 @@ class FlowStateAllowedEventServiceTest {
 
         @ParameterizedTest
         @ArgumentsSource(GetAllowedStatesForCaseEventArguments.class)
-        void shouldReturnValidStates_whenCaseEventIsGiven(CaseEvent caseEvent, String... flowStates) {
+        void shouldReturnValidStates_whenCaseEventIsGiven(CaseEvent caseEvent, FlowState.Main... flowStates) {
             assertThat(flowStateAllowedEventService.getAllowedStates(caseEvent))
                 .containsExactlyInAnyOrder(flowStates);
         }
+
+        @Test
+        void shouldNotAllowAllowedStatesToBeModified() {
+            Set<FlowState.Main> allowedStates = flowStateAllowedEventService.getAllowedStates(CREATE_CLAIM);
+
+            assertThrows(UnsupportedOperationException.class, () -> allowedStates.add(CLAIM_ISSUED));
+        }
     }
 
     static class GetAllowedStatesForCaseDetailsArguments implements ArgumentsProvider {
@@ -481,7 +499,7 @@ class FlowStateAllowedEventServiceTest {
     }
 
     @Nested
-    class IsEventAllowedOnCaseDetails {
+    class IsEventAllowedOnCaseData {
 
         @ParameterizedTest
         @ArgumentsSource(GetAllowedStatesForCaseDetailsArguments.class)
@@ -490,7 +508,9 @@ class FlowStateAllowedEventServiceTest {
             CaseDetails caseDetails,
             CaseEvent caseEvent
         ) {
-            assertThat(flowStateAllowedEventService.isAllowed(caseDetails, caseEvent))
+            CaseData caseData = caseDetailsConverter.toCaseData(caseDetails);
+
+            assertThat(flowStateAllowedEventService.isAllowed(caseData, caseEvent))
                 .isEqualTo(expected);
         }
     }
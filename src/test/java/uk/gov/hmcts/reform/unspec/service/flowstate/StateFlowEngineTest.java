@@ -1,6 +1,8 @@
 package uk.gov.hmcts.reform.unspec.service.flowstate;
 
+import org.assertj.core.groups.Tuple;
 import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Tag;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.CsvSource;
@@ -9,22 +11,35 @@ import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.autoconfigure.jackson.JacksonAutoConfiguration;
 import org.springframework.boot.test.context.SpringBootTest;
 import uk.gov.hmcts.reform.ccd.client.model.CaseDetails;
+import uk.gov.hmcts.reform.unspec.enums.PaymentStatus;
+import uk.gov.hmcts.reform.unspec.enums.RespondentResponseType;
 import uk.gov.hmcts.reform.unspec.helpers.CaseDetailsConverter;
 import uk.gov.hmcts.reform.unspec.model.CaseData;
+import uk.gov.hmcts.reform.unspec.model.FlowStateSnapshot;
+import uk.gov.hmcts.reform.unspec.model.PaymentDetails;
 import uk.gov.hmcts.reform.unspec.sampledata.CaseDataBuilder;
 import uk.gov.hmcts.reform.unspec.sampledata.CaseDetailsBuilder;
 import uk.gov.hmcts.reform.unspec.stateflow.StateFlow;
+import uk.gov.hmcts.reform.unspec.stateflow.StateFlowAnalyser;
+import uk.gov.hmcts.reform.unspec.stateflow.exception.StateFlowException;
+import uk.gov.hmcts.reform.unspec.stateflow.model.Ambiguity;
 import uk.gov.hmcts.reform.unspec.stateflow.model.State;
 
 import java.time.LocalDateTime;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
+import static org.junit.jupiter.api.Assertions.assertThrows;
 import static uk.gov.hmcts.reform.unspec.service.flowstate.FlowState.Main.CLAIM_DETAILS_NOTIFIED;
 import static uk.gov.hmcts.reform.unspec.service.flowstate.FlowState.Main.CLAIM_DETAILS_NOTIFIED_TIME_EXTENSION;
 import static uk.gov.hmcts.reform.unspec.service.flowstate.FlowState.Main.CLAIM_DISMISSED_PAST_CLAIM_DETAILS_NOTIFICATION_DEADLINE;
 import static uk.gov.hmcts.reform.unspec.service.flowstate.FlowState.Main.CLAIM_DISMISSED_PAST_CLAIM_DISMISSED_DEADLINE;
 import static uk.gov.hmcts.reform.unspec.service.flowstate.FlowState.Main.CLAIM_DISMISSED_PAST_CLAIM_NOTIFICATION_DEADLINE;
 import static uk.gov.hmcts.reform.unspec.service.flowstate.FlowState.Main.CLAIM_ISSUED;
+import static uk.gov.hmcts.reform.unspec.service.flowstate.FlowState.Main.CLAIM_ISSUED_PAYMENT_FAILED;
 import static uk.gov.hmcts.reform.unspec.service.flowstate.FlowState.Main.CLAIM_ISSUED_PAYMENT_SUCCESSFUL;
 import static uk.gov.hmcts.reform.unspec.service.flowstate.FlowState.Main.CLAIM_NOTIFIED;
 import static uk.gov.hmcts.reform.unspec.service.flowstate.FlowState.Main.CLAIM_SUBMITTED;
@@ -294,6 +309,31 @@ class StateFlowEngineTest {
                 );
         }
 
+        @Test
+        void shouldReturnFullDefence_whenCaseDataAtStateRespondentFullDefenceAfterClaimDetailsNotifiedExtension() {
+            CaseData caseData = CaseDataBuilder.builder().atStateClaimDetailsNotifiedTimeExtension().build()
+                .toBuilder()
+                .respondent1ClaimResponseType(RespondentResponseType.FULL_DEFENCE)
+                .respondent1ResponseDate(LocalDateTime.now())
+                .build();
+
+            StateFlow stateFlow = stateFlowEngine.evaluate(caseData);
+
+            assertThat(stateFlow.getState())
+                .extracting(State::getName)
+                .isNotNull()
+                .isEqualTo(FULL_DEFENCE.fullName());
+            assertThat(stateFlow.getStateHistory())
+                .hasSize(9)
+                .extracting(State::getName)
+                .containsExactly(
+                    DRAFT.fullName(), CLAIM_SUBMITTED.fullName(), CLAIM_ISSUED_PAYMENT_SUCCESSFUL.fullName(),
+                    PENDING_CLAIM_ISSUED.fullName(), CLAIM_ISSUED.fullName(), CLAIM_NOTIFIED.fullName(),
+                    CLAIM_DETAILS_NOTIFIED.fullName(), CLAIM_DETAILS_NOTIFIED_TIME_EXTENSION.fullName(),
+                    FULL_DEFENCE.fullName()
+                );
+        }
+
         @Test
         void shouldReturnFullDefence_whenCaseDataAtStateRespondentFullDefence() {
             CaseData caseData = CaseDataBuilder.builder().atStateRespondentFullDefence().build();
@@ -644,6 +684,32 @@ class StateFlowEngineTest {
                 );
         }
 
+        @ParameterizedTest
+        @EnumSource(value = FlowState.Main.class, names = {"FULL_DEFENCE_PROCEED", "FULL_DEFENCE_NOT_PROCEED"})
+        void shouldReturnProceedsWithOfflineJourney_whenCaseTakenOfflineAfterApplicantResponse(
+            FlowState.Main flowState
+        ) {
+            CaseData caseData = CaseDataBuilder.builder().atState(flowState).build().toBuilder()
+                .takenOfflineByStaffDate(LocalDateTime.now())
+                .build();
+
+            StateFlow stateFlow = stateFlowEngine.evaluate(caseData);
+
+            assertThat(stateFlow.getState())
+                .extracting(State::getName)
+                .isNotNull()
+                .isEqualTo(TAKEN_OFFLINE_BY_STAFF.fullName());
+            assertThat(stateFlow.getStateHistory())
+                .hasSize(11)
+                .extracting(State::getName)
+                .containsExactly(
+                    DRAFT.fullName(), CLAIM_SUBMITTED.fullName(), CLAIM_ISSUED_PAYMENT_SUCCESSFUL.fullName(),
+                    PENDING_CLAIM_ISSUED.fullName(), CLAIM_ISSUED.fullName(), CLAIM_NOTIFIED.fullName(),
+                    CLAIM_DETAILS_NOTIFIED.fullName(), NOTIFICATION_ACKNOWLEDGED.fullName(),
+                    FULL_DEFENCE.fullName(), flowState.fullName(), TAKEN_OFFLINE_BY_STAFF.fullName()
+                );
+        }
+
         @Test
         void shouldReturnProceedsWithOfflineJourney_whenCaseTakenOfflinePastClaimNotificationDeadline() {
             CaseData caseData = CaseDataBuilder.builder().atStateClaimDismissedPastClaimNotificationDeadline()
@@ -798,4 +864,233 @@ class StateFlowEngineTest {
             assertThat(stateFlowEngine.hasTransitionedTo(caseDetails, state)).isEqualTo(expected);
         }
     }
+
+    @Nested
+    class EvaluateFlowFields {
+
+        @ParameterizedTest
+        @EnumSource(FlowState.Main.class)
+        void shouldEvaluateSameAsWholeCase(FlowState.Main flowState) {
+            CaseDetails caseDetails = CaseDetailsBuilder.builder()
+                .data(CaseDataBuilder.builder().atState(flowState).build())
+                .build();
+
+            StateFlow stateFlow = stateFlowEngine.evaluateFlowFields(caseDetails);
+
+            assertThat(stateFlow.getStateHistory())
+                .isEqualTo(stateFlowEngine.evaluate(caseDetails).getStateHistory());
+            assertThat(stateFlowEngine.getFlowState(stateFlow)).isEqualTo(flowState);
+        }
+
+        @Test
+        void shouldResumeFromSnapshot_whenCaseDetailsHaveFlowStateSnapshot() {
+            CaseData caseData = CaseDataBuilder.builder().atState(FULL_DEFENCE).build();
+            CaseDetails caseDetails = CaseDetailsBuilder.builder()
+                .data(caseData.toBuilder().flowStateSnapshot(stateFlowEngine.snapshot(caseData)).build())
+                .build();
+
+            assertThat(stateFlowEngine.getFlowState(stateFlowEngine.evaluateFlowFields(caseDetails)))
+                .isEqualTo(FULL_DEFENCE);
+        }
+    }
+
+    @Nested
+    class GetFlowStateHistory {
+
+        @ParameterizedTest
+        @EnumSource(FlowState.Main.class)
+        void shouldMapEveryStateOfHistoryToFlowState(FlowState.Main flowState) {
+            StateFlow stateFlow = stateFlowEngine.evaluate(CaseDataBuilder.builder().atState(flowState).build());
+
+            assertThat(stateFlowEngine.getFlowStateHistory(stateFlow))
+                .extracting(FlowState.Main::fullName)
+                .containsExactlyElementsOf(
+                    stateFlow.getStateHistory().stream().map(State::getName).collect(Collectors.toList())
+                )
+                .endsWith(flowState.fullName());
+        }
+    }
+
+    @Nested
+    class Ambiguities {
+
+        @Test
+        @Tag("exhaustive")
+        void shouldOnlyHaveReviewedAmbiguities_whenEveryCombinationOfFlowPredicateInputsIsEvaluated() {
+            StateFlowAnalyser stateFlowAnalyser = new StateFlowAnalyser(stateFlowEngine.build());
+
+            List<Ambiguity> ambiguities = stateFlowAnalyser.findAmbiguities(
+                new FlowPredicateCombinations().parallelStream()
+            );
+
+            // overlaps reviewed as unreachable, evaluating them fails with the flow in error: a payment is either
+            // failed or successful, a respondent without representation has no organisation to register, a claim is
+            // no longer dismissed once responded to, and no event is allowed once dismissed or taken offline; any
+            // other overlap of guards must be fixed rather than added here
+            assertThat(ambiguities)
+                .extracting(Ambiguity::getSourceState, Ambiguity::getTargetStates)
+                .containsExactlyInAnyOrder(
+                    ambiguity(CLAIM_SUBMITTED, CLAIM_ISSUED_PAYMENT_SUCCESSFUL, CLAIM_ISSUED_PAYMENT_FAILED),
+                    ambiguity(
+                        CLAIM_ISSUED_PAYMENT_SUCCESSFUL,
+                        PENDING_CLAIM_ISSUED_UNREPRESENTED_DEFENDANT,
+                        PENDING_CLAIM_ISSUED_UNREGISTERED_DEFENDANT
+                    ),
+                    ambiguity(CLAIM_DETAILS_NOTIFIED, FULL_DEFENCE, CLAIM_DISMISSED_PAST_CLAIM_DISMISSED_DEADLINE),
+                    ambiguity(CLAIM_DETAILS_NOTIFIED, FULL_ADMISSION, CLAIM_DISMISSED_PAST_CLAIM_DISMISSED_DEADLINE),
+                    ambiguity(CLAIM_DETAILS_NOTIFIED, PART_ADMISSION, CLAIM_DISMISSED_PAST_CLAIM_DISMISSED_DEADLINE),
+                    ambiguity(CLAIM_DETAILS_NOTIFIED, COUNTER_CLAIM, CLAIM_DISMISSED_PAST_CLAIM_DISMISSED_DEADLINE),
+                    ambiguity(
+                        CLAIM_DETAILS_NOTIFIED_TIME_EXTENSION,
+                        FULL_DEFENCE,
+                        CLAIM_DISMISSED_PAST_CLAIM_DISMISSED_DEADLINE
+                    ),
+                    ambiguity(
+                        CLAIM_DETAILS_NOTIFIED_TIME_EXTENSION,
+                        FULL_ADMISSION,
+                        CLAIM_DISMISSED_PAST_CLAIM_DISMISSED_DEADLINE
+                    ),
+                    ambiguity(
+                        CLAIM_DETAILS_NOTIFIED_TIME_EXTENSION,
+                        PART_ADMISSION,
+                        CLAIM_DISMISSED_PAST_CLAIM_DISMISSED_DEADLINE
+                    ),
+                    ambiguity(
+                        CLAIM_DETAILS_NOTIFIED_TIME_EXTENSION,
+                        COUNTER_CLAIM,
+                        CLAIM_DISMISSED_PAST_CLAIM_DISMISSED_DEADLINE
+                    ),
+                    ambiguity(
+                        CLAIM_DETAILS_NOTIFIED_TIME_EXTENSION,
+                        TAKEN_OFFLINE_BY_STAFF,
+                        CLAIM_DISMISSED_PAST_CLAIM_DISMISSED_DEADLINE
+                    ),
+                    ambiguity(NOTIFICATION_ACKNOWLEDGED, FULL_DEFENCE, CLAIM_DISMISSED_PAST_CLAIM_DISMISSED_DEADLINE),
+                    ambiguity(NOTIFICATION_ACKNOWLEDGED, FULL_ADMISSION, CLAIM_DISMISSED_PAST_CLAIM_DISMISSED_DEADLINE),
+                    ambiguity(NOTIFICATION_ACKNOWLEDGED, PART_ADMISSION, CLAIM_DISMISSED_PAST_CLAIM_DISMISSED_DEADLINE),
+                    ambiguity(NOTIFICATION_ACKNOWLEDGED, COUNTER_CLAIM, CLAIM_DISMISSED_PAST_CLAIM_DISMISSED_DEADLINE),
+                    ambiguity(
+                        NOTIFICATION_ACKNOWLEDGED,
+                        TAKEN_OFFLINE_BY_STAFF,
+                        CLAIM_DISMISSED_PAST_CLAIM_DISMISSED_DEADLINE
+                    ),
+                    ambiguity(
+                        NOTIFICATION_ACKNOWLEDGED_TIME_EXTENSION,
+                        FULL_DEFENCE,
+                        CLAIM_DISMISSED_PAST_CLAIM_DISMISSED_DEADLINE
+                    ),
+                    ambiguity(
+                        NOTIFICATION_ACKNOWLEDGED_TIME_EXTENSION,
+                        FULL_ADMISSION,
+                        CLAIM_DISMISSED_PAST_CLAIM_DISMISSED_DEADLINE
+                    ),
+                    ambiguity(
+                        NOTIFICATION_ACKNOWLEDGED_TIME_EXTENSION,
+                        PART_ADMISSION,
+                        CLAIM_DISMISSED_PAST_CLAIM_DISMISSED_DEADLINE
+                    ),
+                    ambiguity(
+                        NOTIFICATION_ACKNOWLEDGED_TIME_EXTENSION,
+                        COUNTER_CLAIM,
+                        CLAIM_DISMISSED_PAST_CLAIM_DISMISSED_DEADLINE
+                    ),
+                    ambiguity(
+                        NOTIFICATION_ACKNOWLEDGED_TIME_EXTENSION,
+                        TAKEN_OFFLINE_BY_STAFF,
+                        CLAIM_DISMISSED_PAST_CLAIM_DISMISSED_DEADLINE
+                    )
+                );
+        }
+
+        private Tuple ambiguity(FlowState.Main sourceState, FlowState.Main... targetStates) {
+            return tuple(
+                sourceState.fullName(),
+                Stream.of(targetStates).map(FlowState.Main::fullName).collect(Collectors.toList())
+            );
+        }
+
+        @Test
+        void shouldBeInError_whenMoreThanOneTransitionIsPermitted() {
+            CaseData caseData = CaseDataBuilder.builder().atStateClaimSubmitted().build().toBuilder()
+                .paymentSuccessfulDate(LocalDateTime.now())
+                .claimIssuedPaymentDetails(PaymentDetails.builder().status(PaymentStatus.FAILED).build())
+                .build();
+
+            StateFlow stateFlow = stateFlowEngine.evaluate(caseData);
+
+            assertThat(stateFlow.hasError()).isTrue();
+            assertThrows(StateFlowException.class, () -> stateFlowEngine.getFlowState(stateFlow));
+        }
+
+        @ParameterizedTest
+        @EnumSource(FlowState.Main.class)
+        void shouldHaveNoAmbiguities_whenCaseDataAtState(FlowState.Main flowState) {
+            StateFlowAnalyser stateFlowAnalyser = new StateFlowAnalyser(stateFlowEngine.build());
+            CaseData caseData = CaseDataBuilder.builder().atState(flowState).build();
+
+            assertThat(stateFlowAnalyser.findAmbiguities(Stream.of(caseData))).isEmpty();
+        }
+    }
+
+    @Nested
+    class EvaluateFrom {
+
+        @ParameterizedTest
+        @EnumSource(FlowState.Main.class)
+        void shouldEvaluateSameAsWholeFlow_whenResumingFromSnapshotOfSameCase(FlowState.Main flowState) {
+            CaseData caseData = CaseDataBuilder.builder().atState(flowState).build();
+            FlowStateSnapshot snapshot = stateFlowEngine.snapshot(caseData);
+
+            StateFlow stateFlow = stateFlowEngine.evaluateFrom(snapshot, caseData);
+
+            assertThat(snapshot.getFlowState()).isEqualTo(flowState.fullName());
+            assertThat(stateFlow.getStateHistory())
+                .isEqualTo(stateFlowEngine.build().evaluate(caseData).getStateHistory());
+        }
+
+        @ParameterizedTest
+        @EnumSource(FlowState.Main.class)
+        void shouldEvaluateSameAsWholeFlow_whenResumingFromSnapshotOfEarlierState(FlowState.Main flowState) {
+            CaseData earlierCase = CaseDataBuilder.builder().atStateClaimIssued().build();
+            FlowStateSnapshot snapshot = stateFlowEngine.snapshot(earlierCase);
+            CaseData caseData = CaseDataBuilder.builder().atState(flowState).build();
+
+            StateFlow stateFlow = stateFlowEngine.evaluateFrom(snapshot, caseData);
+
+            assertThat(stateFlow.getStateHistory())
+                .isEqualTo(stateFlowEngine.build().evaluate(caseData).getStateHistory());
+        }
+
+        @Test
+        void shouldEvaluateWholeFlow_whenSnapshotMissing() {
+            CaseData caseData = CaseDataBuilder.builder().atStateRespondentFullDefence().build();
+
+            StateFlow stateFlow = stateFlowEngine.evaluateFrom(null, caseData);
+
+            assertThat(stateFlow.getState().getName()).isEqualTo(FULL_DEFENCE.fullName());
+        }
+
+        @Test
+        void shouldEvaluateWholeFlow_whenSnapshotHasUnknownFlowState() {
+            CaseData caseData = CaseDataBuilder.builder().atStateRespondentFullDefence().build();
+            FlowStateSnapshot snapshot = FlowStateSnapshot.builder().flowState("MAIN.UNKNOWN").fingerprint(0).build();
+
+            StateFlow stateFlow = stateFlowEngine.evaluateFrom(snapshot, caseData);
+
+            assertThat(stateFlow.getState().getName()).isEqualTo(FULL_DEFENCE.fullName());
+        }
+
+        @Test
+        void shouldUseSnapshotOnCaseData_whenEvaluating() {
+            CaseData earlierCase = CaseDataBuilder.builder().atStateClaimIssued().build();
+            CaseData caseData = CaseDataBuilder.builder().atStateRespondentFullDefence().build().toBuilder()
+                .flowStateSnapshot(stateFlowEngine.snapshot(earlierCase))
+                .build();
+
+            StateFlow stateFlow = stateFlowEngine.evaluate(caseData);
+
+            assertThat(stateFlow.getStateHistory())
+                .isEqualTo(stateFlowEngine.build().evaluate(caseData).getStateHistory());
+        }
+    }
 }
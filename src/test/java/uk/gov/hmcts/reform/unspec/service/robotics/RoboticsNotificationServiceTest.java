@@ -14,6 +14,7 @@ import uk.gov.hmcts.reform.authorisation.generators.AuthTokenGenerator;
 import uk.gov.hmcts.reform.idam.client.IdamClient;
 import uk.gov.hmcts.reform.prd.client.OrganisationApi;
 import uk.gov.hmcts.reform.unspec.config.PrdAdminUserConfiguration;
+import uk.gov.hmcts.reform.unspec.config.TokenCacheConfiguration;
 import uk.gov.hmcts.reform.unspec.config.properties.robotics.RoboticsEmailConfiguration;
 import uk.gov.hmcts.reform.unspec.helpers.CaseDetailsConverter;
 import uk.gov.hmcts.reform.unspec.model.CaseData;
@@ -21,6 +22,7 @@ import uk.gov.hmcts.reform.unspec.sampledata.CaseDataBuilder;
 import uk.gov.hmcts.reform.unspec.sendgrid.EmailData;
 import uk.gov.hmcts.reform.unspec.sendgrid.SendGridClient;
 import uk.gov.hmcts.reform.unspec.service.OrganisationService;
+import uk.gov.hmcts.reform.unspec.service.UserTokenCache;
 import uk.gov.hmcts.reform.unspec.service.flowstate.StateFlowEngine;
 import uk.gov.hmcts.reform.unspec.service.robotics.mapper.EventHistoryMapper;
 import uk.gov.hmcts.reform.unspec.service.robotics.mapper.RoboticsAddressMapper;
@@ -44,7 +46,9 @@ import static org.mockito.Mockito.verify;
         EventHistoryMapper.class,
         RoboticsDataMapper.class,
         RoboticsAddressMapper.class,
-        OrganisationService.class
+        OrganisationService.class,
+        UserTokenCache.class,
+        TokenCacheConfiguration.class
     },
     properties = {
         "sendgrid.api-key:some-key",
@@ -16,6 +16,7 @@ import uk.gov.hmcts.reform.prd.model.DxAddress;
 import uk.gov.hmcts.reform.prd.model.Organisation;
 import uk.gov.hmcts.reform.unspec.assertion.CustomAssertions;
 import uk.gov.hmcts.reform.unspec.config.PrdAdminUserConfiguration;
+import uk.gov.hmcts.reform.unspec.config.TokenCacheConfiguration;
 import uk.gov.hmcts.reform.unspec.helpers.CaseDetailsConverter;
 import uk.gov.hmcts.reform.unspec.model.Address;
 import uk.gov.hmcts.reform.unspec.model.CaseData;
@@ -23,6 +24,7 @@ import uk.gov.hmcts.reform.unspec.model.SolicitorOrganisationDetails;
 import uk.gov.hmcts.reform.unspec.model.robotics.RoboticsCaseData;
 import uk.gov.hmcts.reform.unspec.sampledata.CaseDataBuilder;
 import uk.gov.hmcts.reform.unspec.service.OrganisationService;
+import uk.gov.hmcts.reform.unspec.service.UserTokenCache;
 import uk.gov.hmcts.reform.unspec.service.flowstate.StateFlowEngine;
 
 import java.util.List;
@@ -39,7 +41,9 @@ import static org.mockito.BDDMockito.given;
     EventHistoryMapper.class,
     RoboticsDataMapper.class,
     RoboticsAddressMapper.class,
-    OrganisationService.class
+    OrganisationService.class,
+    UserTokenCache.class,
+    TokenCacheConfiguration.class
 })
 @ExtendWith(SpringExtension.class)
 class RoboticsDataMapperTest {
@@ -0,0 +1,21 @@
+package uk.gov.hmcts.reform.unspec.service.search;
+
+import org.junit.jupiter.api.BeforeEach;
+import uk.gov.hmcts.reform.unspec.model.search.Query;
+
+import java.util.List;
+
+import static org.elasticsearch.index.query.QueryBuilders.matchAllQuery;
+
+class AllCasesSearchServiceTest extends ElasticSearchServiceTest {
+
+    @BeforeEach
+    void setup() {
+        searchService = new AllCasesSearchService(coreCaseDataService);
+    }
+
+    @Override
+    protected Query buildQuery(int fromValue) {
+        return new Query(matchAllQuery(), List.of(), fromValue);
+    }
+}
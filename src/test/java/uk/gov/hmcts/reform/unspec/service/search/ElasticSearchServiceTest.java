@@ -12,6 +12,9 @@ import uk.gov.hmcts.reform.unspec.model.search.Query;
 import uk.gov.hmcts.reform.unspec.service.CoreCaseDataService;
 
 import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.LongStream;
+import java.util.stream.Stream;
 
 import static java.util.Collections.emptyList;
 import static org.assertj.core.api.Assertions.assertThat;
@@ -19,6 +22,7 @@ import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
+import static uk.gov.hmcts.reform.unspec.service.search.ElasticSearchService.STREAM_PAGE_SIZE;
 
 @ExtendWith(SpringExtension.class)
 abstract class ElasticSearchServiceTest {
@@ -78,6 +82,65 @@ abstract class ElasticSearchServiceTest {
         assertThat(capturedQueries.get(1)).isEqualToComparingFieldByField(buildQuery(10));
     }
 
+    @Test
+    void shouldStreamCasesLazily_WhenCasesReturnedIsMoreThanStreamPageSize() {
+        List<CaseDetails> firstPage = buildCases(1, STREAM_PAGE_SIZE);
+        List<CaseDetails> lastPage = buildCases(STREAM_PAGE_SIZE + 1, 1);
+        when(coreCaseDataService.searchCases(any()))
+            .thenReturn(buildSearchResult(STREAM_PAGE_SIZE + 1, firstPage))
+            .thenReturn(buildSearchResult(STREAM_PAGE_SIZE + 1, lastPage));
+
+        Stream<CaseDetails> cases = searchService.streamCases();
+        verify(coreCaseDataService).searchCases(any());
+
+        assertThat(cases).hasSize(STREAM_PAGE_SIZE + 1);
+        verify(coreCaseDataService, times(2)).searchCases(queryCaptor.capture());
+
+        List<Query> capturedQueries = queryCaptor.getAllValues();
+        assertThat(capturedQueries.get(0))
+            .isEqualToComparingFieldByField(buildQuery(0).searchAfter(STREAM_PAGE_SIZE, null));
+        assertThat(capturedQueries.get(1))
+            .isEqualToComparingFieldByField(buildQuery(0).searchAfter(STREAM_PAGE_SIZE, (long) STREAM_PAGE_SIZE));
+    }
+
+    @Test
+    void shouldStreamEveryCaseOnce_WhenStreamIsConsumedInParallel() {
+        when(coreCaseDataService.searchCases(any()))
+            .thenReturn(buildSearchResult(0, buildCases(1, STREAM_PAGE_SIZE)))
+            .thenReturn(buildSearchResult(0, buildCases(STREAM_PAGE_SIZE + 1, STREAM_PAGE_SIZE)))
+            .thenReturn(buildSearchResult(0, buildCases(2 * STREAM_PAGE_SIZE + 1, 3)));
+
+        List<Long> ids = searchService.streamCases().parallel().map(CaseDetails::getId).collect(Collectors.toList());
+
+        assertThat(ids).hasSize(2 * STREAM_PAGE_SIZE + 3).doesNotHaveDuplicates();
+        verify(coreCaseDataService, times(3)).searchCases(any());
+    }
+
+    @Test
+    void shouldNotFetchFurtherPages_WhenStreamIsNotConsumedBeyondFirstPage() {
+        when(coreCaseDataService.searchCases(any()))
+            .thenReturn(buildSearchResult(STREAM_PAGE_SIZE + 1, buildCases(1, STREAM_PAGE_SIZE)));
+
+        assertThat(searchService.streamCases().findFirst()).isPresent();
+        verify(coreCaseDataService).searchCases(any());
+    }
+
+    @Test
+    void shouldStreamNoCases_WhenNoCasesReturned() {
+        SearchResult searchResult = buildSearchResult(0, emptyList());
+
+        when(coreCaseDataService.searchCases(any())).thenReturn(searchResult);
+
+        assertThat(searchService.streamCases()).isEmpty();
+        verify(coreCaseDataService, times(1)).searchCases(any());
+    }
+
+    private List<CaseDetails> buildCases(long firstId, int count) {
+        return LongStream.range(firstId, firstId + count)
+            .mapToObj(id -> CaseDetails.builder().id(id).build())
+            .collect(Collectors.toList());
+    }
+
     private SearchResult buildSearchResultWithTotalCases(int i) {
         return buildSearchResult(i, List.of(CaseDetails.builder().id(1L).build()));
     }
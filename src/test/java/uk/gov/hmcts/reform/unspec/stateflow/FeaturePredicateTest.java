@@ -0,0 +1,63 @@
+package uk.gov.hmcts.reform.unspec.stateflow;
+
+import org.junit.jupiter.api.Test;
+import uk.gov.hmcts.reform.unspec.model.CaseData;
+
+import java.time.LocalDateTime;
+import java.util.function.ToIntFunction;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class FeaturePredicateTest {
+
+    private static final int SUBMITTED = 1;
+    private static final int ISSUED = 1 << 1;
+    private static final int DISMISSED = 1 << 2;
+
+    private static final ToIntFunction<CaseData> ENCODER = caseData ->
+        (caseData.getSubmittedDate() != null ? SUBMITTED : 0)
+            | (caseData.getIssueDate() != null ? ISSUED : 0)
+            | (caseData.getClaimDismissedDate() != null ? DISMISSED : 0);
+
+    @Test
+    void shouldHold_whenRequiredFeaturesSetAndExcludedFeaturesClear() {
+        FeaturePredicate predicate = FeaturePredicate.of(ENCODER, SUBMITTED | ISSUED, DISMISSED);
+
+        assertThat(predicate.test(SUBMITTED | ISSUED)).isTrue();
+        assertThat(predicate.test(SUBMITTED)).isFalse();
+        assertThat(predicate.test(SUBMITTED | ISSUED | DISMISSED)).isFalse();
+    }
+
+    @Test
+    void shouldHold_whenAnyAlternativeHolds() {
+        FeaturePredicate predicate = FeaturePredicate.of(ENCODER, SUBMITTED, ISSUED)
+            .or(FeaturePredicate.of(ENCODER, DISMISSED, 0));
+
+        assertThat(predicate.test(SUBMITTED)).isTrue();
+        assertThat(predicate.test(SUBMITTED | ISSUED)).isFalse();
+        assertThat(predicate.test(SUBMITTED | ISSUED | DISMISSED)).isTrue();
+        assertThat(predicate.test(0)).isFalse();
+    }
+
+    @Test
+    void shouldEncodeCaseData_whenTestedAgainstCaseData() {
+        FeaturePredicate predicate = FeaturePredicate.of(ENCODER, SUBMITTED, ISSUED);
+
+        assertThat(predicate.test(CaseData.builder().submittedDate(LocalDateTime.now()).build())).isTrue();
+        assertThat(predicate.test(CaseData.builder().build())).isFalse();
+    }
+
+    @Test
+    void shouldThrowIllegalArgumentException_whenFeatureBothRequiredAndExcluded() {
+        assertThrows(IllegalArgumentException.class, () -> FeaturePredicate.of(ENCODER, SUBMITTED, SUBMITTED));
+    }
+
+    @Test
+    void shouldThrowIllegalArgumentException_whenCombiningPredicatesWithDifferentEncoders() {
+        FeaturePredicate predicate = FeaturePredicate.of(ENCODER, SUBMITTED, 0);
+        FeaturePredicate other = FeaturePredicate.of(caseData -> 0, SUBMITTED, 0);
+
+        assertThrows(IllegalArgumentException.class, () -> predicate.or(other));
+    }
+}
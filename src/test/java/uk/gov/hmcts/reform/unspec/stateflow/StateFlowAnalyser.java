@@ -0,0 +1,83 @@
+package uk.gov.hmcts.reform.unspec.stateflow;
+
+import uk.gov.hmcts.reform.unspec.model.CaseData;
+import uk.gov.hmcts.reform.unspec.stateflow.model.Ambiguity;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+/**
+ * Verifies ahead of time that the guards on transitions leaving the same state of a {@link StateFlowGraph} are
+ * mutually exclusive, rather than finding out from a case whose evaluation ends up in error.
+ * Every given case is walked through the flow and each state it reaches is checked for more than one permitted
+ * transition. Cases may be supplied as a parallel stream.
+ */
+public class StateFlowAnalyser {
+
+    private final StateFlowGraph stateFlowGraph;
+
+    public StateFlowAnalyser(StateFlowGraph stateFlowGraph) {
+        this.stateFlowGraph = stateFlowGraph;
+    }
+
+    public List<Ambiguity> findAmbiguities(Stream<CaseData> cases) {
+        Map<List<String>, LongAdder> occurrences = new ConcurrentHashMap<>();
+        Map<List<String>, CaseData> examples = new ConcurrentHashMap<>();
+
+        cases.forEach(caseData -> analyse(caseData, occurrences, examples));
+
+        return occurrences.entrySet().stream()
+            .map(entry -> toAmbiguity(entry.getKey(), entry.getValue().sum(), examples.get(entry.getKey())))
+            .sorted(Comparator.comparing(Ambiguity::getSourceState).thenComparing(Ambiguity::toString))
+            .collect(Collectors.toList());
+    }
+
+    private void analyse(
+        CaseData caseData,
+        Map<List<String>, LongAdder> occurrences,
+        Map<List<String>, CaseData> examples
+    ) {
+        final int features = stateFlowGraph.encode(caseData);
+        int current = stateFlowGraph.getInitialState();
+        for (int step = 0; step < stateFlowGraph.getStateCount(); step++) {
+            int next = -1;
+            int permitted = 0;
+            for (StateFlowGraph.Edge edge : stateFlowGraph.getEdges(current)) {
+                if (edge.isPermitted(caseData, features)) {
+                    next = permitted == 0 ? edge.getTarget() : next;
+                    permitted++;
+                }
+            }
+            if (permitted > 1) {
+                List<String> key = permittedTransitions(current, caseData, features);
+                occurrences.computeIfAbsent(key, k -> new LongAdder()).increment();
+                examples.putIfAbsent(key, caseData);
+            }
+            if (next < 0) {
+                return;
+            }
+            current = next;
+        }
+    }
+
+    private List<String> permittedTransitions(int source, CaseData caseData, int features) {
+        List<String> transitions = new ArrayList<>();
+        transitions.add(stateFlowGraph.getState(source).getName());
+        for (StateFlowGraph.Edge edge : stateFlowGraph.getEdges(source)) {
+            if (edge.isPermitted(caseData, features)) {
+                transitions.add(stateFlowGraph.getState(edge.getTarget()).getName());
+            }
+        }
+        return transitions;
+    }
+
+    private Ambiguity toAmbiguity(List<String> transitions, long occurrences, CaseData example) {
+        return new Ambiguity(transitions.get(0), transitions.subList(1, transitions.size()), occurrences, example);
+    }
+}
@@ -0,0 +1,125 @@
+package uk.gov.hmcts.reform.unspec.stateflow;
+
+import org.junit.jupiter.api.Test;
+import uk.gov.hmcts.reform.unspec.model.CaseData;
+import uk.gov.hmcts.reform.unspec.stateflow.model.Ambiguity;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class StateFlowAnalyserTest {
+
+    enum FlowState {
+        STATE_1,
+        STATE_2,
+        STATE_3
+    }
+
+    enum SubflowState {
+        STATE_1
+    }
+
+    private static final CaseData DRAFT_CASE = CaseData.builder().build();
+    private static final CaseData SUBMITTED_CASE = CaseData.builder().submittedDate(LocalDateTime.now()).build();
+
+    @Test
+    void shouldFindNoAmbiguities_whenTransitionsAreMutuallyExclusive() {
+        StateFlowGraph stateFlowGraph = StateFlowBuilder.<FlowState>flow("FLOW")
+            .initial(FlowState.STATE_1)
+            .transitionTo(FlowState.STATE_2).onlyIf(caseData -> caseData.getSubmittedDate() != null)
+            .transitionTo(FlowState.STATE_3).onlyIf(caseData -> caseData.getSubmittedDate() == null)
+            .state(FlowState.STATE_2)
+            .state(FlowState.STATE_3)
+            .build();
+
+        List<Ambiguity> ambiguities = new StateFlowAnalyser(stateFlowGraph)
+            .findAmbiguities(Stream.of(DRAFT_CASE, SUBMITTED_CASE));
+
+        assertThat(ambiguities).isEmpty();
+    }
+
+    @Test
+    void shouldFindAmbiguity_whenConditionsOnTransitionsAreNotMutuallyExclusive() {
+        StateFlowGraph stateFlowGraph = StateFlowBuilder.<FlowState>flow("FLOW")
+            .initial(FlowState.STATE_1)
+            .transitionTo(FlowState.STATE_2).onlyIf(caseData -> caseData.getSubmittedDate() != null)
+            .transitionTo(FlowState.STATE_3).onlyIf(caseData -> true)
+            .state(FlowState.STATE_2)
+            .state(FlowState.STATE_3)
+            .build();
+
+        List<Ambiguity> ambiguities = new StateFlowAnalyser(stateFlowGraph)
+            .findAmbiguities(Stream.of(DRAFT_CASE, SUBMITTED_CASE, SUBMITTED_CASE));
+
+        assertThat(ambiguities).hasSize(1);
+        Ambiguity ambiguity = ambiguities.get(0);
+        assertThat(ambiguity.getSourceState()).isEqualTo("FLOW.STATE_1");
+        assertThat(ambiguity.getTargetStates()).containsExactly("FLOW.STATE_2", "FLOW.STATE_3");
+        assertThat(ambiguity.getOccurrences()).isEqualTo(2);
+        assertThat(ambiguity.getExample()).isSameAs(SUBMITTED_CASE);
+        assertThat(ambiguity).hasToString(
+            "Ambiguous transitions permitting state [FLOW.STATE_1] to move to more than one next states "
+                + "[FLOW.STATE_2,FLOW.STATE_3] in 2 case(s)."
+        );
+    }
+
+    @Test
+    void shouldFindAmbiguity_whenMoreThanOneTransitionsAreImplicit() {
+        StateFlowGraph stateFlowGraph = StateFlowBuilder.<FlowState>flow("FLOW")
+            .initial(FlowState.STATE_1)
+            .transitionTo(FlowState.STATE_2)
+            .transitionTo(FlowState.STATE_3)
+            .state(FlowState.STATE_2)
+            .state(FlowState.STATE_3)
+            .build();
+
+        List<Ambiguity> ambiguities = new StateFlowAnalyser(stateFlowGraph).findAmbiguities(Stream.of(DRAFT_CASE));
+
+        assertThat(ambiguities)
+            .extracting(Ambiguity::getSourceState)
+            .containsExactly("FLOW.STATE_1");
+    }
+
+    @Test
+    void shouldFindAmbiguity_whenSubflowTransitionIsNotMutuallyExclusive() {
+        Consumer<StateFlowContext> subflow = stateFlowContext ->
+            StateFlowBuilder.<SubflowState>subflow("SUBFLOW", stateFlowContext)
+                .transitionTo(SubflowState.STATE_1)
+                .state(SubflowState.STATE_1);
+
+        StateFlowGraph stateFlowGraph = StateFlowBuilder.<FlowState>flow("FLOW")
+            .initial(FlowState.STATE_1)
+            .transitionTo(FlowState.STATE_2)
+            .subflow(subflow)
+            .state(FlowState.STATE_2)
+            .build();
+
+        List<Ambiguity> ambiguities = new StateFlowAnalyser(stateFlowGraph).findAmbiguities(Stream.of(DRAFT_CASE));
+
+        assertThat(ambiguities).hasSize(1);
+        assertThat(ambiguities.get(0).getTargetStates()).containsExactly("FLOW.STATE_2", "SUBFLOW.STATE_1");
+    }
+
+    @Test
+    void shouldFindAmbiguities_whenReachedAfterFirstTransition() {
+        StateFlowGraph stateFlowGraph = StateFlowBuilder.<FlowState>flow("FLOW")
+            .initial(FlowState.STATE_1)
+            .transitionTo(FlowState.STATE_2)
+            .state(FlowState.STATE_2)
+            .transitionTo(FlowState.STATE_1).onlyIf(caseData -> caseData.getSubmittedDate() != null)
+            .transitionTo(FlowState.STATE_3).onlyIf(caseData -> caseData.getSubmittedDate() != null)
+            .state(FlowState.STATE_3)
+            .build();
+
+        List<Ambiguity> ambiguities = new StateFlowAnalyser(stateFlowGraph)
+            .findAmbiguities(Stream.of(DRAFT_CASE, SUBMITTED_CASE).parallel());
+
+        assertThat(ambiguities)
+            .extracting(Ambiguity::getSourceState)
+            .containsExactly("FLOW.STATE_2");
+    }
+}
@@ -1,8 +1,8 @@
 package uk.gov.hmcts.reform.unspec.stateflow;
 
 import org.assertj.core.api.AbstractAssert;
-import org.springframework.statemachine.test.StateMachineTestPlan;
-import org.springframework.statemachine.test.StateMachineTestPlanBuilder;
+import org.assertj.core.api.Assertions;
+import uk.gov.hmcts.reform.unspec.stateflow.model.State;
 
 public class StateFlowAssert extends AbstractAssert<StateFlowAssert, StateFlow> {
 
@@ -17,18 +17,9 @@ public class StateFlowAssert extends AbstractAssert<StateFlowAssert, StateFlow>
     StateFlowAssert enteredStates(String... states) {
         isNotNull();
 
-        StateMachineTestPlan<String, String> plan =
-            StateMachineTestPlanBuilder.<String, String>builder()
-                .stateMachine(actual.asStateMachine())
-                .step()
-                .expectStateEntered(states)
-                .and()
-                .build();
-        try {
-            plan.test();
-        } catch (Exception e) {
-            throw new RuntimeException("Failed to build StateMachineTestPlan.", e);
-        }
+        Assertions.assertThat(actual.getStateHistory())
+            .extracting(State::getName)
+            .containsExactly(states);
 
         return this;
     }
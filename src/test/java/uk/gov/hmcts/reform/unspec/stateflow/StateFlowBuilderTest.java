@@ -4,12 +4,14 @@ import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
 import uk.gov.hmcts.reform.unspec.model.CaseData;
+import uk.gov.hmcts.reform.unspec.stateflow.exception.StateFlowException;
 import uk.gov.hmcts.reform.unspec.stateflow.model.State;
 
 import java.util.function.Consumer;
 import java.util.function.Predicate;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
 
 class StateFlowBuilderTest {
 
@@ -109,10 +111,11 @@ class StateFlowBuilderTest {
                 .initial(FlowState.STATE_1)
                 .transitionTo(FlowState.STATE_2)
                 .state(FlowState.STATE_2)
-                .build();
+                .build()
+                .evaluate(CaseData.builder().build());
 
             StateFlowAssert.assertThat(stateFlow).enteredStates("FLOW.STATE_1", "FLOW.STATE_2");
-            assertThat(stateFlow.asStateMachine().hasStateMachineError()).isFalse();
+            assertThat(stateFlow.hasError()).isFalse();
         }
 
         @Test
@@ -121,10 +124,11 @@ class StateFlowBuilderTest {
                 .initial(FlowState.STATE_1)
                 .transitionTo(FlowState.STATE_2).onlyIf(caseDetails -> true)
                 .state(FlowState.STATE_2)
-                .build();
+                .build()
+                .evaluate(CaseData.builder().build());
 
             StateFlowAssert.assertThat(stateFlow).enteredStates("FLOW.STATE_1", "FLOW.STATE_2");
-            assertThat(stateFlow.asStateMachine().hasStateMachineError()).isFalse();
+            assertThat(stateFlow.hasError()).isFalse();
         }
 
         @Test
@@ -133,10 +137,10 @@ class StateFlowBuilderTest {
                 .initial(FlowState.STATE_1)
                 .transitionTo(FlowState.STATE_2).onlyIf(caseDetails -> false)
                 .state(FlowState.STATE_2)
-                .build();
+                .build()
+                .evaluate(CaseData.builder().build());
 
             StateFlowAssert.assertThat(stateFlow).enteredStates("FLOW.STATE_1");
-            assertThat(stateFlow.asStateMachine().hasStateMachineError()).isFalse();
         }
 
         @Test
@@ -147,10 +151,10 @@ class StateFlowBuilderTest {
                 .transitionTo(FlowState.STATE_3).onlyIf(caseDetails -> true)
                 .state(FlowState.STATE_2)
                 .state(FlowState.STATE_3)
-                .build();
+                .build()
+                .evaluate(CaseData.builder().build());
 
             StateFlowAssert.assertThat(stateFlow).enteredStates("FLOW.STATE_1", "FLOW.STATE_3");
-            assertThat(stateFlow.asStateMachine().hasStateMachineError()).isFalse();
         }
 
         @Test
@@ -161,10 +165,10 @@ class StateFlowBuilderTest {
                 .transitionTo(FlowState.STATE_3)
                 .state(FlowState.STATE_2)
                 .state(FlowState.STATE_3)
-                .build();
+                .build()
+                .evaluate(CaseData.builder().build());
 
             StateFlowAssert.assertThat(stateFlow).enteredStates("FLOW.STATE_1", "FLOW.STATE_3");
-            assertThat(stateFlow.asStateMachine().hasStateMachineError()).isFalse();
         }
 
         @Test
@@ -175,10 +179,10 @@ class StateFlowBuilderTest {
                 .state(FlowState.STATE_2)
                 .transitionTo(FlowState.STATE_3)
                 .state(FlowState.STATE_3)
-                .build();
+                .build()
+                .evaluate(CaseData.builder().build());
 
             StateFlowAssert.assertThat(stateFlow).enteredStates("FLOW.STATE_1", "FLOW.STATE_2", "FLOW.STATE_3");
-            assertThat(stateFlow.asStateMachine().hasStateMachineError()).isFalse();
         }
 
         @Test
@@ -188,10 +192,11 @@ class StateFlowBuilderTest {
                 .transitionTo(FlowState.STATE_2).onlyIf(caseDetails -> true)
                 .state(FlowState.STATE_2)
                 .transitionTo(FlowState.STATE_3)
-                .build();
+                .build()
+                .evaluate(CaseData.builder().build());
 
             StateFlowAssert.assertThat(stateFlow).enteredStates("FLOW.STATE_1", "FLOW.STATE_2");
-            assertThat(stateFlow.asStateMachine().hasStateMachineError()).isFalse();
+            assertThat(stateFlow.hasError()).isFalse();
         }
 
         @Test
@@ -207,10 +212,10 @@ class StateFlowBuilderTest {
                 .initial(FlowState.STATE_1)
                 .subflow(subflow)
                 .state(FlowState.STATE_2)
-                .build();
+                .build()
+                .evaluate(CaseData.builder().build());
 
             StateFlowAssert.assertThat(stateFlow).enteredStates("FLOW.STATE_1", "SUBFLOW.STATE_1", "SUBFLOW.STATE_2");
-            assertThat(stateFlow.asStateMachine().hasStateMachineError()).isFalse();
         }
 
         @Test
@@ -227,7 +232,8 @@ class StateFlowBuilderTest {
                 .transitionTo(FlowState.STATE_2)
                 .state(FlowState.STATE_2)
                 .subflow(subflow)
-                .build();
+                .build()
+                .evaluate(CaseData.builder().build());
 
             StateFlowAssert.assertThat(stateFlow).enteredStates(
                 "FLOW.STATE_1",
@@ -235,53 +241,55 @@ class StateFlowBuilderTest {
                 "SUBFLOW.STATE_1",
                 "SUBFLOW.STATE_2"
             );
-            assertThat(stateFlow.asStateMachine().hasStateMachineError()).isFalse();
         }
 
         @Test
-        void shouldSetStateMachineError_whenConditionsOnTransitionsAreNotMutuallyExclusive() {
+        void shouldFollowFirstTransitionAndSetError_whenConditionsOnTransitionsAreNotMutuallyExclusive() {
             StateFlow stateFlow = StateFlowBuilder.<FlowState>flow("FLOW")
                 .initial(FlowState.STATE_1)
                 .transitionTo(FlowState.STATE_2).onlyIf(caseDetails -> true)
                 .transitionTo(FlowState.STATE_3).onlyIf(caseDetails -> true)
                 .state(FlowState.STATE_2)
                 .state(FlowState.STATE_3)
-                .build();
+                .build()
+                .evaluate(CaseData.builder().build());
 
-            StateFlowAssert.assertThat(stateFlow).enteredStates("FLOW.STATE_1", "FLOW.STATE_3");
-            assertThat(stateFlow.asStateMachine().hasStateMachineError()).isTrue();
+            StateFlowAssert.assertThat(stateFlow).enteredStates("FLOW.STATE_1", "FLOW.STATE_2");
+            assertThat(stateFlow.hasError()).isTrue();
         }
 
         @Test
-        void shouldSetStateMachineError_whenMoreThanOneTransitionsAreImplicit() {
+        void shouldFollowFirstTransitionAndSetError_whenMoreThanOneTransitionsAreImplicit() {
             StateFlow stateFlow = StateFlowBuilder.<FlowState>flow("FLOW")
                 .initial(FlowState.STATE_1)
                 .transitionTo(FlowState.STATE_2)
                 .transitionTo(FlowState.STATE_3)
                 .state(FlowState.STATE_2)
                 .state(FlowState.STATE_3)
-                .build();
+                .build()
+                .evaluate(CaseData.builder().build());
 
-            StateFlowAssert.assertThat(stateFlow).enteredStates("FLOW.STATE_1", "FLOW.STATE_3");
-            assertThat(stateFlow.asStateMachine().hasStateMachineError()).isTrue();
+            StateFlowAssert.assertThat(stateFlow).enteredStates("FLOW.STATE_1", "FLOW.STATE_2");
+            assertThat(stateFlow.hasError()).isTrue();
         }
 
         @Test
-        void shouldSetStateMachineError_whenImplicitTransitionAndConditionalTransitionAreNotMutuallyExclusive() {
+        void shouldFollowFirstTransitionAndSetError_whenImplicitAndConditionalTransitionAreNotMutuallyExclusive() {
             StateFlow stateFlow = StateFlowBuilder.<FlowState>flow("FLOW")
                 .initial(FlowState.STATE_1)
                 .transitionTo(FlowState.STATE_2).onlyIf(caseDetails -> true)
                 .transitionTo(FlowState.STATE_3)
                 .state(FlowState.STATE_2)
                 .state(FlowState.STATE_3)
-                .build();
+                .build()
+                .evaluate(CaseData.builder().build());
 
-            StateFlowAssert.assertThat(stateFlow).enteredStates("FLOW.STATE_1", "FLOW.STATE_3");
-            assertThat(stateFlow.asStateMachine().hasStateMachineError()).isTrue();
+            StateFlowAssert.assertThat(stateFlow).enteredStates("FLOW.STATE_1", "FLOW.STATE_2");
+            assertThat(stateFlow.hasError()).isTrue();
         }
 
         @Test
-        void shouldBuildStateFlowWithSubflowButSetStateMachineError_whenAmbiguousTransitions() {
+        void shouldBuildStateFlowWithSubflowAndSetError_whenAmbiguousTransitions() {
             Consumer<StateFlowContext> subflow = stateFlowContext ->
                 StateFlowBuilder.<SubflowState>subflow("SUBFLOW", stateFlowContext)
                     .transitionTo(SubflowState.STATE_1)
@@ -292,10 +300,11 @@ class StateFlowBuilderTest {
                 .transitionTo(FlowState.STATE_2)
                 .subflow(subflow)
                 .state(FlowState.STATE_2)
-                .build();
+                .build()
+                .evaluate(CaseData.builder().build());
 
-            StateFlowAssert.assertThat(stateFlow).enteredStates("FLOW.STATE_1", "SUBFLOW.STATE_1");
-            assertThat(stateFlow.asStateMachine().hasStateMachineError()).isTrue();
+            StateFlowAssert.assertThat(stateFlow).enteredStates("FLOW.STATE_1", "FLOW.STATE_2");
+            assertThat(stateFlow.hasError()).isTrue();
         }
     }
 
@@ -322,9 +331,8 @@ class StateFlowBuilderTest {
                 .state(FlowState.STATE_2)
                 .transitionTo(FlowState.STATE_3).onlyIf(secondPredicate)
                 .state(FlowState.STATE_3)
-                .build();
-
-            stateFlow.evaluate(caseData);
+                .build()
+                .evaluate(caseData);
 
             assertThat(stateFlow.getState())
                 .extracting(State::getName)
@@ -346,14 +354,14 @@ class StateFlowBuilderTest {
                 .transitionTo(FlowState.STATE_3)
                 .state(FlowState.STATE_2)
                 .state(FlowState.STATE_3)
-                .build();
-
-            stateFlow.evaluate(caseData);
+                .build()
+                .evaluate(caseData);
 
             assertThat(stateFlow.getStateHistory())
                 .hasSize(2)
                 .extracting(State::getName)
-                .containsExactly("FLOW.STATE_1", "FLOW.STATE_3");
+                .containsExactly("FLOW.STATE_1", "FLOW.STATE_2");
+            assertThrows(StateFlowException.class, stateFlow::getState);
         }
     }
 }
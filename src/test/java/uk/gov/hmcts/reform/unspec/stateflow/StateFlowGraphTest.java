@@ -0,0 +1,317 @@
+package uk.gov.hmcts.reform.unspec.stateflow;
+
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import uk.gov.hmcts.reform.unspec.model.CaseData;
+import uk.gov.hmcts.reform.unspec.stateflow.exception.StateFlowException;
+import uk.gov.hmcts.reform.unspec.stateflow.model.State;
+import uk.gov.hmcts.reform.unspec.stateflow.model.Transition;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Predicate;
+import java.util.function.ToIntFunction;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class StateFlowGraphTest {
+
+    enum FlowState {
+        STATE_1,
+        STATE_2,
+        STATE_3
+    }
+
+    private static final Predicate<CaseData> SUBMITTED = caseData -> caseData.getSubmittedDate() != null;
+
+    private StateFlowGraph buildGraph() {
+        return StateFlowBuilder.<FlowState>flow("FLOW")
+            .initial(FlowState.STATE_1)
+            .transitionTo(FlowState.STATE_2).onlyIf(SUBMITTED)
+            .state(FlowState.STATE_2)
+            .transitionTo(FlowState.STATE_3)
+            .state(FlowState.STATE_3)
+            .build();
+    }
+
+    @Nested
+    class Build {
+
+        @Test
+        void shouldThrowStateFlowException_whenNoInitialState() {
+            StateFlowContext stateFlowContext = new StateFlowContext();
+
+            assertThrows(StateFlowException.class, () -> new StateFlowGraph(stateFlowContext));
+        }
+
+        @Test
+        void shouldIgnoreDuplicatedStates() {
+            StateFlow stateFlow = StateFlowBuilder.<FlowState>flow("FLOW")
+                .initial(FlowState.STATE_1)
+                .transitionTo(FlowState.STATE_2)
+                .state(FlowState.STATE_2)
+                .state(FlowState.STATE_2)
+                .build()
+                .evaluate(CaseData.builder().build());
+
+            StateFlowAssert.assertThat(stateFlow).enteredStates("FLOW.STATE_1", "FLOW.STATE_2");
+        }
+    }
+
+    @Nested
+    class Evaluate {
+
+        @Test
+        void shouldReturnIndependentResults_whenGraphIsReused() {
+            StateFlowGraph stateFlowGraph = buildGraph();
+
+            StateFlow draft = stateFlowGraph.evaluate(CaseData.builder().build());
+            StateFlow submittedCase = stateFlowGraph.evaluate(
+                CaseData.builder().submittedDate(LocalDateTime.now()).build()
+            );
+
+            StateFlowAssert.assertThat(draft).enteredStates("FLOW.STATE_1");
+            StateFlowAssert.assertThat(submittedCase).enteredStates("FLOW.STATE_1", "FLOW.STATE_2", "FLOW.STATE_3");
+            assertThat(draft.getState()).extracting(State::getName).isEqualTo("FLOW.STATE_1");
+        }
+
+        @Test
+        void shouldEvaluateConcurrently_whenGraphIsShared() {
+            StateFlowGraph stateFlowGraph = buildGraph();
+
+            List<String> states = IntStream.range(0, 1000).parallel()
+                .mapToObj(i -> i % 2 == 0
+                    ? CaseData.builder().build()
+                    : CaseData.builder().submittedDate(LocalDateTime.now()).build())
+                .map(stateFlowGraph::evaluate)
+                .map(stateFlow -> stateFlow.getState().getName())
+                .collect(Collectors.toList());
+
+            assertThat(states).filteredOn("FLOW.STATE_1"::equals).hasSize(500);
+            assertThat(states).filteredOn("FLOW.STATE_3"::equals).hasSize(500);
+        }
+
+        @Test
+        void shouldReturnIndexOfCurrentStateInGraph() {
+            StateFlowGraph stateFlowGraph = buildGraph();
+
+            StateFlow stateFlow = stateFlowGraph.evaluate(CaseData.builder().build());
+
+            assertThat(stateFlowGraph.getState(stateFlow.getStateIndex())).isEqualTo(stateFlow.getState());
+        }
+
+        @Test
+        void shouldReturnImmutableStateHistory() {
+            StateFlow stateFlow = buildGraph().evaluate(CaseData.builder().build());
+
+            List<State> stateHistory = stateFlow.getStateHistory();
+            State state = State.from("FLOW.STATE_2");
+
+            assertThrows(UnsupportedOperationException.class, () -> stateHistory.add(state));
+        }
+
+        @Test
+        void shouldThrowStateFlowException_whenTransitionsFormCycle() {
+            StateFlowContext stateFlowContext = new StateFlowContext();
+            stateFlowContext.addState("FLOW.STATE_1");
+            stateFlowContext.addState("FLOW.STATE_2");
+            stateFlowContext.addTransition(new Transition("FLOW.STATE_1", "FLOW.STATE_2"));
+            stateFlowContext.addTransition(new Transition("FLOW.STATE_2", "FLOW.STATE_1"));
+            StateFlowGraph stateFlowGraph = new StateFlowGraph(stateFlowContext);
+            CaseData caseData = CaseData.builder().build();
+
+            assertThrows(StateFlowException.class, () -> stateFlowGraph.evaluate(caseData));
+        }
+    }
+
+    @Nested
+    class FeatureConditions {
+
+        private final AtomicInteger encodings = new AtomicInteger();
+        private final ToIntFunction<CaseData> encoder = caseData -> {
+            encodings.incrementAndGet();
+            return caseData.getSubmittedDate() != null ? 1 : 0;
+        };
+
+        @Test
+        void shouldEncodeCaseOnce_whenTransitionsHaveFeatureConditions() {
+            StateFlowGraph stateFlowGraph = StateFlowBuilder.<FlowState>flow("FLOW")
+                .initial(FlowState.STATE_1)
+                .transitionTo(FlowState.STATE_2).onlyIf(FeaturePredicate.of(encoder, 1, 0))
+                .state(FlowState.STATE_2)
+                .transitionTo(FlowState.STATE_3).onlyIf(FeaturePredicate.of(encoder, 1, 0))
+                .state(FlowState.STATE_3)
+                .build();
+
+            StateFlow stateFlow = stateFlowGraph.evaluate(CaseData.builder().submittedDate(LocalDateTime.now()).build());
+
+            assertThat(stateFlow.getState().getName()).isEqualTo("FLOW.STATE_3");
+            assertThat(encodings).hasValue(1);
+        }
+
+        @Test
+        void shouldEvaluateFeatureConditionsAlongsideOtherConditions() {
+            StateFlowGraph stateFlowGraph = StateFlowBuilder.<FlowState>flow("FLOW")
+                .initial(FlowState.STATE_1)
+                .transitionTo(FlowState.STATE_2).onlyIf(FeaturePredicate.of(encoder, 0, 1))
+                .state(FlowState.STATE_2)
+                .transitionTo(FlowState.STATE_3).onlyIf(SUBMITTED.negate())
+                .state(FlowState.STATE_3)
+                .build();
+
+            StateFlow stateFlow = stateFlowGraph.evaluate(CaseData.builder().build());
+
+            assertThat(stateFlow.getState().getName()).isEqualTo("FLOW.STATE_3");
+            assertThat(stateFlowGraph.hasOnlyFeatureConditions()).isFalse();
+        }
+
+        @Test
+        void shouldHaveOnlyFeatureConditions_whenOtherTransitionsAreUnconditional() {
+            StateFlowGraph stateFlowGraph = StateFlowBuilder.<FlowState>flow("FLOW")
+                .initial(FlowState.STATE_1)
+                .transitionTo(FlowState.STATE_2).onlyIf(FeaturePredicate.of(encoder, 1, 0))
+                .state(FlowState.STATE_2)
+                .transitionTo(FlowState.STATE_3)
+                .state(FlowState.STATE_3)
+                .build();
+
+            assertThat(stateFlowGraph.hasOnlyFeatureConditions()).isTrue();
+        }
+
+        @Test
+        void shouldThrowStateFlowException_whenFeatureConditionsUseDifferentEncoders() {
+            ToIntFunction<CaseData> otherEncoder = caseData -> 0;
+            StateFlowContext stateFlowContext = new StateFlowContext();
+            stateFlowContext.addState("FLOW.STATE_1");
+            stateFlowContext.addState("FLOW.STATE_2");
+            stateFlowContext.addTransition(
+                new Transition("FLOW.STATE_1", "FLOW.STATE_2", FeaturePredicate.of(encoder, 1, 0)));
+            stateFlowContext.addTransition(
+                new Transition("FLOW.STATE_2", "FLOW.STATE_1", FeaturePredicate.of(otherEncoder, 1, 0)));
+
+            assertThrows(StateFlowException.class, () -> new StateFlowGraph(stateFlowContext));
+        }
+    }
+
+    @Nested
+    class EvaluateFrom {
+
+        private static final int SUBMITTED_FEATURE = 1;
+        private static final int ISSUED_FEATURE = 1 << 1;
+
+        private final ToIntFunction<CaseData> encoder = caseData ->
+            (caseData.getSubmittedDate() != null ? SUBMITTED_FEATURE : 0)
+                | (caseData.getIssueDate() != null ? ISSUED_FEATURE : 0);
+
+        private final CaseData submittedCase = CaseData.builder().submittedDate(LocalDateTime.now()).build();
+        private final CaseData issuedCase = submittedCase.toBuilder().issueDate(LocalDate.now()).build();
+
+        private StateFlowGraph buildFeatureGraph() {
+            return StateFlowBuilder.<FlowState>flow("FLOW")
+                .initial(FlowState.STATE_1)
+                .transitionTo(FlowState.STATE_2).onlyIf(FeaturePredicate.of(encoder, SUBMITTED_FEATURE, 0))
+                .state(FlowState.STATE_2)
+                .transitionTo(FlowState.STATE_3).onlyIf(FeaturePredicate.of(encoder, ISSUED_FEATURE, 0))
+                .state(FlowState.STATE_3)
+                .build();
+        }
+
+        @Test
+        void shouldFingerprintOnlyFeaturesReadOnTheWayToState() {
+            StateFlowGraph stateFlowGraph = buildFeatureGraph();
+
+            assertThat(stateFlowGraph.fingerprint(stateFlowGraph.indexOf("FLOW.STATE_1"), issuedCase)).isZero();
+            assertThat(stateFlowGraph.fingerprint(stateFlowGraph.indexOf("FLOW.STATE_2"), issuedCase))
+                .isEqualTo(SUBMITTED_FEATURE);
+            assertThat(stateFlowGraph.fingerprint(stateFlowGraph.indexOf("FLOW.STATE_3"), issuedCase))
+                .isEqualTo(SUBMITTED_FEATURE | ISSUED_FEATURE);
+        }
+
+        @Test
+        void shouldResumeFromState_whenFingerprintMatches() {
+            StateFlowGraph stateFlowGraph = buildFeatureGraph();
+            int state = stateFlowGraph.indexOf("FLOW.STATE_2");
+            int fingerprint = stateFlowGraph.fingerprint(state, submittedCase);
+
+            StateFlow stateFlow = stateFlowGraph.evaluateFrom(state, fingerprint, issuedCase);
+
+            assertThat(stateFlow.getStateHistory())
+                .extracting(State::getName)
+                .containsExactly("FLOW.STATE_1", "FLOW.STATE_2", "FLOW.STATE_3");
+            assertThat(stateFlow.getStateIndex()).isEqualTo(stateFlowGraph.indexOf("FLOW.STATE_3"));
+        }
+
+        @Test
+        void shouldEvaluateWholeFlow_whenFingerprintDoesNotMatch() {
+            StateFlowGraph stateFlowGraph = buildFeatureGraph();
+            int state = stateFlowGraph.indexOf("FLOW.STATE_2");
+            int fingerprint = stateFlowGraph.fingerprint(state, submittedCase);
+
+            StateFlow stateFlow = stateFlowGraph.evaluateFrom(state, fingerprint, CaseData.builder().build());
+
+            assertThat(stateFlow.getStateHistory())
+                .extracting(State::getName)
+                .containsExactly("FLOW.STATE_1");
+        }
+
+        @Test
+        void shouldEvaluateWholeFlow_whenFingerprintDoesNotLeadToState() {
+            StateFlowGraph stateFlowGraph = buildFeatureGraph();
+
+            StateFlow stateFlow = stateFlowGraph.evaluateFrom(
+                stateFlowGraph.indexOf("FLOW.STATE_3"),
+                0,
+                CaseData.builder().build()
+            );
+
+            assertThat(stateFlow.getState().getName()).isEqualTo("FLOW.STATE_1");
+        }
+
+        @Test
+        void shouldEvaluateWholeFlow_whenStateIsReachedThroughConditionWithoutFeatures() {
+            StateFlowGraph stateFlowGraph = buildGraph();
+            int state = stateFlowGraph.indexOf("FLOW.STATE_2");
+            CaseData draftCase = CaseData.builder().build();
+
+            StateFlow stateFlow = stateFlowGraph.evaluateFrom(state, stateFlowGraph.fingerprint(state, draftCase),
+                                                              draftCase);
+
+            assertThat(stateFlow.getState().getName()).isEqualTo("FLOW.STATE_1");
+        }
+
+        @Test
+        void shouldEvaluateWholeFlowInError_whenTransitionsOnTheWayToStateAreAmbiguous() {
+            FeaturePredicate submitted = FeaturePredicate.of(encoder, SUBMITTED_FEATURE, 0);
+            StateFlowGraph stateFlowGraph = StateFlowBuilder.<FlowState>flow("FLOW")
+                .initial(FlowState.STATE_1)
+                .transitionTo(FlowState.STATE_2).onlyIf(submitted)
+                .transitionTo(FlowState.STATE_3).onlyIf(submitted)
+                .state(FlowState.STATE_2)
+                .state(FlowState.STATE_3)
+                .build();
+            int state = stateFlowGraph.indexOf("FLOW.STATE_2");
+
+            StateFlow stateFlow = stateFlowGraph.evaluateFrom(
+                state,
+                stateFlowGraph.fingerprint(state, submittedCase),
+                submittedCase
+            );
+
+            assertThat(stateFlow.hasError()).isTrue();
+        }
+
+        @Test
+        void shouldEvaluateWholeFlow_whenStateIsUnknown() {
+            StateFlowGraph stateFlowGraph = buildFeatureGraph();
+
+            StateFlow stateFlow = stateFlowGraph.evaluateFrom(stateFlowGraph.indexOf("FLOW.UNKNOWN"), 0, issuedCase);
+
+            assertThat(stateFlow.getState().getName()).isEqualTo("FLOW.STATE_3");
+        }
+    }
+}
@@ -0,0 +1,26 @@
+package uk.gov.hmcts.reform.unspec.stateflow.model;
+
+import lombok.Value;
+import uk.gov.hmcts.reform.unspec.model.CaseData;
+
+import java.util.List;
+
+@Value
+public class Ambiguity {
+
+    String sourceState;
+
+    List<String> targetStates;
+
+    long occurrences;
+
+    CaseData example;
+
+    @Override
+    public String toString() {
+        return String.format(
+            "Ambiguous transitions permitting state [%s] to move to more than one next states [%s] in %d case(s).",
+            sourceState, String.join(",", targetStates), occurrences
+        );
+    }
+}